@@ -14,10 +14,8 @@ package com.thaiopensource.relaxng.pattern;
 import static org.eclipse.lemminx.utils.DOMUtils.findFirstChildElementByTagName;
 import static org.eclipse.lemminx.utils.DOMUtils.isDOMElement;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 import org.eclipse.lemminx.commons.BadLocationException;
@@ -28,6 +26,7 @@ import org.eclipse.lemminx.dom.DOMNode;
 import org.eclipse.lemminx.dom.DOMRange;
 import org.eclipse.lemminx.extensions.contentmodel.model.CMDocument;
 import org.eclipse.lemminx.extensions.contentmodel.model.CMElementDeclaration;
+import org.eclipse.lemminx.extensions.contentmodel.model.CMNameIndex;
 import org.eclipse.lemminx.extensions.contentmodel.model.FilesChangedTracker;
 import org.eclipse.lemminx.uriresolver.URIResolverExtensionManager;
 import org.eclipse.lemminx.utils.DOMUtils;
@@ -63,6 +62,7 @@ public class CMRelaxNGDocument implements CMDocument {
 	private static final String VALUE_ELT = "value";
 
 	private Collection<CMElementDeclaration> elements;
+	private CMNameIndex<CMElementDeclaration> elementsIndex;
 	private final Pattern start;
 	private final URIResolverExtensionManager resolverExtensionManager;
 	private final FilesChangedTracker tracker;
@@ -107,34 +107,11 @@ public class CMRelaxNGDocument implements CMDocument {
 	}
 
 	@Override
-	public CMElementDeclaration findCMElement(DOMElement element, String namespace) {
-		List<DOMElement> paths = new ArrayList<>();
-		while (element != null && (namespace == null || namespace.equals(element.getNamespaceURI()))) {
-			paths.add(0, element);
-			element = element.getParentNode() instanceof DOMElement ? (DOMElement) element.getParentNode() : null;
+	public CMElementDeclaration findElementDeclaration(String localName, String namespace) {
+		if (elementsIndex == null) {
+			elementsIndex = CMNameIndex.ofElements(getElements());
 		}
-		CMElementDeclaration declaration = null;
-		for (int i = 0; i < paths.size(); i++) {
-			DOMElement elt = paths.get(i);
-			if (i == 0) {
-				declaration = findElementDeclaration(elt.getLocalName(), namespace);
-			} else {
-				declaration = declaration != null ? declaration.findCMElement(elt.getLocalName(), namespace) : null;
-			}
-			if (declaration == null) {
-				break;
-			}
-		}
-		return declaration;
-	}
-
-	private CMElementDeclaration findElementDeclaration(String tag, String namespace) {
-		for (CMElementDeclaration cmElement : getElements()) {
-			if (cmElement.getLocalName().equals(tag)) {
-				return cmElement;
-			}
-		}
-		return null;
+		return elementsIndex.find(localName, namespace);
 	}
 
 	@Override
@@ -24,6 +24,7 @@ import org.eclipse.lemminx.dom.DOMElement;
 import org.eclipse.lemminx.dom.DOMNode;
 import org.eclipse.lemminx.extensions.contentmodel.model.CMAttributeDeclaration;
 import org.eclipse.lemminx.extensions.contentmodel.model.CMElementDeclaration;
+import org.eclipse.lemminx.extensions.contentmodel.model.CMNameIndex;
 import org.eclipse.lemminx.services.extensions.ISharedSettingsRequest;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
@@ -56,6 +57,10 @@ public class CMRelaxNGElementDeclaration implements CMElementDeclaration {
 
 	private Collection<CMAttributeDeclaration> attributes;
 
+	private CMNameIndex<CMElementDeclaration> elementsIndex;
+
+	private CMNameIndex<CMAttributeDeclaration> attributesIndex;
+
 	private Set<String> requiredElementNames;
 
 	private Set<String> possibleRequiredElementNames;
@@ -194,22 +199,18 @@ public class CMRelaxNGElementDeclaration implements CMElementDeclaration {
 
 	@Override
 	public CMElementDeclaration findCMElement(String tag, String namespace) {
-		for (CMElementDeclaration cmElement : getElements()) {
-			if (cmElement.getLocalName().equals(tag)) {
-				return cmElement;
-			}
+		if (elementsIndex == null) {
+			elementsIndex = CMNameIndex.ofElements(getElements());
 		}
-		return null;
+		return elementsIndex.find(tag, namespace);
 	}
 
 	@Override
 	public CMAttributeDeclaration findCMAttribute(String attributeName, String namespace) {
-		for (CMAttributeDeclaration cmAttribute : getAttributes()) {
-			if (cmAttribute.getLocalName().equals(attributeName)) {
-				return cmAttribute;
-			}
+		if (attributesIndex == null) {
+			attributesIndex = CMNameIndex.ofAttributes(getAttributes());
 		}
-		return null;
+		return attributesIndex.find(attributeName, namespace);
 	}
 
 	@Override
@@ -15,6 +15,7 @@ package org.eclipse.lemminx;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
@@ -28,9 +29,12 @@ import java.util.stream.Collectors;
 import org.eclipse.lemminx.client.ExtendedClientCapabilities;
 import org.eclipse.lemminx.commons.ModelTextDocument;
 import org.eclipse.lemminx.commons.ParentProcessWatcher.ProcessLanguageServer;
+import org.eclipse.lemminx.commons.RequestScheduler;
+import org.eclipse.lemminx.commons.RequestScheduler.Lane;
 import org.eclipse.lemminx.commons.progress.ProgressSupport;
 import org.eclipse.lemminx.customservice.ActionableNotification;
 import org.eclipse.lemminx.customservice.AutoCloseTagResponse;
+import org.eclipse.lemminx.customservice.XMLDocumentSymbolParams;
 import org.eclipse.lemminx.customservice.XMLLanguageClientAPI;
 import org.eclipse.lemminx.customservice.XMLLanguageServerAPI;
 import org.eclipse.lemminx.dom.DOMDocument;
@@ -60,6 +64,7 @@ import org.eclipse.lemminx.telemetry.TelemetryManager;
 import org.eclipse.lemminx.utils.FilesUtils;
 import org.eclipse.lemminx.utils.platform.Platform;
 import org.eclipse.lsp4j.Command;
+import org.eclipse.lsp4j.DocumentSymbol;
 import org.eclipse.lsp4j.InitializeParams;
 import org.eclipse.lsp4j.InitializeResult;
 import org.eclipse.lsp4j.InitializedParams;
@@ -105,6 +110,8 @@ public class XMLLanguageServer implements ProcessLanguageServer, XMLLanguageServ
 		xmlLanguageService.setCommandService(xmlWorkspaceService);
 		xmlLanguageService.setValidationService(this);
 		xmlLanguageService.setProgressSupport(this);
+		xmlLanguageService.registerComponent(xmlTextDocumentService.getRequestScheduler());
+		xmlLanguageService.registerComponent(xmlTextDocumentService.getDiagnosticsStore());
 
 		delayer = Executors.newScheduledThreadPool(1);
 	}
@@ -224,6 +231,14 @@ public class XMLLanguageServer implements ProcessLanguageServer, XMLLanguageServ
 			if (serverSettings != null) {
 				String workDir = serverSettings.getNormalizedWorkDir();
 				FilesUtils.setCachePathSetting(workDir);
+				// Update the number of threads of the request scheduler
+				RequestScheduler requestScheduler = xmlTextDocumentService.getRequestScheduler();
+				if (serverSettings.getInteractiveThreads() != null) {
+					requestScheduler.setThreadCount(Lane.INTERACTIVE, serverSettings.getInteractiveThreads());
+				}
+				if (serverSettings.getBackgroundThreads() != null) {
+					requestScheduler.setThreadCount(Lane.BACKGROUND, serverSettings.getBackgroundThreads());
+				}
 			}
 		}
 		ContentModelSettings cmSettings = ContentModelSettings.getContentModelXMLSettings(initSettings);
@@ -253,6 +268,7 @@ public class XMLLanguageServer implements ProcessLanguageServer, XMLLanguageServ
 	@Override
 	public void exit(int exitCode) {
 		delayer.shutdown();
+		xmlTextDocumentService.getRequestScheduler().shutdown();
 		System.exit(exitCode);
 	}
 
@@ -304,6 +320,11 @@ public class XMLLanguageServer implements ProcessLanguageServer, XMLLanguageServ
 		});
 	}
 
+	@Override
+	public CompletableFuture<List<DocumentSymbol>> documentSymbols(XMLDocumentSymbolParams params) {
+		return xmlTextDocumentService.documentSymbols(params);
+	}
+
 	@Override
 	public DOMDocument getDocument(String uri) {
 		ModelTextDocument<DOMDocument> document = xmlTextDocumentService.getDocument(uri);
@@ -342,6 +363,15 @@ public class XMLLanguageServer implements ProcessLanguageServer, XMLLanguageServ
 		xmlTextDocumentService.validate(document, validationArgs);
 	}
 
+	@Override
+	public CompletableFuture<Void> validateAll(Collection<DOMDocument> documents) {
+		List<ModelTextDocument<DOMDocument>> textDocuments = documents.stream() //
+				.map(document -> xmlTextDocumentService.getDocument(document.getDocumentURI())) //
+				.filter(Objects::nonNull) //
+				.collect(Collectors.toList());
+		return xmlTextDocumentService.validateAll(textDocuments);
+	}
+
 	public XMLCapabilityManager getCapabilityManager() {
 		return capabilityManager;
 	}
@@ -363,7 +393,7 @@ public class XMLLanguageServer implements ProcessLanguageServer, XMLLanguageServ
 
 	@Override
 	public boolean isWorkDoneProgressSupported() {
-		return capabilityManager.getClientCapabilities().isWorkDoneProgressSupported();
+		return capabilityManager != null && capabilityManager.getClientCapabilities().isWorkDoneProgressSupported();
 	}
 
 	@Override
@@ -12,8 +12,6 @@
  */
 package org.eclipse.lemminx;
 
-import static org.eclipse.lsp4j.jsonrpc.CompletableFutures.computeAsync;
-
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -22,7 +20,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
 import java.util.logging.Level;
@@ -32,14 +33,20 @@ import java.util.stream.Collectors;
 import org.eclipse.lemminx.client.ExtendedClientCapabilities;
 import org.eclipse.lemminx.client.LimitExceededWarner;
 import org.eclipse.lemminx.client.LimitFeature;
+import org.eclipse.lemminx.commons.DiagnosticsStore;
 import org.eclipse.lemminx.commons.ModelTextDocument;
 import org.eclipse.lemminx.commons.ModelTextDocuments;
 import org.eclipse.lemminx.commons.ModelValidatorDelayer;
+import org.eclipse.lemminx.commons.RequestScheduler;
+import org.eclipse.lemminx.commons.RequestScheduler.Lane;
 import org.eclipse.lemminx.commons.TextDocument;
+import org.eclipse.lemminx.commons.progress.ProgressMonitor;
+import org.eclipse.lemminx.customservice.XMLDocumentSymbolParams;
 import org.eclipse.lemminx.dom.DOMDocument;
 import org.eclipse.lemminx.dom.DOMParser;
 import org.eclipse.lemminx.extensions.contentmodel.settings.XMLValidationRootSettings;
 import org.eclipse.lemminx.services.DocumentSymbolsResult;
+import org.eclipse.lemminx.services.DocumentSymbolsScope;
 import org.eclipse.lemminx.services.SymbolInformationResult;
 import org.eclipse.lemminx.services.XMLLanguageService;
 import org.eclipse.lemminx.services.data.DataEntryField;
@@ -124,6 +131,10 @@ public class XMLTextDocumentService implements TextDocumentService {
 	private final XMLLanguageServer xmlLanguageServer;
 	private final ModelTextDocuments<DOMDocument> documents;
 	private final ModelValidatorDelayer<DOMDocument> xmlValidatorDelayer;
+	private final RequestScheduler requestScheduler;
+	private final DiagnosticsStore diagnosticsStore;
+	private final Map<String, Long> documentActivities;
+	private final AtomicLong activityCounter;
 
 	private SharedSettings sharedSettings;
 	private LimitExceededWarner limitExceededWarner;
@@ -199,20 +210,29 @@ public class XMLTextDocumentService implements TextDocumentService {
 		DOMParser parser = DOMParser.getInstance();
 		this.documents = new ModelTextDocuments<DOMDocument>((document, cancelChecker) -> {
 			return parser.parse(document, getXMLLanguageService().getResolverExtensionManager(), true, cancelChecker);
+		}, (xmlDocument, document, changedRegion, cancelChecker) -> {
+			return parser.reparse(xmlDocument, changedRegion, true, cancelChecker);
 		});
+		this.requestScheduler = new RequestScheduler();
+		this.documents.setRequestScheduler(requestScheduler);
+		this.diagnosticsStore = new DiagnosticsStore();
+		this.documentActivities = new ConcurrentHashMap<>();
+		this.activityCounter = new AtomicLong();
 		this.sharedSettings = new SharedSettings();
 		this.limitExceededWarner = null;
 		this.xmlValidatorDelayer = new ModelValidatorDelayer<DOMDocument>((document) -> {
-			DOMDocument xmlDocument = document.getModel();
-			validate(xmlDocument, Collections.emptyMap());
+			requestScheduler.runAsync(Lane.BACKGROUND, document, "validation", () -> {
+				DOMDocument xmlDocument = document.getModel();
+				validate(xmlDocument, Collections.emptyMap());
 
-			getXMLLanguageService().getDocumentLifecycleParticipants().forEach(participant -> {
-				try {
-					participant.didChange(xmlDocument);
-				} catch (Exception e) {
-					LOGGER.log(Level.SEVERE, "Error while processing didChange for the participant '"
-							+ participant.getClass().getName() + "'.", e);
-				}
+				getXMLLanguageService().getDocumentLifecycleParticipants().forEach(participant -> {
+					try {
+						participant.didChange(xmlDocument);
+					} catch (Exception e) {
+						LOGGER.log(Level.SEVERE, "Error while processing didChange for the participant '"
+								+ participant.getClass().getName() + "'.", e);
+					}
+				});
 			});
 		});
 	}
@@ -260,7 +280,7 @@ public class XMLTextDocumentService implements TextDocumentService {
 
 	@Override
 	public CompletableFuture<Either<List<CompletionItem>, CompletionList>> completion(CompletionParams params) {
-		return computeDOMAsync(params.getTextDocument(), (xmlDocument, cancelChecker) -> {
+		return computeDOMAsync(params.getTextDocument(), Lane.INTERACTIVE, "completion", (xmlDocument, cancelChecker) -> {
 			CompletionList list = getXMLLanguageService().doComplete(xmlDocument, params.getPosition(), sharedSettings,
 					cancelChecker);
 			return Either.forRight(list);
@@ -277,7 +297,7 @@ public class XMLTextDocumentService implements TextDocumentService {
 
 	@Override
 	public CompletableFuture<Hover> hover(HoverParams params) {
-		return computeDOMAsync(params.getTextDocument(), (xmlDocument, cancelChecker) -> {
+		return computeDOMAsync(params.getTextDocument(), Lane.INTERACTIVE, "hover", (xmlDocument, cancelChecker) -> {
 			return getXMLLanguageService().doHover(xmlDocument, params.getPosition(), sharedSettings, cancelChecker);
 		});
 	}
@@ -303,7 +323,7 @@ public class XMLTextDocumentService implements TextDocumentService {
 			return CompletableFuture.completedFuture(Collections.emptyList());
 		}
 
-		return computeDOMAsync(params.getTextDocument(), (xmlDocument, cancelChecker) -> {
+		return computeDOMAsync(params.getTextDocument(), Lane.BACKGROUND, "documentSymbol", (xmlDocument, cancelChecker) -> {
 			boolean resultLimitExceeded = false;
 			List<Either<SymbolInformation, DocumentSymbol>> symbols = null;
 
@@ -338,6 +358,43 @@ public class XMLTextDocumentService implements TextDocumentService {
 		});
 	}
 
+	/**
+	 * Returns the document symbols of the scope (parent symbol to expand, visible
+	 * range, number of levels) of the given parameters.
+	 * 
+	 * @param params the document symbols parameters.
+	 * 
+	 * @return the document symbols of the scope of the given parameters.
+	 */
+	public CompletableFuture<List<DocumentSymbol>> documentSymbols(XMLDocumentSymbolParams params) {
+		TextDocument document = getDocument(params.getTextDocument().getUri());
+		if (document == null) {
+			return CompletableFuture.completedFuture(null);
+		}
+		XMLSymbolSettings symbolSettings = sharedSettings.getSymbolSettings();
+
+		if (!symbolSettings.isEnabled() || symbolSettings.isExcluded(document.getUri())) {
+			return CompletableFuture.completedFuture(Collections.emptyList());
+		}
+
+		DocumentSymbolsScope scope = new DocumentSymbolsScope(params.getParent(), params.getRange(),
+				params.getDepth() != null ? params.getDepth() : DocumentSymbolsScope.UNLIMITED_DEPTH);
+		// A request for the top level symbols replaces the pending one (ex : the
+		// visible range changed), the children of several symbols can be expanded at
+		// the same time.
+		String kind = scope.getParent() == null ? "documentSymbols" : null;
+		return computeDOMAsync(params.getTextDocument(), Lane.INTERACTIVE, kind, (xmlDocument, cancelChecker) -> {
+			DocumentSymbolsResult result = getXMLLanguageService().findDocumentSymbols(xmlDocument, symbolSettings,
+					scope, cancelChecker);
+			if (result.isResultLimitExceeded()) {
+				// send warning
+				getLimitExceededWarner().onResultLimitExceeded(xmlDocument.getTextDocument().getUri(),
+						LimitFeature.SYMBOLS);
+			}
+			return result;
+		});
+	}
+
 	@Override
 	public CompletableFuture<List<? extends TextEdit>> formatting(DocumentFormattingParams params) {
 		return computeDOMAsync(params.getTextDocument(), (xmlDocument, cancelChecker) -> {
@@ -381,6 +438,7 @@ public class XMLTextDocumentService implements TextDocumentService {
 	@Override
 	public void didOpen(DidOpenTextDocumentParams params) {
 		ModelTextDocument<DOMDocument> document = documents.onDidOpenTextDocument(params);
+		updateDocumentActivity(document.getUri());
 		triggerValidationFor(document, TriggeredBy.didOpen);
 	}
 
@@ -390,6 +448,7 @@ public class XMLTextDocumentService implements TextDocumentService {
 	@Override
 	public void didChange(DidChangeTextDocumentParams params) {
 		ModelTextDocument<DOMDocument> document = documents.onDidChangeTextDocument(params);
+		updateDocumentActivity(document.getUri());
 		triggerValidationFor(document, TriggeredBy.didChange, params.getContentChanges());
 	}
 
@@ -402,7 +461,11 @@ public class XMLTextDocumentService implements TextDocumentService {
 		documents.onDidCloseTextDocument(params);
 		// Remove the validation from the delayer
 		xmlValidatorDelayer.cleanPendingValidation(uri);
+		// Cancel the pending requests of the document
+		requestScheduler.cancel(uri);
+		documentActivities.remove(uri);
 		// Publish empty errors from the document
+		diagnosticsStore.remove(uri);
 		xmlLanguageServer.getLanguageClient()
 				.publishDiagnostics(new PublishDiagnosticsParams(uri, Collections.emptyList()));
 		getLimitExceededWarner().evictValue(uri);
@@ -421,7 +484,7 @@ public class XMLTextDocumentService implements TextDocumentService {
 
 	@Override
 	public CompletableFuture<List<FoldingRange>> foldingRange(FoldingRangeRequestParams params) {
-		return computeDOMAsync(params.getTextDocument(), (xmlDocument, cancelChecker) -> {
+		return computeDOMAsync(params.getTextDocument(), Lane.BACKGROUND, "foldingRange", (xmlDocument, cancelChecker) -> {
 			return getXMLLanguageService().getFoldingRanges(xmlDocument, sharedSettings.getFoldingSettings(),
 					cancelChecker);
 		});
@@ -429,7 +492,7 @@ public class XMLTextDocumentService implements TextDocumentService {
 
 	@Override
 	public CompletableFuture<List<DocumentLink>> documentLink(DocumentLinkParams params) {
-		return computeDOMAsync(params.getTextDocument(), (xmlDocument, cancelChecker) -> {
+		return computeDOMAsync(params.getTextDocument(), Lane.BACKGROUND, "documentLink", (xmlDocument, cancelChecker) -> {
 			return getXMLLanguageService().findDocumentLinks(xmlDocument);
 		});
 	}
@@ -481,7 +544,7 @@ public class XMLTextDocumentService implements TextDocumentService {
 		if (!sharedSettings.getCodeLensSettings().isEnabled()) {
 			return CompletableFuture.completedFuture(Collections.emptyList());
 		}
-		return computeDOMAsync(params.getTextDocument(), (xmlDocument, cancelChecker) -> {
+		return computeDOMAsync(params.getTextDocument(), Lane.BACKGROUND, "codeLens", (xmlDocument, cancelChecker) -> {
 			return getXMLLanguageService().getCodeLens(xmlDocument, sharedSettings.getCodeLensSettings(),
 					cancelChecker);
 		});
@@ -581,7 +644,7 @@ public class XMLTextDocumentService implements TextDocumentService {
 
 	@Override
 	public CompletableFuture<List<ColorInformation>> documentColor(DocumentColorParams params) {
-		return computeDOMAsync(params.getTextDocument(), (xmlDocument, cancelChecker) -> {
+		return computeDOMAsync(params.getTextDocument(), Lane.BACKGROUND, "documentColor", (xmlDocument, cancelChecker) -> {
 			return getXMLLanguageService().findDocumentColors(xmlDocument, cancelChecker);
 		});
 	}
@@ -595,7 +658,7 @@ public class XMLTextDocumentService implements TextDocumentService {
 
 	@Override
 	public void didSave(DidSaveTextDocumentParams params) {
-		computeAsync((monitor) -> {
+		requestScheduler.runAsync(Lane.BACKGROUND, null, null, () -> {
 			// A document was saved, collect documents to revalidate
 			SaveContext context = new SaveContext(params.getTextDocument().getUri());
 			doSave(context);
@@ -612,7 +675,6 @@ public class XMLTextDocumentService implements TextDocumentService {
 					}
 				});
 			}
-			return null;
 		});
 	}
 
@@ -647,17 +709,70 @@ public class XMLTextDocumentService implements TextDocumentService {
 	private void triggerValidationFor(Collection<ModelTextDocument<DOMDocument>> documents) {
 		if (!documents.isEmpty()) {
 			xmlLanguageServer.schedule(() -> {
-				documents.forEach(document -> {
-					try {
-						validate(document.getModel(), Collections.emptyMap());
-					} catch (CancellationException e) {
-						// Ignore the error and continue to validate other documents
-					}
-				});
+				validateAll(documents);
 			}, 500, TimeUnit.MILLISECONDS);
 		}
 	}
 
+	/**
+	 * Validate and publish diagnostics for the given documents in parallel in the
+	 * background lane of the request scheduler.
+	 *
+	 * <p>
+	 * The documents which have been recently opened, edited or used by an
+	 * interactive request (ex : completion) are validated first. The validation of
+	 * a document is cancelled when the document is closed or changed before its
+	 * validation starts.
+	 * </p>
+	 *
+	 * @param documents the documents to validate.
+	 * @return a future which is completed when all documents have been validated or
+	 *         cancelled.
+	 */
+	public CompletableFuture<Void> validateAll(Collection<ModelTextDocument<DOMDocument>> documents) {
+		if (documents.isEmpty()) {
+			return CompletableFuture.completedFuture(null);
+		}
+		List<ModelTextDocument<DOMDocument>> sortedDocuments = new ArrayList<>(documents);
+		sortedDocuments.sort((document1, document2) -> Long.compare(getDocumentActivity(document2.getUri()),
+				getDocumentActivity(document1.getUri())));
+
+		int total = sortedDocuments.size();
+		ProgressMonitor monitor = xmlLanguageServer.createProgressMonitor();
+		if (monitor != null) {
+			monitor.begin("Validating XML files", "0/" + total, 0, false);
+		}
+		AtomicInteger validated = new AtomicInteger();
+		CompletableFuture<?>[] validations = new CompletableFuture<?>[total];
+		for (int i = 0; i < total; i++) {
+			ModelTextDocument<DOMDocument> document = sortedDocuments.get(i);
+			validations[i] = requestScheduler.runAsync(Lane.BACKGROUND, document, "revalidation", () -> {
+				validate(document.getModel(), Collections.emptyMap());
+			}).handle((result, error) -> {
+				// The validation could be cancelled, continue to validate other documents
+				int count = validated.incrementAndGet();
+				if (monitor != null) {
+					monitor.report(count + "/" + total, count * 100 / total, false);
+				}
+				return null;
+			});
+		}
+		return CompletableFuture.allOf(validations).thenRun(() -> {
+			if (monitor != null) {
+				monitor.end(null);
+			}
+		});
+	}
+
+	private void updateDocumentActivity(String uri) {
+		documentActivities.put(uri, activityCounter.incrementAndGet());
+	}
+
+	private long getDocumentActivity(String uri) {
+		Long activity = documentActivities.get(uri);
+		return activity != null ? activity : 0;
+	}
+
 	private void triggerValidationFor(TextDocument document, TriggeredBy triggeredBy) {
 		triggerValidationFor(document, triggeredBy, null);
 	}
@@ -686,7 +801,9 @@ public class XMLTextDocumentService implements TextDocumentService {
 		if (withDelay) {
 			xmlValidatorDelayer.validateWithDelay((ModelTextDocument<DOMDocument>) document);
 		} else {
-			CompletableFuture.runAsync(() -> {
+			// The didOpen validation is never coalesced nor dropped to notify the didOpen
+			// of the document lifecycle participants
+			requestScheduler.runAsync(Lane.BACKGROUND, null, null, () -> {
 				DOMDocument xmlDocument = ((ModelTextDocument<DOMDocument>) document).getModel();
 				validate(xmlDocument, Collections.emptyMap());
 				getXMLLanguageService().getDocumentLifecycleParticipants().forEach(participant -> {
@@ -714,7 +831,7 @@ public class XMLTextDocumentService implements TextDocumentService {
 		CancelChecker cancelChecker = xmlDocument.getCancelChecker();
 		cancelChecker.checkCanceled();
 		getXMLLanguageService().publishDiagnostics(xmlDocument,
-				params -> xmlLanguageServer.getLanguageClient().publishDiagnostics(params),
+				params -> diagnosticsStore.publish(params, xmlLanguageServer.getLanguageClient()::publishDiagnostics),
 				(doc) -> triggerValidationFor(doc, TriggeredBy.Other),
 				sharedSettings.getValidationSettings(),
 				validationArgs, cancelChecker);
@@ -786,6 +903,24 @@ public class XMLTextDocumentService implements TextDocumentService {
 		return documents.all();
 	}
 
+	/**
+	 * Returns the scheduler used to execute the requests.
+	 *
+	 * @return the scheduler used to execute the requests.
+	 */
+	public RequestScheduler getRequestScheduler() {
+		return requestScheduler;
+	}
+
+	/**
+	 * Returns the store of the last diagnostics published per document URI.
+	 *
+	 * @return the store of the last diagnostics published per document URI.
+	 */
+	public DiagnosticsStore getDiagnosticsStore() {
+		return diagnosticsStore;
+	}
+
 	public boolean documentIsOpen(String uri) {
 		ModelTextDocument<DOMDocument> document = getDocument(uri);
 		return document != null;
@@ -814,7 +949,32 @@ public class XMLTextDocumentService implements TextDocumentService {
 	 */
 	public <R> CompletableFuture<R> computeDOMAsync(TextDocumentIdentifier documentIdentifier,
 			BiFunction<DOMDocument, CancelChecker, R> code) {
-		return documents.computeModelAsync(documentIdentifier, code);
+		return computeDOMAsync(documentIdentifier, Lane.INTERACTIVE, null, code);
+	}
+
+	/**
+	 * Compute the DOM Document for a given uri in a future executed in the given
+	 * lane of the request scheduler and then apply the given function.
+	 *
+	 * @param <R>
+	 * @param documentIdentifier the document indetifier.
+	 * @param lane               the lane of the request scheduler.
+	 * @param kind               the request kind (ex : 'completion') used to
+	 *                           replace a pending request of the same kind for the
+	 *                           document and null otherwise.
+	 * @param code               a bi function that accepts a {@link CancelChecker}
+	 *                           and parsed {@link DOMDocument} and returns the to
+	 *                           be computed value
+	 * @return the DOM Document for a given uri in a future and then apply the given
+	 *         function.
+	 */
+	public <R> CompletableFuture<R> computeDOMAsync(TextDocumentIdentifier documentIdentifier, Lane lane,
+			String kind, BiFunction<DOMDocument, CancelChecker, R> code) {
+		if (lane == Lane.INTERACTIVE && documentIsOpen(documentIdentifier.getUri())) {
+			// The document is probably visible in the editor
+			updateDocumentActivity(documentIdentifier.getUri());
+		}
+		return documents.computeModelAsync(documentIdentifier, lane, kind, code);
 	}
 
 	public LimitExceededWarner getLimitExceededWarner() {
@@ -0,0 +1,209 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.commons;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+
+/**
+ * Store of the last diagnostics published per document URI.
+ *
+ * <p>
+ * The diagnostics are published only if they are different from the last
+ * diagnostics published for the document URI, to avoid sending identical
+ * 'textDocument/publishDiagnostics' notifications (ex : revalidation of the
+ * dependent documents when a XML Schema is saved). Each published diagnostics
+ * list has a result id which can be used by a pull diagnostics request to
+ * return an unchanged report.
+ * </p>
+ *
+ * <p>
+ * The store keeps too the diagnostics of each diagnostics participant of the
+ * last validation, which are merged with the diagnostics published by a
+ * participant while the validation is running.
+ * </p>
+ *
+ * <p>
+ * The notification is sent to the client without holding the lock of the
+ * store, only the publications of the same document URI are serialized to
+ * send them in the order where they are recorded.
+ * </p>
+ *
+ */
+public class DiagnosticsStore {
+
+	private static class PublishedDiagnostics {
+
+		private final int hashCode;
+
+		private final List<Diagnostic> diagnostics;
+
+		private final String resultId;
+
+		PublishedDiagnostics(int hashCode, List<Diagnostic> diagnostics, String resultId) {
+			this.hashCode = hashCode;
+			this.diagnostics = diagnostics;
+			this.resultId = resultId;
+		}
+
+		boolean isSame(int hashCode, List<Diagnostic> diagnostics) {
+			return this.hashCode == hashCode && this.diagnostics.equals(diagnostics);
+		}
+	}
+
+	private final Map<String, PublishedDiagnostics> published;
+
+	private final Map<String, Map<String, List<Diagnostic>>> participantDiagnostics;
+
+	private final Map<String, Object> publishLocks;
+
+	private long resultIds;
+
+	private long skippedCount;
+
+	public DiagnosticsStore() {
+		this.published = new HashMap<>();
+		this.participantDiagnostics = new HashMap<>();
+		this.publishLocks = new HashMap<>();
+	}
+
+	/**
+	 * Publish the given diagnostics with the given publisher if they are different
+	 * from the last diagnostics published for the document URI.
+	 *
+	 * @param params    the diagnostics to publish.
+	 * @param publisher the publisher (ex : the language client).
+	 * @return true if the diagnostics have been published and false if they are
+	 *         unchanged.
+	 */
+	public boolean publish(PublishDiagnosticsParams params, Consumer<PublishDiagnosticsParams> publisher) {
+		String uri = params.getUri();
+		List<Diagnostic> diagnostics = params.getDiagnostics() != null ? params.getDiagnostics()
+				: Collections.emptyList();
+		int hashCode = diagnostics.hashCode();
+		synchronized (getPublishLock(uri)) {
+			PublishedDiagnostics last;
+			PublishedDiagnostics current;
+			synchronized (this) {
+				last = published.get(uri);
+				if (last != null && last.isSame(hashCode, diagnostics)) {
+					skippedCount++;
+					return false;
+				}
+				// Copy the diagnostics, the list could be updated by the caller
+				current = new PublishedDiagnostics(hashCode, new ArrayList<>(diagnostics),
+						String.valueOf(++resultIds));
+				published.put(uri, current);
+			}
+			try {
+				publisher.accept(params);
+			} catch (RuntimeException e) {
+				// The diagnostics have not been published, restore the last diagnostics
+				synchronized (this) {
+					if (published.get(uri) == current) {
+						if (last != null) {
+							published.put(uri, last);
+						} else {
+							published.remove(uri);
+						}
+					}
+				}
+				throw e;
+			}
+			return true;
+		}
+	}
+
+	private synchronized Object getPublishLock(String uri) {
+		return publishLocks.computeIfAbsent(uri, k -> new Object());
+	}
+
+	/**
+	 * Returns the result id of the last diagnostics published for the given
+	 * document URI and null otherwise.
+	 *
+	 * @param uri the document URI.
+	 * @return the result id of the last diagnostics published for the given
+	 *         document URI and null otherwise.
+	 */
+	public synchronized String getResultId(String uri) {
+		PublishedDiagnostics last = published.get(uri);
+		return last != null ? last.resultId : null;
+	}
+
+	/**
+	 * Returns the last diagnostics published for the given document URI and null
+	 * otherwise.
+	 *
+	 * @param uri the document URI.
+	 * @return the last diagnostics published for the given document URI and null
+	 *         otherwise.
+	 */
+	public synchronized List<Diagnostic> getDiagnostics(String uri) {
+		PublishedDiagnostics last = published.get(uri);
+		return last != null ? Collections.unmodifiableList(last.diagnostics) : null;
+	}
+
+	/**
+	 * Set the diagnostics of each diagnostics participant of the last validation
+	 * of the given document URI.
+	 *
+	 * @param uri         the document URI.
+	 * @param diagnostics the diagnostics per participant id.
+	 */
+	public synchronized void setParticipantDiagnostics(String uri, Map<String, List<Diagnostic>> diagnostics) {
+		participantDiagnostics.put(uri, diagnostics);
+	}
+
+	/**
+	 * Returns the diagnostics of each diagnostics participant of the last
+	 * validation of the given document URI and an empty map otherwise.
+	 *
+	 * @param uri the document URI.
+	 * @return the diagnostics of each diagnostics participant of the last
+	 *         validation of the given document URI and an empty map otherwise.
+	 */
+	public synchronized Map<String, List<Diagnostic>> getParticipantDiagnostics(String uri) {
+		Map<String, List<Diagnostic>> diagnostics = participantDiagnostics.get(uri);
+		return diagnostics != null ? diagnostics : Collections.emptyMap();
+	}
+
+	/**
+	 * Remove the diagnostics of the given document URI (ex : when the document is
+	 * closed).
+	 *
+	 * @param uri the document URI.
+	 */
+	public synchronized void remove(String uri) {
+		published.remove(uri);
+		participantDiagnostics.remove(uri);
+		publishLocks.remove(uri);
+	}
+
+	/**
+	 * Returns the number of publications skipped because the diagnostics were
+	 * unchanged.
+	 *
+	 * @return the number of publications skipped because the diagnostics were
+	 *         unchanged.
+	 */
+	public synchronized long getSkippedCount() {
+		return skippedCount;
+	}
+}
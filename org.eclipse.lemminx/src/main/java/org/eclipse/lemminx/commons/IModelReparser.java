@@ -0,0 +1,41 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.commons;
+
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+
+/**
+ * Incremental model parser API used by {@link ModelTextDocument} to update a
+ * model which was parsed with an old version of the text instead of parsing
+ * the whole text again.
+ *
+ * @param <T> the model type (ex : DOM Document)
+ */
+@FunctionalInterface
+public interface IModelReparser<T> {
+
+	/**
+	 * Returns a new model for the text document built from the given model and
+	 * the changed region of the text document, or null if the model cannot be
+	 * updated incrementally (in this case the whole text is parsed). The given
+	 * model may still be used by other threads and must not be modified.
+	 * 
+	 * @param model         the model parsed with the old text.
+	 * @param document      the text document which hosts the new text.
+	 * @param changedRegion the region of the text which changed since the model
+	 *                      was parsed.
+	 * @param cancelChecker the cancel checker.
+	 * @return the updated model or null if the model cannot be updated
+	 *         incrementally.
+	 */
+	T reparse(T model, TextDocument document, TextChangeRegion changedRegion, CancelChecker cancelChecker);
+}
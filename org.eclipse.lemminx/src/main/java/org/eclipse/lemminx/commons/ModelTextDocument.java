@@ -31,16 +31,38 @@ public class ModelTextDocument<T> extends TextDocument {
 
 	private final BiFunction<TextDocument, CancelChecker, T> parse;
 
+	private final IModelReparser<T> reparse;
+
+	private final Object staleModelLock = new Object();
+
 	private T model;
 
+	// The last parsed model which is not synchronized with the text and the
+	// region of the text which changed since this model was parsed.
+	private T staleModel;
+
+	private TextChangeRegion changedRegion;
+
 	public ModelTextDocument(TextDocumentItem document, BiFunction<TextDocument, CancelChecker, T> parse) {
+		this(document, parse, null);
+	}
+
+	public ModelTextDocument(TextDocumentItem document, BiFunction<TextDocument, CancelChecker, T> parse,
+			IModelReparser<T> reparse) {
 		super(document);
 		this.parse = parse;
+		this.reparse = reparse;
 	}
 
 	public ModelTextDocument(String text, String uri, BiFunction<TextDocument, CancelChecker, T> parse) {
+		this(text, uri, parse, null);
+	}
+
+	public ModelTextDocument(String text, String uri, BiFunction<TextDocument, CancelChecker, T> parse,
+			IModelReparser<T> reparse) {
 		super(text, uri);
 		this.parse = parse;
+		this.reparse = reparse;
 	}
 
 	/**
@@ -84,8 +106,27 @@ public class ModelTextDocument<T> extends TextDocument {
 			// Stop of parse process can be done when completable future is canceled or when
 			// version of document changes
 			CancelChecker cancelChecker = new TextDocumentVersionChecker(this, version);
-			// parse the model
-			model = parse.apply(this, cancelChecker);
+			T staleModel = null;
+			TextChangeRegion changedRegion = null;
+			synchronized (staleModelLock) {
+				staleModel = this.staleModel;
+				changedRegion = this.changedRegion;
+				this.staleModel = null;
+				this.changedRegion = null;
+			}
+			T parsedModel = null;
+			if (staleModel != null && changedRegion != null) {
+				// try to update the stale model with the changed region of the text
+				parsedModel = reparse.reparse(staleModel, this, changedRegion, cancelChecker);
+				if (parsedModel != null) {
+					LOGGER.fine("Model with version '" + version + "' updated incrementally");
+				}
+			}
+			if (parsedModel == null) {
+				// parse the model
+				parsedModel = parse.apply(this, cancelChecker);
+			}
+			model = parsedModel;
 		} catch (CancellationException e) {
 			LOGGER.fine("Stop parsing parsing of model with version '" + version + "' in "
 					+ (System.currentTimeMillis() - start) + "ms");
@@ -97,25 +138,57 @@ public class ModelTextDocument<T> extends TextDocument {
 		return model;
 	}
 
+	@Override
+	protected void textReplaced(int offset, int length, int newLength) {
+		synchronized (staleModelLock) {
+			if (staleModel == null) {
+				return;
+			}
+			changedRegion = changedRegion == null ? new TextChangeRegion(offset, offset + length, offset + newLength)
+					: changedRegion.merge(offset, length, newLength);
+		}
+	}
+
 	@Override
 	public void setText(String text) {
 		super.setText(text);
 		// text changed, cancel the completable future which load the model
-		cancelModel();
+		cancelModel(true);
+	}
+
+	@Override
+	protected void textBufferUpdated() {
+		// text changed with tracked regions, the model can be updated incrementally
+		cancelModel(false);
 	}
 
 	@Override
 	public void setVersion(int version) {
 		super.setVersion(version);
 		// version changed, mark the model as dirty
-		cancelModel();
+		cancelModel(false);
 	}
 
 	/**
 	 * Mark the model as dirty
+	 * 
+	 * @param discardStaleModel true if the text has been replaced without
+	 *                          tracking the changed region and false otherwise.
 	 */
-	private void cancelModel() {
-		model = null;
+	private void cancelModel(boolean discardStaleModel) {
+		synchronized (staleModelLock) {
+			if (reparse != null && !discardStaleModel && isIncremental()) {
+				if (model != null) {
+					// keep the model to update it incrementally with the next text changes
+					staleModel = model;
+					changedRegion = null;
+				}
+			} else {
+				staleModel = null;
+				changedRegion = null;
+			}
+			model = null;
+		}
 	}
 
-}
\ No newline at end of file
+}
\ No newline at end of file
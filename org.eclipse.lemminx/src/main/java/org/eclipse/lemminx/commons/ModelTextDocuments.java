@@ -15,6 +15,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
+import org.eclipse.lemminx.commons.RequestScheduler.Lane;
 import org.eclipse.lsp4j.TextDocumentIdentifier;
 import org.eclipse.lsp4j.TextDocumentItem;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
@@ -32,13 +33,36 @@ public class ModelTextDocuments<T> extends TextDocuments<ModelTextDocument<T>> {
 
 	private final BiFunction<TextDocument, CancelChecker, T> parse;
 
+	private final IModelReparser<T> reparse;
+
+	private RequestScheduler requestScheduler;
+
 	public ModelTextDocuments(BiFunction<TextDocument, CancelChecker, T> parse) {
+		this(parse, null);
+	}
+
+	public ModelTextDocuments(BiFunction<TextDocument, CancelChecker, T> parse, IModelReparser<T> reparse) {
 		this.parse = parse;
+		this.reparse = reparse;
+	}
+
+	/**
+	 * Set the scheduler used to compute the model asynchronously. When it is not
+	 * set, the model is computed in the common pool.
+	 *
+	 * @param requestScheduler the request scheduler.
+	 */
+	public void setRequestScheduler(RequestScheduler requestScheduler) {
+		this.requestScheduler = requestScheduler;
+	}
+
+	public RequestScheduler getRequestScheduler() {
+		return requestScheduler;
 	}
 
 	@Override
 	public ModelTextDocument<T> createDocument(TextDocumentItem document) {
-		ModelTextDocument<T> doc = new ModelTextDocument<T>(document, parse);
+		ModelTextDocument<T> doc = new ModelTextDocument<T>(document, parse, reparse);
 		doc.setIncremental(isIncremental());
 		return doc;
 	}
@@ -108,7 +132,28 @@ public class ModelTextDocuments<T> extends TextDocuments<ModelTextDocument<T>> {
 	 */
 	public <R> CompletableFuture<R> computeModelAsync(TextDocumentIdentifier documentIdentifier,
 			BiFunction<T, CancelChecker, R> code) {
-		return CompletableFutures.computeAsync(cancelChecker -> {
+		return computeModelAsync(documentIdentifier, Lane.INTERACTIVE, null, code);
+	}
+
+	/**
+	 * Get or parse the model and apply the code function which expects the model
+	 * in the given lane of the request scheduler.
+	 *
+	 * @param <R>
+	 * @param documentIdentifier the document indentifier.
+	 * @param lane               the lane of the request scheduler.
+	 * @param kind               the request kind (ex : 'completion') used to
+	 *                           replace a pending request of the same kind for the
+	 *                           document and null otherwise.
+	 * @param code               a bi function that accepts the parsedmodel and
+	 *                           {@link CancelChecker} and returns the to be
+	 *                           computed value
+	 * @return the DOM Document for a given uri in a future and then apply the given
+	 *         function.
+	 */
+	public <R> CompletableFuture<R> computeModelAsync(TextDocumentIdentifier documentIdentifier, Lane lane,
+			String kind, BiFunction<T, CancelChecker, R> code) {
+		Function<CancelChecker, R> compute = cancelChecker -> {
 			// Get or parse the model.
 			T model = getModel(documentIdentifier);
 			if (model == null) {
@@ -116,7 +161,11 @@ public class ModelTextDocuments<T> extends TextDocuments<ModelTextDocument<T>> {
 			}
 			// Apply the function code by using the parsed model.
 			return code.apply(model, cancelChecker);
-		});
+		};
+		if (requestScheduler == null) {
+			return CompletableFutures.computeAsync(compute);
+		}
+		return requestScheduler.computeAsync(lane, get(documentIdentifier), kind, compute);
 	}
 
 	/**
@@ -150,4 +199,4 @@ public class ModelTextDocuments<T> extends TextDocuments<ModelTextDocument<T>> {
 		start.complete(new FutureCancelChecker(result));
 		return result;
 	}
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,270 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.commons;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Immutable text stored as a sequence of pieces of strings.
+ *
+ * <p>
+ * The pieces are stored in a persistent balanced tree (treap) where each node
+ * knows the length of the text of its subtree. Replacing a region of the text
+ * with {@link #replace(int, int, String)} creates a new piece table which shares
+ * the unchanged nodes in O(log n), without copying the text. The inserted text
+ * is referenced as is, so a piece table can be read by several threads while
+ * new versions are created.
+ * </p>
+ *
+ * <p>
+ * The {@link String} of the text is materialized lazily by {@link #toString()}
+ * and cached, so the same instance is returned until the text is replaced.
+ * </p>
+ *
+ */
+public final class PieceTable implements CharSequence {
+
+	private static class Piece {
+
+		private final String source;
+
+		private final int start;
+
+		private final int length;
+
+		private final Piece left;
+
+		private final Piece right;
+
+		private final int priority;
+
+		// length of the text of the subtree
+		private final int size;
+
+		Piece(String source, int start, int length, int priority, Piece left, Piece right) {
+			this.source = source;
+			this.start = start;
+			this.length = length;
+			this.priority = priority;
+			this.left = left;
+			this.right = right;
+			this.size = size(left) + length + size(right);
+		}
+
+		Piece withChildren(Piece left, Piece right) {
+			if (left == this.left && right == this.right) {
+				return this;
+			}
+			return new Piece(source, start, length, priority, left, right);
+		}
+	}
+
+	private final Piece root;
+
+	private volatile String text;
+
+	/**
+	 * Creates a piece table with the given text.
+	 *
+	 * @param text the text.
+	 */
+	public PieceTable(String text) {
+		this(createPiece(text, 0, text.length()));
+		this.text = text;
+	}
+
+	private PieceTable(Piece root) {
+		this.root = root;
+	}
+
+	/**
+	 * Returns a new piece table where the given region of the text is replaced
+	 * with the given text.
+	 *
+	 * @param offset the start offset of the replaced text.
+	 * @param length the length of the replaced text.
+	 * @param text   the inserted text.
+	 * @return a new piece table where the given region of the text is replaced
+	 *         with the given text.
+	 * @throws IndexOutOfBoundsException if the region is not in the text.
+	 */
+	public PieceTable replace(int offset, int length, String text) {
+		if (offset < 0 || length < 0 || offset + length > length()) {
+			throw new IndexOutOfBoundsException(
+					"Cannot replace [" + offset + "," + (offset + length) + "] in text with length " + length());
+		}
+		Piece[] before = split(root, offset);
+		Piece[] after = split(before[1], length);
+		Piece inserted = createPiece(text, 0, text.length());
+		return new PieceTable(merge(merge(before[0], inserted), after[1]));
+	}
+
+	/**
+	 * Returns the number of pieces of the text.
+	 *
+	 * @return the number of pieces of the text.
+	 */
+	public int getPieceCount() {
+		return count(root);
+	}
+
+	/**
+	 * Returns true if the {@link String} of the text has already been
+	 * materialized and false otherwise.
+	 *
+	 * @return true if the {@link String} of the text has already been
+	 *         materialized and false otherwise.
+	 */
+	public boolean isMaterialized() {
+		return text != null;
+	}
+
+	@Override
+	public int length() {
+		return size(root);
+	}
+
+	@Override
+	public char charAt(int index) {
+		if (index < 0 || index >= length()) {
+			throw new IndexOutOfBoundsException("Index " + index + " out of text with length " + length());
+		}
+		String text = this.text;
+		if (text != null) {
+			return text.charAt(index);
+		}
+		Piece piece = root;
+		while (true) {
+			int leftSize = size(piece.left);
+			if (index < leftSize) {
+				piece = piece.left;
+			} else if (index < leftSize + piece.length) {
+				return piece.source.charAt(piece.start + index - leftSize);
+			} else {
+				index -= leftSize + piece.length;
+				piece = piece.right;
+			}
+		}
+	}
+
+	@Override
+	public String subSequence(int start, int end) {
+		if (start < 0 || start > end || end > length()) {
+			throw new IndexOutOfBoundsException(
+					"Cannot get [" + start + "," + end + "] in text with length " + length());
+		}
+		String text = this.text;
+		if (text != null) {
+			return text.substring(start, end);
+		}
+		char[] chars = new char[end - start];
+		getChars(root, start, end, chars, 0);
+		return new String(chars);
+	}
+
+	@Override
+	public String toString() {
+		String text = this.text;
+		if (text == null) {
+			synchronized (this) {
+				text = this.text;
+				if (text == null) {
+					char[] chars = new char[length()];
+					getChars(root, 0, chars.length, chars, 0);
+					text = new String(chars);
+					this.text = text;
+				}
+			}
+		}
+		return text;
+	}
+
+	private static Piece createPiece(String source, int start, int length) {
+		if (length == 0) {
+			return null;
+		}
+		return new Piece(source, start, length, ThreadLocalRandom.current().nextInt(), null, null);
+	}
+
+	private static int size(Piece piece) {
+		return piece != null ? piece.size : 0;
+	}
+
+	private static int count(Piece piece) {
+		return piece != null ? count(piece.left) + 1 + count(piece.right) : 0;
+	}
+
+	/**
+	 * Split the given tree at the given offset.
+	 *
+	 * @return the tree of the text before the offset and the tree of the text
+	 *         after the offset.
+	 */
+	private static Piece[] split(Piece piece, int offset) {
+		if (piece == null) {
+			return new Piece[2];
+		}
+		int leftSize = size(piece.left);
+		if (offset <= leftSize) {
+			Piece[] result = split(piece.left, offset);
+			result[1] = piece.withChildren(result[1], piece.right);
+			return result;
+		}
+		int rightStart = leftSize + piece.length;
+		if (offset >= rightStart) {
+			Piece[] result = split(piece.right, offset - rightStart);
+			result[0] = piece.withChildren(piece.left, result[0]);
+			return result;
+		}
+		// The offset is inside the piece, split the piece in 2 pieces with the same
+		// priority which keeps the heap order
+		int length = offset - leftSize;
+		Piece before = new Piece(piece.source, piece.start, length, piece.priority, piece.left, null);
+		Piece after = new Piece(piece.source, piece.start + length, piece.length - length, piece.priority, null,
+				piece.right);
+		return new Piece[] { before, after };
+	}
+
+	private static Piece merge(Piece left, Piece right) {
+		if (left == null) {
+			return right;
+		}
+		if (right == null) {
+			return left;
+		}
+		if (left.priority >= right.priority) {
+			return left.withChildren(left.left, merge(left.right, right));
+		}
+		return right.withChildren(merge(left, right.left), right.right);
+	}
+
+	private static int getChars(Piece piece, int start, int end, char[] chars, int index) {
+		while (piece != null && start < end) {
+			int leftSize = size(piece.left);
+			if (start < leftSize) {
+				index = getChars(piece.left, start, Math.min(end, leftSize), chars, index);
+			}
+			int pieceStart = Math.max(start - leftSize, 0);
+			int pieceEnd = Math.min(end - leftSize, piece.length);
+			if (pieceStart < pieceEnd) {
+				piece.source.getChars(piece.start + pieceStart, piece.start + pieceEnd, chars, index);
+				index += pieceEnd - pieceStart;
+			}
+			// Continue with the right subtree without recursion
+			int rightStart = leftSize + piece.length;
+			start = Math.max(start - rightStart, 0);
+			end -= rightStart;
+			piece = piece.right;
+		}
+		return index;
+	}
+}
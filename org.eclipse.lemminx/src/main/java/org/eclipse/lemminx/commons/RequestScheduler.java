@@ -0,0 +1,321 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.commons;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+import org.eclipse.lsp4j.jsonrpc.CompletableFutures.FutureCancelChecker;
+
+/**
+ * Scheduler which executes the requests of the language server in bounded
+ * thread pools, one per {@link Lane}, to avoid that a completion waits behind
+ * the validation of a lot of documents.
+ *
+ * <p>
+ * A request can be scheduled with:
+ * <ul>
+ * <li>a document : the request is dropped if the document version changed
+ * before the request starts.</li>
+ * <li>a kind (ex : 'validation') : a pending request with the same kind for the
+ * same document is cancelled and replaced by the new request.</li>
+ * </ul>
+ * </p>
+ *
+ */
+public class RequestScheduler {
+
+	private static final Logger LOGGER = Logger.getLogger(RequestScheduler.class.getName());
+
+	public static final int DEFAULT_INTERACTIVE_THREADS = 2;
+
+	public static final int DEFAULT_BACKGROUND_THREADS = 2;
+
+	private static final long SLOW_WAIT_MS = 500;
+
+	/**
+	 * The lane of a request.
+	 */
+	public static enum Lane {
+
+		/**
+		 * Requests which are waited by the user while typing (ex : completion,
+		 * hover).
+		 */
+		INTERACTIVE,
+
+		/**
+		 * Requests which can be delayed (ex : validation, code lens, symbols).
+		 */
+		BACKGROUND;
+	}
+
+	private final Map<Lane, ThreadPoolExecutor> executors;
+
+	private final Map<Lane, RequestSchedulerMetrics> metrics;
+
+	private final Map<String, ScheduledRequest<?>> pendingRequests;
+
+	public RequestScheduler() {
+		this(DEFAULT_INTERACTIVE_THREADS, DEFAULT_BACKGROUND_THREADS);
+	}
+
+	public RequestScheduler(int interactiveThreads, int backgroundThreads) {
+		this.executors = new EnumMap<>(Lane.class);
+		this.metrics = new EnumMap<>(Lane.class);
+		this.pendingRequests = new HashMap<>();
+		createLane(Lane.INTERACTIVE, interactiveThreads);
+		createLane(Lane.BACKGROUND, backgroundThreads);
+	}
+
+	private void createLane(Lane lane, int threads) {
+		AtomicInteger threadCount = new AtomicInteger();
+		String threadPrefix = "lemminx-" + lane.name().toLowerCase() + "-";
+		int poolSize = Math.max(1, threads);
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(), runnable -> {
+					Thread thread = new Thread(runnable, threadPrefix + threadCount.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				});
+		executor.allowCoreThreadTimeOut(true);
+		executors.put(lane, executor);
+		metrics.put(lane, new RequestSchedulerMetrics(executor));
+	}
+
+	/**
+	 * Execute the given code in the given lane.
+	 *
+	 * @param <R>      the result type.
+	 * @param lane     the lane.
+	 * @param document the document used by the code and null otherwise. The
+	 *                 request is dropped if the document version changed before
+	 *                 the request starts.
+	 * @param kind     the request kind used to coalesce the pending requests of
+	 *                 the same document and null otherwise.
+	 * @param code     the code to execute.
+	 * @return the result of the code in a future which is cancelled when the
+	 *         request is dropped or replaced by a new request.
+	 */
+	public <R> CompletableFuture<R> computeAsync(Lane lane, TextDocument document, String kind,
+			Function<CancelChecker, R> code) {
+		CompletableFuture<R> result = new CompletableFuture<>();
+		String key = document != null && kind != null ? lane.name() + "|" + kind + "|" + document.getUri() : null;
+		ScheduledRequest<R> request = new ScheduledRequest<>(lane, key, kind, document, code, result);
+		ThreadPoolExecutor executor = executors.get(lane);
+		RequestSchedulerMetrics laneMetrics = metrics.get(lane);
+		if (key != null) {
+			ScheduledRequest<?> supersededRequest;
+			synchronized (pendingRequests) {
+				supersededRequest = pendingRequests.put(key, request);
+			}
+			if (supersededRequest != null && executor.remove(supersededRequest)) {
+				// The previous request has not been started, replace it with the new request
+				laneMetrics.coalesced();
+				supersededRequest.cancel();
+			}
+		}
+		result.whenComplete((r, e) -> {
+			if (key != null) {
+				synchronized (pendingRequests) {
+					pendingRequests.remove(key, request);
+				}
+			}
+			if (result.isCancelled()) {
+				// Remove the request cancelled by the client from the queue
+				executor.remove(request);
+			}
+		});
+		laneMetrics.submitted();
+		try {
+			executor.execute(request);
+		} catch (RejectedExecutionException e) {
+			// The scheduler is shut down
+			result.cancel(false);
+		}
+		return result;
+	}
+
+	/**
+	 * Execute the given code in the given lane.
+	 *
+	 * @param lane     the lane.
+	 * @param document the document used by the code and null otherwise.
+	 * @param kind     the request kind used to coalesce the pending requests of
+	 *                 the same document and null otherwise.
+	 * @param code     the code to execute.
+	 * @return a future which is completed when the code has been executed.
+	 *
+	 * @see #computeAsync(Lane, TextDocument, String, Function)
+	 */
+	public CompletableFuture<Void> runAsync(Lane lane, TextDocument document, String kind, Runnable code) {
+		return computeAsync(lane, document, kind, cancelChecker -> {
+			code.run();
+			return null;
+		});
+	}
+
+	/**
+	 * Cancel the pending requests of the given document uri.
+	 *
+	 * @param uri the document uri.
+	 */
+	public void cancel(String uri) {
+		List<ScheduledRequest<?>> requests = new ArrayList<>();
+		synchronized (pendingRequests) {
+			for (ScheduledRequest<?> request : pendingRequests.values()) {
+				if (uri.equals(request.document.getUri())) {
+					requests.add(request);
+				}
+			}
+		}
+		for (ScheduledRequest<?> request : requests) {
+			request.cancel();
+		}
+	}
+
+	/**
+	 * Update the number of threads of the given lane.
+	 *
+	 * @param lane    the lane.
+	 * @param threads the number of threads.
+	 */
+	public void setThreadCount(Lane lane, int threads) {
+		if (threads < 1) {
+			return;
+		}
+		ThreadPoolExecutor executor = executors.get(lane);
+		synchronized (executor) {
+			if (threads > executor.getMaximumPoolSize()) {
+				executor.setMaximumPoolSize(threads);
+				executor.setCorePoolSize(threads);
+			} else {
+				executor.setCorePoolSize(threads);
+				executor.setMaximumPoolSize(threads);
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of threads of the given lane.
+	 *
+	 * @param lane the lane.
+	 * @return the number of threads of the given lane.
+	 */
+	public int getThreadCount(Lane lane) {
+		return executors.get(lane).getMaximumPoolSize();
+	}
+
+	/**
+	 * Returns the metrics of the given lane.
+	 *
+	 * @param lane the lane.
+	 * @return the metrics of the given lane.
+	 */
+	public RequestSchedulerMetrics getMetrics(Lane lane) {
+		return metrics.get(lane);
+	}
+
+	/**
+	 * Shutdown the scheduler and cancel the pending requests.
+	 */
+	public void shutdown() {
+		for (ThreadPoolExecutor executor : executors.values()) {
+			for (Runnable request : executor.shutdownNow()) {
+				((ScheduledRequest<?>) request).cancel();
+			}
+		}
+	}
+
+	private class ScheduledRequest<R> implements Runnable {
+
+		private final Lane lane;
+
+		private final String key;
+
+		private final String kind;
+
+		private final TextDocument document;
+
+		private final int version;
+
+		private final Function<CancelChecker, R> code;
+
+		private final CompletableFuture<R> result;
+
+		private final long submittedTime;
+
+		public ScheduledRequest(Lane lane, String key, String kind, TextDocument document,
+				Function<CancelChecker, R> code, CompletableFuture<R> result) {
+			this.lane = lane;
+			this.key = key;
+			this.kind = kind;
+			this.document = document;
+			this.version = document != null ? document.getVersion() : 0;
+			this.code = code;
+			this.result = result;
+			this.submittedTime = System.nanoTime();
+		}
+
+		@Override
+		public void run() {
+			if (key != null) {
+				synchronized (pendingRequests) {
+					pendingRequests.remove(key, this);
+				}
+			}
+			if (result.isDone()) {
+				// The request has been cancelled
+				return;
+			}
+			RequestSchedulerMetrics laneMetrics = metrics.get(lane);
+			long startTime = System.nanoTime();
+			long waitTime = startTime - submittedTime;
+			laneMetrics.waited(waitTime);
+			if (LOGGER.isLoggable(Level.FINE) && TimeUnit.NANOSECONDS.toMillis(waitTime) >= SLOW_WAIT_MS) {
+				LOGGER.fine("Request '" + (kind != null ? kind : "") + "' waited "
+						+ TimeUnit.NANOSECONDS.toMillis(waitTime) + " ms in the " + lane.name().toLowerCase()
+						+ " lane (" + laneMetrics + ").");
+			}
+			if (document != null && document.getVersion() != version) {
+				// The document has changed, the result of the request is stale
+				laneMetrics.dropped();
+				cancel();
+				return;
+			}
+			try {
+				result.complete(code.apply(new FutureCancelChecker(result)));
+			} catch (Throwable e) {
+				result.completeExceptionally(e);
+			} finally {
+				laneMetrics.executed(System.nanoTime() - startTime);
+			}
+		}
+
+		public void cancel() {
+			result.cancel(false);
+		}
+	}
+}
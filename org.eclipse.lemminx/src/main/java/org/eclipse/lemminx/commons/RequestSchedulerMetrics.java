@@ -0,0 +1,159 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.commons;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Metrics of a lane of the {@link RequestScheduler}.
+ *
+ */
+public class RequestSchedulerMetrics {
+
+	private final ThreadPoolExecutor executor;
+
+	private final AtomicLong submittedCount;
+
+	private final AtomicLong executedCount;
+
+	private final AtomicLong coalescedCount;
+
+	private final AtomicLong droppedCount;
+
+	private final AtomicLong waitedCount;
+
+	private final AtomicLong totalWaitTime;
+
+	private final AtomicLong maxWaitTime;
+
+	private final AtomicLong totalExecutionTime;
+
+	RequestSchedulerMetrics(ThreadPoolExecutor executor) {
+		this.executor = executor;
+		this.submittedCount = new AtomicLong();
+		this.executedCount = new AtomicLong();
+		this.coalescedCount = new AtomicLong();
+		this.droppedCount = new AtomicLong();
+		this.waitedCount = new AtomicLong();
+		this.totalWaitTime = new AtomicLong();
+		this.maxWaitTime = new AtomicLong();
+		this.totalExecutionTime = new AtomicLong();
+	}
+
+	void submitted() {
+		submittedCount.incrementAndGet();
+	}
+
+	void coalesced() {
+		coalescedCount.incrementAndGet();
+	}
+
+	void dropped() {
+		droppedCount.incrementAndGet();
+	}
+
+	void waited(long waitTime) {
+		waitedCount.incrementAndGet();
+		totalWaitTime.addAndGet(waitTime);
+		maxWaitTime.accumulateAndGet(waitTime, Math::max);
+	}
+
+	void executed(long executionTime) {
+		executedCount.incrementAndGet();
+		totalExecutionTime.addAndGet(executionTime);
+	}
+
+	/**
+	 * Returns the number of requests waiting in the queue.
+	 *
+	 * @return the number of requests waiting in the queue.
+	 */
+	public int getQueueDepth() {
+		return executor.getQueue().size();
+	}
+
+	/**
+	 * Returns the number of requests which are executing.
+	 *
+	 * @return the number of requests which are executing.
+	 */
+	public int getActiveCount() {
+		return executor.getActiveCount();
+	}
+
+	public long getSubmittedCount() {
+		return submittedCount.get();
+	}
+
+	public long getExecutedCount() {
+		return executedCount.get();
+	}
+
+	/**
+	 * Returns the number of requests replaced by a new request of the same kind
+	 * for the same document before they started.
+	 *
+	 * @return the number of requests replaced by a new request.
+	 */
+	public long getCoalescedCount() {
+		return coalescedCount.get();
+	}
+
+	/**
+	 * Returns the number of requests dropped because the document changed before
+	 * they started.
+	 *
+	 * @return the number of requests dropped because the document changed.
+	 */
+	public long getDroppedCount() {
+		return droppedCount.get();
+	}
+
+	/**
+	 * Returns the average time in ms that the requests waited in the queue.
+	 *
+	 * @return the average time in ms that the requests waited in the queue.
+	 */
+	public long getAverageWaitTime() {
+		long count = waitedCount.get();
+		return count > 0 ? TimeUnit.NANOSECONDS.toMillis(totalWaitTime.get() / count) : 0;
+	}
+
+	/**
+	 * Returns the max time in ms that a request waited in the queue.
+	 *
+	 * @return the max time in ms that a request waited in the queue.
+	 */
+	public long getMaxWaitTime() {
+		return TimeUnit.NANOSECONDS.toMillis(maxWaitTime.get());
+	}
+
+	/**
+	 * Returns the average execution time in ms of the requests.
+	 *
+	 * @return the average execution time in ms of the requests.
+	 */
+	public long getAverageExecutionTime() {
+		long count = executedCount.get();
+		return count > 0 ? TimeUnit.NANOSECONDS.toMillis(totalExecutionTime.get() / count) : 0;
+	}
+
+	@Override
+	public String toString() {
+		return "queue=" + getQueueDepth() + ", active=" + getActiveCount() + ", submitted=" + getSubmittedCount()
+				+ ", executed=" + getExecutedCount() + ", coalesced=" + getCoalescedCount() + ", dropped="
+				+ getDroppedCount() + ", averageWait=" + getAverageWaitTime() + "ms, maxWait=" + getMaxWaitTime()
+				+ "ms, averageExecution=" + getAverageExecutionTime() + "ms";
+	}
+}
@@ -0,0 +1,100 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.commons;
+
+/**
+ * The region of a {@link TextDocument} which has been modified by one or
+ * several text changes since a given version of the text.
+ * 
+ * <p>
+ * The text between <code>start</code> and <code>oldEnd</code> of the old text
+ * has been replaced by the text between <code>start</code> and
+ * <code>newEnd</code> of the new text. The text outside this region is the same
+ * in both versions, shifted by {@link #getDelta()} after the region.
+ * </p>
+ *
+ */
+public class TextChangeRegion {
+
+	private final int start;
+
+	private final int oldEnd;
+
+	private final int newEnd;
+
+	public TextChangeRegion(int start, int oldEnd, int newEnd) {
+		this.start = start;
+		this.oldEnd = oldEnd;
+		this.newEnd = newEnd;
+	}
+
+	/**
+	 * Returns the start offset of the region (same in the old and new text).
+	 * 
+	 * @return the start offset of the region (same in the old and new text).
+	 */
+	public int getStart() {
+		return start;
+	}
+
+	/**
+	 * Returns the end offset of the region in the old text.
+	 * 
+	 * @return the end offset of the region in the old text.
+	 */
+	public int getOldEnd() {
+		return oldEnd;
+	}
+
+	/**
+	 * Returns the end offset of the region in the new text.
+	 * 
+	 * @return the end offset of the region in the new text.
+	 */
+	public int getNewEnd() {
+		return newEnd;
+	}
+
+	/**
+	 * Returns the delta to apply to the old offsets located after the region.
+	 * 
+	 * @return the delta to apply to the old offsets located after the region.
+	 */
+	public int getDelta() {
+		return newEnd - oldEnd;
+	}
+
+	/**
+	 * Returns the region which covers this region and the given text replacement
+	 * applied after it.
+	 * 
+	 * @param offset    the start offset of the replacement in the current text.
+	 * @param length    the length of the replaced text.
+	 * @param newLength the length of the inserted text.
+	 * @return the region which covers this region and the given text
+	 *         replacement.
+	 */
+	public TextChangeRegion merge(int offset, int length, int newLength) {
+		int mergedStart = Math.min(start, offset);
+		int currentEnd = Math.max(newEnd, offset + length);
+		// text located after the current region end is unchanged, map it to the old
+		// text
+		int mergedOldEnd = oldEnd + (currentEnd - newEnd);
+		int mergedNewEnd = currentEnd + (newLength - length);
+		return new TextChangeRegion(mergedStart, mergedOldEnd, mergedNewEnd);
+	}
+
+	@Override
+	public String toString() {
+		return "TextChangeRegion [start=" + start + ", oldEnd=" + oldEnd + ", newEnd=" + newEnd + "]";
+	}
+}
@@ -39,6 +39,10 @@ public class TextDocument extends TextDocumentItem {
 
 	private boolean incremental;
 
+	// The text updated by the incremental changes, null when the text has been
+	// set with setText
+	private volatile PieceTable textBuffer;
+
 	public TextDocument(TextDocumentItem document) {
 		this(document.getText(), document.getUri());
 		super.setVersion(document.getVersion());
@@ -61,6 +65,30 @@ public class TextDocument extends TextDocumentItem {
 		return incremental;
 	}
 
+	@Override
+	public String getText() {
+		PieceTable textBuffer = this.textBuffer;
+		// the string of the text buffer is cached and returned until the next changes
+		return textBuffer != null ? textBuffer.toString() : super.getText();
+	}
+
+	@Override
+	public void setText(String text) {
+		textBuffer = null;
+		super.setText(text);
+	}
+
+	/**
+	 * Returns the text of the document as a char sequence which doesn't
+	 * materialize the whole text after incremental changes.
+	 * 
+	 * @return the text of the document as a char sequence.
+	 */
+	public CharSequence getTextSequence() {
+		PieceTable textBuffer = this.textBuffer;
+		return textBuffer != null ? textBuffer : super.getText();
+	}
+
 	public Position positionAt(int position) throws BadLocationException {
 		ILineTracker lineTracker = getLineTracker();
 		return lineTracker.getPositionAt(position);
@@ -74,8 +102,8 @@ public class TextDocument extends TextDocumentItem {
 	public String lineText(int lineNumber) throws BadLocationException {
 		ILineTracker lineTracker = getLineTracker();
 		Line line = lineTracker.getLineInformation(lineNumber);
-		String text = super.getText();
-		return text.substring(line.offset, line.offset + line.length);
+		CharSequence text = getTextSequence();
+		return text.subSequence(line.offset, line.offset + line.length).toString();
 	}
 
 	public int lineOffsetAt(int position) throws BadLocationException {
@@ -115,8 +143,8 @@ public class TextDocument extends TextDocumentItem {
 			Position pos = positionAt(textOffset);
 			ILineTracker lineTracker = getLineTracker();
 			Line line = lineTracker.getLineInformation(pos.getLine());
-			String text = super.getText();
-			String lineText = text.substring(line.offset, textOffset);
+			CharSequence text = getTextSequence();
+			String lineText = text.subSequence(line.offset, textOffset).toString();
 			int position = lineText.length();
 			Matcher m = wordDefinition.matcher(lineText);
 			int currentPosition = 0;
@@ -149,10 +177,29 @@ public class TextDocument extends TextDocumentItem {
 			return lineTracker;
 		}
 		ILineTracker lineTracker = isIncremental() ? new TreeLineTracker(new ListLineTracker()) : new ListLineTracker();
-		lineTracker.set(super.getText());
+		lineTracker.set(getText());
 		return lineTracker;
 	}
 
+	/**
+	 * Called when the text has been updated with incremental changes.
+	 */
+	protected void textBufferUpdated() {
+		// Do nothing
+	}
+
+	/**
+	 * Called when a text region has been replaced while applying incremental
+	 * changes.
+	 * 
+	 * @param offset    the start offset of the replaced text.
+	 * @param length    the length of the replaced text.
+	 * @param newLength the length of the inserted text.
+	 */
+	protected void textReplaced(int offset, int length, int newLength) {
+		// Do nothing
+	}
+
 	/**
 	 * Update text of the document by using the changes and according the
 	 * incremental support.
@@ -168,8 +215,13 @@ public class TextDocument extends TextDocumentItem {
 			try {
 				long start = System.currentTimeMillis();
 				synchronized (lock) {
-					// Initialize buffer and line tracker from the current text document
-					StringBuilder buffer = new StringBuilder(getText());
+					// Initialize the buffer from the current text document, the text is shared
+					// by the pieces and never copied
+					PieceTable buffer = textBuffer;
+					if (buffer == null || buffer.isMaterialized()) {
+						// start from a single piece when the string of the text is available
+						buffer = new PieceTable(getText());
+					}
 
 					// Loop for each changes and update the buffer
 					for (int i = 0; i < changes.size(); i++) {
@@ -187,11 +239,14 @@ public class TextDocument extends TextDocumentItem {
 						}
 						String text = changeEvent.getText();
 						int startOffset = offsetAt(range.getStart());
-						buffer.replace(startOffset, startOffset + length, text);
+						buffer = buffer.replace(startOffset, length, text);
 						lineTracker.replace(startOffset, length, text);
+						textReplaced(startOffset, length, text.length());
 					}
-					// Update the new text content from the updated buffer
-					setText(buffer.toString());
+					// Update the new text content with the updated buffer, the string of the
+					// text is materialized lazily by getText()
+					textBuffer = buffer;
+					textBufferUpdated();
 				}
 				LOGGER.fine("Text document content updated in " + (System.currentTimeMillis() - start) + "ms");
 			} catch (BadLocationException e) {
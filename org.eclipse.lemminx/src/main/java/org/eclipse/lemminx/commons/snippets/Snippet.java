@@ -39,6 +39,8 @@ public class Snippet {
 
 	private ISnippetContext<?> context;
 
+	private transient volatile SnippetTemplate template;
+
 	public String getLabel() {
 		return label;
 	}
@@ -69,6 +71,7 @@ public class Snippet {
 
 	public void setBody(List<String> body) {
 		this.body = body;
+		this.template = null;
 	}
 
 	public String getDescription() {
@@ -103,6 +106,20 @@ public class Snippet {
 		this.context = context;
 	}
 
+	/**
+	 * Returns the compiled template of the snippet body.
+	 * 
+	 * @return the compiled template of the snippet body.
+	 */
+	SnippetTemplate getTemplate() {
+		SnippetTemplate template = this.template;
+		if (template == null) {
+			template = SnippetTemplate.compile(getBody());
+			this.template = template;
+		}
+		return template;
+	}
+
 	public boolean hasContext() {
 		return getContext() != null;
 	}
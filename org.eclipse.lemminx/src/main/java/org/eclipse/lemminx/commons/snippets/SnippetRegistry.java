@@ -19,15 +19,18 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.ServiceLoader;
 import java.util.function.BiPredicate;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
+import org.eclipse.lemminx.utils.JSONUtility;
 import org.eclipse.lemminx.utils.StringUtils;
 import org.eclipse.lsp4j.CompletionItem;
 import org.eclipse.lsp4j.CompletionItemKind;
@@ -40,7 +43,9 @@ import org.eclipse.lsp4j.TextEdit;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
 
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonIOException;
+import com.google.gson.JsonObject;
 import com.google.gson.JsonSyntaxException;
 import com.google.gson.TypeAdapter;
 import com.google.gson.stream.JsonReader;
@@ -55,6 +60,10 @@ public class SnippetRegistry {
 
 	private static final Logger LOGGER = Logger.getLogger(SnippetRegistry.class.getName());
 
+	private static final String SNIPPET_INDEX_FIELD = "snippetIndex";
+
+	private static final String SNIPPET_MODEL_FIELD = "snippetModel";
+
 	private final List<Snippet> snippets;
 
 	public SnippetRegistry() {
@@ -240,19 +249,61 @@ public class SnippetRegistry {
 	public List<CompletionItem> getCompletionItems(Range replaceRange, String lineDelimiter, boolean canSupportMarkdown,
 			boolean snippetsSupported, BiPredicate<ISnippetContext<?>, Map<String, String>> contextFilter,
 			ISuffixPositionProvider suffixProvider) {
+		return getCompletionItems(replaceRange, lineDelimiter, canSupportMarkdown, snippetsSupported, contextFilter,
+				suffixProvider, null);
+	}
+
+	/**
+	 * Returns the snippet completion items according to the context filter.
+	 * 
+	 * @param replaceRange         the replace range.
+	 * @param lineDelimiter        the line delimiter.
+	 * @param canSupportMarkdown   true if markdown is supported to generate
+	 *                             documentation and false otherwise.
+	 * @param contextFilter        the context filter.
+	 * @param suffixProvider       the suffix position provider.
+	 * @param resolveDataProvider  the provider of the completion item data used to
+	 *                             resolve the documentation with
+	 *                             {@link #resolveDocumentation(CompletionItem, String, boolean)}
+	 *                             and null if the documentation must be computed
+	 *                             for each completion item.
+	 * @return the snippet completion items according to the context filter.
+	 */
+	public List<CompletionItem> getCompletionItems(Range replaceRange, String lineDelimiter, boolean canSupportMarkdown,
+			boolean snippetsSupported, BiPredicate<ISnippetContext<?>, Map<String, String>> contextFilter,
+			ISuffixPositionProvider suffixProvider, Supplier<JsonObject> resolveDataProvider) {
 		if (replaceRange == null) {
 			return Collections.emptyList();
 		}
 		Map<String, String> model = new HashMap<>();
-		return getSnippets().stream().filter(snippet -> {
-			return snippet.match(contextFilter, model);
-		}).map(snippet -> {
+		// Snippets share the same context instance (ex : all snippets of a JSON file),
+		// the context filter is evaluated only once per context.
+		Map<ISnippetContext<?>, Boolean> matches = new IdentityHashMap<>();
+		List<CompletionItem> items = new ArrayList<>();
+		List<Snippet> snippets = getSnippets();
+		for (int i = 0; i < snippets.size(); i++) {
+			Snippet snippet = snippets.get(i);
+			if (!match(snippet, contextFilter, model, matches)) {
+				continue;
+			}
+			SnippetTemplate template = snippet.getTemplate();
 			CompletionItem item = new CompletionItem();
 			item.setLabel(snippet.getLabel());
-			String insertText = getInsertText(snippet, model, !snippetsSupported, lineDelimiter);
+			String insertText = template.getInsertText(model, !snippetsSupported, lineDelimiter);
 			item.setKind(CompletionItemKind.Snippet);
-			item.setDocumentation(
-					Either.forRight(createDocumentation(snippet, model, canSupportMarkdown, lineDelimiter)));
+			if (resolveDataProvider != null) {
+				JsonObject data = resolveDataProvider.get();
+				data.addProperty(SNIPPET_INDEX_FIELD, i);
+				if (!model.isEmpty()) {
+					JsonObject snippetModel = new JsonObject();
+					model.forEach(snippetModel::addProperty);
+					data.add(SNIPPET_MODEL_FIELD, snippetModel);
+				}
+				item.setData(data);
+			} else {
+				item.setDocumentation(
+						Either.forRight(createDocumentation(snippet, model, canSupportMarkdown, lineDelimiter)));
+			}
 			String prefix = snippet.getPrefixes().get(0);
 			item.setFilterText(prefix);
 			item.setDetail(snippet.getDescription());
@@ -266,9 +317,58 @@ public class SnippetRegistry {
 			item.setTextEdit(Either.forLeft(new TextEdit(range, insertText)));
 			item.setInsertTextFormat(InsertTextFormat.Snippet);
 			item.setSortText(snippet.getSortText());
-			return item;
+			items.add(item);
+		}
+		return items;
+	}
 
-		}).collect(Collectors.toList());
+	private static boolean match(Snippet snippet, BiPredicate<ISnippetContext<?>, Map<String, String>> contextFilter,
+			Map<String, String> model, Map<ISnippetContext<?>, Boolean> matches) {
+		if (!snippet.hasContext()) {
+			return true;
+		}
+		Boolean match = matches.get(snippet.getContext());
+		if (match == null) {
+			match = snippet.match(contextFilter, model);
+			matches.put(snippet.getContext(), match);
+		}
+		return match;
+	}
+
+	/**
+	 * Resolve the documentation of the given snippet completion item which was
+	 * created with a resolve data provider.
+	 * 
+	 * @param item               the snippet completion item to resolve.
+	 * @param lineDelimiter      the line delimiter.
+	 * @param canSupportMarkdown true if markdown is supported to generate
+	 *                           documentation and false otherwise.
+	 * @return true if the documentation has been resolved and false otherwise.
+	 */
+	public boolean resolveDocumentation(CompletionItem item, String lineDelimiter, boolean canSupportMarkdown) {
+		JsonObject data = JSONUtility.toModel(item.getData(), JsonObject.class);
+		if (data == null || !data.has(SNIPPET_INDEX_FIELD)) {
+			return false;
+		}
+		int index = data.get(SNIPPET_INDEX_FIELD).getAsInt();
+		List<Snippet> snippets = getSnippets();
+		if (index < 0 || index >= snippets.size()) {
+			return false;
+		}
+		Snippet snippet = snippets.get(index);
+		if (!Objects.equals(snippet.getLabel(), item.getLabel())) {
+			// The registry has been updated since the completion
+			return false;
+		}
+		Map<String, String> model = new HashMap<>();
+		JsonElement snippetModel = data.get(SNIPPET_MODEL_FIELD);
+		if (snippetModel != null && snippetModel.isJsonObject()) {
+			for (Entry<String, JsonElement> entry : snippetModel.getAsJsonObject().entrySet()) {
+				model.put(entry.getKey(), entry.getValue().getAsString());
+			}
+		}
+		item.setDocumentation(Either.forRight(createDocumentation(snippet, model, canSupportMarkdown, lineDelimiter)));
+		return true;
 	}
 
 	private static MarkupContent createDocumentation(Snippet snippet, Map<String, String> model,
@@ -283,7 +383,7 @@ public class SnippetRegistry {
 			}
 			doc.append(System.lineSeparator());
 		}
-		String insertText = getInsertText(snippet, model, true, lineDelimiter);
+		String insertText = snippet.getTemplate().getInsertText(model, true, lineDelimiter);
 		doc.append(insertText);
 		if (canSupportMarkdown) {
 			doc.append(System.lineSeparator());
@@ -293,105 +393,4 @@ public class SnippetRegistry {
 		return new MarkupContent(canSupportMarkdown ? MarkupKind.MARKDOWN : MarkupKind.PLAINTEXT, doc.toString());
 	}
 
-	private static String getInsertText(Snippet snippet, Map<String, String> model, boolean replace,
-			String lineDelimiter) {
-		StringBuilder text = new StringBuilder();
-		int i = 0;
-		List<String> body = snippet.getBody();
-		if (body != null) {
-			for (String bodyLine : body) {
-				if (i > 0) {
-					text.append(lineDelimiter);
-				}
-				bodyLine = merge(bodyLine, model, replace);
-				text.append(bodyLine);
-				i++;
-			}
-		}
-		return text.toString();
-	}
-
-	private static String merge(String line, Map<String, String> model, boolean replace) {
-		return replace(line, 0, model, replace, null);
-	}
-
-	private static String replace(String line, int offset, Map<String, String> model, boolean replace,
-			StringBuilder newLine) {
-		int dollarIndex = line.indexOf("$", offset);
-		if (dollarIndex == -1 || dollarIndex == line.length() - 1) {
-			if (newLine == null) {
-				return line;
-			}
-			newLine.append(line, offset, line.length());
-			return newLine.toString();
-		}
-		if (newLine == null) {
-			newLine = new StringBuilder();
-		}
-		char next = line.charAt(dollarIndex + 1);
-		if (Character.isDigit(next)) {
-			if (replace) {
-				newLine.append(line, offset, dollarIndex);
-			}
-			int lastDigitOffset = dollarIndex + 1;
-			while (Character.isDigit(line.charAt(lastDigitOffset))) {
-				lastDigitOffset++;
-			}
-			if (!replace) {
-				newLine.append(line, offset, lastDigitOffset);
-			}
-			return replace(line, lastDigitOffset, model, replace, newLine);
-		} else if (next == '{') {
-			int startExpr = dollarIndex;
-			int endExpr = line.indexOf("}", startExpr);
-			if (endExpr == -1) {
-				// Should never occur
-				return line;
-			}
-			newLine.append(line, offset, startExpr);
-			// Parameter
-			int startParam = startExpr + 2;
-			int endParam = endExpr;
-			boolean startsWithNumber = true;
-			boolean onlyNumber = true;
-			for (int i = startParam; i < endParam; i++) {
-				char ch = line.charAt(i);
-				if (Character.isDigit(ch)) {
-					startsWithNumber = true;
-				} else {
-					onlyNumber = false;
-					if (ch == ':') {
-
-						if (startsWithNumber) {
-							startParam = i + 1;
-						}
-						break;
-					} else if (ch == '|') {
-						if (startsWithNumber) {
-							startParam = i + 1;
-							int index = line.indexOf(',', startExpr);
-							if (index != -1) {
-								endParam = index;
-							}
-						}
-						break;
-					} else {
-						break;
-					}
-				}
-			}
-			String paramName = line.substring(startParam, endParam);
-			if (model.containsKey(paramName)) {
-				paramName = model.get(paramName);
-			} else if (!replace) {
-				paramName = line.substring(startExpr, endExpr + 1);
-			}
-			if (!(replace && onlyNumber)) {
-				newLine.append(paramName);
-			}
-			return replace(line, endExpr + 1, model, replace, newLine);
-		}
-		return line;
-	}
-
-}
\ No newline at end of file
+}
\ No newline at end of file
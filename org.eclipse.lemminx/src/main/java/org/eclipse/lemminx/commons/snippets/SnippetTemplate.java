@@ -0,0 +1,199 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.commons.snippets;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Snippet body compiled once into literal and placeholder segments, to render
+ * the insert text (snippet or plain text) without parsing the body lines for
+ * each completion.
+ *
+ */
+class SnippetTemplate {
+
+	private static final SnippetTemplate EMPTY = new SnippetTemplate(Collections.emptyList());
+
+	private final List<List<Segment>> lines;
+
+	private SnippetTemplate(List<List<Segment>> lines) {
+		this.lines = lines;
+	}
+
+	/**
+	 * Returns the insert text of the snippet.
+	 * 
+	 * @param model         the model used to replace named parameters.
+	 * @param replace       true if placeholders must be replaced to generate a
+	 *                      plain text and false to generate a snippet.
+	 * @param lineDelimiter the line delimiter.
+	 * @return the insert text of the snippet.
+	 */
+	public String getInsertText(Map<String, String> model, boolean replace, String lineDelimiter) {
+		StringBuilder text = new StringBuilder();
+		for (int i = 0; i < lines.size(); i++) {
+			if (i > 0) {
+				text.append(lineDelimiter);
+			}
+			for (Segment segment : lines.get(i)) {
+				segment.append(text, model, replace);
+			}
+		}
+		return text.toString();
+	}
+
+	/**
+	 * Returns the compiled template of the given snippet body.
+	 * 
+	 * @param body the snippet body.
+	 * @return the compiled template of the given snippet body.
+	 */
+	public static SnippetTemplate compile(List<String> body) {
+		if (body == null || body.isEmpty()) {
+			return EMPTY;
+		}
+		List<List<Segment>> lines = new ArrayList<>(body.size());
+		for (String line : body) {
+			lines.add(compileLine(line));
+		}
+		return new SnippetTemplate(lines);
+	}
+
+	private static List<Segment> compileLine(String line) {
+		List<Segment> segments = new ArrayList<>();
+		int offset = 0;
+		while (true) {
+			int dollarIndex = line.indexOf("$", offset);
+			if (dollarIndex == -1 || dollarIndex == line.length() - 1) {
+				addText(segments, line, offset, line.length());
+				return segments;
+			}
+			char next = line.charAt(dollarIndex + 1);
+			if (Character.isDigit(next)) {
+				// $1
+				addText(segments, line, offset, dollarIndex);
+				int lastDigitOffset = dollarIndex + 1;
+				while (lastDigitOffset < line.length() && Character.isDigit(line.charAt(lastDigitOffset))) {
+					lastDigitOffset++;
+				}
+				segments.add(new TabStop(line.substring(dollarIndex, lastDigitOffset)));
+				offset = lastDigitOffset;
+			} else if (next == '{') {
+				// ${1:name}, ${1|a,b|}, ${name}
+				int startExpr = dollarIndex;
+				int endExpr = line.indexOf("}", startExpr);
+				if (endExpr == -1) {
+					// Should never occur
+					return Collections.singletonList(new Text(line));
+				}
+				addText(segments, line, offset, startExpr);
+				int startParam = startExpr + 2;
+				int endParam = endExpr;
+				boolean onlyNumber = true;
+				for (int i = startParam; i < endParam; i++) {
+					char ch = line.charAt(i);
+					if (!Character.isDigit(ch)) {
+						onlyNumber = false;
+						if (ch == ':') {
+							startParam = i + 1;
+						} else if (ch == '|') {
+							startParam = i + 1;
+							int index = line.indexOf(',', startExpr);
+							if (index != -1) {
+								endParam = index;
+							}
+						}
+						break;
+					}
+				}
+				segments.add(new Parameter(line.substring(startParam, endParam),
+						line.substring(startExpr, endExpr + 1), onlyNumber));
+				offset = endExpr + 1;
+			} else {
+				// Unknown expression, the line is kept as is.
+				return Collections.singletonList(new Text(line));
+			}
+		}
+	}
+
+	private static void addText(List<Segment> segments, String line, int start, int end) {
+		if (start < end) {
+			segments.add(new Text(line.substring(start, end)));
+		}
+	}
+
+	private static interface Segment {
+
+		void append(StringBuilder text, Map<String, String> model, boolean replace);
+	}
+
+	private static class Text implements Segment {
+
+		private final String text;
+
+		public Text(String text) {
+			this.text = text;
+		}
+
+		@Override
+		public void append(StringBuilder text, Map<String, String> model, boolean replace) {
+			text.append(this.text);
+		}
+	}
+
+	private static class TabStop implements Segment {
+
+		private final String expr;
+
+		public TabStop(String expr) {
+			this.expr = expr;
+		}
+
+		@Override
+		public void append(StringBuilder text, Map<String, String> model, boolean replace) {
+			if (!replace) {
+				text.append(expr);
+			}
+		}
+	}
+
+	private static class Parameter implements Segment {
+
+		private final String name;
+
+		private final String expr;
+
+		private final boolean onlyNumber;
+
+		public Parameter(String name, String expr, boolean onlyNumber) {
+			this.name = name;
+			this.expr = expr;
+			this.onlyNumber = onlyNumber;
+		}
+
+		@Override
+		public void append(StringBuilder text, Map<String, String> model, boolean replace) {
+			if (replace && onlyNumber) {
+				return;
+			}
+			String value = model.get(name);
+			if (value != null || model.containsKey(name)) {
+				text.append(value);
+			} else {
+				text.append(replace ? name : expr);
+			}
+		}
+	}
+}
@@ -0,0 +1,106 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.customservice;
+
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentIdentifier;
+
+/**
+ * Parameters of the 'xml/documentSymbols' request :
+ * 
+ * <code>
+ * {
+     "textDocument": { "uri": "file:///data.xml" },
+     "parent": { "line": 10, "character": 2 },
+     "range": { "start": { "line": 0, "character": 0 }, "end": { "line": 200, "character": 0 } },
+     "depth": 1
+   }
+ * </code>
+ *
+ */
+public class XMLDocumentSymbolParams {
+
+	private TextDocumentIdentifier textDocument;
+
+	private Position parent;
+
+	private Range range;
+
+	private Integer depth;
+
+	public XMLDocumentSymbolParams() {
+	}
+
+	public XMLDocumentSymbolParams(TextDocumentIdentifier textDocument, Position parent, Range range, Integer depth) {
+		this.textDocument = textDocument;
+		this.parent = parent;
+		this.range = range;
+		this.depth = depth;
+	}
+
+	/**
+	 * Returns the text document.
+	 * 
+	 * @return the text document.
+	 */
+	public TextDocumentIdentifier getTextDocument() {
+		return textDocument;
+	}
+
+	public void setTextDocument(TextDocumentIdentifier textDocument) {
+		this.textDocument = textDocument;
+	}
+
+	/**
+	 * Returns the start position of the range of the symbol to expand and null to
+	 * compute the top level symbols.
+	 * 
+	 * @return the start position of the range of the symbol to expand and null to
+	 *         compute the top level symbols.
+	 */
+	public Position getParent() {
+		return parent;
+	}
+
+	public void setParent(Position parent) {
+		this.parent = parent;
+	}
+
+	/**
+	 * Returns the visible range and null to compute the symbols of the whole
+	 * document.
+	 * 
+	 * @return the visible range and null to compute the symbols of the whole
+	 *         document.
+	 */
+	public Range getRange() {
+		return range;
+	}
+
+	public void setRange(Range range) {
+		this.range = range;
+	}
+
+	/**
+	 * Returns the number of levels to compute and null to compute all levels.
+	 * 
+	 * @return the number of levels to compute and null to compute all levels.
+	 */
+	public Integer getDepth() {
+		return depth;
+	}
+
+	public void setDepth(Integer depth) {
+		this.depth = depth;
+	}
+}
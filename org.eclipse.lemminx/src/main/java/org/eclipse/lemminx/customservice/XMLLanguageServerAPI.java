@@ -12,8 +12,10 @@
  */
 package org.eclipse.lemminx.customservice;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
+import org.eclipse.lsp4j.DocumentSymbol;
 import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.TextDocumentPositionParams;
 import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
@@ -31,6 +33,18 @@ public interface XMLLanguageServerAPI {
 
 	@JsonRequest
 	CompletableFuture<Position> matchingTagPosition(TextDocumentPositionParams params);
+
+	/**
+	 * Returns the document symbols of the given scope (parent symbol to expand,
+	 * visible range, number of levels). A returned symbol with null children has
+	 * children which are computed on demand by using it as parent.
+	 * 
+	 * @param params the document symbols parameters.
+	 * 
+	 * @return the document symbols of the given scope.
+	 */
+	@JsonRequest
+	CompletableFuture<List<DocumentSymbol>> documentSymbols(XMLDocumentSymbolParams params);
 }
 
 
@@ -73,7 +73,7 @@ public class DOMAttr extends DOMNode implements org.w3c.dom.Attr {
 		}
 
 		public String getContent() {
-			return getOwnerDocument().getText().substring(getStart(), getEnd());
+			return getOwnerDocument().getParsedText().substring(getStart(), getEnd());
 		}
 	}
 
@@ -221,6 +221,12 @@ public class DOMAttr extends DOMNode implements org.w3c.dom.Attr {
 	@Override
 	public void setValue(String value) throws DOMException {
 		setValue(value, NULL_VALUE, NULL_VALUE);
+		if (isXmlns()) {
+			DOMDocument document = getOwnerDocument();
+			if (document != null) {
+				document.invalidateNamespaceScopes();
+			}
+		}
 	}
 
 	public DOMRange getNodeAttrName() {
@@ -459,4 +465,24 @@ public class DOMAttr extends DOMNode implements org.w3c.dom.Attr {
 		return delimiter;
 	}
 
+	/**
+	 * Returns a copy of this attribute for the given owner element, where the
+	 * offsets are shifted with the given delta.
+	 * 
+	 * @param ownerElement the owner element of the copy.
+	 * @param delta        the delta to add to each offset.
+	 * @return a copy of this attribute for the given owner element.
+	 */
+	DOMAttr copy(DOMNode ownerElement, int delta) {
+		DOMAttr copy = new DOMAttr(name, nodeAttrName != null ? nodeAttrName.getStart() + delta : NULL_VALUE,
+				nodeAttrName != null ? nodeAttrName.getEnd() + delta : NULL_VALUE, ownerElement);
+		copy.delimiter = shift(delimiter, delta);
+		if (nodeAttrValue != null) {
+			copy.nodeAttrValue = copy.new AttrValue(nodeAttrValue.getStart() + delta, nodeAttrValue.getEnd() + delta);
+		}
+		copy.originalValue = originalValue;
+		copy.quotelessValue = quotelessValue;
+		return copy;
+	}
+
 }
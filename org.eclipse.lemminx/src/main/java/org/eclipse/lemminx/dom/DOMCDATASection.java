@@ -37,6 +37,17 @@ public class DOMCDATASection extends DOMText implements CDATASection {
 		return endContent;
 	}
 
+	@Override
+	DOMCDATASection copy(int delta) {
+		DOMCDATASection copy = (DOMCDATASection) super.copy(delta);
+		if (endContent != 0) {
+			// the content offsets are only set when the content has been scanned
+			copy.startContent += delta;
+			copy.endContent += delta;
+		}
+		return copy;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -140,7 +140,7 @@ public abstract class DOMCharacterData extends DOMNode implements org.w3c.dom.Ch
 	@Override
 	public String getData() {
 		if (data == null) {
-			data = getOwnerDocument().getText().substring(getStartContent(), getEndContent());
+			data = getOwnerDocument().getParsedText().substring(getStartContent(), getEndContent());
 		}
 		return data;
 	}
@@ -42,6 +42,17 @@ public class DOMComment extends DOMCharacterData implements org.w3c.dom.Comment
 		return endContent;
 	}
 
+	@Override
+	DOMComment copy(int delta) {
+		DOMComment copy = (DOMComment) super.copy(delta);
+		if (endContent != 0) {
+			// the content offsets are only set when the content has been scanned
+			copy.startContent += delta;
+			copy.endContent += delta;
+		}
+		return copy;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -28,6 +28,9 @@ import java.util.stream.Collectors;
 import org.eclipse.lemminx.commons.BadLocationException;
 import org.eclipse.lemminx.commons.TextDocument;
 import org.eclipse.lemminx.dom.parser.Constants;
+import org.eclipse.lemminx.dom.parser.Scanner;
+import org.eclipse.lemminx.dom.parser.TokenTable;
+import org.eclipse.lemminx.dom.parser.XMLScanner;
 import org.eclipse.lemminx.uriresolver.URIResolverExtensionManager;
 import org.eclipse.lemminx.utils.DOMUtils;
 import org.eclipse.lemminx.utils.StringUtils;
@@ -59,16 +62,44 @@ public class DOMDocument extends DOMNode implements Document {
 	private final URIResolverExtensionManager resolverExtensionManager;
 
 	private final TextDocument textDocument;
+	// the text which was parsed to create the nodes
+	private final String parsedText;
 	private boolean hasNamespaces;
 	private Map<String, String> externalGrammarLocation;
 	private String schemaInstancePrefix;
 	private String schemaPrefix;
 	private CancelChecker cancelChecker;
 	private String externalGrammarFromNamespaceURI;
+	// true if a DOCTYPE declaration is not closed or is declared in an element,
+	// in this case the DOM document cannot be updated with an incremental parse.
+	boolean incrementalReparseDisabled;
+	// the tokens recorded by the DOM parser
+	volatile TokenTable tokenTable;
+	// true if the nodes can be indexed (DOM document created by the DOM parser),
+	// disabled by the reader threads when the nodes cannot be indexed
+	volatile boolean nodeIndexEnabled;
+	// the index of the nodes by offset, created on demand
+	volatile DOMNodeIndex nodeIndex;
+	// the empty namespace scope of the parsed text
+	private volatile DOMNamespaceScope rootNamespaceScope;
 
 	public DOMDocument(TextDocument textDocument, URIResolverExtensionManager resolverExtensionManager) {
-		super(0, textDocument.getText().length());
+		this(textDocument, textDocument.getText(), resolverExtensionManager);
+	}
+
+	/**
+	 * DOM document whose nodes are created by parsing the given text.
+	 *
+	 * @param textDocument             the text document.
+	 * @param parsedText               the text of the text document which is
+	 *                                 parsed to create the nodes.
+	 * @param resolverExtensionManager the resolver extension manager.
+	 */
+	DOMDocument(TextDocument textDocument, String parsedText,
+			URIResolverExtensionManager resolverExtensionManager) {
+		super(0, parsedText.length());
 		this.textDocument = textDocument;
+		this.parsedText = parsedText;
 		this.resolverExtensionManager = resolverExtensionManager;
 		resetGrammar();
 	}
@@ -144,6 +175,177 @@ public class DOMDocument extends DOMNode implements Document {
 		return textDocument;
 	}
 
+	/**
+	 * Returns the text which was parsed to create the nodes of the XML document.
+	 * 
+	 * <p>
+	 * The text content can change while the nodes are read by another thread, the
+	 * names and values which are created lazily from the offsets of the nodes must
+	 * be taken from this text.
+	 * </p>
+	 * 
+	 * @return the text which was parsed to create the nodes of the XML document.
+	 */
+	public String getParsedText() {
+		return parsedText;
+	}
+
+	/**
+	 * Returns the token table of the text which was parsed to create the nodes of
+	 * the XML document.
+	 * 
+	 * <p>
+	 * The tokens recorded by the DOM parser are returned, if they are not
+	 * available (the document is not incremental) the parsed text is scanned
+	 * again. The token offsets always match the offsets of the nodes, even if the
+	 * text content has changed since the parse.
+	 * </p>
+	 * 
+	 * @return the token table of the text which was parsed to create the nodes of
+	 *         the XML document.
+	 */
+	public TokenTable getTokenTable() {
+		TokenTable tokenTable = this.tokenTable;
+		if (tokenTable == null || tokenTable.getText() != parsedText) {
+			tokenTable = TokenTable.scan(parsedText, isDTD());
+			this.tokenTable = tokenTable;
+		}
+		return tokenTable;
+	}
+
+	@Override
+	public DOMNode findNodeAt(int offset) {
+		DOMNodeIndex nodeIndex = getNodeIndex();
+		if (nodeIndex != null) {
+			return nodeIndex.findNodeAt(offset);
+		}
+		return super.findNodeAt(offset);
+	}
+
+	@Override
+	public DOMAttr findAttrAt(int offset) {
+		DOMNodeIndex nodeIndex = getNodeIndex();
+		if (nodeIndex != null) {
+			return nodeIndex.findAttrAt(offset);
+		}
+		return super.findAttrAt(offset);
+	}
+
+	/**
+	 * Returns the node at the given offset by walking the tree without the index
+	 * of the nodes.
+	 * 
+	 * @param offset the offset.
+	 * @return the node at the given offset.
+	 */
+	DOMNode findNodeAtWithoutIndex(int offset) {
+		return super.findNodeAt(offset);
+	}
+
+	/**
+	 * Returns the index of the nodes by offset and null if the nodes cannot be
+	 * indexed.
+	 * 
+	 * <p>
+	 * The index is created on demand for the DOM document created by the DOM
+	 * parser. The nodes are created from the parsed text, so the index is kept
+	 * when the text content changes.
+	 * </p>
+	 * 
+	 * @return the index of the nodes by offset and null if the nodes cannot be
+	 *         indexed.
+	 */
+	DOMNodeIndex getNodeIndex() {
+		if (!nodeIndexEnabled) {
+			return null;
+		}
+		DOMNodeIndex nodeIndex = this.nodeIndex;
+		if (nodeIndex == null || nodeIndex.getText() != parsedText) {
+			nodeIndex = DOMNodeIndex.create(this, parsedText);
+			if (nodeIndex == null) {
+				// the nodes are not sorted in document order
+				nodeIndexEnabled = false;
+				return null;
+			}
+			this.nodeIndex = nodeIndex;
+		}
+		return nodeIndex;
+	}
+
+	/**
+	 * Returns the namespace scope of the given node (the scope of the node if it
+	 * is an element or the scope of its parent element).
+	 *
+	 * @param node the DOM node.
+	 * @return the namespace scope of the given node.
+	 */
+	public DOMNamespaceScope getNamespaceScope(DOMNode node) {
+		while (node != null) {
+			if (node.isElement()) {
+				return ((DOMElement) node).getNamespaceScope();
+			}
+			if (node.isAttribute()) {
+				node = ((DOMAttr) node).getOwnerElement();
+			} else {
+				node = node.getParentNode();
+			}
+		}
+		return getRootNamespaceScope();
+	}
+
+	/**
+	 * Returns the empty namespace scope of the text which was parsed to create the
+	 * nodes, the scopes created with a previous root scope are not up to date.
+	 *
+	 * <p>
+	 * The xmlns attributes are read from the parsed text, so the scopes are kept
+	 * when the text content changes and are created again only when an attribute
+	 * is updated.
+	 * </p>
+	 *
+	 * @return the empty namespace scope of the text which was parsed to create
+	 *         the nodes.
+	 */
+	DOMNamespaceScope getRootNamespaceScope() {
+		DOMNamespaceScope root = this.rootNamespaceScope;
+		if (root == null || root.getText() != parsedText) {
+			root = DOMNamespaceScope.createRoot(this, parsedText);
+			this.rootNamespaceScope = root;
+		}
+		return root;
+	}
+
+	/**
+	 * Invalidate the namespace scopes when an attribute is updated.
+	 */
+	void invalidateNamespaceScopes() {
+		this.rootNamespaceScope = null;
+	}
+
+	/**
+	 * Returns a scanner of the text which was parsed to create the nodes which
+	 * starts at the given offset in the 'WithinContent' state.
+	 * 
+	 * <p>
+	 * The scanner replays the tokens recorded by the DOM parser when it is
+	 * possible, otherwise the parsed text is scanned from the given offset.
+	 * </p>
+	 * 
+	 * @param offset the offset where the scan starts.
+	 * @return a scanner which starts at the given offset in the 'WithinContent'
+	 *         state.
+	 */
+	public Scanner createScanner(int offset) {
+		TokenTable tokenTable = this.tokenTable;
+		if (tokenTable != null && tokenTable.getText() == parsedText) {
+			Scanner scanner = tokenTable.createScanner(offset);
+			if (scanner != null) {
+				return scanner;
+			}
+		}
+		return XMLScanner.createScanner(parsedText, offset);
+	}
+
 	/**
 	 * Returns true if the document is bound to a grammar and false otherwise.
 	 * 
@@ -39,6 +39,18 @@ public class DOMDocumentType extends DTDDeclNode implements org.w3c.dom.Document
 		super(start, end);
 	}
 
+	@Override
+	DOMDocumentType copy(int delta) {
+		DOMDocumentType copy = (DOMDocumentType) super.copy(delta);
+		copy.kind = copy.getCopiedParameter(this, kind);
+		copy.publicId = copy.getCopiedParameter(this, publicId);
+		copy.systemId = copy.getCopiedParameter(this, systemId);
+		copy.internalSubset = copy.getCopiedParameter(this, internalSubset);
+		// the entities are the children of this node
+		copy.entitiesNodes = null;
+		return copy;
+	}
+
 	@Override
 	public DOMDocumentType getOwnerDocType() {
 		return this;
@@ -47,7 +59,7 @@ public class DOMDocumentType extends DTDDeclNode implements org.w3c.dom.Document
 	@Override
 	public String getTextContent() {
 		if (content == null) {
-			content = getOwnerDocument().getText().substring(getStart(), getEnd());
+			content = getOwnerDocument().getParsedText().substring(getStart(), getEnd());
 		}
 		return content;
 	}
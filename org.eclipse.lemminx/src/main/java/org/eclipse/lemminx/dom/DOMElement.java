@@ -12,9 +12,6 @@
  */
 package org.eclipse.lemminx.dom;
 
-import static org.eclipse.lemminx.dom.DOMAttr.XMLNS_ATTR;
-import static org.eclipse.lemminx.dom.DOMAttr.XMLNS_NO_DEFAULT_ATTR;
-
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -33,6 +30,8 @@ import org.w3c.dom.TypeInfo;
 public class DOMElement extends DOMNode implements org.w3c.dom.Element {
 
 	String tag;
+	// length of the start tag name, used to get the tag name lazily from the text
+	int tagLength;
 	boolean selfClosed;
 
 	// DomElement.start == startTagOpenOffset
@@ -43,10 +42,25 @@ public class DOMElement extends DOMNode implements org.w3c.dom.Element {
 	int endTagCloseOffset = NULL_VALUE;// <root> </root |>
 	// DomElement.end = <root> </root>| , is always scanner.getTokenEnd()
 
+	// the namespace scope, created on demand
+	private DOMNamespaceScope namespaceScope;
+
 	public DOMElement(int start, int end) {
 		super(start, end);
 	}
 
+	@Override
+	DOMElement copy(int delta) {
+		DOMElement copy = (DOMElement) super.copy(delta);
+		copy.startTagOpenOffset = shift(startTagOpenOffset, delta);
+		copy.startTagCloseOffset = shift(startTagCloseOffset, delta);
+		copy.endTagOpenOffset = shift(endTagOpenOffset, delta);
+		copy.endTagCloseOffset = shift(endTagCloseOffset, delta);
+		// the namespace scope references the ancestors of this element
+		copy.namespaceScope = null;
+		return copy;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 *
@@ -74,6 +88,10 @@ public class DOMElement extends DOMNode implements org.w3c.dom.Element {
 	 */
 	@Override
 	public String getTagName() {
+		if (tag == null && tagLength > 0) {
+			int start = startTagOpenOffset + 1;
+			tag = getOwnerDocument().getParsedText().substring(start, start + tagLength);
+		}
 		return tag;
 	}
 
@@ -85,7 +103,7 @@ public class DOMElement extends DOMNode implements org.w3c.dom.Element {
 	 *         or '</').
 	 */
 	public boolean hasTagName() {
-		return tag != null;
+		return tag != null || tagLength > 0;
 	}
 
 	/*
@@ -145,37 +163,50 @@ public class DOMElement extends DOMNode implements org.w3c.dom.Element {
 	 * @return the namespace URI for the given prefix and null otherwise.
 	 */
 	public String getNamespaceURI(String prefix) {
-		String namespaceURI = getNamespaceURI(prefix, this);
-		if (namespaceURI != null) {
-			return namespaceURI;
-		}
-		// try to get the namespace from the parent element
-		DOMNode parent = getParentNode();
-		while (parent != null) {
-			if (parent.getNodeType() == DOMNode.ELEMENT_NODE) {
-				DOMElement parentElement = ((DOMElement) parent);
-				namespaceURI = getNamespaceURI(prefix, parentElement);
-				if (namespaceURI != null) {
-					return namespaceURI;
-				}
-			}
-			parent = parent.getParentNode();
-		}
-		return null;
+		return getNamespaceScope().getNamespaceURI(StringUtils.isEmpty(prefix) ? null : prefix);
 	}
 
 	/**
-	 * Returns the namespace URI from the given prefix declared in the given element
-	 * and null otherwise.
+	 * Returns the namespace scope of the element which resolves the xmlns
+	 * declarations of the element and its ancestor elements.
 	 *
-	 * @param prefix  the prefix
-	 * @param element the DOM element
-	 * @return the namespace URI from the given prefix declared in the given element
-	 *         and null otherwise.
+	 * @return the namespace scope of the element.
 	 */
-	private static String getNamespaceURI(String prefix, DOMElement element) {
-		boolean hasPrefix = !StringUtils.isEmpty(prefix);
-		return hasPrefix ? element.getAttribute(XMLNS_NO_DEFAULT_ATTR + prefix) : element.getAttribute(XMLNS_ATTR);
+	public DOMNamespaceScope getNamespaceScope() {
+		DOMNamespaceScope scope = namespaceScope;
+		if (scope != null && scope.isUpToDate()) {
+			return scope;
+		}
+		// Collect the element and its ancestor elements which have no up to date
+		// scope, and create their scopes from the top
+		List<DOMElement> elements = new ArrayList<>();
+		DOMNamespaceScope parentScope = null;
+		DOMDocument document = null;
+		DOMNode node = this;
+		while (node != null) {
+			if (node.isElement()) {
+				DOMElement element = (DOMElement) node;
+				DOMNamespaceScope elementScope = element.namespaceScope;
+				if (elementScope != null && elementScope.isUpToDate()) {
+					parentScope = elementScope;
+					break;
+				}
+				elements.add(element);
+			} else if (node.getNodeType() == DOMNode.DOCUMENT_NODE) {
+				document = (DOMDocument) node;
+			}
+			node = node.getParentNode();
+		}
+		if (parentScope == null) {
+			parentScope = document != null ? document.getRootNamespaceScope()
+					: DOMNamespaceScope.createRoot(null, null);
+		}
+		for (int i = elements.size() - 1; i >= 0; i--) {
+			DOMElement element = elements.get(i);
+			parentScope = DOMNamespaceScope.create(element, parentScope);
+			element.namespaceScope = parentScope;
+		}
+		return parentScope;
 	}
 
 	public Collection<String> getAllPrefixes() {
@@ -201,33 +232,7 @@ public class DOMElement extends DOMNode implements org.w3c.dom.Element {
 		if (namespaceURI == null) {
 			return null;
 		}
-		if (hasAttributes()) {
-			for (DOMAttr attr : getAttributeNodes()) {
-				String prefix = attr.getPrefixIfMatchesURI(namespaceURI);
-				if (prefix != null) {
-					return prefix;
-				}
-			}
-		}
-		// try to get the prefix in the parent element
-		DOMNode parent = getParentNode();
-		while (parent != null) {
-			if (parent.getNodeType() == DOMNode.ELEMENT_NODE) {
-				DOMElement parentElement = ((DOMElement) parent);
-				String prefix = parentElement.getPrefix(namespaceURI);
-				if (prefix != null) {
-					return prefix;
-				}
-			}
-			parent = parent.getParentNode();
-		}
-		if (!StringUtils.isEmpty(namespaceURI)) {
-			switch (namespaceURI) {
-				case "http://www.w3.org/XML/1998/namespace":
-					return "xml";
-			}
-		}
-		return null;
+		return getNamespaceScope().getPrefix(namespaceURI);
 	}
 
 	public boolean isDocumentElement() {
@@ -277,7 +282,26 @@ public class DOMElement extends DOMNode implements org.w3c.dom.Element {
 	 *         otherwise.
 	 */
 	public boolean isSameTag(String tag) {
-		return Objects.equals(this.tag, tag);
+		return Objects.equals(getTagName(), tag);
+	}
+
+	/**
+	 * Returns true if the tag of this element is the given range of the given text
+	 * and false otherwise, without creating the tag name.
+	 *
+	 * @param text  the text.
+	 * @param start the start offset of the tag.
+	 * @param end   the end offset of the tag.
+	 * @return true if the tag of this element is the given range of the given text
+	 *         and false otherwise.
+	 */
+	boolean isSameTag(String text, int start, int end) {
+		int length = end - start;
+		if (tag != null) {
+			return tag.length() == length && text.startsWith(tag, start);
+		}
+		return tagLength > 0 && tagLength == length
+				&& text.regionMatches(startTagOpenOffset + 1, text, start, length);
 	}
 
 	public boolean isInStartTag(int offset) {
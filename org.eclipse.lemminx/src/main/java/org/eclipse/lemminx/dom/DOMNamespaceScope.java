@@ -0,0 +1,201 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.dom;
+
+import static org.eclipse.lemminx.dom.DOMAttr.XMLNS_NO_DEFAULT_ATTR;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Namespace scope of a {@link DOMElement} which resolves a prefix to a
+ * namespace URI and a namespace URI to a prefix without walking the ancestor
+ * elements.
+ *
+ * <p>
+ * A scope contains the xmlns declarations of the element merged with the
+ * scope of its parent element. An element which doesn't declare xmlns
+ * attributes shares the scope of its parent element, so the siblings
+ * share the same scope.
+ * </p>
+ *
+ * <p>
+ * The scopes of a DOM document are created on demand from the text which was
+ * parsed to create the nodes and are created again when an attribute is
+ * updated.
+ * </p>
+ */
+public class DOMNamespaceScope {
+
+	private static final String XML_NAMESPACE_URI = "http://www.w3.org/XML/1998/namespace";
+
+	private static final String XML_PREFIX = "xml";
+
+	private final DOMNamespaceScope root;
+
+	private final DOMDocument document;
+
+	private final String text;
+
+	// prefix -> namespace URI, the default namespace uses the "" prefix
+	private final Map<String, String> namespaceURIs;
+
+	// namespace URI -> prefix
+	private final Map<String, String> prefixes;
+
+	private DOMNamespaceScope(DOMDocument document, String text) {
+		this.root = this;
+		this.document = document;
+		this.text = text;
+		this.namespaceURIs = Collections.emptyMap();
+		this.prefixes = Collections.emptyMap();
+	}
+
+	private DOMNamespaceScope(DOMNamespaceScope parent, Map<String, String> namespaceURIs,
+			Map<String, String> prefixes) {
+		this.root = parent.root;
+		this.document = null;
+		this.text = null;
+		this.namespaceURIs = namespaceURIs;
+		this.prefixes = prefixes;
+	}
+
+	/**
+	 * Returns the namespace URI for the given prefix and null otherwise.
+	 *
+	 * @param prefix the prefix (null or empty for the default namespace).
+	 * @return the namespace URI for the given prefix and null otherwise.
+	 */
+	public String getNamespaceURI(String prefix) {
+		return namespaceURIs.get(prefix != null ? prefix : "");
+	}
+
+	/**
+	 * Returns the xmlns prefix from the given namespace URI and null otherwise.
+	 *
+	 * @param namespaceURI the namespace URI.
+	 * @return the xmlns prefix from the given namespace URI and null otherwise.
+	 */
+	public String getPrefix(String namespaceURI) {
+		if (namespaceURI == null) {
+			return null;
+		}
+		String prefix = prefixes.get(namespaceURI);
+		if (prefix == null && XML_NAMESPACE_URI.equals(namespaceURI)) {
+			return XML_PREFIX;
+		}
+		return prefix;
+	}
+
+	/**
+	 * Returns true if the scope has been created with the current root scope of
+	 * its DOM document and false otherwise.
+	 *
+	 * @return true if the scope has been created with the current root scope of
+	 *         its DOM document and false otherwise.
+	 */
+	boolean isUpToDate() {
+		DOMDocument document = root.document;
+		return document != null && document.getRootNamespaceScope() == root;
+	}
+
+	String getText() {
+		return text;
+	}
+
+	/**
+	 * Returns the empty scope of the given DOM document.
+	 *
+	 * @param document the DOM document and null otherwise.
+	 * @param text     the text which was parsed to create the nodes.
+	 * @return the empty scope of the given DOM document.
+	 */
+	static DOMNamespaceScope createRoot(DOMDocument document, String text) {
+		return new DOMNamespaceScope(document, text);
+	}
+
+	/**
+	 * Returns the scope of the given element.
+	 *
+	 * @param element the DOM element.
+	 * @param parent  the scope of the parent element.
+	 * @return the scope of the given element.
+	 */
+	static DOMNamespaceScope create(DOMElement element, DOMNamespaceScope parent) {
+		if (!element.hasAttributes()) {
+			return parent;
+		}
+		Map<String, String> namespaceURIs = null;
+		Map<String, String> prefixes = null;
+		Set<String> names = null;
+		for (DOMAttr attr : element.getAttributeNodes()) {
+			String name = attr.getName();
+			if (name == null || !DOMAttr.isXmlns(name)) {
+				continue;
+			}
+			// namespace URI declared with xmlns="" or xmlns:prefix="", the first
+			// attribute wins like DOMNode#getAttribute(String)
+			boolean defaultXmlns = DOMAttr.isDefaultXmlns(name);
+			if (defaultXmlns || (DOMAttr.isNoDefaultXmlns(name) && name.length() > XMLNS_NO_DEFAULT_ATTR.length())) {
+				if (names == null) {
+					names = new HashSet<>();
+				}
+				if (names.add(name)) {
+					String namespaceURI = element.getAttribute(name);
+					if (namespaceURI != null) {
+						if (namespaceURIs == null) {
+							namespaceURIs = new HashMap<>();
+						}
+						namespaceURIs.put(defaultXmlns ? "" : name.substring(XMLNS_NO_DEFAULT_ATTR.length()),
+								namespaceURI);
+					}
+				}
+			}
+			// prefix declared for a namespace URI, the first attribute wins like
+			// DOMAttr#getPrefixIfMatchesURI(String)
+			if (!defaultXmlns) {
+				String value = attr.getValue();
+				if (value != null) {
+					if (prefixes == null) {
+						prefixes = new HashMap<>();
+					}
+					prefixes.putIfAbsent(value, attr.extractPrefixFromXmlns());
+				}
+			}
+		}
+		if (namespaceURIs == null && prefixes == null) {
+			return parent;
+		}
+		return new DOMNamespaceScope(parent, merge(parent.namespaceURIs, namespaceURIs),
+				merge(parent.prefixes, prefixes));
+	}
+
+	private static Map<String, String> merge(Map<String, String> parent, Map<String, String> declared) {
+		if (declared == null) {
+			return parent;
+		}
+		if (parent.isEmpty()) {
+			return declared;
+		}
+		Map<String, String> merged = new HashMap<>(parent);
+		merged.putAll(declared);
+		return merged;
+	}
+
+	@Override
+	public String toString() {
+		return "xmlns=" + namespaceURIs;
+	}
+}
@@ -16,7 +16,6 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.function.Function;
 
 import org.w3c.dom.DOMException;
 import org.w3c.dom.NamedNodeMap;
@@ -28,7 +27,7 @@ import org.w3c.dom.UserDataHandler;
  * DOM node.
  *
  */
-public abstract class DOMNode implements Node, DOMRange {
+public abstract class DOMNode implements Node, DOMRange, Cloneable {
 
 	/**
 	 * Null value used for offset.
@@ -64,8 +63,11 @@ public abstract class DOMNode implements Node, DOMRange {
 
 	private XMLNamedNodeMap<DOMAttr> attributeNodes;
 	private XMLNodeList<DOMNode> children;
+	// the children of a node of a previous DOM document which are copied on
+	// demand in this node, see getChildren()
+	private volatile ChildrenCopy childrenCopy;
 
-	final int start; // |<root> </root>
+	int start; // |<root> </root>
 	int end; // <root> </root>|
 
 	DOMNode parent;
@@ -150,6 +152,35 @@ public abstract class DOMNode implements Node, DOMRange {
 
 	}
 
+	/**
+	 * The children of a node of a previous DOM document which must be copied in a
+	 * node of an incrementally parsed DOM document.
+	 * 
+	 * <p>
+	 * The children located before the replaced child are copied as is, the
+	 * replaced child is replaced with the replacement node and the children
+	 * located after it are copied with their offsets shifted by the delta. When
+	 * there is no replaced child, all children are shifted.
+	 * </p>
+	 */
+	private static class ChildrenCopy {
+
+		private final DOMNode source;
+
+		private final int replacedIndex;
+
+		private final DOMNode replacement;
+
+		private final int delta;
+
+		public ChildrenCopy(DOMNode source, int replacedIndex, DOMNode replacement, int delta) {
+			this.source = source;
+			this.replacedIndex = replacedIndex;
+			this.replacement = replacement;
+			this.delta = delta;
+		}
+	}
+
 	public DOMNode(int start, int end) {
 		this.start = start;
 		this.end = end;
@@ -191,7 +222,8 @@ public abstract class DOMNode implements Node, DOMRange {
 		result.append(getNodeName());
 		result.append(", closed: ");
 		result.append(closed);
-		if (children != null && children.size() > 0) {
+		List<DOMNode> children = getChildren();
+		if (children.size() > 0) {
 			result.append(", \n");
 			for (int i = 0; i < indent + 1; i++) {
 				result.append("\t");
@@ -226,7 +258,7 @@ public abstract class DOMNode implements Node, DOMRange {
 	 */
 	public DOMNode findNodeBefore(int offset) {
 		List<DOMNode> children = getChildren();
-		int idx = findFirst(children, c -> offset <= c.start) - 1;
+		int idx = findFirstChildStartingFrom(children, offset) - 1;
 		if (idx >= 0) {
 			DOMNode child = children.get(idx);
 			if (offset > child.start) {
@@ -245,7 +277,7 @@ public abstract class DOMNode implements Node, DOMRange {
 
 	public DOMNode findNodeAt(int offset) {
 		List<DOMNode> children = getChildren();
-		int idx = findFirst(children, c -> offset <= c.start) - 1;
+		int idx = findFirstChildStartingFrom(children, offset) - 1;
 		if (idx >= 0) {
 			DOMNode child = children.get(idx);
 			if (isIncluded(child, offset)) {
@@ -280,7 +312,9 @@ public abstract class DOMNode implements Node, DOMRange {
 
 	public static DOMAttr findAttrAt(DOMNode node, int offset) {
 		if (node != null && node.hasAttributes()) {
-			for (DOMAttr attr : node.getAttributeNodes()) {
+			List<DOMAttr> attributes = node.getAttributeNodes();
+			for (int i = 0; i < attributes.size(); i++) {
+				DOMAttr attr = attributes.get(i);
 				if (attr.isIncluded(offset)) {
 					return attr;
 				}
@@ -301,6 +335,10 @@ public abstract class DOMNode implements Node, DOMRange {
 	}
 	
 	public static DOMNode findNodeOrAttrAt(DOMDocument document, int offset) {
+		DOMNodeIndex nodeIndex = document.getNodeIndex();
+		if (nodeIndex != null) {
+			return nodeIndex.findNodeOrAttrAt(offset);
+		}
 		DOMNode node = document.findNodeAt(offset);
 		if (node != null) {
 			DOMAttr attr = findAttrAt(node, offset);
@@ -312,21 +350,16 @@ public abstract class DOMNode implements Node, DOMRange {
 	}
 
 	/**
-	 * Takes a sorted array and a function p. The array is sorted in such a way that
-	 * all elements where p(x) is false are located before all elements where p(x)
-	 * is true.
+	 * Takes the children sorted by their start offset.
 	 * 
-	 * @returns the least x for which p(x) is true or array.length if no element
-	 *          full fills the given function.
+	 * @returns the index of the first child which starts at or after the given
+	 *          offset or children.size() if no child starts after the offset.
 	 */
-	private static <T> int findFirst(List<T> array, Function<T, Boolean> p) {
-		int low = 0, high = array.size();
-		if (high == 0) {
-			return 0; // no children
-		}
+	private static int findFirstChildStartingFrom(List<DOMNode> children, int offset) {
+		int low = 0, high = children.size();
 		while (low < high) {
-			int mid = (int) Math.floor((low + high) / 2);
-			if (p.apply(array.get(mid))) {
+			int mid = (low + high) >>> 1;
+			if (offset <= children.get(mid).start) {
 				high = mid;
 			} else {
 				low = mid + 1;
@@ -462,12 +495,54 @@ public abstract class DOMNode implements Node, DOMRange {
 	 * @return the node children.
 	 */
 	public List<DOMNode> getChildren() {
+		XMLNodeList<DOMNode> children = children();
 		if (children == null) {
 			return Collections.emptyList();
 		}
 		return children;
 	}
 
+	/**
+	 * Returns the children of this node and null if it has no children, the
+	 * children of a node of a previous DOM document are copied on demand.
+	 * 
+	 * @return the children of this node and null if it has no children.
+	 */
+	private XMLNodeList<DOMNode> children() {
+		ChildrenCopy childrenCopy = this.childrenCopy;
+		if (childrenCopy != null) {
+			copyChildren(childrenCopy);
+		}
+		return children;
+	}
+
+	private void copyChildren(ChildrenCopy childrenCopy) {
+		// the copy can be done by several threads which read the DOM document, the
+		// children are copied once.
+		synchronized (childrenCopy) {
+			if (this.childrenCopy == null) {
+				return;
+			}
+			List<DOMNode> sourceChildren = childrenCopy.source.getChildren();
+			if (!sourceChildren.isEmpty()) {
+				XMLNodeList<DOMNode> children = new XMLNodeList<>();
+				children.ensureCapacity(sourceChildren.size());
+				for (int i = 0; i < sourceChildren.size(); i++) {
+					DOMNode child = null;
+					if (i == childrenCopy.replacedIndex) {
+						child = childrenCopy.replacement;
+					} else {
+						child = sourceChildren.get(i).copy(i < childrenCopy.replacedIndex ? 0 : childrenCopy.delta);
+					}
+					child.parent = this;
+					children.add(child);
+				}
+				this.children = children;
+			}
+			this.childrenCopy = null;
+		}
+	}
+
 	/**
 	 * Add node child and set child.parent to {@code this}
 	 * 
@@ -481,6 +556,108 @@ public abstract class DOMNode implements Node, DOMRange {
 		getChildren().add(child);
 	}
 
+	/**
+	 * Move the children of the given node to this node and set their parent to
+	 * {@code this}.
+	 * 
+	 * @param node the node which hosts the new children.
+	 */
+	void moveChildren(DOMNode node) {
+		childrenCopy = null;
+		children = node.children;
+		if (children != null) {
+			for (DOMNode child : children) {
+				child.parent = this;
+			}
+		}
+		node.children = null;
+	}
+
+	/**
+	 * Copy on demand the children of the given node of a previous DOM document in
+	 * this node, where the given child is replaced with the given replacement
+	 * node and the children located after it are shifted with the given delta.
+	 * 
+	 * @param source       the node of the previous DOM document.
+	 * @param replaced     the replaced child of the source node.
+	 * @param replacement  the node which replaces the child in this node.
+	 * @param delta        the delta to add to the offsets of the children
+	 *                     located after the replaced child.
+	 */
+	void copyChildren(DOMNode source, DOMNode replaced, DOMNode replacement, int delta) {
+		replacement.parent = this;
+		this.children = null;
+		this.childrenCopy = new ChildrenCopy(source, source.indexOfChild(replaced), replacement, delta);
+	}
+
+	/**
+	 * Returns the index of the given child and -1 if it is not a child of this
+	 * node.
+	 * 
+	 * @param child the child node.
+	 * @return the index of the given child and -1 if it is not a child of this
+	 *         node.
+	 */
+	int indexOfChild(DOMNode child) {
+		List<DOMNode> children = getChildren();
+		// the children are sorted by their start offset
+		for (int i = findFirstChildStartingFrom(children, child.start); i < children.size()
+				&& children.get(i).start == child.start; i++) {
+			if (children.get(i) == child) {
+				return i;
+			}
+		}
+		return children.indexOf(child);
+	}
+
+	/**
+	 * Returns a copy of this node without parent, where the offsets are shifted
+	 * with the given delta.
+	 * 
+	 * <p>
+	 * The attributes are copied and the children are copied on demand, this node
+	 * is not modified and can be read by another thread while it is copied.
+	 * </p>
+	 * 
+	 * @param delta the delta to add to each offset.
+	 * @return a copy of this node without parent.
+	 */
+	DOMNode copy(int delta) {
+		DOMNode copy = null;
+		try {
+			copy = (DOMNode) super.clone();
+		} catch (CloneNotSupportedException e) {
+			throw new IllegalStateException(e);
+		}
+		copy.start += delta;
+		copy.end += delta;
+		copy.parent = null;
+		ChildrenCopy childrenCopy = this.childrenCopy;
+		copy.children = null;
+		copy.childrenCopy = childrenCopy != null || children != null ? new ChildrenCopy(this, -1, null, delta)
+				: null;
+		if (attributeNodes != null) {
+			copy.attributeNodes = new XMLNamedNodeMap<>();
+			for (DOMAttr attr : attributeNodes) {
+				copy.attributeNodes.add(attr.copy(copy, delta));
+			}
+		}
+		return copy;
+	}
+
+	/**
+	 * Returns the given offset shifted with the given delta and
+	 * {@link #NULL_VALUE} if the offset is not set.
+	 * 
+	 * @param offset the offset.
+	 * @param delta  the delta.
+	 * @return the given offset shifted with the given delta and
+	 *         {@link #NULL_VALUE} if the offset is not set.
+	 */
+	static int shift(int offset, int delta) {
+		return offset != NULL_VALUE ? offset + delta : NULL_VALUE;
+	}
+
 	/**
 	 * Returns node child at the given index.
 	 * 
@@ -612,7 +789,8 @@ public abstract class DOMNode implements Node, DOMRange {
 	 */
 	@Override
 	public DOMNode getFirstChild() {
-		return this.children != null && children.size() > 0 ? this.children.get(0) : null;
+		List<DOMNode> children = getChildren();
+		return children.size() > 0 ? children.get(0) : null;
 	}
 
 	/*
@@ -622,7 +800,8 @@ public abstract class DOMNode implements Node, DOMRange {
 	 */
 	@Override
 	public DOMNode getLastChild() {
-		return this.children != null && this.children.size() > 0 ? this.children.get(this.children.size() - 1) : null;
+		List<DOMNode> children = getChildren();
+		return children.size() > 0 ? children.get(children.size() - 1) : null;
 	}
 
 	/*
@@ -642,6 +821,7 @@ public abstract class DOMNode implements Node, DOMRange {
 	 */
 	@Override
 	public NodeList getChildNodes() {
+		XMLNodeList<DOMNode> children = children();
 		return children != null ? children : EMPTY_CHILDREN;
 	}
 
@@ -825,6 +1005,7 @@ public abstract class DOMNode implements Node, DOMRange {
 	 */
 	@Override
 	public boolean hasChildNodes() {
+		XMLNodeList<DOMNode> children = children();
 		return children != null && !children.isEmpty();
 	}
 
@@ -894,4 +1075,4 @@ public abstract class DOMNode implements Node, DOMRange {
 		return null;
 	}
 
-}
\ No newline at end of file
+}
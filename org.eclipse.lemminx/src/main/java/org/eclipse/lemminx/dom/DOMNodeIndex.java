@@ -0,0 +1,285 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.dom;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Flattened index of the nodes and attributes of a {@link DOMDocument} to find
+ * the node or the attribute at a given offset with a binary search.
+ *
+ * <p>
+ * The nodes are stored in document order (pre-order) with their start offset,
+ * end offset and the index of their parent in primitive arrays. The node at a
+ * given offset is the last node which starts before the offset, or its nearest
+ * ancestor which includes the offset, like {@link DOMNode#findNodeAt(int)}
+ * which walks the tree.
+ * </p>
+ *
+ * <p>
+ * The index can be created only if the start offsets of the nodes are sorted
+ * in document order.
+ * </p>
+ *
+ */
+final class DOMNodeIndex {
+
+	private static final int NO_PARENT = -1;
+
+	private final DOMDocument document;
+
+	private final String text;
+
+	private int count;
+
+	private DOMNode[] nodes;
+
+	private int[] starts;
+
+	private int[] ends;
+
+	private int[] parents;
+
+	// attributes of the node i are stored in [attrFrom[i], attrTo[i]], attrFrom[i]
+	// is -1 when the attributes are not sorted.
+	private int[] attrFrom;
+
+	private int[] attrTo;
+
+	private int attrCount;
+
+	private DOMAttr[] attrs;
+
+	private int[] attrStarts;
+
+	private int[] attrEnds;
+
+	private DOMNodeIndex(DOMDocument document, String text) {
+		this.document = document;
+		this.text = text;
+		int capacity = Math.max(16, text.length() / 32);
+		this.nodes = new DOMNode[capacity];
+		this.starts = new int[capacity];
+		this.ends = new int[capacity];
+		this.parents = new int[capacity];
+		this.attrFrom = new int[capacity];
+		this.attrTo = new int[capacity];
+		this.attrs = new DOMAttr[16];
+		this.attrStarts = new int[16];
+		this.attrEnds = new int[16];
+	}
+
+	/**
+	 * Returns the index of the nodes of the given DOM document and null if the
+	 * nodes are not sorted in document order.
+	 *
+	 * @param document the DOM document.
+	 * @param text     the text which was parsed to create the nodes.
+	 * @return the index of the nodes of the given DOM document and null if the
+	 *         nodes are not sorted in document order.
+	 */
+	static DOMNodeIndex create(DOMDocument document, String text) {
+		DOMNodeIndex index = new DOMNodeIndex(document, text);
+		return index.build() ? index : null;
+	}
+
+	private boolean build() {
+		// Walk the tree in pre-order without recursion to support deep nesting
+		DOMNode[] stackNodes = new DOMNode[16];
+		int[] stackIndexes = new int[16];
+		int[] stackPositions = new int[16];
+		int depth = 0;
+		stackNodes[0] = document;
+		stackIndexes[0] = NO_PARENT;
+		int lastStart = document.getStart();
+		while (depth >= 0) {
+			List<DOMNode> children = stackNodes[depth].getChildren();
+			int position = stackPositions[depth];
+			if (position == children.size()) {
+				stackNodes[depth] = null;
+				depth--;
+				continue;
+			}
+			stackPositions[depth] = position + 1;
+			DOMNode child = children.get(position);
+			int start = child.getStart();
+			if (start < lastStart) {
+				return false;
+			}
+			lastStart = start;
+			int index = add(child, stackIndexes[depth]);
+			if (child.hasChildNodes()) {
+				depth++;
+				if (depth == stackNodes.length) {
+					stackNodes = Arrays.copyOf(stackNodes, depth * 2);
+					stackIndexes = Arrays.copyOf(stackIndexes, depth * 2);
+					stackPositions = Arrays.copyOf(stackPositions, depth * 2);
+				}
+				stackNodes[depth] = child;
+				stackIndexes[depth] = index;
+				stackPositions[depth] = 0;
+			}
+		}
+		return true;
+	}
+
+	private int add(DOMNode node, int parent) {
+		if (count == nodes.length) {
+			int capacity = count + (count >> 1);
+			nodes = Arrays.copyOf(nodes, capacity);
+			starts = Arrays.copyOf(starts, capacity);
+			ends = Arrays.copyOf(ends, capacity);
+			parents = Arrays.copyOf(parents, capacity);
+			attrFrom = Arrays.copyOf(attrFrom, capacity);
+			attrTo = Arrays.copyOf(attrTo, capacity);
+		}
+		int index = count++;
+		nodes[index] = node;
+		starts[index] = node.getStart();
+		ends[index] = node.getEnd();
+		parents[index] = parent;
+		attrFrom[index] = attrCount;
+		if (node.hasAttributes()) {
+			List<DOMAttr> attributes = node.getAttributeNodes();
+			int lastEnd = Integer.MIN_VALUE;
+			for (int i = 0; i < attributes.size(); i++) {
+				DOMAttr attr = attributes.get(i);
+				int start = attr.getStart();
+				int end = attr.getEnd();
+				if (start < lastEnd || end < start) {
+					// the attributes overlap, they are searched in the node
+					attrCount = attrFrom[index];
+					attrFrom[index] = -1;
+					break;
+				}
+				lastEnd = end;
+				addAttr(attr, start, end);
+			}
+		}
+		attrTo[index] = attrCount;
+		return index;
+	}
+
+	private void addAttr(DOMAttr attr, int start, int end) {
+		if (attrCount == attrs.length) {
+			int capacity = attrCount * 2;
+			attrs = Arrays.copyOf(attrs, capacity);
+			attrStarts = Arrays.copyOf(attrStarts, capacity);
+			attrEnds = Arrays.copyOf(attrEnds, capacity);
+		}
+		attrs[attrCount] = attr;
+		attrStarts[attrCount] = start;
+		attrEnds[attrCount] = end;
+		attrCount++;
+	}
+
+	/**
+	 * Returns the text which was parsed to create the indexed nodes.
+	 *
+	 * @return the text which was parsed to create the indexed nodes.
+	 */
+	String getText() {
+		return text;
+	}
+
+	/**
+	 * Returns the node at the given offset like {@link DOMNode#findNodeAt(int)}.
+	 *
+	 * @param offset the offset.
+	 * @return the node at the given offset.
+	 */
+	DOMNode findNodeAt(int offset) {
+		int index = findNodeIndexAt(offset);
+		return index == NO_PARENT ? document : nodes[index];
+	}
+
+	/**
+	 * Returns the attribute at the given offset and null otherwise like
+	 * {@link DOMNode#findAttrAt(int)}.
+	 *
+	 * @param offset the offset.
+	 * @return the attribute at the given offset and null otherwise.
+	 */
+	DOMAttr findAttrAt(int offset) {
+		int index = findNodeIndexAt(offset);
+		return index == NO_PARENT ? null : findAttrAt(index, offset);
+	}
+
+	/**
+	 * Returns the attribute at the given offset and the node at the given offset
+	 * otherwise like {@link DOMNode#findNodeOrAttrAt(DOMDocument, int)}.
+	 *
+	 * @param offset the offset.
+	 * @return the attribute at the given offset and the node at the given offset
+	 *         otherwise.
+	 */
+	DOMNode findNodeOrAttrAt(int offset) {
+		int index = findNodeIndexAt(offset);
+		if (index == NO_PARENT) {
+			return document;
+		}
+		DOMAttr attr = findAttrAt(index, offset);
+		return attr != null ? attr : nodes[index];
+	}
+
+	private int findNodeIndexAt(int offset) {
+		// Search the last node which starts before the offset
+		int low = 0;
+		int high = count;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (starts[middle] < offset) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		// The node at the offset is the node or the parent of its farthest ancestor
+		// which doesn't include the offset
+		int result = low - 1;
+		for (int index = result; index != NO_PARENT; index = parents[index]) {
+			if (offset > ends[index]) {
+				result = parents[index];
+			}
+		}
+		return result;
+	}
+
+	private DOMAttr findAttrAt(int index, int offset) {
+		int from = attrFrom[index];
+		if (from == -1) {
+			return DOMNode.findAttrAt(nodes[index], offset);
+		}
+		// Search the last attribute which starts before or at the offset
+		int low = from;
+		int high = attrTo[index];
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (attrStarts[middle] <= offset) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		int attr = low - 1;
+		if (attr < from || offset > attrEnds[attr]) {
+			return null;
+		}
+		// Returns the first attribute which includes the offset (ex : offset between
+		// 2 attributes without spaces)
+		while (attr > from && attrEnds[attr - 1] >= offset) {
+			attr--;
+		}
+		return attrs[attr];
+	}
+}
@@ -17,12 +17,17 @@
  */
 package org.eclipse.lemminx.dom;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.eclipse.lemminx.commons.BadLocationException;
+import org.eclipse.lemminx.commons.TextChangeRegion;
 import org.eclipse.lemminx.commons.TextDocument;
 import org.eclipse.lemminx.dom.parser.Scanner;
+import org.eclipse.lemminx.dom.parser.ScannerState;
+import org.eclipse.lemminx.dom.parser.TokenTable;
 import org.eclipse.lemminx.dom.parser.TokenType;
 import org.eclipse.lemminx.dom.parser.XMLScanner;
 import org.eclipse.lemminx.uriresolver.URIResolverExtensionManager;
@@ -39,6 +44,9 @@ public class DOMParser {
 
 	private static final DOMParser INSTANCE = new DOMParser();
 
+	private static final Set<TokenType> DTD_TOKENS = EnumSet.range(TokenType.DTDStartDoctypeTag,
+			TokenType.DTDEndTag);
+
 	public static DOMParser getInstance() {
 		return INSTANCE;
 	}
@@ -68,10 +76,17 @@ public class DOMParser {
 	public DOMDocument parse(TextDocument document, URIResolverExtensionManager resolverExtensionManager,
 			boolean ignoreWhitespaceContent, CancelChecker monitor) {
 		boolean isDTD = DOMUtils.isDTD(document.getUri());
-		boolean inDTDInternalSubset = false;
 		String text = document.getText();
-		Scanner scanner = XMLScanner.createScanner(text, 0, isDTD);
-		DOMDocument xmlDocument = new DOMDocument(document, resolverExtensionManager);
+		XMLScanner scanner = (XMLScanner) XMLScanner.createScanner(text, 0, isDTD);
+		// Record the tokens of an incremental document (a document opened in the
+		// editor) to replay them instead of scanning the text again (folding, hover,
+		// etc) and to update them with the incremental reparse.
+		TokenTable tokenTable = null;
+		if (document.isIncremental()) {
+			tokenTable = new TokenTable(text, 0, scanner.getScannerState());
+			scanner.setTokenTable(tokenTable);
+		}
+		DOMDocument xmlDocument = new DOMDocument(document, text, resolverExtensionManager);
 		xmlDocument.setCancelChecker(monitor);
 
 		DOMNode curr = isDTD ? new DOMDocumentType(0, text.length()) : xmlDocument;
@@ -82,7 +97,198 @@ public class DOMParser {
 			// nothing should affect it's closed status
 			curr.closed = true;
 		}
-		DOMNode lastClosed = curr;
+		curr = parse(scanner, xmlDocument, curr, curr, ignoreWhitespaceContent, monitor, null, -1);
+		while (curr.parent != null) {
+			curr.end = text.length();
+			curr = curr.parent;
+		}
+		if (tokenTable != null && tokenTable.isComplete()) {
+			xmlDocument.tokenTable = tokenTable;
+		}
+		xmlDocument.nodeIndexEnabled = true;
+		DOMDocumentType doctype = xmlDocument.getDoctype();
+		if (doctype != null && !doctype.isClosed()) {
+			// the DOCTYPE internal subset can swallow the elements
+			xmlDocument.incrementalReparseDisabled = true;
+		}
+		return xmlDocument;
+	}
+
+	/**
+	 * Returns a new DOM document for the new text, created from the given DOM
+	 * document parsed with the old text and the changed region.
+	 * 
+	 * <p>
+	 * The smallest closed element which contains the changed region in its
+	 * content is searched and only its content is parsed again. The given DOM
+	 * document is not modified (it can be read by other threads): the new DOM
+	 * document copies the ancestors of the element, and the other nodes are
+	 * copied on demand with their offsets shifted when they are located after the
+	 * changed region. The cost of the reparse doesn't depend on the number of
+	 * nodes located outside the element.
+	 * </p>
+	 * 
+	 * @param xmlDocument             the DOM document parsed with the old text.
+	 * @param changedRegion           the region of the text which changed since
+	 *                                the DOM document was parsed.
+	 * @param ignoreWhitespaceContent true if whitespace content must be ignored
+	 *                                and false otherwise.
+	 * @param monitor                 the cancel checker.
+	 * @return the new DOM document and null if the changed region cannot be
+	 *         parsed incrementally (the structure of the document crosses the
+	 *         changed region) and a full parse must be done.
+	 */
+	public DOMDocument reparse(DOMDocument xmlDocument, TextChangeRegion changedRegion,
+			boolean ignoreWhitespaceContent, CancelChecker monitor) {
+		if (xmlDocument.isDTD() || xmlDocument.incrementalReparseDisabled) {
+			return null;
+		}
+		TextDocument document = xmlDocument.getTextDocument();
+		String text = document.getText();
+		int delta = changedRegion.getDelta();
+		if (xmlDocument.end + delta != text.length()) {
+			// the DOM document was not parsed with the old text
+			return null;
+		}
+		// Search the smallest closed element which contains the changed region in its
+		// content (between the start and end tags).
+		DOMElement element = findElementContentWhichContains(xmlDocument, changedRegion.getStart(),
+				changedRegion.getOldEnd());
+		if (element == null) {
+			return null;
+		}
+		DOMDocument newDocument = new DOMDocument(document, text, xmlDocument.getResolverExtensionManager());
+		newDocument.setCancelChecker(monitor);
+		// Parse the new content of the element in a detached element which has the
+		// same tag name. The detached element has a fake parent to detect when the
+		// new content closes an ancestor element.
+		int startContent = element.startTagCloseOffset + 1;
+		int endContent = element.endTagOpenOffset + delta;
+		DOMElement content = newDocument.createElement(element.start, element.end);
+		content.tag = element.getTagName();
+		DOMElement fakeParent = newDocument.createElement(element.start, element.end);
+		fakeParent.addChild(content);
+		XMLScanner scanner = (XMLScanner) XMLScanner.createScanner(text, startContent, ScannerState.WithinContent);
+		TokenTable oldTokenTable = xmlDocument.tokenTable;
+		TokenTable contentTokenTable = null;
+		if (oldTokenTable != null && oldTokenTable.getText().length() == xmlDocument.end) {
+			contentTokenTable = new TokenTable(text, startContent, endContent, ScannerState.WithinContent);
+			scanner.setTokenTable(contentTokenTable);
+		}
+		if (parse(scanner, newDocument, content, null, ignoreWhitespaceContent, monitor, content,
+				endContent) == null) {
+			return null;
+		}
+		if (monitor != null) {
+			monitor.checkCanceled();
+		}
+		// Replace the tokens of the old content with the tokens of the new content
+		newDocument.tokenTable = contentTokenTable != null
+				? oldTokenTable.replace(text, startContent, element.endTagOpenOffset, contentTokenTable, endContent)
+				: null;
+		// Copy the element with the new nodes
+		int oldEnd = changedRegion.getOldEnd();
+		DOMElement newElement = element.copy(0);
+		shiftEndOffsets(newElement, oldEnd, delta);
+		newElement.moveChildren(content);
+		// Copy the ancestors of the element, their other children are copied on demand
+		DOMNode node = element;
+		DOMNode newNode = newElement;
+		while (node.parent != xmlDocument) {
+			DOMNode parent = node.parent;
+			DOMNode newParent = parent.copy(0);
+			shiftEndOffsets(newParent, oldEnd, delta);
+			newParent.copyChildren(parent, node, newNode, delta);
+			node = parent;
+			newNode = newParent;
+		}
+		newDocument.copyChildren(xmlDocument, node, newNode, delta);
+		newDocument.nodeIndexEnabled = true;
+		return newDocument;
+	}
+
+	/**
+	 * Returns the smallest closed element which contains the given old region in
+	 * its content and null otherwise.
+	 * 
+	 * @param xmlDocument the DOM document.
+	 * @param start       the start offset of the region.
+	 * @param end         the end offset of the region.
+	 * @return the smallest closed element which contains the given old region in
+	 *         its content and null otherwise.
+	 */
+	private static DOMElement findElementContentWhichContains(DOMDocument xmlDocument, int start, int end) {
+		DOMNode node = xmlDocument.findNodeAtWithoutIndex(start);
+		while (node != null && node != xmlDocument) {
+			if (node.isElement()) {
+				DOMElement element = (DOMElement) node;
+				if (element.isClosed() && !element.isSelfClosed()
+						&& element.startTagOpenOffset != DOMNode.NULL_VALUE
+						&& element.startTagCloseOffset != DOMNode.NULL_VALUE
+						&& element.endTagOpenOffset != DOMNode.NULL_VALUE
+						&& element.endTagCloseOffset != DOMNode.NULL_VALUE && element.startTagCloseOffset < start
+						&& end <= element.endTagOpenOffset) {
+					return element;
+				}
+			}
+			node = node.parent;
+		}
+		return null;
+	}
+
+	/**
+	 * Shift the end offsets of the given copy of an ancestor node of the changed
+	 * region.
+	 * 
+	 * @param node  the copy of an ancestor node of the changed region.
+	 * @param from  the old end offset of the changed region, offsets before it
+	 *              are not shifted.
+	 * @param delta the delta to add to each end offset.
+	 */
+	private static void shiftEndOffsets(DOMNode node, int from, int delta) {
+		if (node.end >= from) {
+			node.end += delta;
+		}
+		if (node.isElement()) {
+			DOMElement element = (DOMElement) node;
+			// an orphan end tag located before the changed region can be set on an
+			// unclosed ancestor, in this case the offset must not be shifted.
+			if (element.endTagOpenOffset != DOMNode.NULL_VALUE && element.endTagOpenOffset >= from) {
+				element.endTagOpenOffset += delta;
+			}
+			if (element.endTagCloseOffset != DOMNode.NULL_VALUE && element.endTagCloseOffset >= from) {
+				element.endTagCloseOffset += delta;
+			}
+		}
+	}
+
+	/**
+	 * Parse the tokens of the given scanner and returns the last current node.
+	 * 
+	 * <p>
+	 * When the given fragment node is not null, the tokens are parsed until the
+	 * fragment end offset which must be the start of the fragment end tag, and
+	 * null is returned if the parsed tokens are not only children of the fragment
+	 * node.
+	 * </p>
+	 * 
+	 * @param scanner                 the scanner.
+	 * @param xmlDocument             the DOM document.
+	 * @param curr                    the current node.
+	 * @param lastClosed              the last closed node.
+	 * @param ignoreWhitespaceContent true if whitespace content must be ignored
+	 *                                and false otherwise.
+	 * @param monitor                 the cancel checker.
+	 * @param fragment                the fragment node and null if the whole
+	 *                                text must be parsed.
+	 * @param fragmentEnd             the fragment end offset.
+	 * @return the last current node and null if the fragment cannot be parsed.
+	 */
+	private DOMNode parse(Scanner scanner, DOMDocument xmlDocument, DOMNode curr, DOMNode lastClosed,
+			boolean ignoreWhitespaceContent, CancelChecker monitor, DOMNode fragment, int fragmentEnd) {
+		TextDocument document = xmlDocument.getTextDocument();
+		String text = document.getText();
+		boolean inDTDInternalSubset = false;
 		DOMAttr attr = null;
 		int endTagOpenOffset = -1;
 		DOMNode tempWhitespaceContent = null;
@@ -93,6 +299,15 @@ public class DOMParser {
 			if (monitor != null) {
 				monitor.checkCanceled();
 			}
+			if (fragment != null) {
+				if (scanner.getTokenOffset() >= fragmentEnd) {
+					break;
+				}
+				if (scanner.getTokenEnd() > fragmentEnd || DTD_TOKENS.contains(token)) {
+					// the token crosses the fragment end tag or declares DTD
+					return null;
+				}
+			}
 			if (tempWhitespaceContent != null && token != TokenType.EndTagOpen) {
 				tempWhitespaceContent = null;
 			}
@@ -101,12 +316,10 @@ public class DOMParser {
 				boolean linkToEmptyStartTag = false;
 				if (token == TokenType.EndTagClose) {
 					// ex : </>
-					String closeTag = null;
-
 					/**
 					 * Try to find a start element with no tag : <>
 					 */
-					while (!(curr.isElement() && ((DOMElement) curr).isSameTag(closeTag)) && curr.parent != null) {
+					while (!(curr.isElement() && !((DOMElement) curr).hasTagName()) && curr.parent != null) {
 						curr.end = endTagOpenOffset;
 						curr = curr.parent;
 					}
@@ -153,7 +366,12 @@ public class DOMParser {
 
 				case StartTag: {
 					DOMElement element = (DOMElement) curr;
-					element.tag = scanner.getTokenText();
+					if (scanner.getTokenOffset() == element.startTagOpenOffset + 1) {
+						// the tag name is created lazily from the text
+						element.tagLength = scanner.getTokenLength();
+					} else {
+						element.tag = scanner.getTokenText();
+					}
 					curr.end = scanner.getTokenEnd();
 					break;
 				}
@@ -163,20 +381,10 @@ public class DOMParser {
 						DOMElement element = (DOMElement) curr;
 						curr.end = scanner.getTokenEnd(); // might be later set to end tag position
 						element.startTagCloseOffset = scanner.getTokenOffset();
-
-						// never enters isEmptyElement() is always false
-						if (element.hasTagName() && isEmptyElement(element.getTagName()) && curr.parent != null) {
-							curr.closed = true;
-							curr = curr.parent;
-						}
 					} else if (curr.isProcessingInstruction() || curr.isProlog()) {
 						DOMProcessingInstruction element = (DOMProcessingInstruction) curr;
 						curr.end = scanner.getTokenEnd(); // might be later set to end tag position
 						element.startTagClose = true;
-						if (element.getTarget() != null && isEmptyElement(element.getTarget()) && curr.parent != null) {
-							curr.closed = true;
-							curr = curr.parent;
-						}
 					}
 					curr.end = scanner.getTokenEnd();
 					break;
@@ -193,13 +401,15 @@ public class DOMParser {
 
 				case EndTag:
 					// end tag (ex: </root>)
-					String closeTag = scanner.getTokenText();
+					int closeTagStart = scanner.getTokenOffset();
+					int closeTagEnd = scanner.getTokenEnd();
 					DOMNode current = curr;
 
 					/**
 					 * eg: <a><b><c></d> will set a,b,c end position to the start of |</d>
 					 */
-					while (!(curr.isElement() && ((DOMElement) curr).isSameTag(closeTag)) && curr.parent != null) {
+					while (!(curr.isElement() && ((DOMElement) curr).isSameTag(text, closeTagStart, closeTagEnd))
+							&& curr.parent != null) {
 						curr.end = endTagOpenOffset;
 						curr = curr.parent;
 					}
@@ -217,7 +427,7 @@ public class DOMParser {
 						DOMElement element = xmlDocument.createElement(scanner.getTokenOffset() - 2,
 								scanner.getTokenEnd());
 						element.endTagOpenOffset = endTagOpenOffset;
-						element.tag = closeTag;
+						element.tag = scanner.getTokenText();
 						current.addChild(element);
 						curr = element;
 					}
@@ -333,6 +543,10 @@ public class DOMParser {
 				}
 
 				case StartCommentTag: {
+					if (lastClosed == null) {
+						// the last closed node is located before the fragment
+						return null;
+					}
 					// Incase the tag before the comment tag (curr) was not properly closed
 					// curr should be set to the root node.
 					if (xmlDocument.isDTD() || inDTDInternalSubset) {
@@ -408,6 +622,10 @@ public class DOMParser {
 				// DTD
 
 				case DTDStartDoctypeTag: {
+					if (curr != xmlDocument) {
+						// the DOCTYPE internal subset can swallow the elements
+						xmlDocument.incrementalReparseDisabled = true;
+					}
 					DOMDocumentType doctype = xmlDocument.createDocumentType(scanner.getTokenOffset(), text.length());
 					curr.addChild(doctype);
 					doctype.parent = curr;
@@ -676,8 +894,23 @@ public class DOMParser {
 
 				default:
 			}
+			if (fragment != null && (fragment.closed || curr == fragment.parent)) {
+				// the parsed tokens close the fragment node or an ancestor
+				return null;
+			}
 			token = scanner.scan();
 		}
+		if (fragment != null) {
+			if (token != TokenType.EndTagOpen || scanner.getTokenOffset() != fragmentEnd
+					|| previousTokenWasEndTagOpen || curr != fragment) {
+				// the fragment end tag is not the next token or a node is not closed
+				return null;
+			}
+			if (tempWhitespaceContent != null) {
+				curr.addChild(tempWhitespaceContent);
+			}
+			return curr;
+		}
 		if (previousTokenWasEndTagOpen) {
 			previousTokenWasEndTagOpen = false;
 			if (token != TokenType.EndTag) {
@@ -687,15 +920,7 @@ public class DOMParser {
 				curr.addChild(element);
 			}
 		}
-		while (curr.parent != null) {
-			curr.end = text.length();
-			curr = curr.parent;
-		}
-		return xmlDocument;
-	}
-
-	private static boolean isEmptyElement(String tag) {
-		return false;
+		return curr;
 	}
 
 }
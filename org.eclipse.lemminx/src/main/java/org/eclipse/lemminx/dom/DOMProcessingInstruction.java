@@ -48,6 +48,18 @@ public class DOMProcessingInstruction extends DOMCharacterData implements org.w3
 		return endContent;
 	}
 
+	@Override
+	DOMProcessingInstruction copy(int delta) {
+		DOMProcessingInstruction copy = (DOMProcessingInstruction) super.copy(delta);
+		if (endContent != 0) {
+			// the content offsets are only set when the content has been scanned
+			copy.startContent += delta;
+			copy.endContent += delta;
+		}
+		copy.endTagOpenOffset = shift(endTagOpenOffset, delta);
+		return copy;
+	}
+
 	/**
 	 * Returns the end tag start offset and {@link DOMNode#NULL_VALUE} if it doesn't
 	 * exist.
@@ -112,6 +112,23 @@ public class DTDAttlistDecl extends DTDDeclNode {
 		internalChildren.add(child);
 	}
 
+	@Override
+	DTDAttlistDecl copy(int delta) {
+		DTDAttlistDecl copy = (DTDAttlistDecl) super.copy(delta);
+		copy.attributeName = copy.getCopiedParameter(this, attributeName);
+		copy.attributeType = copy.getCopiedParameter(this, attributeType);
+		copy.attributeValue = copy.getCopiedParameter(this, attributeValue);
+		if (internalChildren != null) {
+			copy.internalChildren = new ArrayList<>(internalChildren.size());
+			for (DTDAttlistDecl child : internalChildren) {
+				DTDAttlistDecl childCopy = child.copy(delta);
+				childCopy.parent = copy;
+				copy.internalChildren.add(childCopy);
+			}
+		}
+		return copy;
+	}
+
 	public List<DTDAttlistDecl> getInternalChildren() {
 		return internalChildren;
 	}
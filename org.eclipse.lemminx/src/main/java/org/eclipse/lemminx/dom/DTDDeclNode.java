@@ -41,6 +41,41 @@ public class DTDDeclNode extends DOMNode {
 		super(start, end);
 	}
 
+	@Override
+	DTDDeclNode copy(int delta) {
+		DTDDeclNode copy = (DTDDeclNode) super.copy(delta);
+		copy.declType = declType != null ? declType.copy(copy, delta) : null;
+		if (parameters != null) {
+			copy.parameters = new ArrayList<>(parameters.size());
+			for (DTDDeclParameter parameter : parameters) {
+				copy.parameters.add(parameter.copy(copy, delta));
+			}
+		}
+		copy.unrecognized = copy.getCopiedParameter(this, unrecognized);
+		copy.name = copy.getCopiedParameter(this, name);
+		return copy;
+	}
+
+	/**
+	 * Returns the parameter of this node which is the copy of the given parameter
+	 * of the given copied node.
+	 * 
+	 * @param node      the copied node.
+	 * @param parameter the parameter of the copied node.
+	 * @return the parameter of this node which is the copy of the given parameter
+	 *         of the given copied node.
+	 */
+	DTDDeclParameter getCopiedParameter(DTDDeclNode node, DTDDeclParameter parameter) {
+		if (parameter != null && node.parameters != null) {
+			for (int i = 0; i < node.parameters.size(); i++) {
+				if (node.parameters.get(i) == parameter) {
+					return parameters.get(i);
+				}
+			}
+		}
+		return null;
+	}
+
 	public String getName() {
 		DTDDeclParameter name = getNameParameter();
 		return name != null ? name.getParameter() : null;
@@ -33,6 +33,20 @@ public class DTDDeclParameter implements DOMRange, TargetRange {
 		this.end = end;
 	}
 
+	/**
+	 * Returns a copy of this parameter for the given owner node, where the offsets
+	 * are shifted with the given delta.
+	 * 
+	 * @param ownerNode the owner node of the copy.
+	 * @param delta     the delta to add to each offset.
+	 * @return a copy of this parameter for the given owner node.
+	 */
+	DTDDeclParameter copy(DTDDeclNode ownerNode, int delta) {
+		DTDDeclParameter copy = new DTDDeclParameter(ownerNode, start + delta, end + delta);
+		copy.parameter = parameter;
+		return copy;
+	}
+
 	@Override
 	public int getStart() {
 		return start;
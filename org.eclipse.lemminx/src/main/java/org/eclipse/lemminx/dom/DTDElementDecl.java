@@ -43,6 +43,14 @@ public class DTDElementDecl extends DTDDeclNode {
 		setDeclType(start + 2, start + 9);
 	}
 
+	@Override
+	DTDElementDecl copy(int delta) {
+		DTDElementDecl copy = (DTDElementDecl) super.copy(delta);
+		copy.category = copy.getCopiedParameter(this, category);
+		copy.content = copy.getCopiedParameter(this, content);
+		return copy;
+	}
+
 	@Override
 	public String getNodeName() {
 		return getName();
@@ -58,6 +58,17 @@ public class DTDEntityDecl extends DTDDeclNode implements Entity {
 		setDeclType(start + 2, start + 8);
 	}
 
+	@Override
+	DTDEntityDecl copy(int delta) {
+		DTDEntityDecl copy = (DTDEntityDecl) super.copy(delta);
+		copy.percent = copy.getCopiedParameter(this, percent);
+		copy.value = copy.getCopiedParameter(this, value);
+		copy.kind = copy.getCopiedParameter(this, kind);
+		copy.publicId = copy.getCopiedParameter(this, publicId);
+		copy.systemId = copy.getCopiedParameter(this, systemId);
+		return copy;
+	}
+
 	/**
 	 * Returns the '%' and null otherwise.
 	 * 
@@ -41,6 +41,15 @@ public class DTDNotationDecl extends DTDDeclNode {
 		setDeclType(start + 2, start + 10);
 	}
 
+	@Override
+	DTDNotationDecl copy(int delta) {
+		DTDNotationDecl copy = (DTDNotationDecl) super.copy(delta);
+		copy.kind = copy.getCopiedParameter(this, kind);
+		copy.publicId = copy.getCopiedParameter(this, publicId);
+		copy.systemId = copy.getCopiedParameter(this, systemId);
+		return copy;
+	}
+
 	void setKind(int start, int end) {
 		kind = addNewParameter(start, end);
 	}
@@ -65,6 +65,13 @@ public class Constants {
 	public final static int _PCT = "%".codePointAt(0);
 	public final static int _AST = "*".codePointAt(0);
 	public final static int _PLS = "+".codePointAt(0);
+	public final static int _UVL = "U".codePointAt(0);
+	public final static int _BVL = "B".codePointAt(0);
+	public final static int _RVL = "R".codePointAt(0);
+	public final static int _FVL = "F".codePointAt(0);
+	public final static int _KVL = "K".codePointAt(0);
+	public final static int _QVL = "Q".codePointAt(0);
+	public final static int _HSH = "#".codePointAt(0);
 
 	public static final Pattern ENTITY_NAME_REGEX = Pattern.compile("");
 
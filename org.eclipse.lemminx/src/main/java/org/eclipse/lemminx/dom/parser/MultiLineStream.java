@@ -29,7 +29,7 @@ import static org.eclipse.lemminx.dom.parser.Constants._WSP;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Predicate;
+import java.util.function.IntPredicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -39,7 +39,7 @@ import java.util.regex.Pattern;
  */
 public class MultiLineStream {
 
-	private static final Predicate<Integer> WHITESPACE_PREDICATE = ch -> {
+	private static final IntPredicate WHITESPACE_PREDICATE = ch -> {
 		return ch == _WSP || ch == _TAB || ch == _NWL || ch == _LFD || ch == _CAR;
 	};
 
@@ -153,6 +153,49 @@ public class MultiLineStream {
 		return -1;
 	}
 
+	/**
+	 * Advances stream.position if the next chars match the given chars and if the
+	 * char which follows them matches the given condition (this char is not
+	 * consumed).
+	 * 
+	 * @param ch         the chars to match.
+	 * @param followedBy the condition of the char which follows the matched chars.
+	 * @return true if the chars match and false otherwise.
+	 */
+	public boolean advanceIfChars(int[] ch, IntPredicate followedBy) {
+		if (this.position + ch.length >= this.len) {
+			return false;
+		}
+		for (int i = 0; i < ch.length; i++) {
+			if (peekChar(i) != ch[i]) {
+				return false;
+			}
+		}
+		if (!followedBy.test(peekChar(ch.length))) {
+			return false;
+		}
+		this.advance(ch.length);
+		return true;
+	}
+
+	/**
+	 * Advances stream.position if the next char matches the given start condition
+	 * and then while chars match the given part condition.
+	 * 
+	 * @param start the condition of the first char.
+	 * @param part  the condition of the other chars.
+	 * @return true if the first char matches the start condition and false
+	 *         otherwise.
+	 */
+	public boolean advanceIfName(IntPredicate start, IntPredicate part) {
+		if (this.position >= this.len || !start.test(peekChar())) {
+			return false;
+		}
+		this.advance(1);
+		advanceWhileChar(part);
+		return true;
+	}
+
 	public String advanceIfRegExp(Pattern regex) {
 		Matcher match = getCachedMatcher(regex);
 		// Initialize start region where search must be started.
@@ -301,7 +344,7 @@ public class MultiLineStream {
 		return n > 0;
 	}
 
-	public int advanceWhileChar(Predicate<Integer> condition) {
+	public int advanceWhileChar(IntPredicate condition) {
 		int posNow = this.position;
 		while (this.position < this.len && condition.test(peekChar())) {
 			this.position++;
@@ -309,6 +352,58 @@ public class MultiLineStream {
 		return this.position - posNow;
 	}
 
+	/**
+	 * Returns true if all chars of the given range of the source match the given
+	 * condition and false otherwise.
+	 * 
+	 * @param start     the start offset.
+	 * @param end       the end offset.
+	 * @param condition the condition.
+	 * @return true if all chars of the given range of the source match the given
+	 *         condition and false otherwise.
+	 */
+	public boolean matchChars(int start, int end, IntPredicate condition) {
+		for (int i = start; i < end; i++) {
+			if (!condition.test(peekCharAtOffset(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the offset of the last char 'ch' of the current line (after the
+	 * current position) which is followed by a char matching the given condition
+	 * and -1 otherwise.
+	 * 
+	 * <p>
+	 * The line ends with the first line terminator like the '.' of a
+	 * {@link Pattern} (ex : the greedy regexp <code>^".*"</code>).
+	 * </p>
+	 * 
+	 * @param ch         the char to search.
+	 * @param followedBy the condition of the char which follows the searched char
+	 *                   and null if there is no condition.
+	 * @return the offset of the last char 'ch' of the current line which is
+	 *         followed by a char matching the given condition and -1 otherwise.
+	 */
+	public int lastIndexOfCharInLine(int ch, IntPredicate followedBy) {
+		int lineEnd = this.position;
+		while (lineEnd < this.len && !isLineTerminator(this.source.charAt(lineEnd))) {
+			lineEnd++;
+		}
+		for (int i = lineEnd - 1; i > this.position; i--) {
+			if (peekCharAtOffset(i) == ch && (followedBy == null || followedBy.test(peekCharAtOffset(i + 1)))) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static boolean isLineTerminator(char ch) {
+		return ch == _NWL || ch == _CAR || ch == '\u0085' || ch == '\u2028' || ch == '\u2029';
+	}
+
 	/**
 	 * Returns the cached matcher from the given regex.
 	 * 
@@ -333,4 +428,4 @@ public class MultiLineStream {
 		}
 		return posNow;
 	}
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,309 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.dom.parser;
+
+import java.util.Arrays;
+
+/**
+ * Compact table of the tokens of a text scanned by {@link XMLScanner}.
+ *
+ * <p>
+ * Each token is stored with 3 int (the token type, an error flag and the
+ * scanner state after the token, the start offset and the end offset) to avoid
+ * creating an object per token. The errors are stored in sparse arrays sorted
+ * by token index. The table is recorded by the {@link XMLScanner} used by the DOM
+ * parser and can be replayed with {@link #createScanner(int)} instead of
+ * scanning the text again.
+ * </p>
+ *
+ */
+public class TokenTable {
+
+	private static final TokenType[] TOKEN_TYPES = TokenType.values();
+
+	private static final ScannerState[] SCANNER_STATES = ScannerState.values();
+
+	private static final int TOKEN_SIZE = 3;
+
+	private static final int STATE_SHIFT = 16;
+
+	private static final int ERROR_FLAG = 1 << (STATE_SHIFT - 1);
+
+	private static final int TYPE_MASK = ERROR_FLAG - 1;
+
+	private final String text;
+
+	private final int initialOffset;
+
+	private final ScannerState initialState;
+
+	private int[] tokens;
+
+	private int count;
+
+	// index of the tokens which have an error, sorted
+	private int[] errorIndexes;
+
+	private String[] errorMessages;
+
+	private int errorCount;
+
+	public TokenTable(String text, int initialOffset, ScannerState initialState) {
+		this(text, initialOffset, text.length(), initialState);
+	}
+
+	/**
+	 * Token table of the text scanned from the given initial offset.
+	 *
+	 * @param text          the scanned text.
+	 * @param initialOffset the offset where the scan starts.
+	 * @param endOffset     the expected offset where the scan ends, used to
+	 *                      allocate the table.
+	 * @param initialState  the initial scanner state.
+	 */
+	public TokenTable(String text, int initialOffset, int endOffset, ScannerState initialState) {
+		this.text = text;
+		this.initialOffset = initialOffset;
+		this.initialState = initialState;
+		// ~1 token every 8 characters for a common XML file
+		this.tokens = new int[Math.max(16, (endOffset - initialOffset) / 8) * TOKEN_SIZE];
+	}
+
+	/**
+	 * Returns the token table of the given text.
+	 *
+	 * @param text      the text to scan.
+	 * @param isDTDFile true if the text is a DTD file and false otherwise.
+	 * @return the token table of the given text.
+	 */
+	public static TokenTable scan(String text, boolean isDTDFile) {
+		XMLScanner scanner = (XMLScanner) XMLScanner.createScanner(text, 0, isDTDFile);
+		TokenTable tokenTable = new TokenTable(text, 0, scanner.getScannerState());
+		scanner.setTokenTable(tokenTable);
+		TokenType token = scanner.scan();
+		while (token != TokenType.EOS) {
+			token = scanner.scan();
+		}
+		return tokenTable;
+	}
+
+	void add(TokenType type, int start, int end, ScannerState state, String error) {
+		int index = count * TOKEN_SIZE;
+		if (index == tokens.length) {
+			tokens = Arrays.copyOf(tokens, (count + (count >> 1) + 1) * TOKEN_SIZE);
+		}
+		tokens[index] = type.ordinal() | (state.ordinal() << STATE_SHIFT);
+		tokens[index + 1] = start;
+		tokens[index + 2] = end;
+		if (error != null) {
+			tokens[index] |= ERROR_FLAG;
+			addError(count, error);
+		}
+		count++;
+	}
+
+	private void addError(int index, String error) {
+		if (errorIndexes == null) {
+			errorIndexes = new int[4];
+			errorMessages = new String[4];
+		} else if (errorCount == errorIndexes.length) {
+			errorIndexes = Arrays.copyOf(errorIndexes, errorCount * 2);
+			errorMessages = Arrays.copyOf(errorMessages, errorCount * 2);
+		}
+		errorIndexes[errorCount] = index;
+		errorMessages[errorCount] = error;
+		errorCount++;
+	}
+
+	/**
+	 * Returns the scanned text.
+	 *
+	 * @return the scanned text.
+	 */
+	public String getText() {
+		return text;
+	}
+
+	/**
+	 * Returns true if the text has been scanned until the end of the text and
+	 * false otherwise.
+	 *
+	 * @return true if the text has been scanned until the end of the text and
+	 *         false otherwise.
+	 */
+	public boolean isComplete() {
+		return count > 0 && getTokenType(count - 1) == TokenType.EOS;
+	}
+
+	/**
+	 * Returns the number of tokens.
+	 *
+	 * @return the number of tokens.
+	 */
+	public int getTokenCount() {
+		return count;
+	}
+
+	public TokenType getTokenType(int index) {
+		return TOKEN_TYPES[tokens[index * TOKEN_SIZE] & TYPE_MASK];
+	}
+
+	/**
+	 * Returns the scanner state after the token of the given index.
+	 *
+	 * @param index the token index.
+	 * @return the scanner state after the token of the given index.
+	 */
+	public ScannerState getScannerState(int index) {
+		return SCANNER_STATES[tokens[index * TOKEN_SIZE] >>> STATE_SHIFT];
+	}
+
+	public int getTokenOffset(int index) {
+		return tokens[index * TOKEN_SIZE + 1];
+	}
+
+	public int getTokenEnd(int index) {
+		return tokens[index * TOKEN_SIZE + 2];
+	}
+
+	public String getTokenError(int index) {
+		if ((tokens[index * TOKEN_SIZE] & ERROR_FLAG) == 0) {
+			return null;
+		}
+		int errorIndex = Arrays.binarySearch(errorIndexes, 0, errorCount, index);
+		return errorIndex >= 0 ? errorMessages[errorIndex] : null;
+	}
+
+	/**
+	 * Returns a scanner which replays the tokens from the given offset like
+	 * <code>XMLScanner.createScanner(text, offset)</code> and null if the
+	 * recorded tokens cannot be replayed from this offset.
+	 *
+	 * <p>
+	 * The tokens can be replayed when a recorded token starts at the given offset
+	 * and the previous token ends at this offset in the 'WithinContent' state.
+	 * </p>
+	 *
+	 * @param offset the offset where the scan starts.
+	 * @return a scanner which replays the tokens from the given offset and null
+	 *         if the recorded tokens cannot be replayed from this offset.
+	 */
+	public Scanner createScanner(int offset) {
+		if (!isComplete()) {
+			return null;
+		}
+		int index = findToken(offset);
+		if (index == -1) {
+			return null;
+		}
+		if (index == 0) {
+			if (offset != initialOffset || initialState != ScannerState.WithinContent) {
+				return null;
+			}
+		} else if (getTokenEnd(index - 1) != offset || getScannerState(index - 1) != ScannerState.WithinContent) {
+			return null;
+		}
+		return new TokenTableScanner(this, index, ScannerState.WithinContent);
+	}
+
+	/**
+	 * Returns the index of the first token which starts at the given offset and
+	 * -1 otherwise.
+	 *
+	 * @param offset the offset.
+	 * @return the index of the first token which starts at the given offset and
+	 *         -1 otherwise.
+	 */
+	public int findToken(int offset) {
+		int low = 0;
+		int high = count;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (getTokenOffset(middle) < offset) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low < count && getTokenOffset(low) == offset ? low : -1;
+	}
+
+	/**
+	 * Returns the token table of the new text which replaces the tokens of the
+	 * old content <code>[start, oldEnd]</code> with the tokens of the given
+	 * fragment table and null if the tables cannot be merged.
+	 *
+	 * <p>
+	 * The content must be scanned in the 'WithinContent' state before and after
+	 * the replaced region (ex : the content of an element).
+	 * </p>
+	 *
+	 * @param newText  the new text.
+	 * @param start    the start offset of the replaced content.
+	 * @param oldEnd   the end offset of the replaced content in the old text.
+	 * @param fragment the tokens of the new content which start at the start
+	 *                 offset.
+	 * @param newEnd   the end offset of the new content in the new text.
+	 * @return the token table of the new text and null if the tables cannot be
+	 *         merged.
+	 */
+	public TokenTable replace(String newText, int start, int oldEnd, TokenTable fragment, int newEnd) {
+		if (!isComplete() || fragment.initialOffset != start
+				|| fragment.initialState != ScannerState.WithinContent) {
+			return null;
+		}
+		// Tokens before the replaced content
+		int before = findToken(oldEnd);
+		int from = start == oldEnd ? before : findToken(start);
+		if (from <= 0 || before == -1 || getTokenEnd(from - 1) != start
+				|| getScannerState(from - 1) != ScannerState.WithinContent
+				|| getTokenEnd(before - 1) != oldEnd || getScannerState(before - 1) != ScannerState.WithinContent) {
+			return null;
+		}
+		// Tokens of the new content
+		int fragmentCount = 0;
+		while (fragmentCount < fragment.count && fragment.getTokenOffset(fragmentCount) < newEnd) {
+			fragmentCount++;
+		}
+		int fragmentEnd = fragmentCount > 0 ? fragment.getTokenEnd(fragmentCount - 1) : start;
+		if (fragmentEnd != newEnd || (fragmentCount > 0
+				&& fragment.getScannerState(fragmentCount - 1) != ScannerState.WithinContent)) {
+			return null;
+		}
+		int delta = newEnd - oldEnd;
+		int afterCount = count - before;
+		TokenTable table = new TokenTable(newText, initialOffset, initialState);
+		table.count = from + fragmentCount + afterCount;
+		table.tokens = new int[table.count * TOKEN_SIZE];
+		System.arraycopy(tokens, 0, table.tokens, 0, from * TOKEN_SIZE);
+		System.arraycopy(fragment.tokens, 0, table.tokens, from * TOKEN_SIZE, fragmentCount * TOKEN_SIZE);
+		System.arraycopy(tokens, before * TOKEN_SIZE, table.tokens, (from + fragmentCount) * TOKEN_SIZE,
+				afterCount * TOKEN_SIZE);
+		for (int i = from + fragmentCount; i < table.count; i++) {
+			table.tokens[i * TOKEN_SIZE + 1] += delta;
+			table.tokens[i * TOKEN_SIZE + 2] += delta;
+		}
+		// Errors, added in token order to keep the indexes sorted
+		for (int i = 0; i < errorCount && errorIndexes[i] < from; i++) {
+			table.addError(errorIndexes[i], errorMessages[i]);
+		}
+		for (int i = 0; i < fragment.errorCount && fragment.errorIndexes[i] < fragmentCount; i++) {
+			table.addError(from + fragment.errorIndexes[i], fragment.errorMessages[i]);
+		}
+		for (int i = 0; i < errorCount; i++) {
+			if (errorIndexes[i] >= before) {
+				table.addError(errorIndexes[i] - before + from + fragmentCount, errorMessages[i]);
+			}
+		}
+		return table;
+	}
+}
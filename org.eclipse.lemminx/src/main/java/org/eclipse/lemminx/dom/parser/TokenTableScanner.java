@@ -0,0 +1,88 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.dom.parser;
+
+import org.eclipse.lemminx.utils.StringUtils;
+
+/**
+ * Scanner which replays the tokens recorded in a {@link TokenTable}.
+ *
+ */
+class TokenTableScanner implements Scanner {
+
+	private final TokenTable tokenTable;
+
+	private final ScannerState initialState;
+
+	private final int lastIndex;
+
+	private int index;
+
+	private boolean started;
+
+	TokenTableScanner(TokenTable tokenTable, int startIndex, ScannerState initialState) {
+		this.tokenTable = tokenTable;
+		this.initialState = initialState;
+		this.lastIndex = tokenTable.getTokenCount() - 1;
+		this.index = startIndex;
+	}
+
+	@Override
+	public TokenType scan() {
+		if (!started) {
+			started = true;
+		} else if (index < lastIndex) {
+			index++;
+		}
+		return tokenTable.getTokenType(index);
+	}
+
+	@Override
+	public TokenType getTokenType() {
+		return started ? tokenTable.getTokenType(index) : TokenType.Unknown;
+	}
+
+	@Override
+	public int getTokenOffset() {
+		return started ? tokenTable.getTokenOffset(index) : 0;
+	}
+
+	@Override
+	public int getTokenLength() {
+		return getTokenEnd() - getTokenOffset();
+	}
+
+	@Override
+	public int getTokenEnd() {
+		return started ? tokenTable.getTokenEnd(index) : tokenTable.getTokenOffset(index);
+	}
+
+	@Override
+	public String getTokenText() {
+		return tokenTable.getText().substring(getTokenOffset(), getTokenEnd());
+	}
+
+	@Override
+	public String getTokenError() {
+		return started ? tokenTable.getTokenError(index) : null;
+	}
+
+	@Override
+	public ScannerState getScannerState() {
+		return started ? tokenTable.getScannerState(index) : initialState;
+	}
+
+	@Override
+	public boolean isTokenTextBlank() {
+		return StringUtils.isWhitespace(tokenTable.getText(), getTokenOffset(), getTokenEnd());
+	}
+}
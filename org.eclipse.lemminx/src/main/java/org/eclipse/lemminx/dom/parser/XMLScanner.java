@@ -17,14 +17,9 @@
  */
 package org.eclipse.lemminx.dom.parser;
 
-import static org.eclipse.lemminx.dom.parser.Constants.ATTRIBUTE_NAME_REGEX;
-import static org.eclipse.lemminx.dom.parser.Constants.DOCTYPE_KIND_OPTIONS;
-import static org.eclipse.lemminx.dom.parser.Constants.DTD_ELEMENT_CATEGORY;
-import static org.eclipse.lemminx.dom.parser.Constants.ELEMENT_NAME_REGEX;
-import static org.eclipse.lemminx.dom.parser.Constants.PROLOG_NAME_OPTIONS;
-import static org.eclipse.lemminx.dom.parser.Constants.URL_VALUE_REGEX;
 import static org.eclipse.lemminx.dom.parser.Constants._AST;
 import static org.eclipse.lemminx.dom.parser.Constants._AVL;
+import static org.eclipse.lemminx.dom.parser.Constants._BVL;
 import static org.eclipse.lemminx.dom.parser.Constants._CAR;
 import static org.eclipse.lemminx.dom.parser.Constants._CRB;
 import static org.eclipse.lemminx.dom.parser.Constants._CSB;
@@ -37,7 +32,11 @@ import static org.eclipse.lemminx.dom.parser.Constants._EQS;
 import static org.eclipse.lemminx.dom.parser.Constants._EVL;
 import static org.eclipse.lemminx.dom.parser.Constants._EXL;
 import static org.eclipse.lemminx.dom.parser.Constants._FSL;
+import static org.eclipse.lemminx.dom.parser.Constants._FVL;
+import static org.eclipse.lemminx.dom.parser.Constants._HSH;
 import static org.eclipse.lemminx.dom.parser.Constants._IVL;
+import static org.eclipse.lemminx.dom.parser.Constants._KVL;
+import static org.eclipse.lemminx.dom.parser.Constants._LFD;
 import static org.eclipse.lemminx.dom.parser.Constants._LAN;
 import static org.eclipse.lemminx.dom.parser.Constants._LVL;
 import static org.eclipse.lemminx.dom.parser.Constants._MIN;
@@ -51,15 +50,22 @@ import static org.eclipse.lemminx.dom.parser.Constants._PCT;
 import static org.eclipse.lemminx.dom.parser.Constants._PLS;
 import static org.eclipse.lemminx.dom.parser.Constants._PVL;
 import static org.eclipse.lemminx.dom.parser.Constants._QMA;
+import static org.eclipse.lemminx.dom.parser.Constants._QVL;
 import static org.eclipse.lemminx.dom.parser.Constants._RAN;
+import static org.eclipse.lemminx.dom.parser.Constants._RVL;
 import static org.eclipse.lemminx.dom.parser.Constants._SIQ;
 import static org.eclipse.lemminx.dom.parser.Constants._SVL;
+import static org.eclipse.lemminx.dom.parser.Constants._TAB;
 import static org.eclipse.lemminx.dom.parser.Constants._TVL;
 import static org.eclipse.lemminx.dom.parser.Constants._UDS;
+import static org.eclipse.lemminx.dom.parser.Constants._UVL;
 import static org.eclipse.lemminx.dom.parser.Constants._WSP;
+import static org.eclipse.lemminx.dom.parser.Constants._XVL;
 import static org.eclipse.lemminx.dom.parser.Constants._YVL;
+import static org.eclipse.lemminx.dom.parser.Constants._lVL;
+import static org.eclipse.lemminx.dom.parser.Constants._mVL;
 
-import java.util.function.Predicate;
+import java.util.function.IntPredicate;
 
 import org.eclipse.lemminx.dom.DOMDocumentType.DocumentTypeKind;
 import org.eclipse.lemminx.utils.StringUtils;;
@@ -70,22 +76,76 @@ import org.eclipse.lemminx.utils.StringUtils;;
  */
 public class XMLScanner implements Scanner {
 
-	private static final Predicate<Integer> START_ELEMENT_NAME_PREDICATE = ch -> {
+	private static final IntPredicate START_ELEMENT_NAME_PREDICATE = withAsciiTable(ch -> {
 		// ^[_:\w]
 		return ch == _UDS || ch == _DDT || Character.isLetter(ch);
-	};
+	});
 
-	private static final Predicate<Integer> ELEMENT_NAME_PREDICATE = ch -> {
+	private static final IntPredicate ELEMENT_NAME_PREDICATE = withAsciiTable(ch -> {
 		// [_:\w-.\d]*
 		return ch == _UDS /* '_' */ || ch == _DDT /* ':' */ || ch == _DOT /* '.' */ || ch == _MIN /* '-' */
 				|| Character.isLetterOrDigit(ch);
-	};
+	});
 
-	private static final Predicate<Integer> ATTRIBUTE_NAME_PREDICATE = ch -> {
+	private static final IntPredicate ATTRIBUTE_NAME_PREDICATE = withAsciiTable(ch -> {
 		// ^[^\s\?\"'<>\/=\x00-\x0F\x7F\x80-\x9F]*
 		return !Character.isWhitespace(ch) && ch != _QMA && ch != _DQO && ch != _SIQ && ch != _LAN && ch != _RAN
 				&& ch != _FSL && ch != _EQS && !(ch >= 0x00 && ch <= 0x0F) && ch != 0x7F && !(ch >= 0x80 && ch <= 0x9F);
-	};
+	});
+
+	private static final IntPredicate START_DTD_NAME_PREDICATE = withAsciiTable(ch -> {
+		// ^[_:\w] where \w is [a-zA-Z_0-9]
+		return ch == _UDS || ch == _DDT || isAsciiLetterOrDigit(ch);
+	});
+
+	private static final IntPredicate DTD_NAME_PREDICATE = withAsciiTable(ch -> {
+		// [_:\w-.\d]* where \w is [a-zA-Z_0-9]
+		return ch == _UDS || ch == _DDT || ch == _DOT || ch == _MIN || isAsciiLetterOrDigit(ch);
+	});
+
+	private static final IntPredicate DTD_ATTRIBUTE_NAME_PREDICATE = withAsciiTable(ch -> {
+		// ^[^\s\?\"'<>\/=\x00-\x0F\x7F\x80-\x9F]* where \s is [ \t\n\x0B\f\r]
+		return !isRegExpWhitespace(ch) && ch != _QMA && ch != _DQO && ch != _SIQ && ch != _LAN && ch != _RAN
+				&& ch != _FSL && ch != _EQS && !(ch >= 0x00 && ch <= 0x0F) && ch != 0x7F && !(ch >= 0x80 && ch <= 0x9F);
+	});
+
+	private static final IntPredicate DTD_SEPARATOR_PREDICATE = withAsciiTable(ch -> {
+		// [\s<>"']
+		return isRegExpWhitespace(ch) || ch == _LAN || ch == _RAN || ch == _DQO || ch == _SIQ;
+	});
+
+	private static final IntPredicate PROLOG_NAME_SEPARATOR_PREDICATE = withAsciiTable(ch -> {
+		// [\s<>?]
+		return isRegExpWhitespace(ch) || ch == _LAN || ch == _RAN || ch == _QMA;
+	});
+
+	private static final int[] PROLOG_NAME = new int[] { _XVL, _mVL, _lVL }; // xml
+
+	private static final int[] PUBLIC_KIND = new int[] { _PVL, _UVL, _BVL, _LVL, _IVL, _CVL }; // PUBLIC
+
+	private static final int[] SYSTEM_KIND = new int[] { _SVL, _YVL, _SVL, _TVL, _EVL, _MVL }; // SYSTEM
+
+	private static final int[][] DTD_ELEMENT_CATEGORIES = new int[][] { //
+			{ _EVL, _MVL, _PVL, _TVL, _YVL }, // EMPTY
+			{ _AVL, _NVL, _YVL } }; // ANY
+
+	private static final int[][] DTD_ATTLIST_ATTRIBUTE_TYPES = new int[][] { //
+			{ _CVL, _DVL, _AVL, _TVL, _AVL }, // CDATA
+			{ _IVL, _DVL, _RVL, _EVL, _FVL, _SVL }, // IDREFS
+			{ _IVL, _DVL, _RVL, _EVL, _FVL }, // IDREF
+			{ _IVL, _DVL }, // ID
+			{ _NVL, _MVL, _TVL, _OVL, _KVL, _EVL, _NVL, _SVL }, // NMTOKENS
+			{ _NVL, _MVL, _TVL, _OVL, _KVL, _EVL, _NVL }, // NMTOKEN
+			{ _EVL, _NVL, _TVL, _IVL, _TVL, _IVL, _EVL, _SVL }, // ENTITIES
+			{ _EVL, _NVL, _TVL, _IVL, _TVL, _YVL }, // ENTITY
+			{ _NVL, _OVL, _TVL, _AVL, _TVL, _IVL, _OVL, _NVL }, // NOTATION
+			{ _XVL, _mVL, _lVL, _DDT } }; // xml:
+
+	private static final int[][] DTD_ATTLIST_ATTRIBUTE_VALUES = new int[][] { //
+			{ _HSH, _RVL, _EVL, _QVL, _UVL, _IVL, _RVL, _EVL, _DVL }, // #REQUIRED
+			{ _HSH, _IVL, _MVL, _PVL, _LVL, _IVL, _EVL, _DVL } }; // #IMPLIED
+
+	private static final int[] DTD_FIXED_ATTRIBUTE_VALUE = new int[] { _HSH, _FVL, _IVL, _XVL, _EVL, _DVL, _WSP }; // #FIXED
 
 	private static final int[] END_COMMENT_PATTERN = new int[] { _MIN, _MIN, _RAN }; // -->
 
@@ -117,6 +177,10 @@ public class XMLScanner implements Scanner {
 
 	private static final int[] DTD_ELEMENT_SEPARATORS = new int[] { _QMA, _AST, _PLS }; // ? | * | +
 
+	private static final int[] END_DOUBLE_QUOTED_URL_PATTERN = new int[] { _DQO, _LAN, _RAN }; // " | < | >
+
+	private static final int[] END_SINGLE_QUOTED_URL_PATTERN = new int[] { _SIQ, _LAN, _RAN }; // ' | < | >
+
 	MultiLineStream stream;
 	ScannerState state;
 	int tokenOffset;
@@ -124,7 +188,6 @@ public class XMLScanner implements Scanner {
 	String tokenError;
 
 	String lastDoctypeKind;
-	String url;
 	boolean isInsideDTDContent = false; // Either internal dtd in xml file OR external dtd in dtd file
 	boolean isDeclCompleted = false; // If any type of DTD declaration was supplied with all the required properties
 	TokenType tempToken;
@@ -138,6 +201,7 @@ public class XMLScanner implements Scanner {
 	 */
 	boolean isInitialAttlistDeclCompleted = false;
 	private int nbBraceOpened;
+	private TokenTable tokenTable;
 
 	public XMLScanner(String input, int initialOffset, ScannerState initialState, boolean isDTDFile) {
 		stream = new MultiLineStream(input, initialOffset);
@@ -155,14 +219,7 @@ public class XMLScanner implements Scanner {
 	 */
 	boolean hasNextElementName() {
 		// Element name regexp : ^[_:\w][_:\w-.\d]*
-		// ^[_:\w]
-		if (!START_ELEMENT_NAME_PREDICATE.test(stream.peekChar())) {
-			return false;
-		}
-		stream.advance(1);
-		// [_:\w-.\d]*
-		stream.advanceWhileChar(ELEMENT_NAME_PREDICATE);
-		return true;
+		return stream.advanceIfName(START_ELEMENT_NAME_PREDICATE, ELEMENT_NAME_PREDICATE);
 	}
 
 	/**
@@ -193,17 +250,201 @@ public class XMLScanner implements Scanner {
 		return false;
 	}
 
-	String doctypeName() {
-		return stream.advanceIfRegExp(ELEMENT_NAME_REGEX);
+	/**
+	 * Returns true if the current token is a DTD name (doctype name, DTD element
+	 * name, etc) and false otherwise.
+	 * 
+	 * @return true if the current token is a DTD name and false otherwise.
+	 */
+	boolean hasNextDTDName() {
+		// ^[_:\w][_:\w-.\d]*
+		return stream.advanceIfName(START_DTD_NAME_PREDICATE, DTD_NAME_PREDICATE);
+	}
+
+	/**
+	 * Returns true if the current token is a DTD attribute name and false
+	 * otherwise.
+	 * 
+	 * @return true if the current token is a DTD attribute name and false
+	 *         otherwise.
+	 */
+	boolean hasNextDTDAttributeName() {
+		// ^[^\s\?\"'<>\/=\x00-\x0F\x7F\x80-\x9F]*
+		return stream.advanceWhileChar(DTD_ATTRIBUTE_NAME_PREDICATE) > 0;
+	}
+
+	/**
+	 * Returns true if the current token is a public or system identifier and false
+	 * otherwise.
+	 * 
+	 * @return true if the current token is a public or system identifier and false
+	 *         otherwise.
+	 */
+	boolean hasNextURL() {
+		// ^("[^<>"]*")|('[^<>']*')
+		int first = stream.peekChar();
+		if (first != _DQO && first != _SIQ) {
+			return false;
+		}
+		int pos = stream.pos();
+		stream.advance(1);
+		if (stream.advanceUntilAnyOfChars(first == _DQO ? END_DOUBLE_QUOTED_URL_PATTERN : END_SINGLE_QUOTED_URL_PATTERN)
+				&& stream.peekChar() == first) {
+			stream.advance(1);
+			return true;
+		}
+		stream.goBackTo(pos);
+		return false;
+	}
+
+	/**
+	 * Returns true if the current token is a DTD entity value and false otherwise.
+	 * 
+	 * @return true if the current token is a DTD entity value and false otherwise.
+	 */
+	boolean hasNextDTDEntityValue() {
+		// ^".*"
+		if (stream.peekChar() != _DQO) {
+			return false;
+		}
+		int end = stream.lastIndexOfCharInLine(_DQO, null);
+		if (end == -1) {
+			return false;
+		}
+		stream.goBackTo(end + 1);
+		return true;
+	}
+
+	/**
+	 * Returns true if the current token is a DTD element category (EMPTY or ANY)
+	 * and false otherwise.
+	 * 
+	 * @return true if the current token is a DTD element category and false
+	 *         otherwise.
+	 */
+	boolean hasNextDTDElementCategory() {
+		// ^(EMPTY|ANY)([\s<>"'])
+		return advanceIfAnyOfWords(DTD_ELEMENT_CATEGORIES);
 	}
 
 	/**
-	 * Tries to advance off the regex for either 'PUBLIC' or 'SYSTEM'
+	 * Returns true if the current token is a DTD attribute type and false
+	 * otherwise.
+	 * 
+	 * @return true if the current token is a DTD attribute type and false
+	 *         otherwise.
+	 */
+	boolean hasNextDTDAttributeType() {
+		// ^(CDATA|IDREFS|IDREF|ID|NMTOKENS|NMTOKEN|ENTITIES|ENTITY|NOTATION|xml:|\(.*\))([\s<>"'])
+		if (advanceIfAnyOfWords(DTD_ATTLIST_ATTRIBUTE_TYPES)) {
+			return true;
+		}
+		return stream.peekChar() == _ORB && advanceIfLastCharInLine(_CRB);
+	}
+
+	/**
+	 * Returns true if the current token is a DTD attribute default value and false
+	 * otherwise.
+	 * 
+	 * @return true if the current token is a DTD attribute default value and false
+	 *         otherwise.
+	 */
+	boolean hasNextDTDAttributeValue() {
+		// ^(#REQUIRED|#IMPLIED|".*"|#FIXED ".*")([\s<>"'])
+		if (advanceIfAnyOfWords(DTD_ATTLIST_ATTRIBUTE_VALUES)) {
+			return true;
+		}
+		if (stream.peekChar() == _DQO) {
+			return advanceIfLastCharInLine(_DQO);
+		}
+		int pos = stream.pos();
+		if (stream.advanceIfChars(DTD_FIXED_ATTRIBUTE_VALUE) && stream.peekChar() == _DQO
+				&& advanceIfLastCharInLine(_DQO)) {
+			return true;
+		}
+		stream.goBackTo(pos);
+		return false;
+	}
+
+	/**
+	 * Advances the stream after the last char 'ch' of the current line which is
+	 * followed by a DTD separator (the current char is not taken into account).
+	 */
+	private boolean advanceIfLastCharInLine(int ch) {
+		int end = stream.lastIndexOfCharInLine(ch, DTD_SEPARATOR_PREDICATE);
+		if (end == -1) {
+			return false;
+		}
+		stream.goBackTo(end + 1);
+		return true;
+	}
+
+	private boolean advanceIfAnyOfWords(int[][] words) {
+		for (int[] word : words) {
+			if (stream.advanceIfChars(word, DTD_SEPARATOR_PREDICATE)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Tries to advance off either 'PUBLIC' or 'SYSTEM'
 	 * 
 	 * @return "PUBLIC" or "SYSTEM" or "" otherwise
 	 */
 	String doctypeKind() {
-		return stream.advanceIfRegExpGroup1(DOCTYPE_KIND_OPTIONS);
+		// ^(PUBLIC|SYSTEM)([\s<>"'])
+		if (stream.advanceIfChars(PUBLIC_KIND, DTD_SEPARATOR_PREDICATE)) {
+			return DocumentTypeKind.PUBLIC.name();
+		}
+		if (stream.advanceIfChars(SYSTEM_KIND, DTD_SEPARATOR_PREDICATE)) {
+			return DocumentTypeKind.SYSTEM.name();
+		}
+		return "";
+	}
+
+	/**
+	 * Returns true if the given range of the source is the 'xml' prolog name and
+	 * false otherwise.
+	 */
+	private boolean isPrologName(int start, int end) {
+		// ^(xml)[\s<>?]?
+		int length = end - start;
+		if (length != PROLOG_NAME.length && length != PROLOG_NAME.length + 1) {
+			return false;
+		}
+		for (int i = 0; i < PROLOG_NAME.length; i++) {
+			if (stream.peekCharAtOffset(start + i) != PROLOG_NAME[i]) {
+				return false;
+			}
+		}
+		return length == PROLOG_NAME.length
+				|| PROLOG_NAME_SEPARATOR_PREDICATE.test(stream.peekCharAtOffset(end - 1));
+	}
+
+	private static boolean isAsciiLetterOrDigit(int ch) {
+		return (ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z') || (ch >= '0' && ch <= '9');
+	}
+
+	private static boolean isRegExpWhitespace(int ch) {
+		// \s of java.util.regex.Pattern
+		return ch == _WSP || ch == _TAB || ch == _NWL || ch == 0x0B || ch == _LFD || ch == _CAR;
+	}
+
+	/**
+	 * Returns the given char predicate which uses a table for the ASCII chars to
+	 * avoid evaluating the predicate for the most common chars.
+	 * 
+	 * @param predicate the char predicate.
+	 * @return the given char predicate which uses a table for the ASCII chars.
+	 */
+	private static IntPredicate withAsciiTable(IntPredicate predicate) {
+		boolean[] table = new boolean[128];
+		for (int ch = 0; ch < table.length; ch++) {
+			table[ch] = predicate.test(ch);
+		}
+		return ch -> ch < 128 ? ch >= 0 && table[ch] : predicate.test(ch);
 	}
 
 	TokenType finishToken(int offset, TokenType type) {
@@ -226,11 +467,23 @@ public class XMLScanner implements Scanner {
 			log("Scanner.scan has not advanced at offset " + offset + ", state before: " + oldState + " after: "
 					+ state);
 			stream.advance(1);
-			return finishToken(offset, TokenType.Unknown);
+			token = finishToken(offset, TokenType.Unknown);
+		}
+		if (tokenTable != null) {
+			tokenTable.add(token, tokenOffset, stream.pos(), state, tokenError);
 		}
 		return token;
 	}
 
+	/**
+	 * Set the token table used to record the scanned tokens.
+	 * 
+	 * @param tokenTable the token table used to record the scanned tokens.
+	 */
+	public void setTokenTable(TokenTable tokenTable) {
+		this.tokenTable = tokenTable;
+	}
+
 	private void log(String message) {
 		System.err.println(message);
 	}
@@ -257,8 +510,7 @@ public class XMLScanner implements Scanner {
 				return finishToken(offset, TokenType.PIEnd);
 			}
 			if (stream.advanceUntilAnyOfChars(END_WS_OR_PROLOG_PATTERN) || stream.eos()) { // \n or \r or ' ' or '?'
-				String name = getTokenTextFromOffset(offset);
-				if (PROLOG_NAME_OPTIONS.matcher(name).matches()) { // name eg: xml
+				if (isPrologName(offset, stream.pos())) { // name eg: xml
 					state = ScannerState.WithinTag;
 					return finishToken(offset, TokenType.PrologName);
 				}
@@ -266,7 +518,7 @@ public class XMLScanner implements Scanner {
 				// state = ScannerState.WithinTag;
 				// return finishToken(offset, TokenType.PIName);
 				// }
-				if (ATTRIBUTE_NAME_REGEX.matcher(name).matches()) { // {name} eg: m2e
+				if (stream.matchChars(offset, stream.pos(), DTD_ATTRIBUTE_NAME_PREDICATE)) { // {name} eg: m2e
 					state = ScannerState.WithinPI;
 					return finishToken(offset, TokenType.PIName);
 				}
@@ -290,7 +542,7 @@ public class XMLScanner implements Scanner {
 				if (stream.peekChar() == _LAN) {
 					state = getWithinContentState();
 				}
-				if (getTokenTextFromOffset(offset).length() == 0) {
+				if (stream.pos() == offset) {
 					return finishToken(offset, TokenType.PIEnd);
 				}
 			}
@@ -482,8 +734,7 @@ public class XMLScanner implements Scanner {
 			}
 
 			if (isDeclCompleted == false) {
-				String doctypeName = doctypeName();
-				if (!doctypeName.equals("")) {
+				if (hasNextDTDName()) {
 					state = ScannerState.DTDAfterDoctypeName;
 					return finishToken(offset, TokenType.DTDDoctypeName);
 				}
@@ -515,8 +766,7 @@ public class XMLScanner implements Scanner {
 			if (stream.skipWhitespace()) {
 				return finishToken(offset, TokenType.Whitespace);
 			}
-			url = stream.advanceIfRegExp(URL_VALUE_REGEX);
-			if (!url.equals("")) {
+			if (hasNextURL()) {
 				state = ScannerState.DTDAfterDoctypePublicId;
 				return finishToken(offset, TokenType.DTDDoctypePublicId);
 			}
@@ -530,8 +780,7 @@ public class XMLScanner implements Scanner {
 			}
 
 			state = ScannerState.DTDWithinDoctype;
-			url = stream.advanceIfRegExp(URL_VALUE_REGEX);
-			if (!url.equals("")) {
+			if (hasNextURL()) {
 				return finishToken(offset, TokenType.DTDDoctypeSystemId);
 			}
 
@@ -544,8 +793,7 @@ public class XMLScanner implements Scanner {
 			}
 
 			state = ScannerState.DTDWithinDoctype;
-			url = stream.advanceIfRegExp(URL_VALUE_REGEX); // scan the System Identifier URL
-			if (!url.equals("")) {
+			if (hasNextURL()) { // scan the System Identifier URL
 				return finishToken(offset, TokenType.DTDDoctypeSystemId);
 			}
 
@@ -658,7 +906,7 @@ public class XMLScanner implements Scanner {
 				return internalScan();
 			}
 
-			if (!stream.advanceIfRegExp(Constants.ELEMENT_NAME_REGEX).equals("")) {
+			if (hasNextDTDName()) {
 				state = ScannerState.DTDElementAfterName;
 				return finishToken(offset, TokenType.DTDElementDeclName);
 			}
@@ -677,7 +925,7 @@ public class XMLScanner implements Scanner {
 				return finishToken(offset, TokenType.DTDStartElementContent);
 			}
 
-			if (!stream.advanceIfRegExpGroup1(DTD_ELEMENT_CATEGORY).equals("")) {
+			if (hasNextDTDElementCategory()) {
 				isDeclCompleted = true;
 				state = ScannerState.DTDWithinElement;
 				return finishToken(offset, TokenType.DTDElementCategory);
@@ -736,7 +984,7 @@ public class XMLScanner implements Scanner {
 			}
 
 			if (isInitialAttlistDeclCompleted == false
-					&& !stream.advanceIfRegExp(Constants.ELEMENT_NAME_REGEX).equals("")) {
+					&& hasNextDTDName()) {
 				state = ScannerState.DTDAfterAttlistElementName;
 				return finishToken(offset, TokenType.DTDAttlistElementName);
 			}
@@ -749,7 +997,7 @@ public class XMLScanner implements Scanner {
 				return finishToken(offset, TokenType.Whitespace);
 			}
 
-			if (!stream.advanceIfRegExp(Constants.ATTRIBUTE_NAME_REGEX).equals("")) {
+			if (hasNextDTDAttributeName()) {
 				state = ScannerState.DTDAfterAttlistAttributeName;
 				return finishToken(offset, TokenType.DTDAttlistAttributeName);
 			}
@@ -767,7 +1015,7 @@ public class XMLScanner implements Scanner {
 				return finishToken(offset, TokenType.Whitespace);
 			}
 
-			if (!stream.advanceIfRegExpGroup1(Constants.DTD_ATTLIST_ATTRIBUTE_TYPE).equals("")) {
+			if (hasNextDTDAttributeType()) {
 				state = ScannerState.DTDAfterAttlistAttributeType;
 				return finishToken(offset, TokenType.DTDAttlistAttributeType);
 			}
@@ -785,7 +1033,7 @@ public class XMLScanner implements Scanner {
 				return finishToken(offset, TokenType.Whitespace);
 			}
 
-			if (!stream.advanceIfRegExpGroup1(Constants.DTD_ATTLIST_ATTRIBUTE_VALUE).equals("")) {
+			if (hasNextDTDAttributeValue()) {
 				isInitialAttlistDeclCompleted = true; // we completed the initial attribute declaration
 				isDeclCompleted = true;
 				state = ScannerState.DTDAfterAttlistElementName;
@@ -815,7 +1063,7 @@ public class XMLScanner implements Scanner {
 				return internalScan();
 			}
 
-			if (!stream.advanceIfRegExp(Constants.ELEMENT_NAME_REGEX).equals("")) {
+			if (hasNextDTDName()) {
 				state = ScannerState.DTDAfterEntityName;
 				return finishToken(offset, TokenType.DTDEntityName);
 			}
@@ -832,7 +1080,7 @@ public class XMLScanner implements Scanner {
 				return finishToken(offset, TokenType.Whitespace);
 			}
 
-			if (!stream.advanceIfRegExp(Constants.DTD_ENTITY_VALUE).equals("")) {
+			if (hasNextDTDEntityValue()) {
 				isDeclCompleted = true;
 				state = ScannerState.DTDWithinEntity;
 				return finishToken(offset, TokenType.DTDEntityValue);
@@ -860,7 +1108,7 @@ public class XMLScanner implements Scanner {
 				return finishToken(offset, TokenType.Whitespace);
 			}
 
-			if (!stream.advanceIfRegExp(URL_VALUE_REGEX).equals("")) {
+			if (hasNextURL()) {
 				state = ScannerState.DTDAfterEntitySYSTEM;
 				return finishToken(offset, TokenType.DTDEntityPublicId);
 			}
@@ -878,7 +1126,7 @@ public class XMLScanner implements Scanner {
 				return finishToken(offset, TokenType.Whitespace);
 			}
 
-			if (!stream.advanceIfRegExp(URL_VALUE_REGEX).equals("")) {
+			if (hasNextURL()) {
 				isDeclCompleted = true;
 				state = ScannerState.DTDWithinEntity;
 				return finishToken(offset, TokenType.DTDEntitySystemId);
@@ -907,7 +1155,7 @@ public class XMLScanner implements Scanner {
 				return internalScan();
 			}
 
-			if (!stream.advanceIfRegExp(ELEMENT_NAME_REGEX).equals("")) {
+			if (hasNextDTDName()) {
 				state = ScannerState.DTDAfterNotationName;
 				return finishToken(offset, TokenType.DTDNotationName);
 			}
@@ -936,8 +1184,7 @@ public class XMLScanner implements Scanner {
 			if (stream.skipWhitespace()) {
 				return finishToken(offset, TokenType.Whitespace);
 			}
-			url = stream.advanceIfRegExp(URL_VALUE_REGEX);
-			if (!url.equals("")) {
+			if (hasNextURL()) {
 				isDeclCompleted = true;
 				state = ScannerState.DTDAfterNotationPublicId;
 				return finishToken(offset, TokenType.DTDNotationPublicId);
@@ -952,8 +1199,7 @@ public class XMLScanner implements Scanner {
 			}
 
 			state = ScannerState.DTDWithinNotation;
-			url = stream.advanceIfRegExp(URL_VALUE_REGEX);
-			if (!url.equals("")) {
+			if (hasNextURL()) {
 				isDeclCompleted = true;
 				state = ScannerState.DTDAfterNotationName;
 				return finishToken(offset, TokenType.DTDNotationSystemId);
@@ -967,8 +1213,7 @@ public class XMLScanner implements Scanner {
 			}
 
 			state = ScannerState.DTDAfterNotationName;
-			url = stream.advanceIfRegExp(URL_VALUE_REGEX); // scan the System Identifier URL
-			if (!url.equals("")) {
+			if (hasNextURL()) { // scan the System Identifier URL
 				isDeclCompleted = true;
 				return finishToken(offset, TokenType.DTDNotationSystemId);
 			}
@@ -33,6 +33,11 @@ public class XMLCatalogDiagnosticsParticipant implements IDiagnosticsParticipant
 
 	private static final String ERROR_STRING = "The file ''{0}'' cannot be found.";
 
+	@Override
+	public boolean isConcurrent() {
+		return true;
+	}
+
 	@Override
 	public void doDiagnostics(DOMDocument xmlDocument, List<Diagnostic> diagnostics,
 			XMLValidationSettings validationSettings, CancelChecker monitor) {
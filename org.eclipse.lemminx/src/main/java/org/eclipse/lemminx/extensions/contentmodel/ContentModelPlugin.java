@@ -15,6 +15,7 @@ package org.eclipse.lemminx.extensions.contentmodel;
 import java.util.Objects;
 
 import org.eclipse.lemminx.XMLTextDocumentService.SaveContext;
+import org.eclipse.lemminx.commons.RequestScheduler;
 import org.eclipse.lemminx.dom.DOMDocument;
 import org.eclipse.lemminx.extensions.contentmodel.commands.AssociateGrammarCommand;
 import org.eclipse.lemminx.extensions.contentmodel.commands.CheckBoundGrammarCommand;
@@ -86,6 +87,8 @@ public class ContentModelPlugin implements IXMLExtension {
 
 	private XMLValidationSettings currentValidationSettings;
 
+	private boolean preloadGrammars;
+
 	private DocumentTelemetryParticipant documentTelemetryParticipant;
 
 	private ContentModelFormatterParticipant formatterParticipant;
@@ -179,6 +182,12 @@ public class ContentModelPlugin implements IXMLExtension {
 		if (currentValidationSettings != null) {
 			contentModelManager.setResolveExternalEntities(currentValidationSettings.isResolveExternalEntities());
 		}
+		if (preloadGrammars) {
+			// Preload the XML Schemas of the previous session once the catalogs and file
+			// associations are configured.
+			preloadGrammars = false;
+			contentModelManager.preloadGrammars();
+		}
 	}
 
 	private void validateAllOpenedDocument(ISaveContext context) {
@@ -198,8 +207,10 @@ public class ContentModelPlugin implements IXMLExtension {
 		URIResolverExtensionManager resolverManager = registry.getComponent(URIResolverExtensionManager.class);
 		contentModelManager = new ContentModelManager(resolverManager);
 		registry.registerComponent(contentModelManager);
+		contentModelManager.setRequestScheduler(registry.getComponent(RequestScheduler.class));
 		if (params != null) {
 			contentModelManager.setRootURI(params.getRootUri());
+			preloadGrammars = true;
 		}
 		documentLinkParticipant = new ContentModelDocumentLinkParticipant(resolverManager);
 		registry.registerCompletionParticipant(completionParticipant);
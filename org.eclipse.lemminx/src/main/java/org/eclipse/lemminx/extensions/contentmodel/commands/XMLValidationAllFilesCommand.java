@@ -60,12 +60,10 @@ public class XMLValidationAllFilesCommand implements IDelegateCommandHandler {
 		// (used by the Xerces validation) and the content model documents cache (used
 		// by the XML completion/hover based on the grammar)
 		contentModelManager.evictCache();
-		// 2. trigger the validation for the all opened XML files
+		// 2. trigger the validation for the all opened XML files, the command is
+		// completed when all files have been validated
 		Collection<DOMDocument> all = documentProvider.getAllDocuments();
-		for (DOMDocument document : all) {
-			validationService.validate(document);
-		}
-		return null;
+		return validationService.validateAll(all);
 	}
 
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -12,6 +12,7 @@
  */
 package org.eclipse.lemminx.extensions.contentmodel.model;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -61,12 +62,46 @@ public interface CMDocument {
 	 * Returns the declared element which matches the given XML element and null
 	 * otherwise.
 	 * 
+	 * <p>
+	 * The declaration is resolved from the outermost ancestor which belongs to
+	 * the given namespace down to the given element. Each level is looked up with
+	 * the name index cached by {@link #findElementDeclaration(String, String)}
+	 * and {@link CMElementDeclaration#findCMElement(String, String)}.
+	 * </p>
+	 * 
 	 * @param element   the XML element
 	 * @param namespace the given namespace
 	 * @return the declared element which matches the given XML element and null
 	 *         otherwise.
 	 */
-	CMElementDeclaration findCMElement(DOMElement element, String namespace);
+	default CMElementDeclaration findCMElement(DOMElement element, String namespace) {
+		List<DOMElement> paths = new ArrayList<>();
+		while (element != null && (namespace == null || namespace.equals(element.getNamespaceURI()))) {
+			paths.add(element);
+			element = element.getParentNode() instanceof DOMElement ? (DOMElement) element.getParentNode() : null;
+		}
+		if (paths.isEmpty()) {
+			return null;
+		}
+		// paths is ordered from the given element to the outermost ancestor
+		int last = paths.size() - 1;
+		CMElementDeclaration declaration = findElementDeclaration(paths.get(last).getLocalName(), namespace);
+		for (int i = last - 1; i >= 0 && declaration != null; i--) {
+			declaration = declaration.findCMElement(paths.get(i).getLocalName(), namespace);
+		}
+		return declaration;
+	}
+
+	/**
+	 * Returns the root element declaration which matches the given local name and
+	 * namespace and null otherwise.
+	 * 
+	 * @param localName the local name of the element.
+	 * @param namespace the namespace of the element.
+	 * @return the root element declaration which matches the given local name and
+	 *         namespace and null otherwise.
+	 */
+	CMElementDeclaration findElementDeclaration(String localName, String namespace);
 
 	default CMAttributeDeclaration findCMAttribute(DOMAttr attr) {
 		CMElementDeclaration elementDeclaration = findCMElement(attr.getOwnerElement());
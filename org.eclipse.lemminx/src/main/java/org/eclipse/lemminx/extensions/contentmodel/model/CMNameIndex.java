@@ -0,0 +1,126 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.extensions.contentmodel.model;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Index of element, attribute declarations by local name and namespace.
+ *
+ * <p>
+ * The declaration which matches the local name and the namespace is returned
+ * first. When no declaration matches the namespace, the first declaration
+ * which matches the local name is returned, like the linear scan of the
+ * declarations which compares only the local names.
+ * </p>
+ *
+ * @param <T> the declaration type.
+ */
+public final class CMNameIndex<T> {
+
+	private static class Entry<T> {
+
+		private final T first;
+
+		private final String firstNamespace;
+
+		// declarations by namespace, created only when several declarations have the
+		// same local name
+		private Map<String, T> namespaces;
+
+		Entry(T first, String firstNamespace) {
+			this.first = first;
+			this.firstNamespace = firstNamespace;
+		}
+
+		void add(T declaration, String namespace) {
+			if (namespaces == null) {
+				namespaces = new HashMap<>();
+				namespaces.put(firstNamespace, first);
+			}
+			namespaces.putIfAbsent(namespace, declaration);
+		}
+
+		T find(String namespace) {
+			if (namespaces != null) {
+				T declaration = namespaces.get(namespace);
+				if (declaration != null) {
+					return declaration;
+				}
+			}
+			return first;
+		}
+	}
+
+	private final Map<String, Entry<T>> entries;
+
+	private CMNameIndex(Collection<T> declarations, Function<T, String> localName, Function<T, String> namespace) {
+		this.entries = new HashMap<>(Math.max(16, declarations.size() * 2));
+		for (T declaration : declarations) {
+			String name = localName.apply(declaration);
+			if (name == null) {
+				continue;
+			}
+			Entry<T> entry = entries.get(name);
+			if (entry == null) {
+				entries.put(name, new Entry<>(declaration, namespace.apply(declaration)));
+			} else {
+				entry.add(declaration, namespace.apply(declaration));
+			}
+		}
+	}
+
+	/**
+	 * Returns the index of the given element declarations.
+	 *
+	 * @param elements the element declarations.
+	 * @return the index of the given element declarations.
+	 */
+	public static CMNameIndex<CMElementDeclaration> ofElements(Collection<CMElementDeclaration> elements) {
+		return of(elements, CMElementDeclaration::getLocalName, CMElementDeclaration::getNamespace);
+	}
+
+	/**
+	 * Returns the index of the given attribute declarations.
+	 *
+	 * @param attributes the attribute declarations.
+	 * @return the index of the given attribute declarations.
+	 */
+	public static CMNameIndex<CMAttributeDeclaration> ofAttributes(Collection<CMAttributeDeclaration> attributes) {
+		return of(attributes, CMAttributeDeclaration::getLocalName, CMAttributeDeclaration::getNamespace);
+	}
+
+	static <T> CMNameIndex<T> of(Collection<T> declarations, Function<T, String> localName,
+			Function<T, String> namespace) {
+		return new CMNameIndex<>(declarations, localName, namespace);
+	}
+
+	/**
+	 * Returns the declaration which matches the given local name and namespace
+	 * and null otherwise.
+	 *
+	 * @param localName the local name.
+	 * @param namespace the namespace.
+	 * @return the declaration which matches the given local name and namespace
+	 *         and null otherwise.
+	 */
+	public T find(String localName, String namespace) {
+		if (localName == null) {
+			return null;
+		}
+		Entry<T> entry = entries.get(localName);
+		return entry != null ? entry.find(namespace) : null;
+	}
+}
@@ -23,11 +23,14 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
+import org.eclipse.lemminx.commons.RequestScheduler;
 import org.eclipse.lemminx.dom.DOMDocument;
 import org.eclipse.lemminx.dom.DOMElement;
 import org.eclipse.lemminx.extensions.contentmodel.model.ContentModelProvider.Identifier;
 import org.eclipse.lemminx.extensions.contentmodel.participants.diagnostics.LSPXMLGrammarPool;
+import org.eclipse.lemminx.extensions.contentmodel.participants.diagnostics.LSPXMLGrammarPoolStore;
 import org.eclipse.lemminx.extensions.contentmodel.settings.XMLFileAssociation;
 import org.eclipse.lemminx.extensions.contentmodel.uriresolver.XMLCacheResolverExtension;
 import org.eclipse.lemminx.extensions.contentmodel.uriresolver.XMLCatalogResolverExtension;
@@ -46,6 +49,8 @@ import org.eclipse.lemminx.utils.URIUtils;
  */
 public class ContentModelManager {
 
+	private static final String GRAMMAR_STORE_FILE = "grammars.json";
+
 	private final Map<String, CMDocument> cmDocumentCache;
 
 	private final URIResolverExtensionManager resolverManager;
@@ -58,6 +63,8 @@ public class ContentModelManager {
 
 	private boolean resolveExternalEntities;
 
+	private RequestScheduler requestScheduler;
+
 	public ContentModelManager(URIResolverExtensionManager resolverManager) {
 		this.resolverManager = resolverManager;
 		modelProviders = new ArrayList<>();
@@ -399,7 +406,10 @@ public class ContentModelManager {
 	 * @return true if catalogs changed and false otherwise
 	 */
 	public boolean setCatalogs(String[] catalogs) {
-		return catalogResolverExtension.setCatalogs(catalogs);
+		boolean changed = catalogResolverExtension.setCatalogs(catalogs);
+		// the catalog resolver is recreated, even if the catalog paths don't change
+		resolverManager.invalidateCache();
+		return changed;
 	}
 
 	/**
@@ -407,6 +417,7 @@ public class ContentModelManager {
 	 */
 	public void refreshCatalogs() {
 		catalogResolverExtension.refreshCatalogs();
+		resolverManager.invalidateCache();
 	}
 
 	/**
@@ -416,13 +427,62 @@ public class ContentModelManager {
 	 * @return true if file associations changed and false otherwise
 	 */
 	public boolean setFileAssociations(XMLFileAssociation[] fileAssociations) {
-		return this.fileAssociationResolver.setFileAssociations(fileAssociations);
+		boolean changed = this.fileAssociationResolver.setFileAssociations(fileAssociations);
+		resolverManager.invalidateCache();
+		return changed;
 	}
 
 	public void setRootURI(String rootUri) {
 		rootUri = URIUtils.sanitizingUri(rootUri);
 		fileAssociationResolver.setRootUri(rootUri);
 		catalogResolverExtension.setRootUri(rootUri);
+		resolverManager.invalidateCache();
+	}
+
+	/**
+	 * Preload in background the XML Schema grammars which have been compiled in a
+	 * previous session and store in the .lemminx/cache directory the XML Schema
+	 * grammars compiled by the validation.
+	 *
+	 * @return the future which is completed when the XML Schema grammars are
+	 *         preloaded.
+	 */
+	public CompletableFuture<Void> preloadGrammars() {
+		if (!cacheResolverExtension.isUseCache()) {
+			return CompletableFuture.completedFuture(null);
+		}
+		LSPXMLGrammarPoolStore store = grammarPool.getStore();
+		if (store == null) {
+			try {
+				store = new LSPXMLGrammarPoolStore(CacheResourcesManager.getCachePath().resolve(GRAMMAR_STORE_FILE),
+						requestScheduler);
+			} catch (IOException e) {
+				return CompletableFuture.completedFuture(null);
+			}
+			grammarPool.setStore(store);
+		}
+		return store.preload(grammarPool, resolverManager);
+	}
+
+	/**
+	 * Set the scheduler used to execute the background tasks (preload and store
+	 * of the XML Schema grammars, prefetch of the documentation). When it is not
+	 * set, the grammars are preloaded and stored in the caller thread and the
+	 * documentation is not prefetched.
+	 *
+	 * @param requestScheduler the request scheduler.
+	 */
+	public void setRequestScheduler(RequestScheduler requestScheduler) {
+		this.requestScheduler = requestScheduler;
+	}
+
+	/**
+	 * Returns the scheduler used to execute background tasks and null otherwise.
+	 *
+	 * @return the scheduler used to execute background tasks and null otherwise.
+	 */
+	public RequestScheduler getRequestScheduler() {
+		return requestScheduler;
 	}
 
 	public void setUseCache(boolean useCache) {
@@ -501,6 +561,10 @@ public class ContentModelManager {
 		} finally {
 			// clear Xerces cache
 			grammarPool.clear();
+			LSPXMLGrammarPoolStore store = grammarPool.getStore();
+			if (store != null) {
+				store.clear();
+			}
 			// clear the XSD/DTD content model documents.
 			cmDocumentCache.clear();
 		}
@@ -546,4 +610,4 @@ public class ContentModelManager {
 		cacheResolverExtension.forceDownloadExternalResource(url);
 	}
 
-}
\ No newline at end of file
+}
\ No newline at end of file
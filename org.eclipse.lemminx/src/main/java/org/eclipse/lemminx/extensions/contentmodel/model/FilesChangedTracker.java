@@ -23,9 +23,25 @@ import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import org.eclipse.lemminx.extensions.contentmodel.model.FilesWatcher.WatchedFile;
+
 /**
  * File changed tracker.
  * 
+ * <p>
+ * The tracked files are watched with a shared {@link FilesWatcher}: while no
+ * file system event has been received for a watched file, the file is not
+ * dirty and {@link #isDirty()} is a volatile read of the stamp of the watched
+ * file. When an event has been received, the last modified time of the file is
+ * checked to know if the file has really changed.
+ * </p>
+ * 
+ * <p>
+ * The last modified time of the files which cannot be watched (the directory
+ * doesn't exist, the file is deleted, polling watch service, etc) is checked
+ * each time {@link #isDirty()} is called.
+ * </p>
+ * 
  * @author Angelo ZERR
  *
  */
@@ -36,11 +52,19 @@ public class FilesChangedTracker {
 	private static class FileChangedTracker {
 
 		private final Path file;
-		private FileTime lastModified;
+		private final WatchedFile watchedFile;
+		private volatile int stamp;
+		private volatile FileTime lastModified;
+		private volatile boolean deleted;
 
 		public FileChangedTracker(Path file) {
 			this.file = file;
-			if (Files.exists(file)) {
+			this.watchedFile = FilesWatcher.getInstance().watch(file);
+			if (watchedFile != null) {
+				stamp = watchedFile.getStamp();
+			}
+			deleted = !Files.exists(file);
+			if (!deleted) {
 				try {
 					lastModified = Files.getLastModifiedTime(file);
 				} catch (IOException e) {
@@ -50,8 +74,23 @@ public class FilesChangedTracker {
 		}
 
 		public boolean isDirty() {
+			if (watchedFile != null && watchedFile.isWatched() && !deleted) {
+				// The file is watched, it has not changed while no event has been received
+				// for the file. The stamp is read before checking the last modified time to
+				// not miss an event received during the check.
+				int currentStamp = watchedFile.getStamp();
+				if (currentStamp == stamp) {
+					return false;
+				}
+				stamp = currentStamp;
+			}
+			return isLastModifiedChanged();
+		}
+
+		private boolean isLastModifiedChanged() {
 			try {
-				if (!Files.exists(file)) {
+				deleted = !Files.exists(file);
+				if (deleted) {
 					// This case occurs when user delete the XML Schema / DTD file
 					return true;
 				}
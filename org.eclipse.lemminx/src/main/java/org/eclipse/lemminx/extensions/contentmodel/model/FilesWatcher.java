@@ -0,0 +1,297 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.extensions.contentmodel.model;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.IOException;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Files watcher shared by all {@link FilesChangedTracker} which registers one
+ * {@link WatchKey} per directory of tracked files.
+ *
+ * <p>
+ * Each watched file has a stamp which is incremented when a file system event
+ * is received for the file, so that a tracker can know if the file could have
+ * changed with a volatile read instead of file system accesses.
+ * </p>
+ *
+ * <p>
+ * When watching is unavailable (no watch service, polling watch service,
+ * directory which cannot be registered, etc) {@link #watch(Path)} returns null
+ * and the tracker must check the last modified time of the file.
+ * </p>
+ *
+ * <p>
+ * The watched files are weakly referenced: when all trackers of a file are
+ * garbage collected, the file is no longer watched and the {@link WatchKey} of
+ * its directory is cancelled when the directory has no other watched file.
+ * </p>
+ *
+ */
+class FilesWatcher {
+
+	private static final Logger LOGGER = Logger.getLogger(FilesWatcher.class.getName());
+
+	private static final FilesWatcher INSTANCE = new FilesWatcher();
+
+	/**
+	 * Watched file.
+	 */
+	static class WatchedFile {
+
+		private volatile int stamp;
+
+		private volatile boolean watched;
+
+		WatchedFile() {
+			this.watched = true;
+		}
+
+		/**
+		 * Returns the stamp of the file which is incremented each time a file system
+		 * event is received for the file.
+		 *
+		 * @return the stamp of the file which is incremented each time a file system
+		 *         event is received for the file.
+		 */
+		int getStamp() {
+			return stamp;
+		}
+
+		/**
+		 * Returns true if the file is watched and false otherwise (the directory of
+		 * the file is deleted, the watcher is closed, etc).
+		 *
+		 * @return true if the file is watched and false otherwise.
+		 */
+		boolean isWatched() {
+			return watched;
+		}
+
+		void changed() {
+			stamp++;
+		}
+
+		void unwatch() {
+			watched = false;
+			stamp++;
+		}
+	}
+
+	private static class WatchedFileReference extends WeakReference<WatchedFile> {
+
+		private final Path dir;
+
+		private final Path fileName;
+
+		public WatchedFileReference(WatchedFile file, Path dir, Path fileName, ReferenceQueue<WatchedFile> queue) {
+			super(file, queue);
+			this.dir = dir;
+			this.fileName = fileName;
+		}
+	}
+
+	private static class WatchedDirectory {
+
+		private final WatchKey key;
+
+		private final Map<Path, WatchedFileReference> files;
+
+		public WatchedDirectory(WatchKey key) {
+			this.key = key;
+			this.files = new HashMap<>();
+		}
+
+		void forEachFile(Consumer<WatchedFile> action) {
+			for (WatchedFileReference reference : files.values()) {
+				WatchedFile file = reference.get();
+				if (file != null) {
+					action.accept(file);
+				}
+			}
+		}
+	}
+
+	private static final long PURGE_INTERVAL_SECONDS = 30;
+
+	private final Map<Path, WatchedDirectory> directories;
+
+	private final ReferenceQueue<WatchedFile> droppedFiles;
+
+	private WatchService watchService;
+
+	private boolean unavailable;
+
+	FilesWatcher() {
+		this.directories = new HashMap<>();
+		this.droppedFiles = new ReferenceQueue<>();
+	}
+
+	static FilesWatcher getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Returns the watched file for the given file path and null if the file
+	 * cannot be watched.
+	 *
+	 * @param file the file path.
+	 * @return the watched file for the given file path and null if the file
+	 *         cannot be watched.
+	 */
+	synchronized WatchedFile watch(Path file) {
+		Path dir = file.getParent();
+		Path fileName = file.getFileName();
+		if (dir == null || fileName == null) {
+			return null;
+		}
+		purgeDroppedFiles();
+		WatchedDirectory watchedDir = directories.get(dir);
+		if (watchedDir == null) {
+			WatchService watchService = getWatchService(file);
+			if (watchService == null) {
+				return null;
+			}
+			try {
+				WatchKey key = dir.register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY);
+				watchedDir = new WatchedDirectory(key);
+				directories.put(dir, watchedDir);
+			} catch (IOException | RuntimeException e) {
+				// The directory doesn't exist, the file system doesn't support watching, etc
+				return null;
+			}
+		}
+		WatchedFileReference reference = watchedDir.files.get(fileName);
+		WatchedFile watchedFile = reference != null ? reference.get() : null;
+		if (watchedFile == null) {
+			watchedFile = new WatchedFile();
+			watchedDir.files.put(fileName, new WatchedFileReference(watchedFile, dir, fileName, droppedFiles));
+		}
+		return watchedFile;
+	}
+
+	/**
+	 * Stops watching the files which are no longer referenced by a tracker and
+	 * cancels the {@link WatchKey} of the directories which have no more watched
+	 * files.
+	 */
+	private synchronized void purgeDroppedFiles() {
+		WatchedFileReference reference;
+		while ((reference = (WatchedFileReference) droppedFiles.poll()) != null) {
+			WatchedDirectory watchedDir = directories.get(reference.dir);
+			if (watchedDir == null || watchedDir.files.get(reference.fileName) != reference) {
+				// The directory is deleted or the file is watched again by another tracker
+				continue;
+			}
+			watchedDir.files.remove(reference.fileName);
+			if (watchedDir.files.isEmpty()) {
+				directories.remove(reference.dir);
+				watchedDir.key.cancel();
+			}
+		}
+	}
+
+	private WatchService getWatchService(Path file) {
+		if (unavailable || file.getFileSystem() != FileSystems.getDefault()) {
+			return null;
+		}
+		if (watchService == null) {
+			try {
+				WatchService watchService = FileSystems.getDefault().newWatchService();
+				if (watchService.getClass().getName().endsWith("PollingWatchService")) {
+					// The polling watch service (ex: macOS) detects changes several seconds after
+					// they are done, checking the last modified time is more reliable.
+					watchService.close();
+					unavailable = true;
+					return null;
+				}
+				this.watchService = watchService;
+				Thread thread = new Thread(this::processEvents, "XML files watcher");
+				thread.setDaemon(true);
+				thread.start();
+			} catch (IOException | RuntimeException e) {
+				LOGGER.log(Level.WARNING, "Files watcher is unavailable, file changes will be detected by polling", e);
+				unavailable = true;
+				return null;
+			}
+		}
+		return watchService;
+	}
+
+	private void processEvents() {
+		while (true) {
+			WatchKey key;
+			try {
+				key = watchService.poll(PURGE_INTERVAL_SECONDS, TimeUnit.SECONDS);
+			} catch (InterruptedException | ClosedWatchServiceException e) {
+				stop();
+				return;
+			}
+			purgeDroppedFiles();
+			if (key == null) {
+				continue;
+			}
+			Path dir = (Path) key.watchable();
+			synchronized (this) {
+				WatchedDirectory watchedDir = directories.get(dir);
+				if (watchedDir != null && watchedDir.key == key) {
+					for (WatchEvent<?> event : key.pollEvents()) {
+						if (event.kind() == OVERFLOW) {
+							// Some events are lost, consider that all files of the directory have changed
+							watchedDir.forEachFile(WatchedFile::changed);
+						} else {
+							WatchedFileReference reference = watchedDir.files.get(event.context());
+							WatchedFile watchedFile = reference != null ? reference.get() : null;
+							if (watchedFile != null) {
+								watchedFile.changed();
+							}
+						}
+					}
+					if (!key.reset()) {
+						// The directory is deleted, the files must be checked with polling
+						directories.remove(dir);
+						watchedDir.forEachFile(WatchedFile::unwatch);
+					}
+				} else {
+					key.pollEvents();
+					key.cancel();
+				}
+			}
+		}
+	}
+
+	private synchronized void stop() {
+		unavailable = true;
+		for (WatchedDirectory watchedDir : directories.values()) {
+			watchedDir.forEachFile(WatchedFile::unwatch);
+		}
+		directories.clear();
+	}
+}
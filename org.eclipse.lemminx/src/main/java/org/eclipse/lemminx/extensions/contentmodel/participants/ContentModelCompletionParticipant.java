@@ -30,6 +30,7 @@ import org.eclipse.lemminx.extensions.contentmodel.model.ContentModelManager;
 import org.eclipse.lemminx.extensions.contentmodel.participants.completion.AttributeNameCompletionResolver;
 import org.eclipse.lemminx.extensions.contentmodel.participants.completion.AttributeValueCompletionResolver;
 import org.eclipse.lemminx.extensions.contentmodel.participants.completion.ContentModelElementCompletionItem;
+import org.eclipse.lemminx.extensions.contentmodel.utils.DocumentationPrefetcher;
 import org.eclipse.lemminx.extensions.contentmodel.utils.XMLGenerator;
 import org.eclipse.lemminx.services.data.DataEntryField;
 import org.eclipse.lemminx.services.extensions.completion.AttributeCompletionItem;
@@ -165,6 +166,12 @@ public class ContentModelCompletionParticipant extends CompletionParticipantAdap
 		}
 		fillWithChildrenElementDeclaration(parentElement, cmDocuments, possibleElements, defaultPrefix, false, request,
 				response);
+		if (!isAny) {
+			// The attributes of the proposed elements will probably be completed or
+			// hovered next
+			DocumentationPrefetcher.prefetchAttributesDocumentation(possibleElements, request,
+					contentModelManager.getRequestScheduler());
+		}
 	}
 
 	/**
@@ -47,6 +47,7 @@ public class ContentModelElementCompletionItem
 			prefix = tagName.substring(0, index);
 		}
 		XMLGenerator generator = getGenerator();
-		return generator.generate(elementDeclaration, prefix, generateEndTag);
+		return ContentModelElementCompletionTemplates.getFullElementContent(elementDeclaration, prefix,
+				generateEndTag, generator);
 	}
 }
@@ -0,0 +1,95 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.extensions.contentmodel.participants.completion;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.lemminx.extensions.contentmodel.model.CMElementDeclaration;
+import org.eclipse.lemminx.extensions.contentmodel.utils.XMLGenerator;
+
+/**
+ * Cache of the XML content generated for the element completion items of an
+ * element declaration.
+ *
+ * <p>
+ * The generated content is cached per element declaration with the prefix, the
+ * end tag generation and the settings of the {@link XMLGenerator} (see
+ * {@link XMLGenerator#getTemplateKey()}), so only the text edit range is
+ * computed for each completion request. The element declarations are weakly
+ * referenced to release the templates when the grammar is evicted from the
+ * cache.
+ * </p>
+ *
+ */
+public class ContentModelElementCompletionTemplates {
+
+	private static final int MAX_CONTENTS_PER_ELEMENT = 32;
+
+	private static class Template {
+
+		private final boolean dependentOnDOMNode;
+
+		private final Map<String, String> contents;
+
+		Template(boolean dependentOnDOMNode) {
+			this.dependentOnDOMNode = dependentOnDOMNode;
+			this.contents = dependentOnDOMNode ? null : new ConcurrentHashMap<>();
+		}
+	}
+
+	private static final Map<CMElementDeclaration, Template> TEMPLATES = Collections
+			.synchronizedMap(new WeakHashMap<>());
+
+	private ContentModelElementCompletionTemplates() {
+	}
+
+	/**
+	 * Returns the full XML content (ex : <foo attr=""></foo>) of the given element
+	 * declaration.
+	 *
+	 * @param elementDeclaration the element declaration.
+	 * @param prefix             the prefix and null otherwise.
+	 * @param generateEndTag     true if the element end tag must be generated and
+	 *                           false otherwise.
+	 * @param generator          the XML generator.
+	 * @return the full XML content of the given element declaration.
+	 */
+	public static String getFullElementContent(CMElementDeclaration elementDeclaration, String prefix,
+			boolean generateEndTag, XMLGenerator generator) {
+		String templateKey = generator.getTemplateKey();
+		if (templateKey == null) {
+			return generator.generate(elementDeclaration, prefix, generateEndTag);
+		}
+		Template template = TEMPLATES.get(elementDeclaration);
+		if (template == null) {
+			template = new Template(XMLGenerator.isDependentOnDOMNode(elementDeclaration));
+			TEMPLATES.put(elementDeclaration, template);
+		}
+		if (template.dependentOnDOMNode) {
+			return generator.generate(elementDeclaration, prefix, generateEndTag);
+		}
+		String key = templateKey + '|' + prefix + '|' + generateEndTag;
+		String content = template.contents.get(key);
+		if (content == null) {
+			content = generator.generate(elementDeclaration, prefix, generateEndTag);
+			if (template.contents.size() >= MAX_CONTENTS_PER_ELEMENT) {
+				// The settings changed several times, remove the old contents
+				template.contents.clear();
+			}
+			template.contents.put(key, content);
+		}
+		return content;
+	}
+}
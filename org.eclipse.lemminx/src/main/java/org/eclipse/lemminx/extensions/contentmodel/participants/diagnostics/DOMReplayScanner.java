@@ -0,0 +1,931 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.extensions.contentmodel.participants.diagnostics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.xerces.impl.XMLEntityManager;
+import org.apache.xerces.impl.XMLErrorReporter;
+import org.apache.xerces.impl.msg.XMLMessageFormatter;
+import org.apache.xerces.util.SymbolTable;
+import org.apache.xerces.util.XMLAttributesImpl;
+import org.apache.xerces.util.XMLChar;
+import org.apache.xerces.util.XMLSymbols;
+import org.apache.xerces.xni.NamespaceContext;
+import org.apache.xerces.xni.QName;
+import org.apache.xerces.xni.XMLDocumentHandler;
+import org.apache.xerces.xni.XMLLocator;
+import org.apache.xerces.xni.XMLString;
+import org.apache.xerces.xni.XNIException;
+import org.eclipse.lemminx.commons.BadLocationException;
+import org.eclipse.lemminx.dom.DOMAttr;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMElement;
+import org.eclipse.lemminx.dom.DOMNode;
+import org.eclipse.lemminx.dom.DOMProcessingInstruction;
+import org.eclipse.lemminx.dom.DOMRange;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+
+/**
+ * Xerces document scanner which replays the XNI events of an existing
+ * {@link DOMDocument} in the XML document pipeline instead of scanning again
+ * the XML content.
+ *
+ * <p>
+ * The replay is done like {@link org.apache.xerces.impl.XMLNSDocumentScannerImpl}
+ * when the document has no DTD grammar: namespaces are bound by the scanner,
+ * line endings and attribute values are normalized and the location of each
+ * event is the location where Xerces scanner fires it. It means that the
+ * Xerces validators (XML Schema, RelaxNG, xml-model) report the same errors.
+ * </p>
+ *
+ * <p>
+ * The replay can be done only when the DOM document is well-formed and
+ * doesn't use constructs that the DOM document cannot replay faithfully
+ * (DOCTYPE, entity and character references, XML 1.1). In other cases,
+ * {@link #canReplay(DOMDocument, CancelChecker)} returns false and the XML
+ * content must be parsed by Xerces to report the syntax errors.
+ * </p>
+ *
+ * <p>
+ * The offsets of the DOM nodes are offsets in the text which was parsed to
+ * create the DOM document, so the replay reads this text and not the current
+ * text content which can have changed since the parse.
+ * </p>
+ *
+ */
+class DOMReplayScanner implements XMLLocator {
+
+	private static final String XML_PREFIX = "xml";
+
+	private static final String XMLNS_PREFIX = "xmlns";
+
+	private static final String XMLNS_PREFIX_COLON = "xmlns:";
+
+	private static final String XML_VERSION_1_0 = "1.0";
+
+	// number of characters checked between two checks of the cancel checker
+	private static final int CANCEL_CHECK_INTERVAL = 64 * 1024;
+
+	private final DOMDocument document;
+
+	private final String text;
+
+	private final SymbolTable symbolTable;
+
+	private final NamespaceContext namespaceContext;
+
+	private final String literalSystemId;
+
+	private final String expandedSystemId;
+
+	private final QName elementQName = new QName();
+
+	private final QName attributeQName = new QName();
+
+	private final XMLAttributesImpl attributes = new XMLAttributesImpl();
+
+	private final XMLString content = new XMLString();
+
+	private char[] buffer = new char[128];
+
+	private XMLDocumentHandler documentHandler;
+
+	private int offset;
+
+	private int lineNumber;
+
+	private int columnNumber;
+
+	public DOMReplayScanner(DOMDocument document, SymbolTable symbolTable, NamespaceContext namespaceContext) {
+		this.document = document;
+		this.text = document.getParsedText();
+		this.symbolTable = symbolTable;
+		this.namespaceContext = namespaceContext;
+		this.literalSystemId = document.getDocumentURI();
+		this.expandedSystemId = expandSystemId(literalSystemId);
+	}
+
+	/**
+	 * Replays the DOM document in the given XML document handler.
+	 *
+	 * @param documentHandler   the first XML document handler of the pipeline.
+	 * @param errorReporter     the error reporter.
+	 * @param performValidation true if the DTD validation is required although
+	 *                          the document has no DTD grammar.
+	 * @throws XNIException
+	 */
+	public void replay(XMLDocumentHandler documentHandler, XMLErrorReporter errorReporter,
+			boolean performValidation) throws XNIException {
+		this.documentHandler = documentHandler;
+		namespaceContext.reset();
+		setLocation(0);
+		documentHandler.startDocument(this, null, namespaceContext, null);
+		for (DOMNode node : document.getChildren()) {
+			if (node.isElement()) {
+				DOMElement root = (DOMElement) node;
+				if (performValidation) {
+					// Same errors than XMLNSDocumentScannerImpl#scanStartElement for the root
+					// element when validation is enabled without grammar.
+					String rawname = symbolTable.addSymbol(root.getTagName());
+					setLocation(root.getStart() + 1 + rawname.length());
+					errorReporter.reportError(XMLMessageFormatter.XML_DOMAIN, "MSG_GRAMMAR_NOT_FOUND",
+							new Object[] { rawname }, XMLErrorReporter.SEVERITY_ERROR);
+					errorReporter.reportError(XMLMessageFormatter.XML_DOMAIN, "RootElementTypeMustMatchDoctypedecl",
+							new Object[] { null, rawname }, XMLErrorReporter.SEVERITY_ERROR);
+				}
+				replayElement(root);
+			} else if (node.isProlog()) {
+				replayXMLDecl((DOMProcessingInstruction) node);
+			} else if (node.isProcessingInstruction()) {
+				replayProcessingInstruction((DOMProcessingInstruction) node);
+			} else if (node.isComment()) {
+				replayComment(node);
+			}
+			// whitespaces are ignored in the prolog and after the root element
+		}
+		setLocation(text.length());
+		documentHandler.endDocument(null);
+	}
+
+	private void replayXMLDecl(DOMProcessingInstruction prolog) {
+		String version = null;
+		String encoding = null;
+		String standalone = null;
+		for (DOMAttr attr : prolog.getAttributeNodes()) {
+			String value = getAttributeValue(attr);
+			switch (attr.getName()) {
+			case "version":
+				version = value;
+				break;
+			case "encoding":
+				encoding = value;
+				break;
+			default:
+				standalone = value;
+			}
+		}
+		setLocation(prolog.getEnd());
+		documentHandler.xmlDecl(version, encoding, standalone, null);
+	}
+
+	private void replayElement(DOMElement element) {
+		namespaceContext.pushContext();
+		setQName(elementQName, element.getTagName());
+
+		// attributes
+		attributes.removeAllAttributes();
+		if (element.hasAttributes()) {
+			for (DOMAttr attr : element.getAttributeNodes()) {
+				setQName(attributeQName, attr.getName());
+				int index = attributes.getLength();
+				attributes.addAttributeNS(attributeQName, XMLSymbols.fCDATASymbol, null);
+				String nonNormalizedValue = getAttributeValue(attr);
+				String value = normalizeAttributeValue(nonNormalizedValue);
+				attributes.setValue(index, value);
+				if (value != nonNormalizedValue) {
+					attributes.setNonNormalizedValue(index, nonNormalizedValue);
+				}
+				attributes.setSpecified(index, true);
+
+				// record namespace declarations
+				String localpart = attributeQName.localpart;
+				String prefix = attributeQName.prefix != null ? attributeQName.prefix : XMLSymbols.EMPTY_STRING;
+				if (prefix == XMLSymbols.PREFIX_XMLNS
+						|| prefix == XMLSymbols.EMPTY_STRING && localpart == XMLSymbols.PREFIX_XMLNS) {
+					String uri = symbolTable.addSymbol(value);
+					prefix = localpart != XMLSymbols.PREFIX_XMLNS ? localpart : XMLSymbols.EMPTY_STRING;
+					namespaceContext.declarePrefix(prefix, uri.length() != 0 ? uri : null);
+					attributes.setURI(index, namespaceContext.getURI(XMLSymbols.PREFIX_XMLNS));
+				}
+			}
+		}
+
+		// bind the element and the attributes
+		bindElement(elementQName);
+		for (int i = 0; i < attributes.getLength(); i++) {
+			attributes.getName(i, attributeQName);
+			String prefix = attributeQName.prefix;
+			if (prefix != null && prefix != XMLSymbols.EMPTY_STRING) {
+				attributes.setURI(i, namespaceContext.getURI(prefix));
+			}
+		}
+
+		if (element.isSelfClosed()) {
+			setLocation(element.getEnd());
+			documentHandler.emptyElement(elementQName, attributes, null);
+			namespaceContext.popContext();
+			return;
+		}
+
+		setLocation(element.getStartTagCloseOffset() + 1);
+		documentHandler.startElement(elementQName, attributes, null);
+
+		replayContent(element, element.getStartTagCloseOffset() + 1, element.getEndTagOpenOffset());
+
+		// the element QName has been updated by the children, bind it again
+		setQName(elementQName, element.getTagName());
+		bindElement(elementQName);
+		setLocation(element.getEnd());
+		documentHandler.endElement(elementQName, null);
+		namespaceContext.popContext();
+	}
+
+	private void replayContent(DOMNode parent, int start, int end) {
+		// contiguous text nodes and whitespaces are reported with one characters
+		// event like Xerces does.
+		int textStart = start;
+		for (DOMNode child : parent.getChildren()) {
+			if (child.isText()) {
+				continue;
+			}
+			replayCharacters(textStart, child.getStart());
+			switch (child.getNodeType()) {
+			case DOMNode.ELEMENT_NODE:
+				replayElement((DOMElement) child);
+				break;
+			case DOMNode.CDATA_SECTION_NODE:
+				setLocation(child.getStart() + 9);
+				documentHandler.startCDATA(null);
+				replayCharacters(child.getStart() + 9, child.getEnd() - 3);
+				setLocation(child.getEnd());
+				documentHandler.endCDATA(null);
+				break;
+			case DOMNode.COMMENT_NODE:
+				replayComment(child);
+				break;
+			case DOMNode.PROCESSING_INSTRUCTION_NODE:
+				replayProcessingInstruction((DOMProcessingInstruction) child);
+				break;
+			}
+			textStart = child.getEnd();
+		}
+		replayCharacters(textStart, end);
+	}
+
+	private void replayCharacters(int start, int end) {
+		if (start < end) {
+			setLocation(end);
+			documentHandler.characters(toXMLString(start, end), null);
+		}
+	}
+
+	private void replayComment(DOMNode comment) {
+		setLocation(comment.getEnd());
+		documentHandler.comment(toXMLString(comment.getStart() + 4, comment.getEnd() - 3), null);
+	}
+
+	private void replayProcessingInstruction(DOMProcessingInstruction processingInstruction) {
+		String target = symbolTable.addSymbol(processingInstruction.getTarget());
+		int dataStart = processingInstruction.getStart() + 2 + target.length();
+		int dataEnd = processingInstruction.getEnd() - 2;
+		while (dataStart < dataEnd && XMLChar.isSpace(text.charAt(dataStart))) {
+			dataStart++;
+		}
+		setLocation(processingInstruction.getEnd());
+		documentHandler.processingInstruction(target, toXMLString(dataStart, dataEnd), null);
+	}
+
+	private void setQName(QName qname, String name) {
+		String rawname = symbolTable.addSymbol(name);
+		int index = rawname.indexOf(':');
+		if (index != -1) {
+			qname.setValues(symbolTable.addSymbol(rawname.substring(0, index)),
+					symbolTable.addSymbol(rawname.substring(index + 1)), rawname, null);
+		} else {
+			qname.setValues(null, rawname, rawname, null);
+		}
+	}
+
+	private void bindElement(QName qname) {
+		String prefix = qname.prefix != null ? qname.prefix : XMLSymbols.EMPTY_STRING;
+		qname.uri = namespaceContext.getURI(prefix);
+		if (qname.prefix == null && qname.uri != null) {
+			qname.prefix = XMLSymbols.EMPTY_STRING;
+		}
+	}
+
+	private String getAttributeValue(DOMAttr attr) {
+		DOMRange value = attr.getNodeAttrValue();
+		// remove the quotes
+		return text.substring(value.getStart() + 1, value.getEnd() - 1);
+	}
+
+	/**
+	 * Returns the given XML content with normalized line endings.
+	 *
+	 * @param start the start offset.
+	 * @param end   the end offset.
+	 * @return the given XML content with normalized line endings.
+	 */
+	private XMLString toXMLString(int start, int end) {
+		int length = end - start;
+		if (buffer.length < length) {
+			buffer = new char[Math.max(length, buffer.length * 2)];
+		}
+		text.getChars(start, end, buffer, 0);
+		int j = 0;
+		for (int i = 0; i < length; i++) {
+			char c = buffer[i];
+			if (c == '\r') {
+				buffer[j++] = '\n';
+				if (i + 1 < length && buffer[i + 1] == '\n') {
+					i++;
+				}
+			} else {
+				buffer[j++] = c;
+			}
+		}
+		content.setValues(buffer, 0, j);
+		return content;
+	}
+
+	/**
+	 * Returns the given attribute value with normalized whitespaces and the same
+	 * instance if there is nothing to normalize.
+	 *
+	 * @param value the attribute value.
+	 * @return the given attribute value with normalized whitespaces.
+	 */
+	private static String normalizeAttributeValue(String value) {
+		int length = value.length();
+		int i = 0;
+		while (i < length) {
+			char c = value.charAt(i);
+			if (c == '\r' || c == '\n' || c == '\t') {
+				break;
+			}
+			i++;
+		}
+		if (i == length) {
+			return value;
+		}
+		StringBuilder normalized = new StringBuilder(length);
+		normalized.append(value, 0, i);
+		for (; i < length; i++) {
+			char c = value.charAt(i);
+			if (c == '\r') {
+				normalized.append(' ');
+				if (i + 1 < length && value.charAt(i + 1) == '\n') {
+					i++;
+				}
+			} else if (c == '\n' || c == '\t') {
+				normalized.append(' ');
+			} else {
+				normalized.append(c);
+			}
+		}
+		return normalized.toString();
+	}
+
+	private static String expandSystemId(String systemId) {
+		try {
+			return XMLEntityManager.expandSystemId(systemId, null, false);
+		} catch (Exception e) {
+			return systemId;
+		}
+	}
+
+	// ------------------- XMLLocator implementation
+
+	private void setLocation(int offset) {
+		this.offset = offset;
+		this.lineNumber = -1;
+	}
+
+	private void computeLineAndColumn() {
+		if (lineNumber == -1) {
+			try {
+				Position position = document.positionAt(offset);
+				lineNumber = position.getLine() + 1;
+				columnNumber = position.getCharacter() + 1;
+			} catch (BadLocationException e) {
+				lineNumber = 1;
+				columnNumber = 1;
+			}
+		}
+	}
+
+	@Override
+	public String getPublicId() {
+		return null;
+	}
+
+	@Override
+	public String getLiteralSystemId() {
+		return literalSystemId;
+	}
+
+	@Override
+	public String getBaseSystemId() {
+		return expandedSystemId;
+	}
+
+	@Override
+	public String getExpandedSystemId() {
+		return expandedSystemId;
+	}
+
+	@Override
+	public int getLineNumber() {
+		computeLineAndColumn();
+		return lineNumber;
+	}
+
+	@Override
+	public int getColumnNumber() {
+		computeLineAndColumn();
+		return columnNumber;
+	}
+
+	@Override
+	public int getCharacterOffset() {
+		return offset;
+	}
+
+	@Override
+	public String getEncoding() {
+		return null;
+	}
+
+	@Override
+	public String getXMLVersion() {
+		return XML_VERSION_1_0;
+	}
+
+	// ------------------- Well-formedness checks
+
+	/**
+	 * Returns true if the given DOM document is well-formed and can be replayed
+	 * without loosing syntax errors reported by the Xerces scanner and false
+	 * otherwise.
+	 *
+	 * <p>
+	 * The cheap checks (DOCTYPE, entity and character references) are done first
+	 * to reject the replay without walking the DOM document.
+	 * </p>
+	 *
+	 * @param document      the DOM document.
+	 * @param cancelChecker the cancel checker and null otherwise.
+	 * @return true if the given DOM document can be replayed and false otherwise.
+	 * @throws java.util.concurrent.CancellationException if the validation is
+	 *                                                    cancelled during the
+	 *                                                    checks.
+	 */
+	public static boolean canReplay(DOMDocument document, CancelChecker cancelChecker) {
+		if (document.getDoctype() != null) {
+			return false;
+		}
+		String text = document.getParsedText();
+		if (text.indexOf('&') != -1) {
+			// entity and character references are not replayed
+			return false;
+		}
+		if (!isValidContent(text, cancelChecker)) {
+			return false;
+		}
+		if (cancelChecker != null) {
+			cancelChecker.checkCanceled();
+		}
+		NamespaceBindings bindings = new NamespaceBindings(cancelChecker);
+		boolean hasRoot = false;
+		int pos = 0;
+		List<DOMNode> children = document.getChildren();
+		for (int i = 0; i < children.size(); i++) {
+			DOMNode child = children.get(i);
+			if (child.getStart() < pos || !isWhitespace(text, pos, child.getStart())) {
+				return false;
+			}
+			if (child.isElement()) {
+				if (hasRoot || !isWellFormedElement((DOMElement) child, text, bindings)) {
+					return false;
+				}
+				hasRoot = true;
+			} else if (child.isProlog()) {
+				if (i != 0 || child.getStart() != 0
+						|| !isWellFormedXMLDecl((DOMProcessingInstruction) child, text)) {
+					return false;
+				}
+			} else if (child.isProcessingInstruction()) {
+				if (!isWellFormedProcessingInstruction((DOMProcessingInstruction) child, text)) {
+					return false;
+				}
+			} else if (child.isComment()) {
+				if (!isWellFormedComment(child, text)) {
+					return false;
+				}
+			} else if (!child.isText() || !isWhitespace(text, child.getStart(), child.getEnd())) {
+				// CDATA, DOCTYPE, text content are not allowed outside the root element
+				return false;
+			}
+			pos = child.getEnd();
+		}
+		return hasRoot && isWhitespace(text, pos, text.length());
+	}
+
+	/**
+	 * Returns true if the given text contains only valid XML characters.
+	 *
+	 * @param text          the XML text.
+	 * @param cancelChecker the cancel checker and null otherwise.
+	 * @return true if the given text contains only valid XML characters.
+	 */
+	private static boolean isValidContent(String text, CancelChecker cancelChecker) {
+		int length = text.length();
+		for (int i = 0; i < length; i++) {
+			if (cancelChecker != null && i % CANCEL_CHECK_INTERVAL == 0) {
+				cancelChecker.checkCanceled();
+			}
+			char c = text.charAt(i);
+			if (!XMLChar.isValid(c)) {
+				if (XMLChar.isHighSurrogate(c) && i + 1 < length && XMLChar.isLowSurrogate(text.charAt(i + 1))) {
+					i++;
+				} else {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	private static boolean isWellFormedElement(DOMElement element, String text, NamespaceBindings bindings) {
+		String name = element.getTagName();
+		int start = element.getStart();
+		if (name == null || !element.isClosed() || !isValidQName(name) || text.charAt(start) != '<'
+				|| !text.startsWith(name, start + 1)) {
+			return false;
+		}
+
+		// start tag
+		bindings.pushContext();
+		bindings.checkCanceled();
+		List<DOMAttr> attrs = element.hasAttributes() ? element.getAttributeNodes() : Collections.emptyList();
+		int pos = start + 1 + name.length();
+		for (DOMAttr attr : attrs) {
+			if (!isWellFormedAttribute(attr, pos, text)) {
+				return false;
+			}
+			pos = attr.getNodeAttrValue().getEnd();
+			String attrName = attr.getName();
+			if (XMLNS_PREFIX.equals(attrName) || attrName.startsWith(XMLNS_PREFIX_COLON)) {
+				String uri = normalizeAttributeValue(getValue(attr, text));
+				if (!bindings.declarePrefix(
+						attrName.length() == XMLNS_PREFIX.length() ? "" : attrName.substring(XMLNS_PREFIX_COLON.length()),
+						uri)) {
+					return false;
+				}
+			}
+		}
+		if (!isWellFormedNamespaces(name, attrs, bindings)) {
+			return false;
+		}
+
+		if (element.isSelfClosed()) {
+			int end = element.getEnd();
+			bindings.popContext();
+			return end - 2 >= pos && isWhitespace(text, pos, end - 2) && text.startsWith("/>", end - 2);
+		}
+		int startTagClose = element.getStartTagCloseOffset();
+		if (startTagClose == DOMNode.NULL_VALUE || startTagClose < pos || !isWhitespace(text, pos, startTagClose)
+				|| text.charAt(startTagClose) != '>') {
+			return false;
+		}
+
+		// end tag
+		int endTagOpen = element.getEndTagOpenOffset();
+		int endTagClose = element.getEndTagCloseOffset();
+		if (endTagOpen == DOMNode.NULL_VALUE || endTagClose == DOMNode.NULL_VALUE
+				|| endTagClose + 1 != element.getEnd() || !text.startsWith("</", endTagOpen)
+				|| !text.startsWith(name, endTagOpen + 2)
+				|| !isWhitespace(text, endTagOpen + 2 + name.length(), endTagClose)
+				|| text.charAt(endTagClose) != '>') {
+			return false;
+		}
+
+		// content
+		if (!isWellFormedContent(element, startTagClose + 1, endTagOpen, text, bindings)) {
+			return false;
+		}
+		bindings.popContext();
+		return true;
+	}
+
+	private static boolean isWellFormedContent(DOMElement parent, int start, int end, String text,
+			NamespaceBindings bindings) {
+		int pos = start;
+		for (DOMNode child : parent.getChildren()) {
+			if (child.getStart() < pos || !isWhitespace(text, pos, child.getStart())) {
+				return false;
+			}
+			switch (child.getNodeType()) {
+			case DOMNode.ELEMENT_NODE:
+				if (!isWellFormedElement((DOMElement) child, text, bindings)) {
+					return false;
+				}
+				break;
+			case DOMNode.TEXT_NODE:
+				if (!isWellFormedText(child, text)) {
+					return false;
+				}
+				break;
+			case DOMNode.CDATA_SECTION_NODE:
+				if (!isWellFormedCDATA(child, text)) {
+					return false;
+				}
+				break;
+			case DOMNode.COMMENT_NODE:
+				if (!isWellFormedComment(child, text)) {
+					return false;
+				}
+				break;
+			case DOMNode.PROCESSING_INSTRUCTION_NODE:
+				DOMProcessingInstruction processingInstruction = (DOMProcessingInstruction) child;
+				if (!processingInstruction.isProcessingInstruction()
+						|| !isWellFormedProcessingInstruction(processingInstruction, text)) {
+					return false;
+				}
+				break;
+			default:
+				return false;
+			}
+			pos = child.getEnd();
+		}
+		return pos <= end && isWhitespace(text, pos, end);
+	}
+
+	private static boolean isWellFormedAttribute(DOMAttr attr, int pos, String text) {
+		DOMRange name = attr.getNodeAttrName();
+		DOMRange value = attr.getNodeAttrValue();
+		if (name == null || value == null || !attr.hasDelimiter() || !isValidQName(attr.getName())) {
+			return false;
+		}
+		int delimiter = attr.getDelimiterOffset();
+		int valueStart = value.getStart();
+		int valueEnd = value.getEnd();
+		// a whitespace is required before the attribute name
+		if (name.getStart() <= pos || !isWhitespace(text, pos, name.getStart())
+				|| !isWhitespace(text, name.getEnd(), delimiter) || text.charAt(delimiter) != '='
+				|| !isWhitespace(text, delimiter + 1, valueStart) || valueEnd - valueStart < 2) {
+			return false;
+		}
+		char quote = text.charAt(valueStart);
+		if ((quote != '"' && quote != '\'') || text.charAt(valueEnd - 1) != quote) {
+			return false;
+		}
+		for (int i = valueStart + 1; i < valueEnd - 1; i++) {
+			char c = text.charAt(i);
+			if (c == '<' || c == quote) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isWellFormedNamespaces(String name, List<DOMAttr> attrs, NamespaceBindings bindings) {
+		String prefix = getPrefix(name);
+		if (XMLNS_PREFIX.equals(prefix) || (prefix != null && bindings.getURI(prefix) == null)) {
+			return false;
+		}
+		int size = attrs.size();
+		String[] uris = new String[size];
+		for (int i = 0; i < size; i++) {
+			String attrName = attrs.get(i).getName();
+			String attrPrefix = getPrefix(attrName);
+			if (attrPrefix != null) {
+				uris[i] = XMLNS_PREFIX.equals(attrPrefix) ? NamespaceContext.XMLNS_URI : bindings.getURI(attrPrefix);
+				if (uris[i] == null) {
+					return false;
+				}
+			}
+			// attribute must be unique
+			for (int j = 0; j < i; j++) {
+				String otherName = attrs.get(j).getName();
+				if (attrName.equals(otherName) || (uris[i] != null && uris[i].equals(uris[j])
+						&& getLocalName(attrName).equals(getLocalName(otherName)))) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	private static boolean isWellFormedText(DOMNode node, String text) {
+		int start = node.getStart();
+		int end = node.getEnd();
+		for (int i = start; i < end; i++) {
+			char c = text.charAt(i);
+			// ']]>' is not allowed in the text content
+			if (c == '<' || (c == '>' && i - 2 >= start && text.charAt(i - 1) == ']' && text.charAt(i - 2) == ']')) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isWellFormedCDATA(DOMNode node, String text) {
+		int start = node.getStart();
+		int end = node.getEnd();
+		return end - start >= 12 && text.startsWith("<![CDATA[", start) && text.startsWith("]]>", end - 3);
+	}
+
+	private static boolean isWellFormedComment(DOMNode node, String text) {
+		int start = node.getStart();
+		int end = node.getEnd();
+		if (!node.isClosed() || end - start < 7 || !text.startsWith("<!--", start) || !text.startsWith("-->", end - 3)) {
+			return false;
+		}
+		// '--' is not allowed in the comment content which cannot ends with '-'
+		for (int i = start + 4; i < end - 3; i++) {
+			if (text.charAt(i) == '-' && (i + 1 == end - 3 || text.charAt(i + 1) == '-')) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isWellFormedProcessingInstruction(DOMProcessingInstruction processingInstruction,
+			String text) {
+		String target = processingInstruction.getTarget();
+		int start = processingInstruction.getStart();
+		int end = processingInstruction.getEnd();
+		if (!processingInstruction.isClosed() || target == null || !XMLChar.isValidNCName(target)
+				|| XML_PREFIX.equalsIgnoreCase(target) || !text.startsWith("<?", start)
+				|| !text.startsWith(target, start + 2) || !text.startsWith("?>", end - 2)) {
+			return false;
+		}
+		int targetEnd = start + 2 + target.length();
+		// a whitespace is required between the target and the data
+		return targetEnd == end - 2 || (targetEnd < end - 2 && XMLChar.isSpace(text.charAt(targetEnd)));
+	}
+
+	private static boolean isWellFormedXMLDecl(DOMProcessingInstruction prolog, String text) {
+		int end = prolog.getEnd();
+		if (!prolog.isClosed() || !XML_PREFIX.equals(prolog.getTarget()) || !text.startsWith("<?xml", 0)
+				|| !text.startsWith("?>", end - 2) || !prolog.hasAttributes()) {
+			return false;
+		}
+		// <?xml version="1.0" encoding="..." standalone="..." ?>
+		String[] names = { "version", "encoding", "standalone" };
+		int index = 0;
+		int pos = 5;
+		for (DOMAttr attr : prolog.getAttributeNodes()) {
+			if (!isWellFormedAttribute(attr, pos, text)) {
+				return false;
+			}
+			String name = attr.getName();
+			while (index < names.length && !names[index].equals(name)) {
+				index++;
+			}
+			if (index == names.length) {
+				return false;
+			}
+			String value = getValue(attr, text);
+			switch (index) {
+			case 0:
+				if (!XML_VERSION_1_0.equals(value)) {
+					// XML 1.1 requires the XML 1.1 pipeline
+					return false;
+				}
+				break;
+			case 1:
+				if (!XMLChar.isValidIANAEncoding(value)) {
+					return false;
+				}
+				break;
+			default:
+				if (!"yes".equals(value) && !"no".equals(value)) {
+					return false;
+				}
+			}
+			if (pos == 5 && index != 0) {
+				// version is required
+				return false;
+			}
+			index++;
+			pos = attr.getNodeAttrValue().getEnd();
+		}
+		return pos <= end - 2 && isWhitespace(text, pos, end - 2);
+	}
+
+	private static String getValue(DOMAttr attr, String text) {
+		DOMRange value = attr.getNodeAttrValue();
+		return text.substring(value.getStart() + 1, value.getEnd() - 1);
+	}
+
+	private static boolean isValidQName(String name) {
+		int index = name.indexOf(':');
+		if (index == -1) {
+			return XMLChar.isValidNCName(name);
+		}
+		return XMLChar.isValidNCName(name.substring(0, index)) && XMLChar.isValidNCName(name.substring(index + 1));
+	}
+
+	private static String getPrefix(String name) {
+		int index = name.indexOf(':');
+		return index != -1 ? name.substring(0, index) : null;
+	}
+
+	private static String getLocalName(String name) {
+		int index = name.indexOf(':');
+		return index != -1 ? name.substring(index + 1) : name;
+	}
+
+	private static boolean isWhitespace(String text, int start, int end) {
+		for (int i = start; i < end; i++) {
+			if (!XMLChar.isSpace(text.charAt(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Namespace bindings used to check namespaces before replaying the DOM
+	 * document.
+	 */
+	private static class NamespaceBindings {
+
+		private final CancelChecker cancelChecker;
+
+		private final List<String> prefixes = new ArrayList<>();
+
+		private final List<String> uris = new ArrayList<>();
+
+		private int[] contexts = new int[16];
+
+		private int depth;
+
+		public NamespaceBindings(CancelChecker cancelChecker) {
+			this.cancelChecker = cancelChecker;
+		}
+
+		/**
+		 * Checks if the validation has been cancelled while walking the DOM
+		 * document.
+		 */
+		public void checkCanceled() {
+			if (cancelChecker != null) {
+				cancelChecker.checkCanceled();
+			}
+		}
+
+		public void pushContext() {
+			if (depth == contexts.length) {
+				int[] newContexts = new int[depth * 2];
+				System.arraycopy(contexts, 0, newContexts, 0, depth);
+				contexts = newContexts;
+			}
+			contexts[depth++] = prefixes.size();
+		}
+
+		public void popContext() {
+			int size = contexts[--depth];
+			while (prefixes.size() > size) {
+				prefixes.remove(prefixes.size() - 1);
+				uris.remove(uris.size() - 1);
+			}
+		}
+
+		/**
+		 * Declares the given prefix and returns false if the declaration is an
+		 * error for Xerces.
+		 *
+		 * @param prefix the prefix ("" for the default namespace).
+		 * @param uri    the namespace URI.
+		 * @return false if the declaration is an error for Xerces.
+		 */
+		public boolean declarePrefix(String prefix, String uri) {
+			if (XML_PREFIX.equals(prefix) || XMLNS_PREFIX.equals(prefix) || NamespaceContext.XML_URI.equals(uri)
+					|| NamespaceContext.XMLNS_URI.equals(uri) || (!prefix.isEmpty() && uri.isEmpty())) {
+				return false;
+			}
+			prefixes.add(prefix);
+			uris.add(uri.isEmpty() ? null : uri);
+			return true;
+		}
+
+		public String getURI(String prefix) {
+			if (XML_PREFIX.equals(prefix)) {
+				return NamespaceContext.XML_URI;
+			}
+			for (int i = prefixes.size() - 1; i >= 0; i--) {
+				if (prefixes.get(i).equals(prefix)) {
+					return uris.get(i);
+				}
+			}
+			return null;
+		}
+	}
+}
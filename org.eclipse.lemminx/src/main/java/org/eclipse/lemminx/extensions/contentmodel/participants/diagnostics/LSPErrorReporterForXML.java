@@ -31,6 +31,7 @@ import org.eclipse.lemminx.extensions.xinclude.XIncludeErrorCode;
 import org.eclipse.lemminx.extensions.xsd.participants.XSDErrorCode;
 import org.eclipse.lemminx.utils.XMLPositionUtility;
 import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.DiagnosticRelatedInformation;
 import org.eclipse.lsp4j.DiagnosticSeverity;
 import org.eclipse.lsp4j.Range;
 
@@ -44,6 +45,8 @@ public class LSPErrorReporterForXML extends AbstractReferencedGrammarLSPErrorRep
 
 	private Set<ReferencedGrammarInfo> referencedGrammars;
 
+	private PartialDiagnosticsPublisher partialPublisher;
+
 	public LSPErrorReporterForXML(DOMDocument xmlDocument, List<Diagnostic> diagnostics,
 			ContentModelManager contentModelManager, boolean hasRelatedInformation,
 			Map<String, ReferencedGrammarDiagnosticsInfo> referencedGrammarDiagnosticsInfoCache) {
@@ -51,6 +54,26 @@ public class LSPErrorReporterForXML extends AbstractReferencedGrammarLSPErrorRep
 				referencedGrammarDiagnosticsInfoCache);
 	}
 
+	/**
+	 * Set the publisher used to publish the diagnostics while the validation is
+	 * running.
+	 *
+	 * @param partialPublisher the partial diagnostics publisher.
+	 */
+	public void setPartialPublisher(PartialDiagnosticsPublisher partialPublisher) {
+		this.partialPublisher = partialPublisher;
+	}
+
+	@Override
+	public Diagnostic addDiagnostic(Range adjustedRange, String message, DiagnosticSeverity severity, String code,
+			List<DiagnosticRelatedInformation> relatedInformation) {
+		Diagnostic diagnostic = super.addDiagnostic(adjustedRange, message, severity, code, relatedInformation);
+		if (diagnostic != null && partialPublisher != null) {
+			partialPublisher.diagnosticAdded();
+		}
+		return diagnostic;
+	}
+
 	@Override
 	protected Range toLSPRange(XMLLocator location, String key, Object[] arguments, String message,
 			DiagnosticSeverity diagnosticSeverity, boolean fatalError, DOMDocument document,
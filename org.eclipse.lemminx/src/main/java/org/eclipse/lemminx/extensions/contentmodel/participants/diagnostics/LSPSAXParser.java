@@ -26,7 +26,9 @@ import org.apache.xerces.xni.XNIException;
 import org.apache.xerces.xni.parser.XMLParserConfiguration;
 import org.eclipse.lemminx.dom.DOMDocument;
 import org.eclipse.lemminx.dom.DOMDocumentType;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 import org.xml.sax.ContentHandler;
+import org.xml.sax.SAXException;
 import org.xml.sax.SAXNotRecognizedException;
 import org.xml.sax.SAXNotSupportedException;
 
@@ -186,9 +188,48 @@ public class LSPSAXParser extends SAXParser {
 		}
 	}
 
+	/**
+	 * Replays the DOM document in the Xerces XML document pipeline instead of
+	 * parsing again the XML content.
+	 *
+	 * @param monitor the cancel checker and null otherwise.
+	 * @return true if the DOM document has been replayed and false if the DOM
+	 *         document uses constructs which cannot be replayed (syntax errors,
+	 *         DOCTYPE, entities, etc) and must be parsed.
+	 * @throws SAXException
+	 * @throws IOException
+	 */
+	public boolean replay(CancelChecker monitor) throws SAXException, IOException {
+		if (!(fConfiguration instanceof LSPXMLParserConfiguration)) {
+			return false;
+		}
+		LSPXMLParserConfiguration configuration = (LSPXMLParserConfiguration) fConfiguration;
+		if (!configuration.canReplay(document, monitor)) {
+			return false;
+		}
+		try {
+			reset();
+			configuration.replay(document);
+		} catch (XNIException e) {
+			// wrap XNI exceptions as SAX exceptions like AbstractSAXParser#parse
+			Exception ex = e.getException();
+			if (ex == null) {
+				throw new SAXException(e.getMessage());
+			}
+			if (ex instanceof SAXException) {
+				throw (SAXException) ex;
+			}
+			if (ex instanceof IOException) {
+				throw (IOException) ex;
+			}
+			throw new SAXException(ex);
+		}
+		return true;
+	}
+
 	@Override
 	public void setContentHandler(ContentHandler contentHandler) {
 		((MultipleContentHandler) getContentHandler()).addContentHandler(contentHandler);
 	}
 
-}
\ No newline at end of file
+}
\ No newline at end of file
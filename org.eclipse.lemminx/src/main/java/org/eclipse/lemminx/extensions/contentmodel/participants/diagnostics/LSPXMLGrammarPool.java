@@ -55,6 +55,8 @@ public class LSPXMLGrammarPool implements XMLGrammarPool {
 	/** Grammars. */
 	private final Entry[] fGrammars;
 
+	private LSPXMLGrammarPoolStore store;
+
 	public LSPXMLGrammarPool() {
 		this(TABLE_SIZE);
 	}
@@ -74,16 +76,71 @@ public class LSPXMLGrammarPool implements XMLGrammarPool {
 
 	@Override
 	public void cacheGrammars(String grammarType, Grammar[] grammars) {
+		cacheGrammars(grammarType, grammars, true);
+	}
+
+	void cacheGrammars(String grammarType, Grammar[] grammars, boolean storeGrammars) {
 		for (int i = 0; i < grammars.length; i++) {
 			putGrammar(grammars[i]);
 		}
+		LSPXMLGrammarPoolStore store = this.store;
+		if (storeGrammars && store != null) {
+			store.store(grammars);
+		}
 	}
 
 	@Override
 	public Grammar retrieveGrammar(XMLGrammarDescription desc) {
+		LSPXMLGrammarPoolStore store = this.store;
+		if (store != null) {
+			// The grammar could be currently compiled by the store, wait for it instead of
+			// compiling it again.
+			store.waitForPreload(desc.getExpandedSystemId());
+		}
 		return getGrammar(desc);
 	}
 
+	/**
+	 * Returns true if the pool contains a grammar for the given expanded system id
+	 * and false otherwise.
+	 *
+	 * @param expandedSystemId the expanded system id of the grammar.
+	 * @return true if the pool contains a grammar for the given expanded system id
+	 *         and false otherwise.
+	 */
+	public boolean hasGrammar(String expandedSystemId) {
+		synchronized (fGrammars) {
+			for (Entry bucket : fGrammars) {
+				for (Entry entry = bucket; entry != null; entry = entry.next) {
+					if (expandedSystemId.equals(entry.desc.getExpandedSystemId())) {
+						return true;
+					}
+				}
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Set the store used to persist the cached XML Schema grammars.
+	 *
+	 * @param store the grammar store.
+	 */
+	public void setStore(LSPXMLGrammarPoolStore store) {
+		this.store = store;
+	}
+
+	/**
+	 * Returns the store used to persist the cached XML Schema grammars and null
+	 * otherwise.
+	 *
+	 * @return the store used to persist the cached XML Schema grammars and null
+	 *         otherwise.
+	 */
+	public LSPXMLGrammarPoolStore getStore() {
+		return store;
+	}
+
 	private void putGrammar(Grammar grammar) {
 		synchronized (fGrammars) {
 			XMLGrammarDescription desc = grammar.getGrammarDescription();
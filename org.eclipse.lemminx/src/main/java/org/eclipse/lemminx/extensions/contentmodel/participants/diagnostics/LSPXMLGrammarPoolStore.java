@@ -0,0 +1,472 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.extensions.contentmodel.participants.diagnostics;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Vector;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.apache.xerces.impl.Constants;
+import org.apache.xerces.impl.xs.SchemaGrammar;
+import org.apache.xerces.impl.xs.XMLSchemaLoader;
+import org.apache.xerces.impl.xs.XSDDescription;
+import org.apache.xerces.xni.XNIException;
+import org.apache.xerces.xni.grammars.Grammar;
+import org.apache.xerces.xni.grammars.XMLGrammarDescription;
+import org.apache.xerces.xni.parser.XMLEntityResolver;
+import org.apache.xerces.xni.parser.XMLErrorHandler;
+import org.apache.xerces.xni.parser.XMLInputSource;
+import org.apache.xerces.xni.parser.XMLParseException;
+import org.eclipse.lemminx.commons.RequestScheduler;
+import org.eclipse.lemminx.commons.RequestScheduler.Lane;
+import org.eclipse.lemminx.extensions.xerces.LSPSecurityManager;
+import org.eclipse.lemminx.extensions.xsd.utils.XSDUtils;
+import org.eclipse.lemminx.utils.FilesUtils;
+import org.eclipse.lemminx.utils.URIUtils;
+
+import com.google.common.hash.Hashing;
+import com.google.common.io.MoreFiles;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+
+/**
+ * Store of the XML Schema grammars cached in the {@link LSPXMLGrammarPool}
+ * which is persisted in the .lemminx/cache directory to preload the grammars
+ * in the grammar pool when the server starts.
+ *
+ * <p>
+ * Xerces grammars cannot be serialized, so the store saves for each XML
+ * Schema the content hash of each file of its include/import closure. When
+ * the server starts, the XML Schemas which have not changed are compiled in
+ * background and cached in the grammar pool before the first validation which
+ * needs them.
+ * </p>
+ *
+ * <p>
+ * The preload and the save of the store are executed in the background lane of
+ * the request scheduler and in the caller thread when there is no scheduler.
+ * </p>
+ *
+ */
+public class LSPXMLGrammarPoolStore {
+
+	private static final Logger LOGGER = Logger.getLogger(LSPXMLGrammarPoolStore.class.getName());
+
+	private static final String SECURITY_MANAGER = Constants.XERCES_PROPERTY_PREFIX
+			+ Constants.SECURITY_MANAGER_PROPERTY;
+
+	private static final int MAX_GRAMMARS = 50;
+
+	/**
+	 * Stored grammar.
+	 */
+	private static class StoredGrammar {
+
+		/**
+		 * The expanded system id of the XML Schema.
+		 */
+		private String uri;
+
+		/**
+		 * The content hash of each file (root, included and imported XML Schemas)
+		 * used by the grammar.
+		 */
+		private Map<String, String> files;
+
+	}
+
+	private final Path storeFile;
+
+	private final Map<String, StoredGrammar> grammars;
+
+	private final Map<String, CompletableFuture<Void>> preloadingGrammars;
+
+	private final Gson gson;
+
+	private final RequestScheduler requestScheduler;
+
+	private boolean loaded;
+
+	private CompletableFuture<Void> storing;
+
+	public LSPXMLGrammarPoolStore(Path storeFile) {
+		this(storeFile, null);
+	}
+
+	public LSPXMLGrammarPoolStore(Path storeFile, RequestScheduler requestScheduler) {
+		this.storeFile = storeFile;
+		this.requestScheduler = requestScheduler;
+		this.grammars = new LinkedHashMap<>();
+		this.preloadingGrammars = new ConcurrentHashMap<>();
+		this.gson = new GsonBuilder().setPrettyPrinting().create();
+		this.storing = CompletableFuture.completedFuture(null);
+	}
+
+	/**
+	 * Preload in background the stored XML Schema grammars which have not changed
+	 * in the given grammar pool.
+	 *
+	 * @param grammarPool    the grammar pool to fill.
+	 * @param entityResolver the entity resolver used to compile the XML Schemas.
+	 * @return the future which is completed when all stored grammars are
+	 *         preloaded.
+	 */
+	public CompletableFuture<Void> preload(LSPXMLGrammarPool grammarPool, XMLEntityResolver entityResolver) {
+		RequestScheduler requestScheduler = this.requestScheduler;
+		if (requestScheduler == null) {
+			preloadStoredGrammars(grammarPool, entityResolver);
+			return CompletableFuture.completedFuture(null);
+		}
+		return requestScheduler.runAsync(Lane.BACKGROUND, null, null,
+				() -> preloadStoredGrammars(grammarPool, entityResolver));
+	}
+
+	private void preloadStoredGrammars(LSPXMLGrammarPool grammarPool, XMLEntityResolver entityResolver) {
+		for (StoredGrammar storedGrammar : getStoredGrammars()) {
+			String uri = storedGrammar.uri;
+			// Register the preload before checking the grammar pool, to avoid that a
+			// validation which starts between the check and the registration compiles the
+			// XML Schema too.
+			CompletableFuture<Void> preloading = new CompletableFuture<>();
+			if (preloadingGrammars.putIfAbsent(uri, preloading) != null) {
+				continue;
+			}
+			try {
+				if (grammarPool.hasGrammar(uri)) {
+					// The grammar has been loaded by a validation
+					continue;
+				}
+				preload(storedGrammar, grammarPool, entityResolver);
+			} finally {
+				preloadingGrammars.remove(uri, preloading);
+				preloading.complete(null);
+			}
+		}
+	}
+
+	private void preload(StoredGrammar storedGrammar, LSPXMLGrammarPool grammarPool,
+			XMLEntityResolver entityResolver) {
+		if (!isUpToDate(storedGrammar)) {
+			// One of the XML Schema has changed or is deleted
+			remove(storedGrammar.uri);
+			return;
+		}
+		try {
+			SchemaGrammar grammar = compile(storedGrammar.uri, entityResolver);
+			if (grammar != null) {
+				grammarPool.cacheGrammars(XMLGrammarDescription.XML_SCHEMA, getGrammars(grammar), false);
+			}
+		} catch (Exception e) {
+			LOGGER.log(Level.WARNING, "Error while preloading the XML Schema '" + storedGrammar.uri + "'.", e);
+		}
+	}
+
+	/**
+	 * Wait for the end of the preload of the grammar for the given expanded system
+	 * id if it is currently compiled.
+	 *
+	 * @param expandedSystemId the expanded system id of the grammar.
+	 */
+	void waitForPreload(String expandedSystemId) {
+		if (expandedSystemId == null) {
+			return;
+		}
+		CompletableFuture<Void> preloading = preloadingGrammars.get(expandedSystemId);
+		if (preloading != null) {
+			preloading.join();
+		}
+	}
+
+	/**
+	 * Store the given XML Schema grammars which have been cached in the grammar
+	 * pool.
+	 *
+	 * <p>
+	 * The XML Schema files are hashed and the store is saved in the background
+	 * lane of the request scheduler, after the previous stores.
+	 * </p>
+	 *
+	 * @param cachedGrammars the cached grammars.
+	 */
+	void store(Grammar[] cachedGrammars) {
+		RequestScheduler requestScheduler = this.requestScheduler;
+		if (requestScheduler == null) {
+			storeGrammars(cachedGrammars);
+			return;
+		}
+		synchronized (this) {
+			storing = storing.exceptionally(e -> null).thenCompose(
+					v -> requestScheduler.runAsync(Lane.BACKGROUND, null, null, () -> storeGrammars(cachedGrammars)));
+		}
+	}
+
+	/**
+	 * Returns the future which is completed when the grammars given to
+	 * {@link #store(Grammar[])} are stored.
+	 *
+	 * @return the future which is completed when the grammars given to
+	 *         {@link #store(Grammar[])} are stored.
+	 */
+	synchronized CompletableFuture<Void> getStoring() {
+		return storing;
+	}
+
+	private void storeGrammars(Grammar[] cachedGrammars) {
+		Set<SchemaGrammar> importedGrammars = new HashSet<>();
+		for (Grammar grammar : cachedGrammars) {
+			if (grammar instanceof SchemaGrammar) {
+				Vector<?> imported = ((SchemaGrammar) grammar).getImportedGrammars();
+				if (imported != null) {
+					for (Object importedGrammar : imported) {
+						importedGrammars.add((SchemaGrammar) importedGrammar);
+					}
+				}
+			}
+		}
+		boolean changed = false;
+		for (Grammar grammar : cachedGrammars) {
+			// Only the root grammars are stored, the imported grammars are compiled with
+			// their root grammar.
+			if (grammar instanceof SchemaGrammar && !importedGrammars.contains(grammar)) {
+				changed |= store((SchemaGrammar) grammar);
+			}
+		}
+		if (changed) {
+			save();
+		}
+	}
+
+	private boolean store(SchemaGrammar grammar) {
+		String uri = grammar.getGrammarDescription().getExpandedSystemId();
+		if (uri == null) {
+			return false;
+		}
+		Map<String, String> files = new LinkedHashMap<>();
+		for (String location : XSDUtils.getDocumentLocations(Collections.singleton(grammar))) {
+			if (!URIUtils.isFileResource(location)) {
+				// Only XML Schema files can be checked to know if the grammar is up to date
+				return false;
+			}
+			String hash = hash(location);
+			if (hash == null) {
+				return false;
+			}
+			files.put(location, hash);
+		}
+		StoredGrammar storedGrammar = new StoredGrammar();
+		storedGrammar.uri = uri;
+		storedGrammar.files = files;
+		synchronized (grammars) {
+			loadIfNeeded();
+			// The last cached grammar is the first to preload
+			grammars.remove(uri);
+			grammars.put(uri, storedGrammar);
+			while (grammars.size() > MAX_GRAMMARS) {
+				grammars.remove(grammars.keySet().iterator().next());
+			}
+		}
+		return true;
+	}
+
+	private void remove(String uri) {
+		synchronized (grammars) {
+			loadIfNeeded();
+			if (grammars.remove(uri) == null) {
+				return;
+			}
+		}
+		save();
+	}
+
+	/**
+	 * Clear the store.
+	 */
+	public void clear() {
+		synchronized (grammars) {
+			grammars.clear();
+			loaded = true;
+		}
+		try {
+			Files.deleteIfExists(storeFile);
+		} catch (IOException e) {
+			LOGGER.log(Level.WARNING, "Error while deleting the grammar store '" + storeFile + "'.", e);
+		}
+	}
+
+	private List<StoredGrammar> getStoredGrammars() {
+		synchronized (grammars) {
+			loadIfNeeded();
+			List<StoredGrammar> storedGrammars = new ArrayList<>(grammars.values());
+			Collections.reverse(storedGrammars);
+			return storedGrammars;
+		}
+	}
+
+	private void loadIfNeeded() {
+		if (loaded) {
+			return;
+		}
+		loaded = true;
+		if (!Files.exists(storeFile)) {
+			return;
+		}
+		try (Reader reader = Files.newBufferedReader(storeFile, StandardCharsets.UTF_8)) {
+			StoredGrammar[] storedGrammars = gson.fromJson(reader, StoredGrammar[].class);
+			if (storedGrammars != null) {
+				// the store file starts with the last cached grammar
+				for (int i = storedGrammars.length - 1; i >= 0; i--) {
+					StoredGrammar storedGrammar = storedGrammars[i];
+					if (storedGrammar != null && storedGrammar.uri != null && storedGrammar.files != null) {
+						grammars.put(storedGrammar.uri, storedGrammar);
+					}
+				}
+			}
+		} catch (IOException | JsonParseException e) {
+			LOGGER.log(Level.WARNING, "Error while loading the grammar store '" + storeFile + "'.", e);
+		}
+	}
+
+	private void save() {
+		synchronized (grammars) {
+			List<StoredGrammar> storedGrammars = new ArrayList<>(grammars.values());
+			Collections.reverse(storedGrammars);
+			try {
+				Files.createDirectories(storeFile.getParent());
+				try (Writer writer = Files.newBufferedWriter(storeFile, StandardCharsets.UTF_8)) {
+					gson.toJson(storedGrammars, writer);
+				}
+			} catch (IOException e) {
+				LOGGER.log(Level.WARNING, "Error while saving the grammar store '" + storeFile + "'.", e);
+			}
+		}
+	}
+
+	private static boolean isUpToDate(StoredGrammar storedGrammar) {
+		if (storedGrammar.files.isEmpty()) {
+			return false;
+		}
+		for (Map.Entry<String, String> file : storedGrammar.files.entrySet()) {
+			if (!file.getValue().equals(hash(file.getKey()))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static String hash(String fileURI) {
+		try {
+			Path file = getPath(fileURI);
+			if (!Files.exists(file)) {
+				return null;
+			}
+			return MoreFiles.asByteSource(file).hash(Hashing.sha256()).toString();
+		} catch (Exception e) {
+			return null;
+		}
+	}
+
+	private static Path getPath(String fileURI) {
+		try {
+			// Xerces expanded system ids can be 'file:/path' or 'file:///path'
+			return Paths.get(new URI(fileURI));
+		} catch (URISyntaxException | IllegalArgumentException e) {
+			return FilesUtils.getPath(fileURI);
+		}
+	}
+
+	/**
+	 * Returns the compiled XML Schema grammar of the given uri and null if the XML
+	 * Schema has errors.
+	 *
+	 * <p>
+	 * A grammar with errors is not preloaded, because the errors must be reported
+	 * by the validation which compiles it.
+	 * </p>
+	 */
+	private static SchemaGrammar compile(String uri, XMLEntityResolver entityResolver) {
+		boolean[] hasErrors = new boolean[1];
+		XMLSchemaLoader loader = new XMLSchemaLoader();
+		loader.setEntityResolver(entityResolver);
+		loader.setProperty(SECURITY_MANAGER, LSPSecurityManager.getSecurityManager());
+		loader.setErrorHandler(new XMLErrorHandler() {
+
+			@Override
+			public void warning(String domain, String key, XMLParseException exception) throws XNIException {
+				hasErrors[0] = true;
+			}
+
+			@Override
+			public void error(String domain, String key, XMLParseException exception) throws XNIException {
+				hasErrors[0] = true;
+			}
+
+			@Override
+			public void fatalError(String domain, String key, XMLParseException exception) throws XNIException {
+				hasErrors[0] = true;
+				throw exception;
+			}
+		});
+		try {
+			SchemaGrammar grammar = (SchemaGrammar) loader.loadGrammar(new XMLInputSource(null, uri, null));
+			if (grammar == null || hasErrors[0]) {
+				return null;
+			}
+			// A preparsed grammar has no expanded system id which is the key of the grammar
+			// pool.
+			XMLGrammarDescription desc = grammar.getGrammarDescription();
+			if (desc.getExpandedSystemId() == null && desc instanceof XSDDescription) {
+				((XSDDescription) desc).setExpandedSystemId(uri);
+			}
+			return grammar;
+		} catch (IOException | XNIException e) {
+			return null;
+		}
+	}
+
+	private static Grammar[] getGrammars(SchemaGrammar grammar) {
+		Set<SchemaGrammar> grammars = new LinkedHashSet<>();
+		collectGrammars(grammar, grammars);
+		return grammars.toArray(new Grammar[grammars.size()]);
+	}
+
+	private static void collectGrammars(SchemaGrammar grammar, Set<SchemaGrammar> grammars) {
+		if (!grammars.add(grammar)) {
+			return;
+		}
+		Vector<?> importedGrammars = grammar.getImportedGrammars();
+		if (importedGrammars != null) {
+			for (Object importedGrammar : importedGrammars) {
+				collectGrammars((SchemaGrammar) importedGrammar, grammars);
+			}
+		}
+	}
+}
@@ -11,15 +11,21 @@
 *******************************************************************************/
 package org.eclipse.lemminx.extensions.contentmodel.participants.diagnostics;
 
+import java.io.IOException;
+import java.io.StringReader;
+
 import org.apache.xerces.impl.Constants;
 import org.apache.xerces.impl.dtd.XMLDTDValidator;
 import org.apache.xerces.util.SecurityManager;
+import org.apache.xerces.xni.NamespaceContext;
 import org.apache.xerces.xni.XMLDocumentHandler;
 import org.apache.xerces.xni.XNIException;
 import org.apache.xerces.xni.grammars.XMLGrammarPool;
 import org.apache.xerces.xni.parser.XMLComponentManager;
 import org.apache.xerces.xni.parser.XMLConfigurationException;
 import org.apache.xerces.xni.parser.XMLDocumentSource;
+import org.apache.xerces.xni.parser.XMLInputSource;
+import org.eclipse.lemminx.dom.DOMDocument;
 import org.eclipse.lemminx.extensions.contentmodel.settings.XMLValidationSettings;
 import org.eclipse.lemminx.extensions.relaxng.xml.validator.ExternalRelaxNGValidator;
 import org.eclipse.lemminx.extensions.xerces.AbstractLSPErrorReporter;
@@ -27,6 +33,7 @@ import org.eclipse.lemminx.extensions.xerces.ExternalXMLDTDValidator;
 import org.eclipse.lemminx.extensions.xerces.LSPSecurityManager;
 import org.eclipse.lemminx.extensions.xerces.LSPXMLEntityManager;
 import org.eclipse.lemminx.extensions.xerces.xmlmodel.XMLModelAwareParserConfiguration;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 
 /**
  * Custom Xerces XML parser configuration to :
@@ -46,6 +53,8 @@ class LSPXMLParserConfiguration extends XMLModelAwareParserConfiguration {
 	private static final String SECURITY_MANAGER = Constants.XERCES_PROPERTY_PREFIX
 			+ Constants.SECURITY_MANAGER_PROPERTY;
 
+	private static final String XML_ENTITY_NAME = "[xml]";
+
 	private final boolean disableDTDValidation;
 	private ExternalXMLDTDValidator externalDTDValidator;
 
@@ -87,6 +96,63 @@ class LSPXMLParserConfiguration extends XMLModelAwareParserConfiguration {
 		}
 	}
 
+	/**
+	 * Returns true if the given DOM document can be replayed in the XML document
+	 * pipeline with {@link #replay(DOMDocument)} and false otherwise.
+	 * 
+	 * @param document the DOM document.
+	 * @param monitor  the cancel checker and null otherwise.
+	 * @return true if the given DOM document can be replayed in the XML document
+	 *         pipeline and false otherwise.
+	 */
+	boolean canReplay(DOMDocument document, CancelChecker monitor) {
+		return getFeature(NAMESPACES) && !getFeature(XINCLUDE_FEATURE)
+				&& DOMReplayScanner.canReplay(document, monitor);
+	}
+
+	/**
+	 * Replays the given DOM document in the XML document pipeline instead of
+	 * scanning again the XML content.
+	 * 
+	 * @param document the DOM document.
+	 * @throws XNIException
+	 * @throws IOException
+	 */
+	void replay(DOMDocument document) throws XNIException, IOException {
+		// reset and configure the pipeline like XML11Configuration#parse(boolean)
+		fValidationManager.reset();
+		resetCommon();
+		configurePipeline();
+		reset();
+		fConfigUpdated = false;
+
+		// The document entity is used by the entity manager to resolve relative
+		// grammar locations (ex : xml-model href), its content is not scanned.
+		fEntityManager.setupCurrentEntity(XML_ENTITY_NAME,
+				new XMLInputSource(null, document.getDocumentURI(), null, new StringReader(""), null), false, true);
+
+		DOMReplayScanner scanner = new DOMReplayScanner(document, fSymbolTable,
+				(NamespaceContext) getProperty(NAMESPACE_CONTEXT));
+		fErrorReporter.setDocumentLocator(scanner);
+
+		// The replayed document has no DOCTYPE, remove the DTD validator from the
+		// pipeline like XMLNSDocumentScannerImpl does when there is no DTD grammar.
+		boolean performValidation = false;
+		XMLDocumentHandler documentHandler = fNamespaceScanner.getDocumentHandler();
+		if (!fDTDValidator.hasGrammar()) {
+			performValidation = fDTDValidator.validate();
+			XMLDocumentSource source = fDTDValidator.getDocumentSource();
+			documentHandler = fDTDValidator.getDocumentHandler();
+			source.setDocumentHandler(documentHandler);
+			if (documentHandler != null) {
+				documentHandler.setDocumentSource(source);
+			}
+			fDTDValidator.setDocumentSource(null);
+			fDTDValidator.setDocumentHandler(null);
+		}
+		scanner.replay(documentHandler, fErrorReporter, performValidation);
+	}
+
 	private void disableDTDValidation() {
 		XMLDTDValidator validator = (XMLDTDValidator) super.getProperty(DTD_VALIDATOR);
 		if (validator != null) {
@@ -205,4 +271,4 @@ class LSPXMLParserConfiguration extends XMLModelAwareParserConfiguration {
 		super.checkProperty(propertyId);
 	}
 
-}
\ No newline at end of file
+}
\ No newline at end of file
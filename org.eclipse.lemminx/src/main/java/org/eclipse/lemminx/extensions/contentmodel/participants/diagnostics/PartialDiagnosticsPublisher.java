@@ -0,0 +1,96 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.extensions.contentmodel.participants.diagnostics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.eclipse.lemminx.extensions.contentmodel.settings.XMLPartialDiagnosticsSettings;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+
+/**
+ * Publish the diagnostics collected by the XML validator while the validation
+ * is running.
+ *
+ * <p>
+ * The diagnostics are published when the interval since the last publication
+ * is elapsed or when the number of new diagnostics reaches the maximum
+ * configured in {@link XMLPartialDiagnosticsSettings}. Nothing is published
+ * when the validation is cancelled, so a monitor is required.
+ * </p>
+ *
+ */
+public class PartialDiagnosticsPublisher {
+
+	private final List<Diagnostic> diagnostics;
+
+	private final Consumer<List<Diagnostic>> publisher;
+
+	private final CancelChecker monitor;
+
+	private final long intervalNanos;
+
+	private final int maxDiagnostics;
+
+	private long lastPublishTime;
+
+	private int lastPublishSize;
+
+	public PartialDiagnosticsPublisher(List<Diagnostic> diagnostics, Consumer<List<Diagnostic>> publisher,
+			XMLPartialDiagnosticsSettings settings, CancelChecker monitor) {
+		if (monitor == null) {
+			throw new IllegalArgumentException("The monitor is required to publish partial diagnostics");
+		}
+		this.diagnostics = diagnostics;
+		this.publisher = publisher;
+		this.monitor = monitor;
+		this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, settings.getInterval()));
+		this.maxDiagnostics = settings.getMaxDiagnostics();
+		this.lastPublishTime = System.nanoTime();
+	}
+
+	/**
+	 * Publish the diagnostics if needed after a diagnostic has been added.
+	 */
+	public void diagnosticAdded() {
+		int newDiagnostics = diagnostics.size() - lastPublishSize;
+		if (newDiagnostics <= 0) {
+			return;
+		}
+		long now = System.nanoTime();
+		if ((maxDiagnostics > 0 && newDiagnostics >= maxDiagnostics) || now - lastPublishTime >= intervalNanos) {
+			publish(now);
+		}
+	}
+
+	private void publish(long now) {
+		if (monitor.isCanceled()) {
+			return;
+		}
+		lastPublishTime = now;
+		lastPublishSize = diagnostics.size();
+		// The diagnostics list is updated by the validation, publish a copy
+		publisher.accept(new ArrayList<>(diagnostics));
+	}
+
+	/**
+	 * Returns the number of diagnostics already published.
+	 *
+	 * @return the number of diagnostics already published.
+	 */
+	public int getPublishedSize() {
+		return lastPublishSize;
+	}
+}
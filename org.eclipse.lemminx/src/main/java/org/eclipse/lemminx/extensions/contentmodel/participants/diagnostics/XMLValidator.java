@@ -19,6 +19,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CancellationException;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -40,8 +41,10 @@ import org.eclipse.lemminx.extensions.contentmodel.settings.SchemaEnabled;
 import org.eclipse.lemminx.extensions.contentmodel.settings.XMLNamespacesSettings;
 import org.eclipse.lemminx.extensions.contentmodel.settings.XMLSchemaSettings;
 import org.eclipse.lemminx.extensions.contentmodel.settings.XMLValidationSettings;
+import org.eclipse.lemminx.extensions.xerces.AbstractLSPErrorReporter;
 import org.eclipse.lemminx.extensions.xerces.LSPXMLEntityManager;
 import org.eclipse.lemminx.extensions.xerces.ReferencedGrammarDiagnosticsInfo;
+import org.eclipse.lemminx.services.extensions.diagnostics.DiagnosticsResult;
 import org.eclipse.lemminx.services.extensions.diagnostics.LSPContentHandler;
 import org.eclipse.lemminx.uriresolver.CacheResourceException;
 import org.eclipse.lemminx.uriresolver.IExternalGrammarLocationProvider;
@@ -69,6 +72,19 @@ public class XMLValidator {
 	public static void doDiagnostics(DOMDocument document, XMLEntityResolver entityResolver,
 			List<Diagnostic> diagnostics, XMLValidationSettings validationSettings,
 			ContentModelManager contentModelManager, CancelChecker monitor) {
+		doDiagnostics(document, entityResolver, diagnostics, validationSettings, contentModelManager, monitor, true);
+	}
+
+	/**
+	 * Validate the given DOM document.
+	 *
+	 * @param replay true if the DOM document must be replayed in the Xerces
+	 *               pipeline when it is possible and false if the XML content
+	 *               must always be parsed.
+	 */
+	static void doDiagnostics(DOMDocument document, XMLEntityResolver entityResolver, List<Diagnostic> diagnostics,
+			XMLValidationSettings validationSettings, ContentModelManager contentModelManager, CancelChecker monitor,
+			boolean replay) {
 
 		LSPXMLGrammarPool pool = contentModelManager.getGrammarPool();
 		LSPXMLGrammarPoolWrapper grammarPool = pool != null ? new LSPXMLGrammarPoolWrapper(pool) : null;
@@ -83,6 +99,14 @@ public class XMLValidator {
 		final LSPErrorReporterForXML reporterForGrammar = new LSPErrorReporterForXML(document, diagnostics,
 				contentModelManager, validationSettings != null ? validationSettings.isRelatedInformation() : false,
 				referencedGrammarDiagnosticsInfoCache);
+		PartialDiagnosticsPublisher partialPublisher = createPartialPublisher(diagnostics, validationSettings,
+				monitor);
+		reporterForXML.setPartialPublisher(partialPublisher);
+		reporterForGrammar.setPartialPublisher(partialPublisher);
+		if (validationSettings != null) {
+			reporterForXML.setMaxProblems(validationSettings.getMaxProblems());
+			reporterForGrammar.setMaxProblems(validationSettings.getMaxProblems());
+		}
 		LSPXMLEntityManager entityManager = new LSPXMLEntityManager(reporterForXML, grammarPool);
 		try {
 
@@ -94,7 +118,7 @@ public class XMLValidator {
 				configuration.setProperty("http://apache.org/xml/properties/internal/entity-resolver", entityResolver); //$NON-NLS-1$
 			}
 
-			SAXParser parser = new LSPSAXParser(reporterForXML, configuration, grammarPool, document);
+			LSPSAXParser parser = new LSPSAXParser(reporterForXML, configuration, grammarPool, document);
 
 			// Add LSP content handler to stop XML parsing if monitor is canceled.
 			parser.setContentHandler(new LSPContentHandler(monitor));
@@ -127,9 +151,12 @@ public class XMLValidator {
 			parser.setFeature("http://xml.org/sax/features/namespace-prefixes", false); //$NON-NLS-1$
 			parser.setFeature("http://xml.org/sax/features/namespaces", namespacesValidationEnabled); //$NON-NLS-1$
 
-			// Parse XML
-			InputSource input = DOMUtils.createInputSource(document);
-			parser.parse(input);
+			// Replay the DOM document in the Xerces pipeline to avoid scanning the XML
+			// content again, or parse XML when the DOM document cannot be replayed.
+			if (!replay || !replay(parser, document, diagnostics, reporterForXML, reporterForGrammar, monitor)) {
+				InputSource input = DOMUtils.createInputSource(document);
+				parser.parse(input);
+			}
 		} catch (IOException | SAXException | CancellationException exception) {
 			// ignore error
 		} catch (CacheResourceException e) {
@@ -145,6 +172,43 @@ public class XMLValidator {
 		}
 	}
 
+	/**
+	 * Replays the DOM document in the Xerces pipeline and returns false if the DOM
+	 * document cannot be replayed or if the replay fails unexpectedly. In this
+	 * case, the diagnostics reported by the replay are removed and the XML content
+	 * must be parsed.
+	 */
+	private static boolean replay(LSPSAXParser parser, DOMDocument document, List<Diagnostic> diagnostics,
+			AbstractLSPErrorReporter reporterForXML, AbstractLSPErrorReporter reporterForGrammar,
+			CancelChecker monitor) throws SAXException, IOException {
+		int diagnosticsSize = diagnostics.size();
+		try {
+			return parser.replay(monitor);
+		} catch (CancellationException | CacheResourceException e) {
+			throw e;
+		} catch (RuntimeException e) {
+			LOGGER.log(Level.WARNING, "Error while replaying the DOM document '" + document.getDocumentURI()
+					+ "', the XML content is parsed instead", e);
+			reporterForXML.rollback(diagnosticsSize);
+			reporterForGrammar.rollback(diagnosticsSize);
+			return false;
+		}
+	}
+
+	private static PartialDiagnosticsPublisher createPartialPublisher(List<Diagnostic> diagnostics,
+			XMLValidationSettings validationSettings, CancelChecker monitor) {
+		if (validationSettings == null || !validationSettings.isPartialDiagnosticsEnabled()
+				|| !(diagnostics instanceof DiagnosticsResult)) {
+			return null;
+		}
+		Consumer<List<Diagnostic>> publisher = ((DiagnosticsResult) diagnostics).getPartialPublisher();
+		if (publisher == null) {
+			return null;
+		}
+		return new PartialDiagnosticsPublisher(diagnostics, publisher, validationSettings.getPartialDiagnostics(),
+				monitor);
+	}
+
 	private static boolean isNamespacesValidationEnabled(DOMDocument document,
 			XMLValidationSettings validationSettings, boolean hasRelaxNG) {
 		if (hasRelaxNG) {
@@ -430,4 +494,4 @@ public class XMLValidator {
 			reader.setProperty(IExternalGrammarLocationProvider.RELAXNG, relaxng);
 		}
 	}
-}
\ No newline at end of file
+}
\ No newline at end of file
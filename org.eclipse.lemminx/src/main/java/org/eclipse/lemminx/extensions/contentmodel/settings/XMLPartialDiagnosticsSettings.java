@@ -0,0 +1,121 @@
+/**
+ *  Copyright (c) 2026 Red Hat Inc. and others.
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v2.0
+ *  which accompanies this distribution, and is available at
+ *  http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *  Red Hat Inc. - initial API and implementation
+ */
+package org.eclipse.lemminx.extensions.contentmodel.settings;
+
+/**
+ * XML partial diagnostics settings.
+ * 
+ * <p>
+ * When enabled, the diagnostics collected by the XML validator are published
+ * while the validation is running, to show the first errors of a large XML
+ * document before the end of the validation.
+ * </p>
+ *
+ */
+public class XMLPartialDiagnosticsSettings {
+
+	private static final int DEFAULT_INTERVAL = 200;
+
+	private static final int DEFAULT_MAX_DIAGNOSTICS = 50;
+
+	private boolean enabled;
+
+	private int interval;
+
+	private int maxDiagnostics;
+
+	public XMLPartialDiagnosticsSettings() {
+		setEnabled(false);
+		setInterval(DEFAULT_INTERVAL);
+		setMaxDiagnostics(DEFAULT_MAX_DIAGNOSTICS);
+	}
+
+	/**
+	 * Returns true if the diagnostics must be published while the validation is
+	 * running and false otherwise.
+	 *
+	 * @return true if the diagnostics must be published while the validation is
+	 *         running and false otherwise.
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Returns the minimal interval in milliseconds between two partial
+	 * publications.
+	 *
+	 * @return the minimal interval in milliseconds between two partial
+	 *         publications.
+	 */
+	public int getInterval() {
+		return interval;
+	}
+
+	public void setInterval(int interval) {
+		this.interval = interval;
+	}
+
+	/**
+	 * Returns the number of new diagnostics which publishes the diagnostics
+	 * before the end of the interval.
+	 *
+	 * @return the number of new diagnostics which publishes the diagnostics
+	 *         before the end of the interval.
+	 */
+	public int getMaxDiagnostics() {
+		return maxDiagnostics;
+	}
+
+	public void setMaxDiagnostics(int maxDiagnostics) {
+		this.maxDiagnostics = maxDiagnostics;
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + (enabled ? 1231 : 1237);
+		result = prime * result + interval;
+		result = prime * result + maxDiagnostics;
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (getClass() != obj.getClass()) {
+			return false;
+		}
+		XMLPartialDiagnosticsSettings other = (XMLPartialDiagnosticsSettings) obj;
+		if (enabled != other.enabled) {
+			return false;
+		}
+		if (interval != other.interval) {
+			return false;
+		}
+		if (maxDiagnostics != other.maxDiagnostics) {
+			return false;
+		}
+		return true;
+	}
+}
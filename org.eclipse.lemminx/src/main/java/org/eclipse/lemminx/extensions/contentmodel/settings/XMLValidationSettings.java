@@ -21,6 +21,8 @@ import org.eclipse.lsp4j.PublishDiagnosticsCapabilities;
  */
 public class XMLValidationSettings {
 
+	public static final int DEFAULT_MAX_PROBLEMS = -1;
+
 	private Boolean enabled;
 
 	private XMLNamespacesSettings namespaces;
@@ -33,6 +35,10 @@ public class XMLValidationSettings {
 
 	private XMLXIncludeSettings xInclude;
 
+	private XMLPartialDiagnosticsSettings partialDiagnostics;
+
+	private int maxProblems;
+
 	/**
 	 * This severity preference to mark the root element of XML document which is
 	 * not bound to a XML Schema/DTD.
@@ -51,6 +57,8 @@ public class XMLValidationSettings {
 		setNamespaces(new XMLNamespacesSettings());
 		setSchema(new XMLSchemaSettings());
 		setXInclude(new XMLXIncludeSettings());
+		setPartialDiagnostics(new XMLPartialDiagnosticsSettings());
+		setMaxProblems(DEFAULT_MAX_PROBLEMS);
 	}
 
 	/**
@@ -172,6 +180,57 @@ public class XMLValidationSettings {
 		this.xInclude = xInclude;
 	}
 
+	/**
+	 * Returns the partial diagnostics settings.
+	 *
+	 * @return the partial diagnostics settings.
+	 */
+	public XMLPartialDiagnosticsSettings getPartialDiagnostics() {
+		return partialDiagnostics;
+	}
+
+	/**
+	 * Set the partial diagnostics settings.
+	 *
+	 * @param partialDiagnostics the partial diagnostics settings.
+	 */
+	public void setPartialDiagnostics(XMLPartialDiagnosticsSettings partialDiagnostics) {
+		this.partialDiagnostics = partialDiagnostics;
+	}
+
+	/**
+	 * Returns true if the diagnostics must be published while the validation is
+	 * running and false otherwise.
+	 *
+	 * @return true if the diagnostics must be published while the validation is
+	 *         running and false otherwise.
+	 */
+	public boolean isPartialDiagnosticsEnabled() {
+		return partialDiagnostics != null && partialDiagnostics.isEnabled();
+	}
+
+	/**
+	 * Returns the max number of problems reported by the validation of a document
+	 * (0 or negative for no limit).
+	 *
+	 * @return the max number of problems reported by the validation of a
+	 *         document.
+	 */
+	public int getMaxProblems() {
+		return maxProblems;
+	}
+
+	/**
+	 * Set the max number of problems reported by the validation of a document (0
+	 * or negative for no limit).
+	 *
+	 * @param maxProblems the max number of problems reported by the validation of
+	 *                    a document.
+	 */
+	public void setMaxProblems(int maxProblems) {
+		this.maxProblems = maxProblems;
+	}
+
 	/**
 	 * Returns the <code>noGrammar</code> severity according the given settings and
 	 * {@link DiagnosticSeverity#Hint} otherwise.
@@ -208,6 +267,8 @@ public class XMLValidationSettings {
 			this.disallowDocTypeDecl = settings.disallowDocTypeDecl;
 			this.resolveExternalEntities = settings.resolveExternalEntities;
 			this.xInclude = settings.xInclude;
+			this.partialDiagnostics = settings.partialDiagnostics;
+			this.maxProblems = settings.maxProblems;
 		}
 		return this;
 	}
@@ -232,6 +293,8 @@ public class XMLValidationSettings {
 		result = prime * result + (resolveExternalEntities ? 1231 : 1237);
 		result = prime * result + ((schema == null) ? 0 : schema.hashCode());
 		result = prime * result + ((xInclude == null) ? 0 : xInclude.hashCode());
+		result = prime * result + ((partialDiagnostics == null) ? 0 : partialDiagnostics.hashCode());
+		result = prime * result + maxProblems;
 		return result;
 	}
 
@@ -281,6 +344,16 @@ public class XMLValidationSettings {
 		} else if (!xInclude.equals(other.xInclude)) {
 			return false;
 		}
+		if (partialDiagnostics == null) {
+			if (other.partialDiagnostics != null) {
+				return false;
+			}
+		} else if (!partialDiagnostics.equals(other.partialDiagnostics)) {
+			return false;
+		}
+		if (maxProblems != other.maxProblems) {
+			return false;
+		}
 		if (schema == null) {
 			if (other.schema != null) {
 				return false;
@@ -56,6 +56,11 @@ public class XMLCatalogResolverExtension implements URIResolverExtension {
 
 	}
 
+	@Override
+	public boolean isResolveCacheable(String baseLocation, String publicId, String systemId) {
+		return true;
+	}
+
 	@Override
 	public XMLInputSource resolveEntity(XMLResourceIdentifier resourceIdentifier) throws XNIException, IOException {
 		if (catalogResolver != null) {
@@ -72,6 +72,11 @@ public class XMLFileAssociationResolverExtension implements URIResolverExtension
 		return null;
 	}
 
+	@Override
+	public boolean isResolveCacheable(String baseLocation, String publicId, String systemId) {
+		return true;
+	}
+
 	@Override
 	public Map<String, String> getExternalGrammarLocation(URI fileURI) {
 		if (fileAssociations != null) {
@@ -0,0 +1,135 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.extensions.contentmodel.utils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.lemminx.commons.RequestScheduler;
+import org.eclipse.lemminx.commons.RequestScheduler.Lane;
+import org.eclipse.lemminx.extensions.contentmodel.model.CMAttributeDeclaration;
+import org.eclipse.lemminx.extensions.contentmodel.model.CMElementDeclaration;
+import org.eclipse.lemminx.extensions.xsd.contentmodel.CMXSDAttributeDeclaration;
+import org.eclipse.lemminx.extensions.xsd.contentmodel.CMXSDElementDeclaration;
+import org.eclipse.lemminx.services.extensions.ISharedSettingsRequest;
+import org.eclipse.lemminx.settings.SharedSettings;
+import org.eclipse.lsp4j.MarkupKind;
+
+/**
+ * Compute in background the XML Schema documentation of attribute declarations
+ * which will probably be requested next (ex : the attributes documentation of
+ * the elements proposed by the completion), to fill the documentation caches
+ * of the declarations and the markdown converter.
+ *
+ * <p>
+ * Only the XML Schema declarations cache their documentation, so the other
+ * declarations (DTD, RelaxNG) are ignored. The prefetch is executed in the
+ * background lane of the request scheduler and it keeps only the declarations
+ * and a copy of the documentation settings, not the request.
+ * </p>
+ *
+ */
+public class DocumentationPrefetcher {
+
+	private static final Logger LOGGER = Logger.getLogger(DocumentationPrefetcher.class.getName());
+
+	private static final int MAX_ELEMENTS = 20;
+
+	private static final Comparator<CMElementDeclaration> ELEMENT_ORDER = Comparator
+			.comparing(CMElementDeclaration::getLocalName, Comparator.nullsFirst(Comparator.naturalOrder()))
+			.thenComparing(CMElementDeclaration::getNamespace, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+	/**
+	 * Documentation settings of a request.
+	 */
+	private static class DocumentationSettings implements ISharedSettingsRequest {
+
+		private final SharedSettings sharedSettings;
+
+		private final boolean markdownSupported;
+
+		DocumentationSettings(ISharedSettingsRequest request) {
+			this.sharedSettings = new SharedSettings();
+			this.sharedSettings.getPreferences().setShowSchemaDocumentationType(
+					request.getSharedSettings().getPreferences().getShowSchemaDocumentationType());
+			this.markdownSupported = request.canSupportMarkupKind(MarkupKind.MARKDOWN);
+		}
+
+		@Override
+		public boolean canSupportMarkupKind(String kind) {
+			return MarkupKind.MARKDOWN.equals(kind) ? markdownSupported : true;
+		}
+
+		@Override
+		public SharedSettings getSharedSettings() {
+			return sharedSettings;
+		}
+	}
+
+	private DocumentationPrefetcher() {
+	}
+
+	/**
+	 * Compute in background the attributes documentation of the given element
+	 * declarations which is not cached.
+	 *
+	 * @param elements         the element declarations.
+	 * @param request          the request which gives the documentation settings.
+	 * @param requestScheduler the request scheduler and null otherwise.
+	 */
+	public static void prefetchAttributesDocumentation(Collection<CMElementDeclaration> elements,
+			ISharedSettingsRequest request, RequestScheduler requestScheduler) {
+		if (requestScheduler == null || elements == null || elements.isEmpty()) {
+			return;
+		}
+		// The possible elements are not ordered, sort them to prefetch the same
+		// elements for the same completion.
+		List<CMElementDeclaration> candidates = new ArrayList<>();
+		for (CMElementDeclaration element : elements) {
+			if (element instanceof CMXSDElementDeclaration) {
+				candidates.add(element);
+			}
+		}
+		if (candidates.isEmpty()) {
+			return;
+		}
+		candidates.sort(ELEMENT_ORDER);
+
+		DocumentationSettings settings = new DocumentationSettings(request);
+		List<CMXSDAttributeDeclaration> toPrefetch = new ArrayList<>();
+		for (int i = 0; i < candidates.size() && i < MAX_ELEMENTS; i++) {
+			for (CMAttributeDeclaration attribute : candidates.get(i).getAttributes()) {
+				if (attribute instanceof CMXSDAttributeDeclaration
+						&& !((CMXSDAttributeDeclaration) attribute).isAttributeNameDocumentationCached(settings)) {
+					toPrefetch.add((CMXSDAttributeDeclaration) attribute);
+				}
+			}
+		}
+		if (toPrefetch.isEmpty()) {
+			// The documentation is already cached
+			return;
+		}
+		requestScheduler.runAsync(Lane.BACKGROUND, null, null, () -> {
+			try {
+				for (CMXSDAttributeDeclaration attribute : toPrefetch) {
+					attribute.getAttributeNameDocumentation(settings);
+				}
+			} catch (Exception e) {
+				LOGGER.log(Level.FINE, "Error while prefetching documentation", e);
+			}
+		});
+	}
+}
@@ -28,6 +28,7 @@ import org.eclipse.lemminx.extensions.contentmodel.model.CMElementDeclaration;
 import org.eclipse.lemminx.extensions.contentmodel.model.ContentModelManager;
 import org.eclipse.lemminx.services.extensions.ISharedSettingsRequest;
 import org.eclipse.lemminx.settings.SharedSettings;
+import org.eclipse.lemminx.settings.XMLFormattingOptions;
 import org.eclipse.lemminx.utils.MarkupContentFactory;
 import org.eclipse.lemminx.utils.StringUtils;
 import org.eclipse.lemminx.utils.XMLBuilder;
@@ -47,6 +48,7 @@ public class XMLGenerator {
 	private final boolean autoCloseTags;
 	private int maxLevel;
 	private final DOMNode node;
+	private String templateKey;
 
 	/**
 	 * XML generator constructor.
@@ -112,6 +114,64 @@ public class XMLGenerator {
 		return whitespacesIndent;
 	}
 
+	/**
+	 * Returns a key of the settings used by this generator to generate the XML of
+	 * an element declaration without its children, and null if the generated XML
+	 * includes children elements.
+	 * 
+	 * <p>
+	 * Two generators with the same key generate the same XML for an element
+	 * declaration which is not dependent on the DOM node (see
+	 * {@link #isDependentOnDOMNode(CMElementDeclaration)}), so the generated XML
+	 * can be cached with this key.
+	 * </p>
+	 * 
+	 * @return a key of the settings used by this generator and null if the
+	 *         generated XML includes children elements.
+	 */
+	public String getTemplateKey() {
+		if (maxLevel > 0) {
+			return null;
+		}
+		if (templateKey == null) {
+			XMLFormattingOptions formattingSettings = sharedSettings.getFormattingSettings();
+			templateKey = new StringBuilder() //
+					.append(whitespacesIndent).append('|') //
+					.append(lineDelimiter).append('|') //
+					.append(canSupportSnippets).append('|') //
+					.append(autoCloseTags).append('|') //
+					.append(sharedSettings.getPreferences().getQuotationAsString()).append('|') //
+					.append(formattingSettings.isInsertSpaces()).append('|') //
+					.append(formattingSettings.getTabSize()).append('|') //
+					.append(formattingSettings.getSplitAttributes()).append('|') //
+					.append(formattingSettings.getSplitAttributesIndentSize()).append('|') //
+					.append(formattingSettings.isSpaceBeforeEmptyCloseTag()).append('|') //
+					.append(formattingSettings.getEnforceQuoteStyle()).append('|') //
+					.append(formattingSettings.isPreserveEmptyContent()).append('|') //
+					.append(formattingSettings.isTrimTrailingWhitespace()) //
+					.toString();
+		}
+		return templateKey;
+	}
+
+	/**
+	 * Returns true if the XML generated for the given element declaration depends
+	 * on the DOM node (prefix of a namespace declared in the DOM document) and
+	 * false otherwise.
+	 * 
+	 * @param elementDeclaration the element declaration.
+	 * @return true if the XML generated for the given element declaration depends
+	 *         on the DOM node and false otherwise.
+	 */
+	public static boolean isDependentOnDOMNode(CMElementDeclaration elementDeclaration) {
+		for (CMAttributeDeclaration attribute : elementDeclaration.getAttributes()) {
+			if (attribute.isRequired() && !StringUtils.isEmpty(attribute.getNamespace())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * Returns the XML generated from the given element declaration.
 	 * 
@@ -42,6 +42,7 @@ import org.eclipse.lemminx.dom.DTDEntityDecl;
 import org.eclipse.lemminx.extensions.contentmodel.model.CMAttributeDeclaration;
 import org.eclipse.lemminx.extensions.contentmodel.model.CMDocument;
 import org.eclipse.lemminx.extensions.contentmodel.model.CMElementDeclaration;
+import org.eclipse.lemminx.extensions.contentmodel.model.CMNameIndex;
 import org.eclipse.lemminx.extensions.contentmodel.model.FilesChangedTracker;
 import org.eclipse.lemminx.extensions.dtd.participants.diagnostics.LSPXML11DTDProcessor;
 import org.eclipse.lemminx.extensions.dtd.utils.DTDUtils;
@@ -231,6 +232,7 @@ public class CMDTDDocument extends LSPXML11DTDProcessor implements CMDocument {
 
 	private Map<String, DTDElementInfo> hierarchiesMap;
 	private List<CMElementDeclaration> elements;
+	private CMNameIndex<CMElementDeclaration> elementsIndex;
 	private DTDGrammar grammar;
 	private Set<String> hierarchies;
 	private FilesChangedTracker tracker;
@@ -280,37 +282,11 @@ public class CMDTDDocument extends LSPXML11DTDProcessor implements CMDocument {
 	}
 
 	@Override
-	public CMElementDeclaration findCMElement(DOMElement element, String namespace) {
-		List<DOMElement> paths = new ArrayList<>();
-		while (element != null && (namespace == null || namespace.equals(element.getNamespaceURI()))) {
-			paths.add(0, element);
-			element = element.getParentNode() instanceof DOMElement ? (DOMElement) element.getParentNode() : null;
+	public CMElementDeclaration findElementDeclaration(String localName, String namespace) {
+		if (elementsIndex == null) {
+			elementsIndex = CMNameIndex.ofElements(getElements());
 		}
-		CMElementDeclaration declaration = null;
-		for (int i = 0; i < paths.size(); i++) {
-			DOMElement elt = paths.get(i);
-			if (i == 0) {
-				declaration = findElementDeclaration(elt.getLocalName(), namespace);
-			} else {
-				declaration = declaration != null ? declaration.findCMElement(elt.getLocalName(), namespace) : null;
-			}
-			if (declaration == null) {
-				break;
-			}
-		}
-		return declaration;
-	}
-
-	private CMElementDeclaration findElementDeclaration(String tag, String namespace) {
-		if (tag == null) {
-			return null;
-		}
-		for (CMElementDeclaration cmElement : getElements()) {
-			if (tag.equals(cmElement.getLocalName())) {
-				return cmElement;
-			}
-		}
-		return null;
+		return elementsIndex.find(localName, namespace);
 	}
 
 	@Override
@@ -24,6 +24,7 @@ import org.apache.xerces.impl.dtd.XMLElementDecl;
 import org.eclipse.lemminx.dom.DOMElement;
 import org.eclipse.lemminx.extensions.contentmodel.model.CMAttributeDeclaration;
 import org.eclipse.lemminx.extensions.contentmodel.model.CMElementDeclaration;
+import org.eclipse.lemminx.extensions.contentmodel.model.CMNameIndex;
 import org.eclipse.lemminx.extensions.dtd.contentmodel.CMDTDDocument.DTDElementInfo;
 import org.eclipse.lemminx.extensions.dtd.contentmodel.CMDTDDocument.DTDNodeInfo;
 import org.eclipse.lemminx.services.extensions.ISharedSettingsRequest;
@@ -38,6 +39,8 @@ public class CMDTDElementDeclaration extends XMLElementDecl implements CMElement
 	private final CMDTDDocument document;
 	private List<CMElementDeclaration> elements;
 	private List<CMAttributeDeclaration> attributes;
+	private CMNameIndex<CMElementDeclaration> elementsIndex;
+	private CMNameIndex<CMAttributeDeclaration> attributesIndex;
 	private String documentation;
 
 	public CMDTDElementDeclaration(CMDTDDocument document, int index) {
@@ -86,22 +89,18 @@ public class CMDTDElementDeclaration extends XMLElementDecl implements CMElement
 
 	@Override
 	public CMElementDeclaration findCMElement(String tag, String namespace) {
-		for (CMElementDeclaration cmElement : getElements()) {
-			if (cmElement.getLocalName().equals(tag)) {
-				return cmElement;
-			}
+		if (elementsIndex == null) {
+			elementsIndex = CMNameIndex.ofElements(getElements());
 		}
-		return null;
+		return elementsIndex.find(tag, namespace);
 	}
 
 	@Override
 	public CMAttributeDeclaration findCMAttribute(String attributeName, String namespace) {
-		for (CMAttributeDeclaration cmAttribute : getAttributes()) {
-			if (cmAttribute.getLocalName().equals(attributeName)) {
-				return cmAttribute;
-			}
+		if (attributesIndex == null) {
+			attributesIndex = CMNameIndex.ofAttributes(getAttributes());
 		}
-		return null;
+		return attributesIndex.find(attributeName, namespace);
 	}
 
 	@Override
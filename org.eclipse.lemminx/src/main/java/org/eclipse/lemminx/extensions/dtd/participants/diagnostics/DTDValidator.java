@@ -24,6 +24,7 @@ import java.util.logging.Logger;
 import org.apache.xerces.impl.dtd.XMLDTDLoader;
 import org.apache.xerces.xni.parser.XMLEntityResolver;
 import org.apache.xerces.xni.parser.XMLInputSource;
+import org.apache.xerces.xni.parser.XMLParseException;
 import org.eclipse.lemminx.dom.DOMDocument;
 import org.eclipse.lemminx.extensions.contentmodel.model.ContentModelManager;
 import org.eclipse.lemminx.extensions.contentmodel.participants.diagnostics.LSPErrorReporterForXML;
@@ -47,6 +48,9 @@ public class DTDValidator {
 			ContentModelManager contentModelManager, CancelChecker monitor) {
 		LSPErrorReporterForXML reporterForXML = new LSPErrorReporterForXML(document, diagnostics, contentModelManager,
 				false, new HashMap<>());
+		if (validationSettings != null) {
+			reporterForXML.setMaxProblems(validationSettings.getMaxProblems());
+		}
 		try {
 			LSPXMLEntityManager entityManager = createXMLEntityManager(reporterForXML, entityResolver,
 					validationSettings);
@@ -58,7 +62,7 @@ public class DTDValidator {
 			Reader inputStream = new StringReader(content);
 			XMLInputSource source = new XMLInputSource(null, uri, uri, inputStream, null);
 			loader.loadGrammar(source);
-		} catch (IOException | CancellationException exception) {
+		} catch (IOException | CancellationException | XMLParseException exception) {
 			// ignore error
 		} catch (CacheResourceException e) {
 			throw e;
@@ -45,6 +45,11 @@ public class XMLReferencesDiagnosticParticipant implements IDiagnosticsParticipa
 		this.plugin = plugin;
 	}
 
+	@Override
+	public boolean isConcurrent() {
+		return true;
+	}
+
 	@Override
 	public void doDiagnostics(DOMDocument document, List<Diagnostic> diagnostics,
 			XMLValidationSettings validationSettings, CancelChecker cancelChecker) {
@@ -11,12 +11,11 @@
 *******************************************************************************/
 package org.eclipse.lemminx.extensions.references.search;
 
-import static org.eclipse.lemminx.extensions.references.search.SearchQueryFactory.getInversedDirection;
-
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -26,13 +25,17 @@ import org.eclipse.lemminx.dom.DOMDocument;
 import org.eclipse.lemminx.dom.DOMElement;
 import org.eclipse.lemminx.dom.DOMNode;
 import org.eclipse.lemminx.dom.DOMText;
+import org.eclipse.lemminx.extensions.references.search.SearchIndex.IndexedDocument;
+import org.eclipse.lemminx.extensions.references.search.SearchIndex.IndexedExpression;
+import org.eclipse.lemminx.extensions.references.search.SearchIndex.IndexedSearchNode;
 import org.eclipse.lemminx.extensions.references.search.SearchNode.Direction;
+import org.eclipse.lemminx.extensions.references.search.SearchQuery.DirectedExpression;
 import org.eclipse.lemminx.extensions.references.search.SearchQuery.QueryDirection;
 import org.eclipse.lemminx.extensions.references.settings.XMLReferenceExpression;
 import org.eclipse.lemminx.extensions.references.settings.XMLReferencesSettings;
 import org.eclipse.lemminx.uriresolver.URIResolverExtensionManager;
-import org.eclipse.lemminx.utils.DOMUtils;
 import org.eclipse.lemminx.utils.URIUtils;
+import org.eclipse.lemminx.xpath.matcher.XPathAncestorStack;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 import org.w3c.dom.Element;
 import org.w3c.dom.NamedNodeMap;
@@ -54,7 +57,22 @@ public class SearchEngine {
 
 	private static final String INCLUDE_TAG = "include";
 
-	private static final String HREF_ATTR = "href";
+	static final String HREF_ATTR = "href";
+
+	private final SearchIndex index;
+
+	public SearchEngine() {
+		this.index = new SearchIndex();
+	}
+
+	/**
+	 * Returns the index of the included files.
+	 * 
+	 * @return the index of the included files.
+	 */
+	public SearchIndex getIndex() {
+		return index;
+	}
 
 	/**
 	 * Perform the XML references search by using the given search query.
@@ -67,6 +85,13 @@ public class SearchEngine {
 	public final void search(SearchQuery query, IXMLReferenceCollector collector, CancelChecker cancelChecker) {
 		DOMDocument document = query.getNode().getOwnerDocument();
 		Set<String> visitedURIs = query.isSearchInIncludedFiles() ? new HashSet<>() : null;
+		IndexedDocument indexedDocument = index.getDocument(document);
+		if (indexedDocument != null) {
+			// The query has been created from a search node of an indexed file (ex : rename
+			// of a 'to' node declared in an included file)
+			searchInIndexedDocument(indexedDocument, query, collector, visitedURIs, cancelChecker);
+			return;
+		}
 		searchInDocument(document, query, collector, visitedURIs, cancelChecker);
 	}
 
@@ -112,30 +137,76 @@ public class SearchEngine {
 			Set<String> visitedURIs, CancelChecker cancelChecker) {
 
 		// Perform the search by using the DOM document
-		Set<String> externalURIsForDocument = query.isSearchInIncludedFiles() ? new HashSet<>() : null;
-		searchInNode(document, query, collector, externalURIsForDocument, cancelChecker);
+		Set<String> externalURIsForDocument = query.isSearchInIncludedFiles() ? new LinkedHashSet<>() : null;
+		searchInNode(document, query, collector, externalURIsForDocument, new XPathAncestorStack(), cancelChecker);
+		searchInIncludedFiles(document, externalURIsForDocument, query, collector, visitedURIs, cancelChecker);
+	}
 
-		if (externalURIsForDocument != null && !externalURIsForDocument.isEmpty()) {
+	/**
+	 * Perform the search in the given included files.
+	 * 
+	 * @param document      the DOM document which includes the files.
+	 * @param externalURIs  the included files (xi:include/@href).
+	 * @param query         the search query.
+	 * @param collector     the collector used to collect attribute, text nodes.
+	 * @param visitedURIs   visited URis used to avoid document loading recursion
+	 *                      when document contains some xi:include.
+	 * @param cancelChecker the cancel checker.
+	 */
+	private void searchInIncludedFiles(DOMDocument document, Collection<String> externalURIs, SearchQuery query,
+			IXMLReferenceCollector collector, Set<String> visitedURIs, CancelChecker cancelChecker) {
+		if (externalURIs != null && !externalURIs.isEmpty()) {
 			// The search for the document has collected some external document, URIs,
 			// perform the search for each of them.
 			URIResolverExtensionManager resolverExtensionManager = document.getResolverExtensionManager();
-			for (String externalURI : externalURIsForDocument) {
+			for (String externalURI : externalURIs) {
 				String baseURI = document.getDocumentURI();
 				String resourceURI = resolverExtensionManager.resolve(baseURI, null, externalURI);
 				if (URIUtils.isFileResource(resourceURI) && canPerformSearch(resourceURI, visitedURIs)) {
 					// The search was never done for the exterlam document, perform the search by
-					// using this external document.
+					// using the index of this external document.
 					if (visitedURIs != null) {
 						visitedURIs.add(baseURI);
 					}
-					DOMDocument externalDocument = DOMUtils.loadDocument(resourceURI,
-							document.getResolverExtensionManager());
+					IndexedDocument externalDocument = index.getDocument(resourceURI, query.getExpressions(),
+							resolverExtensionManager);
 					if (externalDocument != null) {
-						searchInDocument(externalDocument, query, collector, visitedURIs, cancelChecker);
+						searchInIndexedDocument(externalDocument, query, collector, visitedURIs, cancelChecker);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Perform the search in the given indexed file.
+	 * 
+	 * @param indexedDocument the indexed file.
+	 * @param query           the search query.
+	 * @param collector       the collector used to collect attribute, text nodes.
+	 * @param visitedURIs     visited URis used to avoid document loading recursion
+	 *                        when document contains some xi:include.
+	 * @param cancelChecker   the cancel checker.
+	 */
+	void searchInIndexedDocument(IndexedDocument indexedDocument, SearchQuery query,
+			IXMLReferenceCollector collector, Set<String> visitedURIs, CancelChecker cancelChecker) {
+		if (query.isSearchInAttribute() || query.isSearchInText()) {
+			SearchNode requestedNode = query.isMatchNode() ? query.getSearchNode() : null;
+			for (IndexedExpression indexedExpression : indexedDocument.getExpressions(query.getExpressions())) {
+				XMLReferenceExpression expression = indexedExpression.getExpression();
+				for (IndexedSearchNode searchNode : indexedExpression.getNodes(requestedNode,
+						query.getQueryDirection())) {
+					if (cancelChecker != null) {
+						cancelChecker.checkCanceled();
+					}
+					if (searchNode.isAttribute() ? query.isSearchInAttribute() : query.isSearchInText()) {
+						collect(query, searchNode, expression, collector);
 					}
 				}
 			}
 		}
+		searchInIncludedFiles(indexedDocument.getDocument(), indexedDocument.getIncludes(), query, collector,
+				visitedURIs, cancelChecker);
 	}
 
 	/**
@@ -159,10 +230,11 @@ public class SearchEngine {
 	 * @param query         the search query.
 	 * @param collector     the collector used to collect attribute, text nodes.
 	 * @param externalURIs  the collected external URIs (xi:include/@href)
+	 * @param ancestors     the ancestor elements of the DOM node.
 	 * @param cancelChecker the cancel checker.
 	 */
 	private void searchInNode(DOMNode node, SearchQuery query, IXMLReferenceCollector collector,
-			Set<String> externalURIs, CancelChecker cancelChecker) {
+			Set<String> externalURIs, XPathAncestorStack ancestors, CancelChecker cancelChecker) {
 		// Stop the search if required
 		if (cancelChecker != null) {
 			cancelChecker.checkCanceled();
@@ -171,7 +243,8 @@ public class SearchEngine {
 		if (node.isElement()) {
 			// Search in the attributes of the element
 			DOMElement element = (DOMElement) node;
-			searchInAttributes(element, query, collector, cancelChecker);
+			ancestors.push(element);
+			searchInAttributes(element, query, collector, ancestors, cancelChecker);
 			if (externalURIs != null) {
 				if (isInclude(element)) {
 					// collect xi:include
@@ -184,14 +257,17 @@ public class SearchEngine {
 
 		} else if (node.isText()) {
 			// Search in the text
-			searchInText((DOMText) node, query, collector, cancelChecker);
+			searchInText((DOMText) node, query, collector, ancestors, cancelChecker);
 		}
 		if (node.hasChildNodes()) {
 			// Search in the children
 			for (DOMNode child : node.getChildren()) {
-				searchInNode(child, query, collector, externalURIs, cancelChecker);
+				searchInNode(child, query, collector, externalURIs, ancestors, cancelChecker);
 			}
 		}
+		if (node.isElement()) {
+			ancestors.pop();
+		}
 	}
 
 	/**
@@ -200,15 +276,16 @@ public class SearchEngine {
 	 * @param text          the DOM text node.
 	 * @param query         the search query.
 	 * @param collector     the collector used to collect attribute, text nodes.
+	 * @param ancestors     the ancestor elements of the DOM text node.
 	 * @param cancelChecker the cancel checker.
 	 */
 	private void searchInText(DOMText text, SearchQuery query, IXMLReferenceCollector collector,
-			CancelChecker cancelChecker) {
+			XPathAncestorStack ancestors, CancelChecker cancelChecker) {
 		if (query.isSearchInText()) {
 			if (cancelChecker != null) {
 				cancelChecker.checkCanceled();
 			}
-			collectNodes(text, query, collector);
+			collectNodes(text, query, collector, ancestors);
 		}
 	}
 
@@ -218,10 +295,11 @@ public class SearchEngine {
 	 * @param element       the DOM element node.
 	 * @param query         the search query.
 	 * @param collector     the collector used to collect attribute, text nodes.
+	 * @param ancestors     the DOM element node and its ancestors.
 	 * @param cancelChecker the cancel checker.
 	 */
 	private void searchInAttributes(DOMElement element, SearchQuery query, IXMLReferenceCollector collector,
-			CancelChecker cancelChecker) {
+			XPathAncestorStack ancestors, CancelChecker cancelChecker) {
 		if (query.isSearchInAttribute()) {
 			// Search to reference in attribute nodes
 			if (element.hasAttributes()) {
@@ -232,27 +310,36 @@ public class SearchEngine {
 						if (cancelChecker != null) {
 							cancelChecker.checkCanceled();
 						}
-						collectNodes(toAttr, query, collector);
+						collectNodes(toAttr, query, collector, ancestors);
 					}
 				}
 			}
 		}
 	}
 
-	private void collectNodes(DOMNode node, SearchQuery query, IXMLReferenceCollector collector) {
-		QueryDirection queryDirection = query.getQueryDirection();
-		// Loop for reference expressions of the query
-		for (XMLReferenceExpression expression : query.getExpressions()) {
-			Direction nodeDirection = getInversedDirection(node, expression, queryDirection);
-			if (nodeDirection != null) {
-				// The DOM node matches the XPath (from / to) declared in the reference
-				// expression
-				// get the search nodes for this attribute / text node
-				List<SearchNode> searchNodes = findSearchNodes(node, expression, nodeDirection);
-				for (SearchNode searchNode : searchNodes) {
-					// Collect the current search node
-					collect(query, searchNode, expression, collector);
-				}
+	private void collectNodes(DOMNode node, SearchQuery query, IXMLReferenceCollector collector,
+			XPathAncestorStack ancestors) {
+		// Match the XPath (from / to) of all reference expressions of the query at once
+		DirectedExpression previous = null;
+		for (DirectedExpression matched : query.getMatchers().match(node, ancestors)) {
+			XMLReferenceExpression expression = matched.getExpression();
+			if (previous != null && previous.getExpression() == expression
+					&& previous.getDirection() == Direction.FROM) {
+				// The DOM node matches both 'from' and 'to' XPath, the 'from' direction wins.
+				continue;
+			}
+			previous = matched;
+			if (matched.getDirection() == Direction.FROM && query.getQueryDirection() == QueryDirection.FROM_2_TO) {
+				// The 'from' XPath is only matched to exclude the node from the 'to' nodes
+				continue;
+			}
+			// The DOM node matches the XPath (from / to) declared in the reference
+			// expression
+			// get the search nodes for this attribute / text node
+			List<SearchNode> searchNodes = findSearchNodes(node, expression, matched.getDirection());
+			for (SearchNode searchNode : searchNodes) {
+				// Collect the current search node
+				collect(query, searchNode, expression, collector);
 			}
 		}
 	}
@@ -300,7 +387,7 @@ public class SearchEngine {
 	 * @return true if the given element is an include element (ex : xi:include) and
 	 *         false otherwise.
 	 */
-	private static boolean isInclude(Element element) {
+	static boolean isInclude(Element element) {
 		return element != null && INCLUDE_TAG.equals(element.getLocalName());
 	}
 }
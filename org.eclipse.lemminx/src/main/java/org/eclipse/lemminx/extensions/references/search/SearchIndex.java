@@ -0,0 +1,419 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.extensions.references.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.eclipse.lemminx.dom.DOMAttr;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMElement;
+import org.eclipse.lemminx.dom.DOMNode;
+import org.eclipse.lemminx.dom.DOMParser;
+import org.eclipse.lemminx.extensions.contentmodel.model.FilesChangedTracker;
+import org.eclipse.lemminx.extensions.references.search.SearchNode.Direction;
+import org.eclipse.lemminx.extensions.references.search.SearchNode.ValidationStatus;
+import org.eclipse.lemminx.extensions.references.settings.XMLReferenceExpression;
+import org.eclipse.lemminx.uriresolver.URIResolverExtensionManager;
+import org.eclipse.lemminx.utils.DOMUtils;
+import org.w3c.dom.NamedNodeMap;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * XML references index of the files included (ex : xi:include) by the
+ * searched DOM documents.
+ *
+ * <p>
+ * An included file is loaded and parsed once, and for each
+ * {@link XMLReferenceExpression} the 'from' and 'to' search nodes of the file
+ * are collected once and indexed by value. The DOM document of the file is not
+ * kept: the index stores the text of the file, its included files and the
+ * search nodes (range, direction and prefix). The text is parsed again only
+ * when a new expression must be indexed. The indexed file is loaded again only
+ * when it changes on the file system.
+ * </p>
+ *
+ */
+public class SearchIndex {
+
+	private static final int MAX_DOCUMENTS = 5000;
+
+	/**
+	 * Indexed file.
+	 */
+	static class IndexedDocument {
+
+		private final DOMDocument document;
+
+		private final FilesChangedTracker tracker;
+
+		private final List<String> includes;
+
+		private final Map<XMLReferenceExpression, IndexedExpression> expressions;
+
+		IndexedDocument(DOMDocument parsedDocument, FilesChangedTracker tracker) {
+			// The document of the indexed file only hosts the text and the URI of the file,
+			// the nodes of the parsed document are not kept.
+			this.document = new DOMDocument(parsedDocument.getTextDocument(),
+					parsedDocument.getResolverExtensionManager());
+			this.tracker = tracker;
+			this.includes = new ArrayList<>();
+			collectIncludes(parsedDocument, includes);
+			// The expressions are weakly referenced to release the index of an expression
+			// when the XML references settings are updated.
+			this.expressions = new WeakHashMap<>();
+		}
+
+		/**
+		 * Returns the document of the indexed file which hosts the text and the URI of
+		 * the file, without DOM nodes.
+		 *
+		 * @return the document of the indexed file which hosts the text and the URI of
+		 *         the file, without DOM nodes.
+		 */
+		DOMDocument getDocument() {
+			return document;
+		}
+
+		/**
+		 * Returns the included files (ex : xi:include/@href) of the indexed file.
+		 *
+		 * @return the included files (ex : xi:include/@href) of the indexed file.
+		 */
+		List<String> getIncludes() {
+			return includes;
+		}
+
+		/**
+		 * Returns the index of the search nodes of the file which match the given
+		 * expressions.
+		 *
+		 * @param expressions the XML references expressions.
+		 *
+		 * @return the index of the search nodes of the file which match the given
+		 *         expressions.
+		 */
+		List<IndexedExpression> getExpressions(List<XMLReferenceExpression> expressions) {
+			return getExpressions(expressions, null);
+		}
+
+		/**
+		 * Returns the index of the search nodes of the file which match the given
+		 * expressions.
+		 *
+		 * @param expressions    the XML references expressions.
+		 * @param parsedDocument the parsed DOM document of the file and null if the
+		 *                       text of the file must be parsed to index a new
+		 *                       expression.
+		 *
+		 * @return the index of the search nodes of the file which match the given
+		 *         expressions.
+		 */
+		List<IndexedExpression> getExpressions(List<XMLReferenceExpression> expressions,
+				DOMDocument parsedDocument) {
+			List<IndexedExpression> indexedExpressions = new ArrayList<>(expressions.size());
+			synchronized (this.expressions) {
+				for (XMLReferenceExpression expression : expressions) {
+					IndexedExpression indexedExpression = this.expressions.get(expression);
+					if (indexedExpression == null) {
+						if (parsedDocument == null) {
+							parsedDocument = DOMParser.getInstance().parse(document.getTextDocument(),
+									document.getResolverExtensionManager());
+						}
+						indexedExpression = new IndexedExpression(parsedDocument, document, expression);
+						this.expressions.put(expression, indexedExpression);
+					}
+					indexedExpressions.add(indexedExpression);
+				}
+			}
+			return indexedExpressions;
+		}
+
+		boolean isDirty() {
+			return tracker.isDirty();
+		}
+	}
+
+	/**
+	 * Search node of an indexed file. The search node is not linked to the DOM
+	 * node: {@link #getNode()} returns the document of the indexed file.
+	 */
+	static class IndexedSearchNode extends SearchNode {
+
+		private final boolean attribute;
+
+		IndexedSearchNode(SearchNode searchNode, DOMDocument document) {
+			super(searchNode.getStart(), searchNode.getEnd(), document, searchNode.getPrefix(),
+					searchNode.getDirection());
+			this.attribute = searchNode.getNode().isAttribute();
+		}
+
+		/**
+		 * Returns true if the search node has been collected from an attribute and
+		 * false if it has been collected from a text node.
+		 *
+		 * @return true if the search node has been collected from an attribute and
+		 *         false if it has been collected from a text node.
+		 */
+		boolean isAttribute() {
+			return attribute;
+		}
+	}
+
+	/**
+	 * The 'from' and 'to' search nodes of a file which match a given
+	 * {@link XMLReferenceExpression}.
+	 */
+	static class IndexedExpression {
+
+		private final XMLReferenceExpression expression;
+
+		private final List<IndexedSearchNode> fromNodes;
+
+		private final List<IndexedSearchNode> toNodes;
+
+		private final List<IndexedSearchNode> nodes;
+
+		private final Map<String, List<IndexedSearchNode>> fromNodesByValue;
+
+		private final Map<String, List<IndexedSearchNode>> toNodesByValue;
+
+		IndexedExpression(DOMDocument parsedDocument, DOMDocument document, XMLReferenceExpression expression) {
+			this.expression = expression;
+			this.fromNodes = new ArrayList<>();
+			this.toNodes = new ArrayList<>();
+			this.nodes = new ArrayList<>();
+			this.fromNodesByValue = new HashMap<>();
+			this.toNodesByValue = new HashMap<>();
+			collectNodes(parsedDocument, document);
+		}
+
+		/**
+		 * Returns the XML references expression.
+		 *
+		 * @return the XML references expression.
+		 */
+		XMLReferenceExpression getExpression() {
+			return expression;
+		}
+
+		/**
+		 * Returns the search nodes of the file in the document order which must be
+		 * collected for the given query direction.
+		 *
+		 * @param queryDirection the query direction.
+		 *
+		 * @return the search nodes of the file in the document order which must be
+		 *         collected for the given query direction.
+		 */
+		List<IndexedSearchNode> getNodes(SearchQuery.QueryDirection queryDirection) {
+			switch (queryDirection) {
+				case FROM_2_TO:
+					return toNodes;
+				case TO_2_FROM:
+					return fromNodes;
+				default:
+					return nodes;
+			}
+		}
+
+		/**
+		 * Returns the search nodes of the file which could match the value of the
+		 * given requested search node for the given query direction.
+		 *
+		 * @param requestedNode  the requested search node.
+		 * @param queryDirection the query direction.
+		 *
+		 * @return the search nodes of the file which could match the value of the
+		 *         given requested search node for the given query direction.
+		 */
+		List<IndexedSearchNode> getNodes(SearchNode requestedNode, SearchQuery.QueryDirection queryDirection) {
+			if (requestedNode != null) {
+				if (queryDirection == SearchQuery.QueryDirection.FROM_2_TO
+						&& requestedNode.getDirection() == Direction.FROM) {
+					// 'xref/@linkend' -> '@id' : the prefix of the 'from' node is ignored
+					String value = getValueWithoutPrefix(requestedNode);
+					return value != null ? getNodes(toNodesByValue, value) : Collections.emptyList();
+				}
+				if (queryDirection == SearchQuery.QueryDirection.TO_2_FROM
+						&& requestedNode.getDirection() == Direction.TO) {
+					// '@id' -> 'xref/@linkend' : the prefix of the 'from' nodes is ignored
+					return getNodes(fromNodesByValue, requestedNode.getValue(null));
+				}
+			}
+			return getNodes(queryDirection);
+		}
+
+		private void collectNodes(DOMNode node, DOMDocument document) {
+			if (node.isElement()) {
+				DOMElement element = (DOMElement) node;
+				if (element.hasAttributes()) {
+					NamedNodeMap attributes = element.getAttributes();
+					for (int i = 0; i < attributes.getLength(); i++) {
+						collectNode((DOMAttr) attributes.item(i), document);
+					}
+				}
+			} else if (node.isText()) {
+				collectNode(node, document);
+			}
+			if (node.hasChildNodes()) {
+				for (DOMNode child : node.getChildren()) {
+					collectNodes(child, document);
+				}
+			}
+		}
+
+		private void collectNode(DOMNode node, DOMDocument document) {
+			boolean matchFrom = expression.matchFrom(node);
+			if (matchFrom) {
+				List<SearchNode> searchNodes = SearchNodeFactory.findSearchNodes(node, expression.getPrefix(),
+						expression.isMultiple(), Direction.FROM);
+				for (SearchNode searchNode : searchNodes) {
+					IndexedSearchNode indexedNode = new IndexedSearchNode(searchNode, document);
+					fromNodes.add(indexedNode);
+					nodes.add(indexedNode);
+					String value = getValueWithoutPrefix(indexedNode);
+					if (value != null) {
+						addNode(fromNodesByValue, value, indexedNode);
+					}
+				}
+			}
+			if (!matchFrom && expression.matchTo(node)) {
+				// The 'from' direction wins when the node matches both 'from' and 'to' XPath
+				List<SearchNode> searchNodes = SearchNodeFactory.findSearchNodes(node, null, false, Direction.TO);
+				for (SearchNode searchNode : searchNodes) {
+					IndexedSearchNode indexedNode = new IndexedSearchNode(searchNode, document);
+					toNodes.add(indexedNode);
+					nodes.add(indexedNode);
+					addNode(toNodesByValue, indexedNode.getValue(null), indexedNode);
+				}
+			}
+		}
+
+		private static String getValueWithoutPrefix(SearchNode searchNode) {
+			if (searchNode.getValidationStatus() == ValidationStatus.INVALID_PREFIX) {
+				return null;
+			}
+			String value = searchNode.getValue(null);
+			String prefix = searchNode.getPrefix();
+			return prefix != null ? value.substring(prefix.length()) : value;
+		}
+
+		private static void addNode(Map<String, List<IndexedSearchNode>> nodesByValue, String value,
+				IndexedSearchNode searchNode) {
+			List<IndexedSearchNode> nodes = nodesByValue.get(value);
+			if (nodes == null) {
+				nodes = new ArrayList<>();
+				nodesByValue.put(value, nodes);
+			}
+			nodes.add(searchNode);
+		}
+
+		private static List<IndexedSearchNode> getNodes(Map<String, List<IndexedSearchNode>> nodesByValue,
+				String value) {
+			List<IndexedSearchNode> nodes = nodesByValue.get(value);
+			return nodes != null ? nodes : Collections.emptyList();
+		}
+	}
+
+	private final Cache<String, IndexedDocument> documents;
+
+	public SearchIndex() {
+		this.documents = CacheBuilder.newBuilder().maximumSize(MAX_DOCUMENTS).build();
+	}
+
+	/**
+	 * Returns the indexed file of the given file URI and null if the file cannot
+	 * be loaded.
+	 *
+	 * @param fileURI                  the file URI.
+	 * @param expressions              the XML references expressions to index
+	 *                                 when the file is loaded.
+	 * @param resolverExtensionManager the resolver used to load the file.
+	 *
+	 * @return the indexed file of the given file URI and null if the file cannot
+	 *         be loaded.
+	 */
+	IndexedDocument getDocument(String fileURI, List<XMLReferenceExpression> expressions,
+			URIResolverExtensionManager resolverExtensionManager) {
+		IndexedDocument indexedDocument = documents.getIfPresent(fileURI);
+		if (indexedDocument != null && !indexedDocument.isDirty()) {
+			return indexedDocument;
+		}
+		// Track the file before loading it to detect changes done while it is loaded.
+		FilesChangedTracker tracker = new FilesChangedTracker();
+		tracker.addFileURI(fileURI);
+		DOMDocument parsedDocument = DOMUtils.loadDocument(fileURI, resolverExtensionManager);
+		if (parsedDocument == null) {
+			documents.invalidate(fileURI);
+			return null;
+		}
+		indexedDocument = new IndexedDocument(parsedDocument, tracker);
+		// Index the expressions while the DOM document of the file is available
+		indexedDocument.getExpressions(expressions, parsedDocument);
+		documents.put(fileURI, indexedDocument);
+		return indexedDocument;
+	}
+
+	/**
+	 * Returns the indexed file which hosts the given document and null if the
+	 * given document is not the document of an indexed file.
+	 *
+	 * @param document the document.
+	 *
+	 * @return the indexed file which hosts the given document and null if the
+	 *         given document is not the document of an indexed file.
+	 */
+	IndexedDocument getDocument(DOMDocument document) {
+		IndexedDocument indexedDocument = documents.getIfPresent(document.getDocumentURI());
+		return indexedDocument != null && indexedDocument.getDocument() == document ? indexedDocument : null;
+	}
+
+	/**
+	 * Remove the index of the given file URI.
+	 *
+	 * @param fileURI the file URI.
+	 */
+	public void invalidate(String fileURI) {
+		documents.invalidate(fileURI);
+	}
+
+	/**
+	 * Clear the index.
+	 */
+	public void clear() {
+		documents.invalidateAll();
+	}
+
+	private static void collectIncludes(DOMNode node, List<String> includes) {
+		if (node.isElement()) {
+			DOMElement element = (DOMElement) node;
+			if (SearchEngine.isInclude(element)) {
+				String includedFile = element.getAttribute(SearchEngine.HREF_ATTR);
+				if (includedFile != null) {
+					includes.add(includedFile);
+				}
+			}
+		}
+		if (node.hasChildNodes()) {
+			for (DOMNode child : node.getChildren()) {
+				collectIncludes(child, includes);
+			}
+		}
+	}
+}
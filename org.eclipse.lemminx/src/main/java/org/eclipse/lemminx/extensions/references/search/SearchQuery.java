@@ -18,6 +18,7 @@ import java.util.List;
 import org.eclipse.lemminx.dom.DOMNode;
 import org.eclipse.lemminx.extensions.references.search.SearchNode.Direction;
 import org.eclipse.lemminx.extensions.references.settings.XMLReferenceExpression;
+import org.eclipse.lemminx.xpath.matcher.XPathMatcherSet;
 
 /**
  * XML references search Query.
@@ -31,6 +32,30 @@ public class SearchQuery {
 		FROM_2_TO, TO_2_FROM, BOTH;
 	}
 
+	/**
+	 * Reference expression with the direction of the nodes which match the 'from'
+	 * or the 'to' XPath expression.
+	 */
+	static class DirectedExpression {
+
+		private final XMLReferenceExpression expression;
+
+		private final Direction direction;
+
+		DirectedExpression(XMLReferenceExpression expression, Direction direction) {
+			this.expression = expression;
+			this.direction = direction;
+		}
+
+		XMLReferenceExpression getExpression() {
+			return expression;
+		}
+
+		Direction getDirection() {
+			return direction;
+		}
+	}
+
 	private final DOMNode node;
 	private final List<XMLReferenceExpression> expressions;
 	private final QueryDirection queryDirection;
@@ -39,6 +64,7 @@ public class SearchQuery {
 	private boolean matchNode;
 	private boolean searchInIncludedFiles;
 	private SearchNode searchNode;
+	private XPathMatcherSet<DirectedExpression> matchers;
 
 	public SearchQuery(DOMNode node, int offset, List<XMLReferenceExpression> expressions, QueryDirection direction) {
 		this(node, offset, null, expressions, direction);
@@ -139,6 +165,37 @@ public class SearchQuery {
 		return queryDirection;
 	}
 
+	/**
+	 * Returns the 'from' / 'to' XPath expressions of the reference expressions
+	 * compiled to match a DOM node according the query direction in one pass.
+	 * 
+	 * <p>
+	 * The matched values of a node are ordered like the reference expressions and
+	 * the 'from' direction of an expression is before the 'to' direction. The
+	 * 'from' XPath is also matched for the {@link QueryDirection#FROM_2_TO}
+	 * direction because the 'from' direction wins when a node matches both 'from'
+	 * and 'to' XPath.
+	 * </p>
+	 * 
+	 * @return the 'from' / 'to' XPath expressions of the reference expressions
+	 *         compiled to match a DOM node according the query direction in one
+	 *         pass.
+	 */
+	XPathMatcherSet<DirectedExpression> getMatchers() {
+		if (matchers == null) {
+			XPathMatcherSet<DirectedExpression> matchers = new XPathMatcherSet<>();
+			for (XMLReferenceExpression expression : expressions) {
+				// same directions as SearchQueryFactory#getInversedDirection
+				matchers.add(expression.getFromMatcher(), new DirectedExpression(expression, Direction.FROM));
+				if (queryDirection != QueryDirection.TO_2_FROM) {
+					matchers.add(expression.getToMatcher(), new DirectedExpression(expression, Direction.TO));
+				}
+			}
+			this.matchers = matchers;
+		}
+		return matchers;
+	}
+
 	private static boolean isSearchInAttribute(XMLReferenceExpression expression, QueryDirection direction) {
 		switch (direction) {
 			case FROM_2_TO:
@@ -53,7 +53,8 @@ public class SearchQueryFactory {
 			QueryDirection direction) {
 		switch (direction) {
 			case FROM_2_TO:
-				if (expression.matchTo(node)) {
+				// The 'from' direction wins when the node matches both 'from' and 'to' XPath
+				if (expression.matchTo(node) && !expression.matchFrom(node)) {
 					return Direction.TO;
 				}
 				return null;
@@ -57,6 +57,9 @@ public class RNGValidator {
 		LSPErrorReporterForXML reporterForRNG = new LSPErrorReporterForXML(document, diagnostics, contentModelManager,
 				validationSettings != null ? validationSettings.isRelatedInformation() : false,
 				referencedGrammarDiagnosticsInfoCache);
+		if (validationSettings != null) {
+			reporterForRNG.setMaxProblems(validationSettings.getMaxProblems());
+		}
 		try {
 			InputSource input = DOMUtils.createInputSource(document);
 			XMLReaderCreator creator = new RNGXMLReaderCreator(reporterForRNG);
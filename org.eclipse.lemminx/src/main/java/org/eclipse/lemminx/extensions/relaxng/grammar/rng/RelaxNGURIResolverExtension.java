@@ -51,6 +51,11 @@ public class RelaxNGURIResolverExtension implements URIResolverExtension {
 		return RELAXNG_SYSTEM;
 	}
 
+	@Override
+	public boolean isResolveCacheable(String baseLocation, String publicId, String systemId) {
+		return true;
+	}
+
 	@Override
 	public XMLInputSource resolveEntity(XMLResourceIdentifier resourceIdentifier) throws XNIException, IOException {
 		String publicId = resourceIdentifier.getNamespace();
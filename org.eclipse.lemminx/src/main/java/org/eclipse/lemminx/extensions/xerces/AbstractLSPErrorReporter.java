@@ -12,7 +12,11 @@
  */
 package org.eclipse.lemminx.extensions.xerces;
 
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -55,6 +59,8 @@ public abstract class AbstractLSPErrorReporter extends XMLErrorReporter {
 	private static final Logger LOGGER = Logger.getLogger(AbstractLSPErrorReporter.class.getName());
 
 	protected final static Range NO_RANGE = new Range();
+
+	public static final String MAX_PROBLEMS_REACHED_CODE = "MaxProblemsReached";
 	private final DOMDocument xmlDocument;
 	private final List<Diagnostic> diagnostics;
 
@@ -63,12 +69,29 @@ public abstract class AbstractLSPErrorReporter extends XMLErrorReporter {
 
 	private Exception currentError;
 
+	/**
+	 * Keys of the diagnostics stored in the diagnostics list, used to avoid
+	 * scanning the whole list to ignore duplicate diagnostics.
+	 */
+	private final Set<DiagnosticKey> diagnosticKeys;
+	private int indexedDiagnosticsSize;
+
+	/**
+	 * Xerces errors which have created a diagnostic.
+	 */
+	private final Set<ReportedErrorKey> reportedErrors;
+
+	private int maxProblems;
+	private boolean maxProblemsReported;
+
 	public AbstractLSPErrorReporter(String source, DOMDocument xmlDocument, List<Diagnostic> diagnostics,
 			boolean hasRelatedInfo) {
 		this.source = source;
 		this.xmlDocument = xmlDocument;
 		this.diagnostics = diagnostics;
 		this.hasRelatedInfo = hasRelatedInfo;
+		this.diagnosticKeys = new HashSet<>();
+		this.reportedErrors = new HashSet<>();
 		XMLMessageFormatter xmft = new XMLMessageFormatter();
 		super.putMessageFormatter(XMLMessageFormatter.XML_DOMAIN, xmft);
 		super.putMessageFormatter(XMLMessageFormatter.XMLNS_DOMAIN, xmft);
@@ -83,6 +106,19 @@ public abstract class AbstractLSPErrorReporter extends XMLErrorReporter {
 			exception = currentError;
 			currentError = null;
 		}
+		if (maxProblemsReported) {
+			// Stop the Xerces validation, the remaining problems are not reported
+			throw new XMLParseException(location, MAX_PROBLEMS_REACHED_CODE);
+		}
+		// When Xerces reports the same error several times, the diagnostic has
+		// already been created and the error is ignored before formatting the message
+		// and computing the range.
+		ReportedErrorKey errorKey = location != null
+				? new ReportedErrorKey(location, domain, key, arguments, severity, exception)
+				: null;
+		if (errorKey != null && reportedErrors.contains(errorKey)) {
+			return null;
+		}
 		// format message
 		String message = getMessage(domain, key, arguments, exception);
 
@@ -95,6 +131,17 @@ public abstract class AbstractLSPErrorReporter extends XMLErrorReporter {
 		if (adjustedRange == null || NO_RANGE.equals(adjustedRange)) {
 			return null;
 		}
+		if (isMaxProblemsReached()) {
+			// The problem is not reported and the validation is stopped like a fatal error
+			addMaxProblemsReachedDiagnostic(adjustedRange);
+			throw new XMLParseException(location, message);
+		}
+		String code = getCode(domain, key, arguments, exception);
+		if (!hasRelatedInfo && indexDiagnostics()
+				.contains(new DiagnosticKey(adjustedRange, message, diagnosticSeverity, source, code, null))) {
+			// The diagnostic is a duplicate
+			return null;
+		}
 		if (hasRelatedInfo) {
 			try {
 				relatedInformations = AggregateRelatedInfoFinder.getInstance()
@@ -103,10 +150,12 @@ public abstract class AbstractLSPErrorReporter extends XMLErrorReporter {
 				LOGGER.severe("Passed bad Range: " + e);
 			}
 		}
-		String code = getCode(domain, key, arguments, exception);
 		if (addDiagnostic(adjustedRange, message, diagnosticSeverity, code, relatedInformations) == null) {
 			return null;
 		}
+		if (errorKey != null) {
+			reportedErrors.add(errorKey);
+		}
 		if (fatalError && !fContinueAfterFatalError) {
 			XMLParseException parseException = (exception != null) ? new XMLParseException(location, message, exception)
 					: new XMLParseException(location, message);
@@ -162,14 +211,199 @@ public abstract class AbstractLSPErrorReporter extends XMLErrorReporter {
 		if (hasRelatedInfo && relatedInformation != null && relatedInformation.size() > 0) {
 			d.setRelatedInformation(relatedInformation);
 		}
-		if (diagnostics.contains(d)) {
+		if (isMaxProblemsReached()) {
+			return null;
+		}
+		DiagnosticKey key = new DiagnosticKey(d);
+		if (!indexDiagnostics().add(key)) {
 			return null;
 		}
 		// Fill diagnostic
 		diagnostics.add(d);
+		indexedDiagnosticsSize++;
 		return d;
 	}
 
+	/**
+	 * Returns the keys of the diagnostics list, updated with the diagnostics which
+	 * have been added by another reporter which shares the same list.
+	 *
+	 * @return the keys of the diagnostics list.
+	 */
+	private Set<DiagnosticKey> indexDiagnostics() {
+		int size = diagnostics.size();
+		if (size < indexedDiagnosticsSize) {
+			// the diagnostics list has been cleared
+			diagnosticKeys.clear();
+			indexedDiagnosticsSize = 0;
+		}
+		for (int i = indexedDiagnosticsSize; i < size; i++) {
+			diagnosticKeys.add(new DiagnosticKey(diagnostics.get(i)));
+		}
+		indexedDiagnosticsSize = size;
+		return diagnosticKeys;
+	}
+
+	/**
+	 * Set the max number of problems to report for the validated document (0 or
+	 * negative for no limit).
+	 *
+	 * @param maxProblems the max number of problems to report.
+	 */
+	public void setMaxProblems(int maxProblems) {
+		this.maxProblems = maxProblems;
+	}
+
+	/**
+	 * Removes the diagnostics added after the given size of the diagnostics list
+	 * and forgets the reported errors, used to validate the document again after
+	 * a failed validation.
+	 *
+	 * @param diagnosticsSize the size of the diagnostics list to restore.
+	 */
+	public void rollback(int diagnosticsSize) {
+		if (diagnostics.size() > diagnosticsSize) {
+			diagnostics.subList(diagnosticsSize, diagnostics.size()).clear();
+		}
+		reportedErrors.clear();
+		maxProblemsReported = false;
+		currentError = null;
+	}
+
+	/**
+	 * Returns true if the max number of problems has been reported and false
+	 * otherwise.
+	 *
+	 * @return true if the max number of problems has been reported and false
+	 *         otherwise.
+	 */
+	public boolean isMaxProblemsReached() {
+		return maxProblems > 0 && diagnostics.size() >= maxProblems;
+	}
+
+	private void addMaxProblemsReachedDiagnostic(Range range) {
+		maxProblemsReported = true;
+		for (Diagnostic diagnostic : diagnostics) {
+			if (diagnostic.getCode() != null && MAX_PROBLEMS_REACHED_CODE.equals(diagnostic.getCode().getLeft())) {
+				// already reported by another reporter which shares the diagnostics list
+				return;
+			}
+		}
+		Diagnostic d = new Diagnostic(range,
+				"Validation stopped after " + maxProblems
+						+ " problems, the remaining problems are not reported (see 'xml.validation.maxProblems').",
+				DiagnosticSeverity.Information, source, MAX_PROBLEMS_REACHED_CODE);
+		diagnostics.add(d);
+	}
+
+	/**
+	 * Diagnostic key used to ignore duplicate diagnostics. Two diagnostics have the
+	 * same key when they have the same range, message, severity, source, code and
+	 * related information.
+	 */
+	private static class DiagnosticKey {
+
+		private final Range range;
+		private final String message;
+		private final DiagnosticSeverity severity;
+		private final String source;
+		private final Object code;
+		private final List<DiagnosticRelatedInformation> relatedInformation;
+		private final int hashCode;
+
+		public DiagnosticKey(Diagnostic diagnostic) {
+			this(diagnostic.getRange(), diagnostic.getMessage(), diagnostic.getSeverity(), diagnostic.getSource(),
+					diagnostic.getCode() != null ? diagnostic.getCode().get() : null,
+					diagnostic.getRelatedInformation());
+		}
+
+		public DiagnosticKey(Range range, String message, DiagnosticSeverity severity, String source, Object code,
+				List<DiagnosticRelatedInformation> relatedInformation) {
+			this.range = range;
+			this.message = message;
+			this.severity = severity;
+			this.source = source;
+			this.code = code;
+			this.relatedInformation = relatedInformation;
+			this.hashCode = Objects.hash(range, message, severity, source, code, relatedInformation);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof DiagnosticKey)) {
+				return false;
+			}
+			DiagnosticKey other = (DiagnosticKey) obj;
+			return hashCode == other.hashCode && Objects.equals(range, other.range)
+					&& Objects.equals(message, other.message) && severity == other.severity
+					&& Objects.equals(source, other.source) && Objects.equals(code, other.code)
+					&& Objects.equals(relatedInformation, other.relatedInformation);
+		}
+	}
+
+	/**
+	 * Key of a Xerces error, the same Xerces error always creates the same
+	 * diagnostic.
+	 */
+	private static class ReportedErrorKey {
+
+		private final String systemId;
+		private final int lineNumber;
+		private final int columnNumber;
+		private final int characterOffset;
+		private final String domain;
+		private final String key;
+		private final Object[] arguments;
+		private final short severity;
+		private final String exceptionMessage;
+		private final int hashCode;
+
+		public ReportedErrorKey(XMLLocator location, String domain, String key, Object[] arguments, short severity,
+				Exception exception) {
+			this.systemId = location.getExpandedSystemId();
+			this.lineNumber = location.getLineNumber();
+			this.columnNumber = location.getColumnNumber();
+			this.characterOffset = location.getCharacterOffset();
+			this.domain = domain;
+			this.key = key;
+			this.arguments = arguments != null ? arguments.clone() : null;
+			this.severity = severity;
+			this.exceptionMessage = exception != null ? exception.getMessage() : null;
+			this.hashCode = Objects.hash(systemId, lineNumber, columnNumber, characterOffset, domain, key,
+					Arrays.hashCode(this.arguments), severity, exceptionMessage);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof ReportedErrorKey)) {
+				return false;
+			}
+			ReportedErrorKey other = (ReportedErrorKey) obj;
+			return hashCode == other.hashCode && lineNumber == other.lineNumber
+					&& columnNumber == other.columnNumber && characterOffset == other.characterOffset
+					&& severity == other.severity && Objects.equals(systemId, other.systemId)
+					&& Objects.equals(domain, other.domain) && Objects.equals(key, other.key)
+					&& Arrays.equals(arguments, other.arguments)
+					&& Objects.equals(exceptionMessage, other.exceptionMessage);
+		}
+	}
+
 	/**
 	 * Returns the LSP diagnostic severity according the SAX severity.
 	 *
@@ -27,7 +27,6 @@ import org.eclipse.lemminx.extensions.contentmodel.model.CMElementDeclaration;
 import org.eclipse.lemminx.services.extensions.ISharedSettingsRequest;
 import org.eclipse.lemminx.settings.SchemaDocumentationType;
 import org.eclipse.lemminx.utils.StringUtils;
-import org.eclipse.lsp4j.MarkupKind;
 
 /**
  * XSD attribute declaration implementation.
@@ -38,11 +37,7 @@ public class CMXSDAttributeDeclaration implements CMAttributeDeclaration {
 	private final CMXSDElementDeclaration cmElement;
 	private final XSAttributeUse attributeUse;
 
-	private Map<String, String> valuesDocumentation;
-
-	private String attrDocumentation;
-
-	private SchemaDocumentationType docStrategy;
+	private volatile XSDDocumentationCache documentationCache;
 
 	public CMXSDAttributeDeclaration(CMXSDElementDeclaration cmElement, XSAttributeUse attributeUse) {
 		this.cmElement = cmElement;
@@ -82,20 +77,33 @@ public class CMXSDAttributeDeclaration implements CMAttributeDeclaration {
 
 	@Override
 	public String getAttributeNameDocumentation(ISharedSettingsRequest request) {
-		SchemaDocumentationType currStrategy = request.getSharedSettings().getPreferences()
-				.getShowSchemaDocumentationType();
-		if (this.docStrategy != currStrategy) {
-			clearDocumentation();
-		} else if (this.attrDocumentation != null) {
-			return this.attrDocumentation;
-		}
-		this.docStrategy = currStrategy;
-		// Try get xs:annotation from the element declaration or type
-		XSObjectList annotations = getAttributeNameAnnotations();
-		boolean markdownSupported = request.canSupportMarkupKind(MarkupKind.MARKDOWN);
-		this.attrDocumentation = new XSDDocumentation(annotations, docStrategy, !markdownSupported)
-				.getFormattedDocumentation(markdownSupported);
-		return this.attrDocumentation;
+		XSDDocumentationCache cache = getDocumentationCache(request);
+		return cache.getDocumentation(() -> {
+			// Try get xs:annotation from the element declaration or type
+			XSObjectList annotations = getAttributeNameAnnotations();
+			boolean markdownSupported = cache.isMarkdownSupported();
+			return new XSDDocumentation(annotations, cache.getStrategy(), !markdownSupported)
+					.getFormattedDocumentation(markdownSupported);
+		});
+	}
+
+	/**
+	 * Returns true if the attribute name documentation is cached for the settings
+	 * of the given request and false otherwise.
+	 *
+	 * @param request the request which gives the documentation settings.
+	 * @return true if the attribute name documentation is cached for the settings
+	 *         of the given request and false otherwise.
+	 */
+	public boolean isAttributeNameDocumentationCached(ISharedSettingsRequest request) {
+		XSDDocumentationCache cache = documentationCache;
+		return cache != null && cache.matches(request) && cache.hasDocumentation();
+	}
+
+	private XSDDocumentationCache getDocumentationCache(ISharedSettingsRequest request) {
+		XSDDocumentationCache cache = XSDDocumentationCache.get(documentationCache, request);
+		documentationCache = cache;
+		return cache;
 	}
 
 	/**
@@ -119,21 +127,14 @@ public class CMXSDAttributeDeclaration implements CMAttributeDeclaration {
 
 	@Override
 	public String getAttributeValueDocumentation(String value, ISharedSettingsRequest request) {
-		SchemaDocumentationType currStrategy = request.getSharedSettings().getPreferences()
-				.getShowSchemaDocumentationType();
-		if (this.docStrategy != currStrategy) {
-			clearDocumentation();
-		}
-		valuesDocumentation = null;
-		this.docStrategy = currStrategy;
-		if (valuesDocumentation == null) {
-			valuesDocumentation = createValuesDocumentation(request);
-		}
-		return valuesDocumentation.get(value);
+		XSDDocumentationCache cache = getDocumentationCache(request);
+		return cache.getValuesDocumentation(() -> createValuesDocumentation(cache, request)).get(value);
 	}
 
-	private Map<String, String> createValuesDocumentation(ISharedSettingsRequest request) {
-		boolean markdownSupported = request.canSupportMarkupKind(MarkupKind.MARKDOWN);
+	private Map<String, String> createValuesDocumentation(XSDDocumentationCache cache,
+			ISharedSettingsRequest request) {
+		SchemaDocumentationType docStrategy = cache.getStrategy();
+		boolean markdownSupported = cache.isMarkdownSupported();
 		Map<String, String> valuesDocumentation = new HashMap<>();
 		// loop for each enumeration values and update the values documentation map with
 		// documentation
@@ -181,11 +182,6 @@ public class CMXSDAttributeDeclaration implements CMAttributeDeclaration {
 		return getAttributeNameAnnotations();
 	}
 
-	private void clearDocumentation() {
-		this.valuesDocumentation = null;
-		this.attrDocumentation = null;
-	}
-
 	@Override
 	public boolean isRequired() {
 		return attributeUse.getRequired();
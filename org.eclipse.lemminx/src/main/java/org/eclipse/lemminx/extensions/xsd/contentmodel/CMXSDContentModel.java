@@ -0,0 +1,97 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.extensions.xsd.contentmodel;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.apache.xerces.impl.xs.models.XSCMValidator;
+import org.eclipse.lemminx.extensions.contentmodel.model.CMElementDeclaration;
+
+/**
+ * Compiled Xerces content model (DFA) of a complex type with the possible
+ * elements memoized by state of the content model.
+ *
+ */
+class CMXSDContentModel {
+
+	// Max number of memoized states, a xs:all content model can have a lot of
+	// states
+	private static final int MAX_STATES = 1024;
+
+	private static class State {
+
+		private final int[] states;
+
+		private final int hashCode;
+
+		State(int[] states) {
+			this.states = states;
+			this.hashCode = Arrays.hashCode(states);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof State && Arrays.equals(states, ((State) obj).states);
+		}
+	}
+
+	private final XSCMValidator validator;
+
+	private final Map<State, Collection<CMElementDeclaration>> possibleElements;
+
+	CMXSDContentModel(XSCMValidator validator) {
+		this.validator = validator;
+		this.possibleElements = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Returns the Xerces validator of the content model and null if the complex
+	 * type has no content model.
+	 *
+	 * @return the Xerces validator of the content model and null if the complex
+	 *         type has no content model.
+	 */
+	XSCMValidator getValidator() {
+		return validator;
+	}
+
+	/**
+	 * Returns the possible elements for the given states of the content model.
+	 *
+	 * @param states  the states of the content model updated by the transitions
+	 *                of the child elements.
+	 * @param collect the function which collects the possible elements for the
+	 *                given states when they are not memoized.
+	 * @return the possible elements for the given states of the content model.
+	 */
+	Collection<CMElementDeclaration> getPossibleElements(int[] states,
+			Function<int[], Collection<CMElementDeclaration>> collect) {
+		State state = new State(states);
+		Collection<CMElementDeclaration> elements = possibleElements.get(state);
+		if (elements == null) {
+			elements = collect.apply(states);
+			if (possibleElements.size() < MAX_STATES) {
+				possibleElements.putIfAbsent(state, elements);
+			}
+		}
+		return elements;
+	}
+}
@@ -16,21 +16,24 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.apache.xerces.impl.dv.XSSimpleType;
 import org.apache.xerces.impl.dv.xs.XSSimpleTypeDecl;
 import org.apache.xerces.impl.xs.SchemaGrammar;
+import org.apache.xerces.impl.xs.SubstitutionGroupHandler;
 import org.apache.xerces.impl.xs.XMLSchemaLoader;
 import org.apache.xerces.impl.xs.XSComplexTypeDecl;
 import org.apache.xerces.impl.xs.XSElementDecl;
 import org.apache.xerces.impl.xs.XSElementDeclHelper;
 import org.apache.xerces.impl.xs.XSLoaderImpl;
 import org.apache.xerces.impl.xs.XSParticleDecl;
+import org.apache.xerces.impl.xs.models.CMBuilder;
+import org.apache.xerces.impl.xs.models.CMNodeFactory;
 import org.apache.xerces.impl.xs.opti.ElementImpl;
 import org.apache.xerces.impl.xs.traversers.XSDHandler;
 import org.apache.xerces.impl.xs.util.SimpleLocator;
@@ -58,6 +61,7 @@ import org.eclipse.lemminx.dom.DOMElement;
 import org.eclipse.lemminx.dom.DOMNode;
 import org.eclipse.lemminx.extensions.contentmodel.model.CMDocument;
 import org.eclipse.lemminx.extensions.contentmodel.model.CMElementDeclaration;
+import org.eclipse.lemminx.extensions.contentmodel.model.CMNameIndex;
 import org.eclipse.lemminx.extensions.contentmodel.model.FilesChangedTracker;
 import org.eclipse.lemminx.extensions.xerces.ReflectionUtils;
 import org.eclipse.lemminx.extensions.xsd.utils.XSDUtils;
@@ -84,14 +88,22 @@ public class CMXSDDocument implements CMDocument, XSElementDeclHelper {
 
 	private Collection<CMElementDeclaration> elements;
 
+	private CMNameIndex<CMElementDeclaration> elementsIndex;
+
 	private final FilesChangedTracker tracker;
 
 	private final XSLoaderImpl xsLoader;
 
+	private final Map<XSComplexTypeDefinition, CMXSDContentModel> contentModels;
+
+	private final SubstitutionGroupHandler substitutionGroupHandler;
+
 	public CMXSDDocument(XSModel model, XSLoaderImpl xsLoaderImpl) {
 		this.model = model;
 		this.xsLoader = xsLoaderImpl;
 		this.elementMappings = new HashMap<>();
+		this.contentModels = new ConcurrentHashMap<>();
+		this.substitutionGroupHandler = new SubstitutionGroupHandler(this);
 		this.tracker = createFilesChangedTracker(model);
 	}
 
@@ -169,35 +181,34 @@ public class CMXSDDocument implements CMDocument, XSElementDeclHelper {
 		return model.getSubstitutionGroup(elementDeclaration);
 	}
 
-	@Override
-	public CMElementDeclaration findCMElement(DOMElement element, String namespace) {
-		List<DOMElement> paths = new ArrayList<>();
-		while (element != null && (namespace == null || namespace.equals(element.getNamespaceURI()))) {
-			paths.add(0, element);
-			element = element.getParentNode() instanceof DOMElement ? (DOMElement) element.getParentNode() : null;
-		}
-		CMElementDeclaration declaration = null;
-		for (int i = 0; i < paths.size(); i++) {
-			DOMElement elt = paths.get(i);
-			if (i == 0) {
-				declaration = findElementDeclaration(elt.getLocalName(), namespace);
-			} else {
-				declaration = declaration != null ? declaration.findCMElement(elt.getLocalName(), namespace) : null;
-			}
-			if (declaration == null) {
-				break;
-			}
-		}
-		return declaration;
+	/**
+	 * Returns the compiled content model of the given complex type.
+	 * 
+	 * @param typeDefinition the complex type.
+	 * @return the compiled content model of the given complex type.
+	 */
+	CMXSDContentModel getContentModel(XSComplexTypeDecl typeDefinition) {
+		return contentModels.computeIfAbsent(typeDefinition,
+				type -> new CMXSDContentModel(typeDefinition.getContentModel(new CMBuilder(new CMNodeFactory()))));
 	}
 
-	private CMElementDeclaration findElementDeclaration(String tag, String namespace) {
-		for (CMElementDeclaration cmElement : getElements()) {
-			if (cmElement.getLocalName().equals(tag)) {
-				return cmElement;
-			}
+	/**
+	 * Returns the substitution group handler used to match the child elements
+	 * with the content models.
+	 * 
+	 * @return the substitution group handler used to match the child elements
+	 *         with the content models.
+	 */
+	SubstitutionGroupHandler getSubstitutionGroupHandler() {
+		return substitutionGroupHandler;
+	}
+
+	@Override
+	public CMElementDeclaration findElementDeclaration(String localName, String namespace) {
+		if (elementsIndex == null) {
+			elementsIndex = CMNameIndex.ofElements(getElements());
 		}
-		return null;
+		return elementsIndex.find(localName, namespace);
 	}
 
 	CMElementDeclaration getXSDElement(XSElementDeclaration elementDeclaration) {
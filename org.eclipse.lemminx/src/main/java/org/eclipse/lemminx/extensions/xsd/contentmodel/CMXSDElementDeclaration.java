@@ -25,10 +25,7 @@ import java.util.Vector;
 
 import org.apache.xerces.impl.dv.xs.XSSimpleTypeDecl;
 import org.apache.xerces.impl.xs.SchemaGrammar;
-import org.apache.xerces.impl.xs.SubstitutionGroupHandler;
 import org.apache.xerces.impl.xs.XSComplexTypeDecl;
-import org.apache.xerces.impl.xs.models.CMBuilder;
-import org.apache.xerces.impl.xs.models.CMNodeFactory;
 import org.apache.xerces.impl.xs.models.XSCMValidator;
 import org.apache.xerces.impl.xs.util.XSObjectListImpl;
 import org.apache.xerces.xni.QName;
@@ -47,10 +44,10 @@ import org.apache.xerces.xs.XSWildcard;
 import org.eclipse.lemminx.dom.DOMElement;
 import org.eclipse.lemminx.extensions.contentmodel.model.CMAttributeDeclaration;
 import org.eclipse.lemminx.extensions.contentmodel.model.CMElementDeclaration;
+import org.eclipse.lemminx.extensions.contentmodel.model.CMNameIndex;
 import org.eclipse.lemminx.services.extensions.ISharedSettingsRequest;
 import org.eclipse.lemminx.settings.SchemaDocumentationType;
 import org.eclipse.lemminx.utils.StringUtils;
-import org.eclipse.lsp4j.MarkupKind;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
@@ -71,11 +68,11 @@ public class CMXSDElementDeclaration implements CMElementDeclaration {
 
 	private Collection<CMElementDeclaration> elements;
 
-	private String documentation;
+	private CMNameIndex<CMElementDeclaration> elementsIndex;
 
-	private Map<String, String> textsDocumentation;
+	private CMNameIndex<CMAttributeDeclaration> attributesIndex;
 
-	private SchemaDocumentationType docStrategy;
+	private volatile XSDDocumentationCache documentationCache;
 
 	private Map<String, Boolean> elementOptionality;
 
@@ -152,21 +149,20 @@ public class CMXSDElementDeclaration implements CMElementDeclaration {
 			// The type definition is complex (ex: xs:all; xs:sequence), returns list of
 			// element declaration according those XML Schema constraints
 
-			// Initialize Xerces validator
-			CMBuilder cmBuilder = new CMBuilder(new CMNodeFactory());
-			XSCMValidator validator = ((XSComplexTypeDecl) typeDefinition).getContentModel(cmBuilder);
+			// Get the Xerces validator compiled for the complex type
+			CMXSDContentModel contentModel = document.getContentModel((XSComplexTypeDecl) typeDefinition);
+			XSCMValidator validator = contentModel.getValidator();
 			if (validator == null) {
 				return Collections.emptyList();
 			}
 
-			SubstitutionGroupHandler handler = new SubstitutionGroupHandler(document);
 			// Compute list of child element (QName)
 			List<QName> qNames = toQNames(parentElement, offset);
 			// Loop for each element (QName) and check if it is valid according the XML
 			// Schema constraint
 			int[] states = validator.startContentModel();
 			for (QName elementName : qNames) {
-				Object decl = validator.oneTransition(elementName, states, handler);
+				Object decl = validator.oneTransition(elementName, states, document.getSubstitutionGroupHandler());
 				if (decl == null) {
 					return Collections.emptyList();
 				}
@@ -174,40 +170,53 @@ public class CMXSDElementDeclaration implements CMElementDeclaration {
 
 			// At this step, all child elements are valid, the call of
 			// XSCMValidator#oneTransition has updated the states flag.
-			// Collect the next valid elements according the XML Schema constraints
-			Vector<?> result = validator.whatCanGoHere(states);
-			if (result.isEmpty()) {
-				return Collections.emptyList();
-			}
+			// Collect the next valid elements according the XML Schema constraints, the
+			// possible elements are memoized by state of the content model.
+			return contentModel.getPossibleElements(states,
+					s -> collectPossibleElements(validator.whatCanGoHere(s)));
+		}
+		return getElements();
+	}
 
-			// Compute list of possible elements
-			Collection<CMElementDeclaration> possibleElements = new HashSet<>();
-			for (Object object : result) {
-				if (object instanceof XSElementDeclaration) {
-					XSElementDeclaration elementDecl = (XSElementDeclaration) object;
-					document.collectElement(elementDecl, possibleElements);
-					// Collect substitution group
-					XSObjectList group = document.getSubstitutionGroup(elementDecl);
-					if (group != null) {
-						for (int i = 0; i < group.getLength(); i++) {
-							XSElementDeclaration o = (XSElementDeclaration) group.item(i);
-							document.collectElement(o, possibleElements);
-						}
-					}
-				} else {
-					// case with xs:any. Ex:
-					// <xs:sequence>
-					// <xs:any maxOccurs="2" processContents="lax" />
-					// </xs:sequence>
-					Collection<CMElementDeclaration> anyElements = getXSAnyElements(object);
-					if (anyElements != null) {
-						return anyElements;
+	/**
+	 * Returns the possible elements declaration from the given result of
+	 * {@link XSCMValidator#whatCanGoHere(int[])}.
+	 *
+	 * @param result the element, wildcard declarations which can go at the state
+	 *               of the content model.
+	 * @return the possible elements declaration.
+	 */
+	private Collection<CMElementDeclaration> collectPossibleElements(Vector<?> result) {
+		if (result.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		// Compute list of possible elements
+		Collection<CMElementDeclaration> possibleElements = new HashSet<>();
+		for (Object object : result) {
+			if (object instanceof XSElementDeclaration) {
+				XSElementDeclaration elementDecl = (XSElementDeclaration) object;
+				document.collectElement(elementDecl, possibleElements);
+				// Collect substitution group
+				XSObjectList group = document.getSubstitutionGroup(elementDecl);
+				if (group != null) {
+					for (int i = 0; i < group.getLength(); i++) {
+						XSElementDeclaration o = (XSElementDeclaration) group.item(i);
+						document.collectElement(o, possibleElements);
 					}
 				}
+			} else {
+				// case with xs:any. Ex:
+				// <xs:sequence>
+				// <xs:any maxOccurs="2" processContents="lax" />
+				// </xs:sequence>
+				Collection<CMElementDeclaration> anyElements = getXSAnyElements(object);
+				if (anyElements != null) {
+					return anyElements;
+				}
 			}
-			return possibleElements;
 		}
-		return getElements();
+		return possibleElements;
 	}
 
 	/**
@@ -375,19 +384,19 @@ public class CMXSDElementDeclaration implements CMElementDeclaration {
 
 	@Override
 	public String getDocumentation(ISharedSettingsRequest request) {
-		SchemaDocumentationType currStrategy = request.getSharedSettings().getPreferences()
-				.getShowSchemaDocumentationType();
-		if (this.docStrategy != currStrategy) {
-			clearDocumentation();
-		} else if (this.documentation != null) {
-			return this.documentation;
-		}
-		this.docStrategy = currStrategy;
-		XSObjectList annotations = getElementAnnotations();
-		boolean markdownSupported = request.canSupportMarkupKind(MarkupKind.MARKDOWN);
-		this.documentation = new XSDDocumentation(annotations, docStrategy, !markdownSupported)
-				.getFormattedDocumentation(markdownSupported);
-		return this.documentation;
+		XSDDocumentationCache cache = getDocumentationCache(request);
+		return cache.getDocumentation(() -> {
+			XSObjectList annotations = getElementAnnotations();
+			boolean markdownSupported = cache.isMarkdownSupported();
+			return new XSDDocumentation(annotations, cache.getStrategy(), !markdownSupported)
+					.getFormattedDocumentation(markdownSupported);
+		});
+	}
+
+	private XSDDocumentationCache getDocumentationCache(ISharedSettingsRequest request) {
+		XSDDocumentationCache cache = XSDDocumentationCache.get(documentationCache, request);
+		documentationCache = cache;
+		return cache;
 	}
 
 	/**
@@ -442,22 +451,18 @@ public class CMXSDElementDeclaration implements CMElementDeclaration {
 
 	@Override
 	public CMElementDeclaration findCMElement(String tag, String namespace) {
-		for (CMElementDeclaration cmElement : getElements()) {
-			if (cmElement.getLocalName().equals(tag)) {
-				return cmElement;
-			}
+		if (elementsIndex == null) {
+			elementsIndex = CMNameIndex.ofElements(getElements());
 		}
-		return null;
+		return elementsIndex.find(tag, namespace);
 	}
 
 	@Override
 	public CMAttributeDeclaration findCMAttribute(String attributeName, String namespace) {
-		for (CMAttributeDeclaration cmAttribute : getAttributes()) {
-			if (cmAttribute.getLocalName().equals(attributeName)) {
-				return cmAttribute;
-			}
+		if (attributesIndex == null) {
+			attributesIndex = CMNameIndex.ofAttributes(getAttributes());
 		}
-		return null;
+		return attributesIndex.find(attributeName, namespace);
 	}
 
 	@Override
@@ -497,20 +502,14 @@ public class CMXSDElementDeclaration implements CMElementDeclaration {
 
 	@Override
 	public String getTextDocumentation(String textContent, ISharedSettingsRequest request) {
-		SchemaDocumentationType currStrategy = request.getSharedSettings().getPreferences()
-				.getShowSchemaDocumentationType();
-		if (this.docStrategy != currStrategy) {
-			clearDocumentation();
-		}
-		this.docStrategy = currStrategy;
-		if (textsDocumentation == null) {
-			textsDocumentation = createTextsDocumentation(request);
-		}
-		return textsDocumentation.get(textContent);
+		XSDDocumentationCache cache = getDocumentationCache(request);
+		return cache.getValuesDocumentation(() -> createTextsDocumentation(cache, request)).get(textContent);
 	}
 
-	private Map<String, String> createTextsDocumentation(ISharedSettingsRequest request) {
-		boolean markdownSupported = request.canSupportMarkupKind(MarkupKind.MARKDOWN);
+	private Map<String, String> createTextsDocumentation(XSDDocumentationCache cache,
+			ISharedSettingsRequest request) {
+		SchemaDocumentationType docStrategy = cache.getStrategy();
+		boolean markdownSupported = cache.isMarkdownSupported();
 		Map<String, String> textsDocumentation = new HashMap<>();
 		// loop for each enumeration values and update the values documentation map with
 		// documentation
@@ -543,10 +542,6 @@ public class CMXSDElementDeclaration implements CMElementDeclaration {
 		return null;
 	}
 
-	private void clearDocumentation() {
-		this.textsDocumentation = null;
-		this.documentation = null;
-	}
 
 	XSElementDeclaration getElementDeclaration() {
 		return elementDeclaration;
@@ -0,0 +1,96 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.extensions.xsd.contentmodel;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.eclipse.lemminx.services.extensions.ISharedSettingsRequest;
+import org.eclipse.lemminx.settings.SchemaDocumentationType;
+import org.eclipse.lsp4j.MarkupKind;
+
+/**
+ * Documentation of an element, attribute declaration computed for a
+ * {@link SchemaDocumentationType} and a markup kind.
+ *
+ * <p>
+ * The cache is immutable for a given strategy and markup kind, a declaration
+ * replaces it when the settings or the client capabilities change. The
+ * documentation can be computed by several threads (completion, hover), it is
+ * computed at most once per thread and published with volatile fields.
+ * </p>
+ *
+ */
+class XSDDocumentationCache {
+
+	private final SchemaDocumentationType strategy;
+
+	private final boolean markdownSupported;
+
+	private volatile String documentation;
+
+	private volatile Map<String, String> valuesDocumentation;
+
+	private XSDDocumentationCache(SchemaDocumentationType strategy, boolean markdownSupported) {
+		this.strategy = strategy;
+		this.markdownSupported = markdownSupported;
+	}
+
+	/**
+	 * Returns the cache for the given request, the given cache if it matches the
+	 * strategy and markup kind of the request, and a new cache otherwise.
+	 */
+	static XSDDocumentationCache get(XSDDocumentationCache cache, ISharedSettingsRequest request) {
+		if (cache != null && cache.matches(request)) {
+			return cache;
+		}
+		return new XSDDocumentationCache(request.getSharedSettings().getPreferences().getShowSchemaDocumentationType(),
+				request.canSupportMarkupKind(MarkupKind.MARKDOWN));
+	}
+
+	/**
+	 * Returns true if the cache has been created for the strategy and markup kind
+	 * of the given request and false otherwise.
+	 */
+	boolean matches(ISharedSettingsRequest request) {
+		return strategy == request.getSharedSettings().getPreferences().getShowSchemaDocumentationType()
+				&& markdownSupported == request.canSupportMarkupKind(MarkupKind.MARKDOWN);
+	}
+
+	boolean hasDocumentation() {
+		return documentation != null;
+	}
+
+	SchemaDocumentationType getStrategy() {
+		return strategy;
+	}
+
+	boolean isMarkdownSupported() {
+		return markdownSupported;
+	}
+
+	String getDocumentation(Supplier<String> factory) {
+		String result = documentation;
+		if (result == null) {
+			documentation = result = factory.get();
+		}
+		return result;
+	}
+
+	Map<String, String> getValuesDocumentation(Supplier<Map<String, String>> factory) {
+		Map<String, String> result = valuesDocumentation;
+		if (result == null) {
+			valuesDocumentation = result = factory.get();
+		}
+		return result;
+	}
+}
@@ -63,6 +63,9 @@ public class XSDValidator {
 		LSPErrorReporterForXSD reporterForXSD = new LSPErrorReporterForXSD(document, diagnostics, contentModelManager,
 				validationSettings != null ? validationSettings.isRelatedInformation() : false,
 				referencedGrammarDiagnosticsInfoCache);
+		if (validationSettings != null) {
+			reporterForXSD.setMaxProblems(validationSettings.getMaxProblems());
+		}
 
 		try {
 			LSPXMLEntityManager entityManager = new LSPXMLEntityManager(reporterForXSD, null);
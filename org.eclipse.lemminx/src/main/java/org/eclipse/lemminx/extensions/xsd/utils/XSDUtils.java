@@ -14,6 +14,7 @@ package org.eclipse.lemminx.extensions.xsd.utils;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.Vector;
@@ -441,37 +442,51 @@ public class XSDUtils {
 
 	public static FilesChangedTracker createFilesChangedTracker(Set<SchemaGrammar> grammars) {
 		FilesChangedTracker tracker = new FilesChangedTracker();
-		Set<SchemaGrammar> trackedGrammars = new HashSet<>();
-		Set<String> trackedURIs = new HashSet<>();
-		for (SchemaGrammar grammar : grammars) {
-			updateTracker(grammar, trackedGrammars, trackedURIs, tracker);
+		for (String location : getDocumentLocations(grammars)) {
+			if (URIUtils.isFileResource(location)) {
+				// The schema is a file, track when file changed
+				tracker.addFileURI(location);
+			}
 		}
 		return tracker;
 	}
 
-	private static void updateTracker(SchemaGrammar grammar, Set<SchemaGrammar> trackedGrammars,
-			Set<String> trackedURIs, FilesChangedTracker tracker) {
-		if (grammar == null || trackedGrammars.contains(grammar)) {
+	/**
+	 * Returns the locations of all XML Schema (root, included and imported) of the
+	 * given grammars.
+	 *
+	 * @param grammars the schema grammars.
+	 * @return the locations of all XML Schema (root, included and imported) of the
+	 *         given grammars.
+	 */
+	public static Set<String> getDocumentLocations(Set<SchemaGrammar> grammars) {
+		Set<SchemaGrammar> visitedGrammars = new HashSet<>();
+		Set<String> locations = new LinkedHashSet<>();
+		for (SchemaGrammar grammar : grammars) {
+			collectDocumentLocations(grammar, visitedGrammars, locations);
+		}
+		return locations;
+	}
+
+	private static void collectDocumentLocations(SchemaGrammar grammar, Set<SchemaGrammar> visitedGrammars,
+			Set<String> locations) {
+		if (grammar == null || visitedGrammars.contains(grammar)) {
 			return;
 		}
-		trackedGrammars.add(grammar);
-		// Loop for all XML Schema (root + included) to track it
-		StringList locations = grammar.getDocumentLocations();
-		for (int i = 0; i < locations.getLength(); i++) {
-			String location = locations.item(i);
-			if (!trackedURIs.contains(location)) {
-				trackedURIs.add(location);
-			}
-			if (location != null && URIUtils.isFileResource(location)) {
-				// The schema is a file, track when file changed
-				tracker.addFileURI(location);
+		visitedGrammars.add(grammar);
+		// Loop for all XML Schema (root + included)
+		StringList documentLocations = grammar.getDocumentLocations();
+		for (int i = 0; i < documentLocations.getLength(); i++) {
+			String location = documentLocations.item(i);
+			if (location != null) {
+				locations.add(location);
 			}
 		}
-		// Track the imported grammars
+		// Collect the imported grammars
 		Vector<?> importedGrammars = grammar.getImportedGrammars();
 		if (importedGrammars != null) {
 			for (Object importedGrammar : importedGrammars) {
-				updateTracker((SchemaGrammar) importedGrammar, trackedGrammars, trackedURIs, tracker);
+				collectDocumentLocations((SchemaGrammar) importedGrammar, visitedGrammars, locations);
 			}
 		}
 	}
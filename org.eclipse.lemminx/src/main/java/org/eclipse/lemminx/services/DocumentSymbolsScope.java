@@ -0,0 +1,100 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.services;
+
+import java.util.Objects;
+
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+
+/**
+ * Scope of the document symbols to compute :
+ * 
+ * <ul>
+ * <li>the parent symbol to expand, identified by the start position of its
+ * range, or null to compute the top level symbols.</li>
+ * <li>the visible range, only the symbols which intersect its lines are computed, or
+ * null to compute the symbols of the whole document.</li>
+ * <li>the number of levels to compute, or {@link #UNLIMITED_DEPTH}. A symbol of
+ * the last level which could have children is returned with null children,
+ * they are computed on demand by using this symbol as parent.</li>
+ * </ul>
+ *
+ */
+public class DocumentSymbolsScope {
+
+	public static final int UNLIMITED_DEPTH = 0;
+
+	public static final DocumentSymbolsScope ALL = new DocumentSymbolsScope(null, null, UNLIMITED_DEPTH);
+
+	private final Position parent;
+
+	private final Range range;
+
+	private final int depth;
+
+	public DocumentSymbolsScope(Position parent, Range range, int depth) {
+		this.parent = parent;
+		this.range = range;
+		this.depth = depth > 0 ? depth : UNLIMITED_DEPTH;
+	}
+
+	/**
+	 * Returns the start position of the range of the parent symbol to expand and
+	 * null to compute the top level symbols.
+	 * 
+	 * @return the start position of the range of the parent symbol to expand and
+	 *         null to compute the top level symbols.
+	 */
+	public Position getParent() {
+		return parent;
+	}
+
+	/**
+	 * Returns the visible range and null to compute the symbols of the whole
+	 * document.
+	 * 
+	 * @return the visible range and null to compute the symbols of the whole
+	 *         document.
+	 */
+	public Range getRange() {
+		return range;
+	}
+
+	/**
+	 * Returns the number of levels to compute and {@link #UNLIMITED_DEPTH} to
+	 * compute all levels.
+	 * 
+	 * @return the number of levels to compute and {@link #UNLIMITED_DEPTH} to
+	 *         compute all levels.
+	 */
+	public int getDepth() {
+		return depth;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(parent, range, depth);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		DocumentSymbolsScope other = (DocumentSymbolsScope) obj;
+		return depth == other.depth && Objects.equals(parent, other.parent) && Objects.equals(range, other.range);
+	}
+}
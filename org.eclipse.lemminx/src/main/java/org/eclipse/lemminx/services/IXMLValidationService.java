@@ -12,8 +12,10 @@
  *******************************************************************************/
 package org.eclipse.lemminx.services;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.lemminx.dom.DOMDocument;
 
@@ -42,4 +44,17 @@ public interface IXMLValidationService {
 		validate(document, Collections.emptyMap());
 	}
 
+	/**
+	 * Performs the validation of the given opened XML documents.
+	 * 
+	 * @param documents the opened XML documents.
+	 * @return a future which is completed when all documents have been validated.
+	 */
+	default CompletableFuture<Void> validateAll(Collection<DOMDocument> documents) {
+		for (DOMDocument document : documents) {
+			validate(document);
+		}
+		return CompletableFuture.completedFuture(null);
+	}
+
 }
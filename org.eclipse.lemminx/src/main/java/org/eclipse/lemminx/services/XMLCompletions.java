@@ -45,7 +45,9 @@ import org.eclipse.lemminx.services.extensions.completion.ICompletionItemResolve
 import org.eclipse.lemminx.services.extensions.completion.ICompletionParticipant;
 import org.eclipse.lemminx.services.extensions.completion.ICompletionRequest;
 import org.eclipse.lemminx.services.extensions.completion.ICompletionResponse;
+import org.eclipse.lemminx.services.data.DataEntryField;
 import org.eclipse.lemminx.services.snippets.IXMLSnippetContext;
+import org.eclipse.lemminx.services.snippets.SnippetCompletionResolver;
 import org.eclipse.lemminx.settings.SharedSettings;
 import org.eclipse.lemminx.settings.XMLCompletionSettings;
 import org.eclipse.lemminx.utils.CompletionItemDefaultsUtils;
@@ -77,9 +79,12 @@ public class XMLCompletions {
 
 	private final ElementEndTagCompletionResolver endTagCompletionResolver;
 
+	private final SnippetCompletionResolver snippetCompletionResolver;
+
 	public XMLCompletions(XMLExtensionsRegistry extensionsRegistry) {
 		this.extensionsRegistry = extensionsRegistry;
 		this.endTagCompletionResolver = new ElementEndTagCompletionResolver();
+		this.snippetCompletionResolver = new SnippetCompletionResolver(this::getSnippetRegistry);
 	}
 
 	public CompletionList doComplete(DOMDocument xmlDocument, Position position, SharedSettings settings,
@@ -106,7 +111,9 @@ public class XMLCompletions {
 				return completionResponse;
 			}
 
-			Scanner scanner = XMLScanner.createScanner(text, node.getStart(), isInsideDTDContent(node, xmlDocument));
+			Scanner scanner = isInsideDTDContent(node, xmlDocument)
+					? XMLScanner.createScanner(text, node.getStart(), true)
+					: xmlDocument.createScanner(node.getStart());
 			String currentTag = "";
 			TokenType token = scanner.scan();
 			while (token != TokenType.EOS && scanner.getTokenOffset() <= offset) {
@@ -323,6 +330,16 @@ public class XMLCompletions {
 						+ ElementEndTagCompletionResolver.class.getName() + "'.", e);
 			}
 		}
+		if (SnippetCompletionResolver.PARTICIPANT_ID.equals(participantId)) {
+			try {
+				return snippetCompletionResolver.resolveCompletionItem(request, cancelChecker);
+			} catch (CancellationException e) {
+				throw e;
+			} catch (Exception e) {
+				LOGGER.log(Level.SEVERE, "Error while processing resolve completion item for the participant '"
+						+ SnippetCompletionResolver.class.getName() + "'.", e);
+			}
+		}
 		for (ICompletionParticipant completionParticipant : extensionsRegistry.getCompletionParticipants()) {
 			try {
 				cancelChecker.checkCanceled();
@@ -388,7 +405,11 @@ public class XMLCompletions {
 							}
 						}
 						return null;
-					});
+					}, completionRequest.isResolveDocumentationSupported() ? () -> {
+						// the snippet documentation is resolved with completionItem/resolve
+						return DataEntryField.createCompletionData(completionRequest,
+								SnippetCompletionResolver.PARTICIPANT_ID);
+					} : null);
 			for (CompletionItem completionItem : snippets) {
 				completionResponse.addCompletionItem(completionItem);
 			}
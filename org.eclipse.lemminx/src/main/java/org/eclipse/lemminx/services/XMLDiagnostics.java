@@ -12,9 +12,22 @@
  */
 package org.eclipse.lemminx.services;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -36,17 +49,43 @@ class XMLDiagnostics {
 	private final XMLExtensionsRegistry extensionsRegistry;
 	private static final Logger LOGGER = Logger.getLogger(XMLDiagnostics.class.getName());
 
+	private static final int MAX_CONCURRENT_PARTICIPANTS = Math.max(1,
+			Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+
+	private static ExecutorService participantsExecutor;
+
 	public XMLDiagnostics(XMLExtensionsRegistry extensionsRegistry) {
 		this.extensionsRegistry = extensionsRegistry;
 	}
 
 	public DiagnosticsResult doDiagnostics(DOMDocument xmlDocument, XMLValidationSettings validationSettings,
 			Map<String, Object> validationArgs, CancelChecker cancelChecker) {
+		return doDiagnostics(xmlDocument, validationSettings, validationArgs, null, Collections.emptyMap(),
+				cancelChecker);
+	}
+
+	/**
+	 * Validate the given DOM document.
+	 *
+	 * @param partialPublisher           the publisher used to publish the
+	 *                                   diagnostics while the validation is running
+	 *                                   and null otherwise.
+	 * @param lastParticipantDiagnostics the diagnostics per participant of the
+	 *                                   last validation, published with the
+	 *                                   diagnostics of a participant which is
+	 *                                   running for the participants which are
+	 *                                   not finished.
+	 */
+	public DiagnosticsResult doDiagnostics(DOMDocument xmlDocument, XMLValidationSettings validationSettings,
+			Map<String, Object> validationArgs, Consumer<List<Diagnostic>> partialPublisher,
+			Map<String, List<Diagnostic>> lastParticipantDiagnostics, CancelChecker cancelChecker) {
 		if (validationSettings != null && !validationSettings.isEnabled()) {
 			return DiagnosticsResult.EMPTY;
 		}
 		DiagnosticsResult diagnostics = new DiagnosticsResult(validationArgs);
-		doExtensionsDiagnostics(xmlDocument, diagnostics, validationSettings, validationArgs, cancelChecker);
+		diagnostics.setPartialPublisher(partialPublisher);
+		doExtensionsDiagnostics(xmlDocument, diagnostics, validationSettings, validationArgs,
+				lastParticipantDiagnostics, cancelChecker);
 		return diagnostics;
 	}
 
@@ -59,19 +98,172 @@ class XMLDiagnostics {
 	 * @param validationArgs
 	 * @param monitor
 	 */
-	private void doExtensionsDiagnostics(DOMDocument xmlDocument, List<Diagnostic> diagnostics,
-			XMLValidationSettings validationSettings, Map<String, Object> validationArgs, CancelChecker monitor) {
-		for (IDiagnosticsParticipant diagnosticsParticipant : extensionsRegistry.getDiagnosticsParticipants()) {
-			monitor.checkCanceled();
-			try {
-				diagnosticsParticipant.doDiagnostics(xmlDocument, diagnostics, validationSettings, monitor);
-			} catch (CancellationException | CacheResourceDownloadingException e) {
-				throw e;
-			} catch (Exception e) {
-				LOGGER.log(Level.SEVERE, "Error while processing diagnostics for the participant '"
-						+ diagnosticsParticipant.getClass().getName() + "'.", e);
+	private void doExtensionsDiagnostics(DOMDocument xmlDocument, DiagnosticsResult diagnostics,
+			XMLValidationSettings validationSettings, Map<String, Object> validationArgs,
+			Map<String, List<Diagnostic>> lastParticipantDiagnostics, CancelChecker monitor) {
+		Collection<IDiagnosticsParticipant> registeredParticipants = extensionsRegistry.getDiagnosticsParticipants();
+		Consumer<List<Diagnostic>> partialPublisher = diagnostics.getPartialPublisher();
+		if (partialPublisher == null && !hasConcurrentParticipants(registeredParticipants)) {
+			for (IDiagnosticsParticipant diagnosticsParticipant : registeredParticipants) {
+				monitor.checkCanceled();
+				int start = diagnostics.size();
+				doParticipantDiagnostics(diagnosticsParticipant, xmlDocument, diagnostics, validationSettings,
+						monitor);
+				diagnostics.setParticipantDiagnostics(getParticipantId(diagnosticsParticipant),
+						new ArrayList<>(diagnostics.subList(start, diagnostics.size())));
+			}
+			return;
+		}
+
+		// Each participant populates its own diagnostics result which are merged in
+		// the registration order of the participants, so that the diagnostics order
+		// doesn't depend on the execution order.
+		List<IDiagnosticsParticipant> participants = new ArrayList<>(registeredParticipants);
+		List<DiagnosticsResult> results = new ArrayList<>(participants.size());
+		List<Future<?>> futures = new ArrayList<>(participants.size());
+		Set<Integer> finished = ConcurrentHashMap.newKeySet();
+		for (int i = 0; i < participants.size(); i++) {
+			DiagnosticsResult result = new DiagnosticsResult(validationArgs);
+			if (partialPublisher != null) {
+				// The diagnostics of a participant are published with the diagnostics of the
+				// other participants, to avoid hiding them while the validation is running.
+				int index = i;
+				result.setPartialPublisher(partialDiagnostics -> partialPublisher.accept(mergePartialDiagnostics(index,
+						partialDiagnostics, participants, results, finished, lastParticipantDiagnostics)));
 			}
+			results.add(result);
+		}
+		try {
+			// Start the concurrent participants
+			for (int i = 0; i < participants.size(); i++) {
+				IDiagnosticsParticipant diagnosticsParticipant = participants.get(i);
+				if (diagnosticsParticipant.isConcurrent()) {
+					DiagnosticsResult result = results.get(i);
+					int index = i;
+					futures.add(getParticipantsExecutor().submit(() -> {
+						monitor.checkCanceled();
+						doParticipantDiagnostics(diagnosticsParticipant, xmlDocument, result, validationSettings,
+								monitor);
+						finished.add(index);
+					}));
+				} else {
+					futures.add(null);
+				}
+			}
+			// Execute the other participants in the current thread
+			for (int i = 0; i < participants.size(); i++) {
+				if (futures.get(i) == null) {
+					monitor.checkCanceled();
+					doParticipantDiagnostics(participants.get(i), xmlDocument, results.get(i), validationSettings,
+							monitor);
+					finished.add(i);
+				}
+			}
+			// Wait for the concurrent participants and merge the diagnostics
+			for (int i = 0; i < participants.size(); i++) {
+				Future<?> future = futures.get(i);
+				if (future != null) {
+					waitFor(future);
+				}
+				diagnostics.merge(results.get(i));
+				diagnostics.setParticipantDiagnostics(getParticipantId(participants.get(i)), results.get(i));
+			}
+		} finally {
+			// Stop the concurrent participants if the validation is cancelled
+			for (Future<?> future : futures) {
+				if (future != null) {
+					future.cancel(true);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the diagnostics to publish when the participant of the given index
+	 * publishes its partial diagnostics: the partial diagnostics, the diagnostics
+	 * of the finished participants and the diagnostics of the last validation for
+	 * the other participants.
+	 */
+	private static List<Diagnostic> mergePartialDiagnostics(int index, List<Diagnostic> partialDiagnostics,
+			List<IDiagnosticsParticipant> participants, List<DiagnosticsResult> results, Set<Integer> finished,
+			Map<String, List<Diagnostic>> lastParticipantDiagnostics) {
+		List<Diagnostic> diagnostics = new ArrayList<>();
+		for (int i = 0; i < participants.size(); i++) {
+			if (i == index) {
+				diagnostics.addAll(partialDiagnostics);
+			} else if (finished.contains(i)) {
+				diagnostics.addAll(results.get(i));
+			} else {
+				List<Diagnostic> lastDiagnostics = lastParticipantDiagnostics
+						.get(getParticipantId(participants.get(i)));
+				if (lastDiagnostics != null) {
+					diagnostics.addAll(lastDiagnostics);
+				}
+			}
+		}
+		return diagnostics;
+	}
+
+	private static String getParticipantId(IDiagnosticsParticipant participant) {
+		return participant.getClass().getName();
+	}
+
+	private static boolean hasConcurrentParticipants(Collection<IDiagnosticsParticipant> participants) {
+		if (participants.size() < 2) {
+			return false;
+		}
+		for (IDiagnosticsParticipant participant : participants) {
+			if (participant.isConcurrent()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static void doParticipantDiagnostics(IDiagnosticsParticipant diagnosticsParticipant,
+			DOMDocument xmlDocument, List<Diagnostic> diagnostics, XMLValidationSettings validationSettings,
+			CancelChecker monitor) {
+		try {
+			diagnosticsParticipant.doDiagnostics(xmlDocument, diagnostics, validationSettings, monitor);
+		} catch (CancellationException | CacheResourceDownloadingException e) {
+			throw e;
+		} catch (Exception e) {
+			LOGGER.log(Level.SEVERE, "Error while processing diagnostics for the participant '"
+					+ diagnosticsParticipant.getClass().getName() + "'.", e);
+		}
+	}
+
+	private static void waitFor(Future<?> future) {
+		try {
+			future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CancellationException();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new RuntimeException(cause);
+		}
+	}
+
+	private static synchronized ExecutorService getParticipantsExecutor() {
+		if (participantsExecutor == null) {
+			AtomicInteger threadCount = new AtomicInteger();
+			ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_CONCURRENT_PARTICIPANTS,
+					MAX_CONCURRENT_PARTICIPANTS, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+						Thread thread = new Thread(runnable, "lemminx-diagnostics-" + threadCount.incrementAndGet());
+						thread.setDaemon(true);
+						return thread;
+					});
+			executor.allowCoreThreadTimeOut(true);
+			participantsExecutor = executor;
 		}
+		return participantsExecutor;
 	}
 
 }
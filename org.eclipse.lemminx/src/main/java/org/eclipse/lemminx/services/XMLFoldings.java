@@ -26,6 +26,7 @@ import java.util.regex.Pattern;
 
 import org.eclipse.lemminx.commons.BadLocationException;
 import org.eclipse.lemminx.commons.TextDocument;
+import org.eclipse.lemminx.dom.DOMDocument;
 import org.eclipse.lemminx.dom.parser.Scanner;
 import org.eclipse.lemminx.dom.parser.TokenType;
 import org.eclipse.lemminx.dom.parser.XMLScanner;
@@ -61,9 +62,24 @@ class XMLFoldings {
 		}
 	}
 
+	public List<FoldingRange> getFoldingRanges(DOMDocument xmlDocument, XMLFoldingSettings context,
+			CancelChecker cancelChecker) {
+		// Replay the tokens recorded by the DOM parser if they are available and the
+		// text content has not changed since the parse
+		String text = xmlDocument.getText();
+		Scanner scanner = xmlDocument.isDTD() || xmlDocument.getParsedText() != text
+				? XMLScanner.createScanner(text)
+				: xmlDocument.createScanner(0);
+		return getFoldingRanges(scanner, xmlDocument.getTextDocument(), context, cancelChecker);
+	}
+
 	public List<FoldingRange> getFoldingRanges(TextDocument document, XMLFoldingSettings context,
 			CancelChecker cancelChecker) {
-		Scanner scanner = XMLScanner.createScanner(document.getText());
+		return getFoldingRanges(XMLScanner.createScanner(document.getText()), document, context, cancelChecker);
+	}
+
+	private List<FoldingRange> getFoldingRanges(Scanner scanner, TextDocument document, XMLFoldingSettings context,
+			CancelChecker cancelChecker) {
 		TokenType token = scanner.scan();
 		List<FoldingRange> ranges = new ArrayList<>();
 
@@ -13,12 +13,14 @@
 package org.eclipse.lemminx.services;
 
 import java.nio.file.Path;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 import org.eclipse.lemminx.commons.BadLocationException;
+import org.eclipse.lemminx.commons.DiagnosticsStore;
 import org.eclipse.lemminx.commons.TextDocument;
 import org.eclipse.lemminx.customservice.AutoCloseTagResponse;
 import org.eclipse.lemminx.dom.DOMDocument;
@@ -162,6 +164,11 @@ public class XMLLanguageService extends XMLExtensionsRegistry implements IXMLFul
 		return symbolsProvider.findDocumentSymbols(xmlDocument, symbolSettings, cancelChecker);
 	}
 
+	public DocumentSymbolsResult findDocumentSymbols(DOMDocument xmlDocument, XMLSymbolSettings symbolSettings,
+			DocumentSymbolsScope scope, CancelChecker cancelChecker) {
+		return symbolsProvider.findDocumentSymbols(xmlDocument, symbolSettings, scope, cancelChecker);
+	}
+
 	public CompletionList doComplete(DOMDocument xmlDocument, Position position, SharedSettings settings) {
 		return doComplete(xmlDocument, position, settings, NULL_CHECKER);
 	}
@@ -200,11 +207,30 @@ public class XMLLanguageService extends XMLExtensionsRegistry implements IXMLFul
 				? validationSettings.getValidationSettings(xmlDocument.getDocumentURI())
 				: null;
 
+		// Publish the diagnostics while the validation is running if partial
+		// diagnostics are enabled
+		Consumer<List<Diagnostic>> partialPublisher = validationSettingsForUri != null
+				&& validationSettingsForUri.isPartialDiagnosticsEnabled() ? partialDiagnostics -> {
+					if (!cancelChecker.isCanceled()) {
+						publishDiagnostics.accept(new PublishDiagnosticsParams(uri, partialDiagnostics));
+					}
+				} : null;
+
+		// The partial diagnostics are published with the diagnostics of the last
+		// validation of the participants which are not finished
+		DiagnosticsStore diagnosticsStore = partialPublisher != null ? getComponent(DiagnosticsStore.class) : null;
+		Map<String, List<Diagnostic>> lastParticipantDiagnostics = diagnosticsStore != null
+				? diagnosticsStore.getParticipantDiagnostics(uri)
+				: Collections.emptyMap();
+
 		// Process validation
-		DiagnosticsResult diagnostics = (DiagnosticsResult) this.doDiagnostics(xmlDocument, validationSettingsForUri,
-				validationArgs, cancelChecker);
+		DiagnosticsResult diagnostics = this.diagnostics.doDiagnostics(xmlDocument, validationSettingsForUri,
+				validationArgs, partialPublisher, lastParticipantDiagnostics, cancelChecker);
 		cancelChecker.checkCanceled();
 		publishDiagnostics.accept(new PublishDiagnosticsParams(uri, diagnostics));
+		if (diagnosticsStore != null) {
+			diagnosticsStore.setParticipantDiagnostics(uri, diagnostics.getParticipantDiagnostics());
+		}
 
 		// If there are some XSD, DTD which are downloading, wait for all download and
 		// re-trigger the validation.
@@ -228,7 +254,7 @@ public class XMLLanguageService extends XMLExtensionsRegistry implements IXMLFul
 
 	public List<FoldingRange> getFoldingRanges(DOMDocument xmlDocument, XMLFoldingSettings context,
 			CancelChecker cancelChecker) {
-		return foldings.getFoldingRanges(xmlDocument.getTextDocument(), context, cancelChecker);
+		return foldings.getFoldingRanges(xmlDocument, context, cancelChecker);
 	}
 
 	public List<SelectionRange> getSelectionRanges(DOMDocument xmlDocument, List<Position> positions,
@@ -15,7 +15,10 @@ package org.eclipse.lemminx.services;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
@@ -48,6 +51,9 @@ import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 import org.w3c.dom.DocumentType;
 import org.w3c.dom.ProcessingInstruction;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
 /**
  * XML symbol provider.
  *
@@ -74,11 +80,55 @@ class XMLSymbolsProvider {
 		}
 	}
 
+	/**
+	 * Document symbols computed for some scopes of a given version of a DOM
+	 * document.
+	 */
+	private static class ScopedDocumentSymbols {
+
+		private static final int MAX_SCOPES = 32;
+
+		private final String text;
+
+		private final XMLSymbolSettings symbolSettings;
+
+		private final Map<DocumentSymbolsScope, DocumentSymbolsResult> results;
+
+		public ScopedDocumentSymbols(String text, XMLSymbolSettings symbolSettings) {
+			this.text = text;
+			this.symbolSettings = symbolSettings;
+			this.results = new LinkedHashMap<DocumentSymbolsScope, DocumentSymbolsResult>(16, 0.75f, true) {
+
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Entry<DocumentSymbolsScope, DocumentSymbolsResult> eldest) {
+					return size() > MAX_SCOPES;
+				}
+			};
+		}
+
+		boolean isValidFor(DOMDocument xmlDocument, XMLSymbolSettings symbolSettings) {
+			// the text instance changes for each version of the document
+			return this.text == xmlDocument.getText() && this.symbolSettings == symbolSettings;
+		}
+
+		synchronized DocumentSymbolsResult get(DocumentSymbolsScope scope) {
+			return results.get(scope);
+		}
+
+		synchronized void put(DocumentSymbolsScope scope, DocumentSymbolsResult symbols) {
+			results.put(scope, symbols);
+		}
+	}
+
 	private static final Logger LOGGER = Logger.getLogger(XMLSymbolsProvider.class.getName());
 	private final XMLExtensionsRegistry extensionsRegistry;
+	private final Cache<DOMDocument, ScopedDocumentSymbols> scopedSymbolsCache;
 
 	public XMLSymbolsProvider(XMLExtensionsRegistry extensionsRegistry) {
 		this.extensionsRegistry = extensionsRegistry;
+		this.scopedSymbolsCache = CacheBuilder.newBuilder().weakKeys().build();
 	}
 
 	// -------------- Symbol informations
@@ -178,7 +228,8 @@ class XMLSymbolsProvider {
 					if ((node.isDoctype() && isDTD)) {
 						nodesToIgnore.add(node);
 					}
-					findDocumentSymbols(node, symbols, nodesToIgnore, filter, hasFilterForAttr, cancelChecker);
+					findDocumentSymbols(node, symbols, nodesToIgnore, filter, hasFilterForAttr, 0, Integer.MAX_VALUE,
+							DocumentSymbolsScope.UNLIMITED_DEPTH, cancelChecker);
 				} catch (BadLocationException e) {
 					LOGGER.log(Level.SEVERE,
 							"XMLSymbolsProvider#findDocumentSymbols was given a BadLocation by a 'node' variable", e);
@@ -190,15 +241,125 @@ class XMLSymbolsProvider {
 		return symbols;
 	}
 
+	/**
+	 * Returns the document symbols of the given scope (parent symbol to expand,
+	 * visible range, number of levels).
+	 * 
+	 * <p>
+	 * Only the symbols of the scope are computed, the symbols of the DOM nodes are
+	 * cached for the current version of the DOM document.
+	 * </p>
+	 * 
+	 * @param xmlDocument    the DOM document.
+	 * @param symbolSettings the symbol settings.
+	 * @param scope          the scope of the symbols to compute.
+	 * @param cancelChecker  the cancel checker.
+	 * 
+	 * @return the document symbols of the given scope.
+	 */
+	public DocumentSymbolsResult findDocumentSymbols(DOMDocument xmlDocument, XMLSymbolSettings symbolSettings,
+			DocumentSymbolsScope scope, CancelChecker cancelChecker) {
+		XMLSymbolFilter filter = symbolSettings.getFilterFor(xmlDocument.getDocumentURI());
+		// Process symbols participants
+		DocumentSymbolsResult participantSymbols = new DocumentSymbolsResult(null);
+		if (processSymbolsParticipants(xmlDocument, null, participantSymbols, filter, cancelChecker)) {
+			// The replace participants compute all symbols, keep only the symbols of the
+			// scope.
+			DocumentSymbolsResult symbols = new DocumentSymbolsResult(null);
+			symbols.addAll(getScopedSymbols(participantSymbols, scope));
+			return symbols;
+		}
+
+		// Process default symbol providers
+		ScopedDocumentSymbols scopedSymbols = scopedSymbolsCache.getIfPresent(xmlDocument);
+		if (scopedSymbols == null || !scopedSymbols.isValidFor(xmlDocument, symbolSettings)) {
+			scopedSymbols = new ScopedDocumentSymbols(xmlDocument.getText(), symbolSettings);
+			scopedSymbolsCache.put(xmlDocument, scopedSymbols);
+		}
+		DocumentSymbolsResult nodeSymbols = scopedSymbols.get(scope);
+		if (nodeSymbols == null) {
+			nodeSymbols = findNodeSymbols(xmlDocument, symbolSettings, filter, scope, cancelChecker);
+			scopedSymbols.put(scope, nodeSymbols);
+		}
+		if (scope.getParent() != null || participantSymbols.isEmpty()) {
+			return nodeSymbols;
+		}
+		// The insert participants symbols are not cached, they can change without
+		// changing the DOM document (ex : referenced grammars)
+		DocumentSymbolsResult symbols = new DocumentSymbolsResult(null);
+		for (DocumentSymbol symbol : participantSymbols) {
+			symbols.add(collapseSymbol(symbol, scope.getDepth()));
+		}
+		symbols.addAll(nodeSymbols);
+		symbols.setResultLimitExceeded(nodeSymbols.isResultLimitExceeded());
+		return symbols;
+	}
+
+	private DocumentSymbolsResult findNodeSymbols(DOMDocument xmlDocument, XMLSymbolSettings symbolSettings,
+			XMLSymbolFilter filter, DocumentSymbolsScope scope, CancelChecker cancelChecker) {
+		AtomicLong limit = symbolSettings.getMaxItemsComputed() >= 0
+				? new AtomicLong(symbolSettings.getMaxItemsComputed())
+				: null;
+		DocumentSymbolsResult symbols = new DocumentSymbolsResult(limit);
+		int depth = scope.getDepth();
+		try {
+			int visibleStart = 0;
+			int visibleEnd = Integer.MAX_VALUE;
+			Range range = scope.getRange();
+			if (range != null) {
+				// the visible range is a range of lines
+				visibleStart = getLineStartOffset(xmlDocument, range.getStart().getLine());
+				visibleEnd = getLineStartOffset(xmlDocument, range.getEnd().getLine() + 1);
+			}
+			boolean hasFilterForAttr = filter.hasFilterFor(MatcherType.ATTRIBUTE);
+			List<DOMNode> nodesToIgnore = new ArrayList<>();
+			if (scope.getParent() != null) {
+				// Compute the children of the parent symbol to expand
+				DOMNode parent = findSymbolNodeAt(xmlDocument, xmlDocument.offsetAt(scope.getParent()));
+				if (parent != null) {
+					DocumentSymbolsResult parentSymbols = symbols.createList();
+					findDocumentSymbols(parent, parentSymbols, nodesToIgnore, filter, hasFilterForAttr, visibleStart,
+							visibleEnd, depth > 0 ? depth + 1 : depth, cancelChecker);
+					if (!parentSymbols.isEmpty() && parentSymbols.get(0).getChildren() != null) {
+						symbols.addAll(parentSymbols.get(0).getChildren());
+					}
+				}
+				return symbols;
+			}
+			boolean isDTD = xmlDocument.isDTD();
+			for (DOMNode node : xmlDocument.getRoots()) {
+				if ((node.isDoctype() && isDTD)) {
+					nodesToIgnore.add(node);
+				}
+				findDocumentSymbols(node, symbols, nodesToIgnore, filter, hasFilterForAttr, visibleStart, visibleEnd,
+						depth, cancelChecker);
+			}
+		} catch (BadLocationException e) {
+			LOGGER.log(Level.SEVERE, "XMLSymbolsProvider#findDocumentSymbols was given a BadLocation by the scope", e);
+		} catch (ResultLimitExceededException e) {
+			symbols.setResultLimitExceeded(true);
+		}
+		return symbols;
+	}
+
 	private void findDocumentSymbols(DOMNode node, DocumentSymbolsResult symbols, List<DOMNode> nodesToIgnore,
-			XMLSymbolFilter filter, boolean hasFilterForAttr, CancelChecker cancelChecker) throws BadLocationException {
+			XMLSymbolFilter filter, boolean hasFilterForAttr, int visibleStart, int visibleEnd, int depth,
+			CancelChecker cancelChecker) throws BadLocationException {
 		if (!isNodeSymbol(node, filter)) {
 			return;
 		}
+		if (node.getEnd() < visibleStart || node.getStart() >= visibleEnd) {
+			if (nodesToIgnore != null && node.isDTDElementDecl()) {
+				// The DTD ATTLIST must not be shown at the level of the hidden DTD ELEMENT
+				nodesToIgnore.addAll(node.getOwnerDocument().findDTDAttrList(((DTDElementDecl) node).getName()));
+			}
+			return;
+		}
 		cancelChecker.checkCanceled();
 
 		boolean hasChildNodes = node.hasChildNodes();
 		DocumentSymbolsResult childrenSymbols = symbols;
+		int childrenDepth = depth;
 		if (nodesToIgnore == null || !nodesToIgnore.contains(node)) {
 			String name;
 			Range selectionRange;
@@ -213,9 +374,24 @@ class XMLSymbolsProvider {
 			}
 			boolean collectAttributes = hasFilterForAttr && node.hasAttributes();
 			Range range = selectionRange;
-			childrenSymbols = hasChildNodes || node.isDTDElementDecl() || node.isDTDAttListDecl() || collectAttributes
-					? symbols.createList()
-					: DocumentSymbolsResult.EMPTY_LIMITLESS_LIST;
+			boolean hasChildrenSymbols = hasChildNodes || node.isDTDElementDecl() || node.isDTDAttListDecl()
+					|| collectAttributes;
+			// only an ATTLIST without DTD ELEMENT has children
+			boolean canExpand = hasChildNodes || node.isDTDElementDecl()
+					|| (nodesToIgnore != null && node.isDTDAttListDecl()) || collectAttributes;
+			if (canExpand && depth == 1) {
+				// Last level of the scope, the children are computed on demand
+				DocumentSymbol symbol = new DocumentSymbol(name, getSymbolKind(node), range, selectionRange, null,
+						null);
+				symbols.add(symbol);
+				if (node.isDTDElementDecl()) {
+					// The DTD ATTLIST must not be shown at the level of the DTD ELEMENT
+					nodesToIgnore.addAll(node.getOwnerDocument().findDTDAttrList(((DTDElementDecl) node).getName()));
+				}
+				return;
+			}
+			childrenSymbols = hasChildrenSymbols ? symbols.createList() : DocumentSymbolsResult.EMPTY_LIMITLESS_LIST;
+			childrenDepth = depth > 0 ? depth - 1 : depth;
 			DocumentSymbol symbol = new DocumentSymbol(name, getSymbolKind(node), range, selectionRange, null,
 					childrenSymbols);
 			symbols.add(symbol);
@@ -225,7 +401,8 @@ class XMLSymbolsProvider {
 					// Collect attributes from the DOM element
 					List<DOMNode> attrToIgnore = getFilteredNodeAttributes(node, filter, hasFilterForAttr);
 					for (DOMAttr attr : node.getAttributeNodes()) {
-						findDocumentSymbols(attr, childrenSymbols, attrToIgnore, filter, hasFilterForAttr, cancelChecker);
+						findDocumentSymbols(attr, childrenSymbols, attrToIgnore, filter, hasFilterForAttr, visibleStart,
+								visibleEnd, childrenDepth, cancelChecker);
 					}
 				}
 			} else {
@@ -242,14 +419,15 @@ class XMLSymbolsProvider {
 					}
 
 					for (DOMNode attrDecl : attlistDecls) {
-						findDocumentSymbols(attrDecl, childrenSymbols, null, filter, hasFilterForAttr, cancelChecker);
+						findDocumentSymbols(attrDecl, childrenSymbols, null, filter, hasFilterForAttr, visibleStart,
+								visibleEnd, childrenDepth, cancelChecker);
 						if (attrDecl instanceof DTDAttlistDecl) {
 							DTDAttlistDecl decl = (DTDAttlistDecl) attrDecl;
 							List<DTDAttlistDecl> otherAttributeDecls = decl.getInternalChildren();
 							if (otherAttributeDecls != null) {
 								for (DTDAttlistDecl internalDecl : otherAttributeDecls) {
 									findDocumentSymbols(internalDecl, childrenSymbols, null, filter, hasFilterForAttr,
-											cancelChecker);
+											visibleStart, visibleEnd, childrenDepth, cancelChecker);
 								}
 							}
 						}
@@ -262,9 +440,11 @@ class XMLSymbolsProvider {
 			return;
 		}
 		final DocumentSymbolsResult childrenOfChild = childrenSymbols;
+		final int depthOfChild = childrenDepth;
 		node.getChildren().forEach(child -> {
 			try {
-				findDocumentSymbols(child, childrenOfChild, nodesToIgnore, filter, hasFilterForAttr, cancelChecker);
+				findDocumentSymbols(child, childrenOfChild, nodesToIgnore, filter, hasFilterForAttr, visibleStart,
+						visibleEnd, depthOfChild, cancelChecker);
 			} catch (BadLocationException e) {
 				LOGGER.log(Level.SEVERE, "XMLSymbolsProvider was given a BadLocation by the provided 'node' variable",
 						e);
@@ -272,6 +452,122 @@ class XMLSymbolsProvider {
 		});
 	}
 
+	private static int getLineStartOffset(DOMDocument xmlDocument, int line) {
+		try {
+			return xmlDocument.offsetAt(new Position(line, 0));
+		} catch (BadLocationException e) {
+			// the line is after the end of the document
+			return xmlDocument.getText().length();
+		}
+	}
+
+	/**
+	 * Returns the deepest DOM node which starts at the given offset and null
+	 * otherwise.
+	 * 
+	 * @param xmlDocument the DOM document.
+	 * @param offset      the start offset of the range of a symbol.
+	 * 
+	 * @return the deepest DOM node which starts at the given offset and null
+	 *         otherwise.
+	 */
+	private static DOMNode findSymbolNodeAt(DOMDocument xmlDocument, int offset) {
+		DOMNode found = null;
+		DOMNode node = xmlDocument;
+		while (node != null && node.hasChildNodes()) {
+			DOMNode container = null;
+			for (DOMNode child : node.getChildren()) {
+				if (child.getStart() <= offset && offset < child.getEnd()) {
+					container = child;
+					if (child.getStart() == offset) {
+						found = child;
+					}
+					break;
+				}
+			}
+			node = container;
+		}
+		return found;
+	}
+
+	/**
+	 * Returns the symbols of the given scope from the given symbols of the whole
+	 * document.
+	 * 
+	 * @param symbols the symbols of the whole document.
+	 * @param scope   the scope.
+	 * 
+	 * @return the symbols of the given scope from the given symbols of the whole
+	 *         document.
+	 */
+	private static List<DocumentSymbol> getScopedSymbols(List<DocumentSymbol> symbols, DocumentSymbolsScope scope) {
+		if (scope.getParent() != null) {
+			DocumentSymbol parent = findSymbolAt(symbols, scope.getParent());
+			symbols = parent != null && parent.getChildren() != null ? parent.getChildren()
+					: Collections.emptyList();
+		}
+		return getVisibleSymbols(symbols, scope.getRange(), scope.getDepth());
+	}
+
+	private static DocumentSymbol findSymbolAt(List<DocumentSymbol> symbols, Position start) {
+		if (symbols == null) {
+			return null;
+		}
+		for (DocumentSymbol symbol : symbols) {
+			if (start.equals(symbol.getRange().getStart())) {
+				return symbol;
+			}
+			DocumentSymbol found = findSymbolAt(symbol.getChildren(), start);
+			if (found != null) {
+				return found;
+			}
+		}
+		return null;
+	}
+
+	private static List<DocumentSymbol> getVisibleSymbols(List<DocumentSymbol> symbols, Range visibleRange,
+			int depth) {
+		List<DocumentSymbol> visibleSymbols = new ArrayList<>();
+		for (DocumentSymbol symbol : symbols) {
+			if (visibleRange == null || isVisible(symbol.getRange(), visibleRange)) {
+				List<DocumentSymbol> children = symbol.getChildren();
+				if (children != null && !children.isEmpty()) {
+					symbol.setChildren(depth == 1 ? null : getVisibleSymbols(children, visibleRange, depth - 1));
+				}
+				visibleSymbols.add(symbol);
+			}
+		}
+		return visibleSymbols;
+	}
+
+	private static boolean isVisible(Range range, Range visibleRange) {
+		// the visible range is a range of lines
+		return range.getEnd().getLine() >= visibleRange.getStart().getLine()
+				&& range.getStart().getLine() <= visibleRange.getEnd().getLine();
+	}
+
+	/**
+	 * Remove the children of the symbols which are deeper than the given depth.
+	 * 
+	 * @param symbol the symbol.
+	 * @param depth  the number of levels to keep.
+	 * 
+	 * @return the given symbol.
+	 */
+	private static DocumentSymbol collapseSymbol(DocumentSymbol symbol, int depth) {
+		List<DocumentSymbol> children = symbol.getChildren();
+		if (children != null && !children.isEmpty()) {
+			if (depth == 1) {
+				symbol.setChildren(null);
+			} else {
+				for (DocumentSymbol child : children) {
+					collapseSymbol(child, depth > 0 ? depth - 1 : depth);
+				}
+			}
+		}
+		return symbol;
+	}
+
 	private List<DOMNode> getFilteredNodeAttributes(DOMNode node, XMLSymbolFilter filter, boolean hasFilterForAttr){
 		if(!hasFilterForAttr){
 			return null;
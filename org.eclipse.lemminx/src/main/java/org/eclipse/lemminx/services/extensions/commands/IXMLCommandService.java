@@ -40,7 +40,9 @@ public interface IXMLCommandService {
 		 * @param params        command execution parameters
 		 * @param sharedSettings the shared settings.
 		 * @param cancelChecker check if cancel has been requested
-		 * @return the result of the command
+		 * @return the result of the command. When the result is a
+		 *         {@link CompletableFuture}, the command request is completed
+		 *         with the result of the future.
 		 * @throws Exception the unhandled exception will be wrapped in
 		 *                   <code>org.eclipse.lsp4j.jsonrpc.ResponseErrorException</code>
 		 *                   and be wired back to the JSON-RPC protocol caller
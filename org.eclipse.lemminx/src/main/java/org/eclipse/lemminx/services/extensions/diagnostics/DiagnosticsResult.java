@@ -14,9 +14,11 @@ package org.eclipse.lemminx.services.extensions.diagnostics;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import org.eclipse.lsp4j.Diagnostic;
 
@@ -49,6 +51,10 @@ public class DiagnosticsResult extends ArrayList<Diagnostic> {
 
 	private transient List<CompletableFuture<?>> futures;
 
+	private transient Consumer<List<Diagnostic>> partialPublisher;
+
+	private transient Map<String, List<Diagnostic>> participantDiagnostics;
+
 	public DiagnosticsResult(Map<String, Object> validationArgs) {
 		this.validationArgs = validationArgs;
 	}
@@ -69,6 +75,68 @@ public class DiagnosticsResult extends ArrayList<Diagnostic> {
 		futures.add(future);
 	}
 
+	/**
+	 * Returns the publisher used to publish the diagnostics while the validation is
+	 * running and null otherwise.
+	 * 
+	 * @return the publisher used to publish the diagnostics while the validation
+	 *         is running and null otherwise.
+	 */
+	public Consumer<List<Diagnostic>> getPartialPublisher() {
+		return partialPublisher;
+	}
+
+	/**
+	 * Set the publisher used to publish the diagnostics while the validation is
+	 * running.
+	 * 
+	 * @param partialPublisher the partial publisher.
+	 */
+	public void setPartialPublisher(Consumer<List<Diagnostic>> partialPublisher) {
+		this.partialPublisher = partialPublisher;
+	}
+
+	/**
+	 * Set the diagnostics reported by the given diagnostics participant.
+	 * 
+	 * @param participantId the diagnostics participant id.
+	 * @param diagnostics   the diagnostics reported by the participant.
+	 */
+	public void setParticipantDiagnostics(String participantId, List<Diagnostic> diagnostics) {
+		if (participantDiagnostics == null) {
+			participantDiagnostics = new LinkedHashMap<>();
+		}
+		participantDiagnostics.put(participantId, diagnostics);
+	}
+
+	/**
+	 * Returns the diagnostics per diagnostics participant id and an empty map
+	 * otherwise.
+	 * 
+	 * @return the diagnostics per diagnostics participant id and an empty map
+	 *         otherwise.
+	 */
+	public Map<String, List<Diagnostic>> getParticipantDiagnostics() {
+		if (participantDiagnostics == null) {
+			return Collections.emptyMap();
+		}
+		return participantDiagnostics;
+	}
+
+	/**
+	 * Add the diagnostics and the completable futures of the given result.
+	 * 
+	 * @param result the diagnostics result to add.
+	 */
+	public void merge(DiagnosticsResult result) {
+		super.addAll(result);
+		if (result.futures != null) {
+			for (CompletableFuture<?> future : result.futures) {
+				addFuture(future);
+			}
+		}
+	}
+
 	/**
 	 * Returns the completable futures used in a diagnostics (ex : completeable
 	 * future to download external resources XSD, DTD) and an empty list otherwise.
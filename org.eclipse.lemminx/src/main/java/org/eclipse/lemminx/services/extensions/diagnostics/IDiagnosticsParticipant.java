@@ -37,4 +37,22 @@ public interface IDiagnosticsParticipant {
 	void doDiagnostics(DOMDocument xmlDocument, List<Diagnostic> diagnostics, XMLValidationSettings validationSettings,
 			CancelChecker cancelChecker);
 
+	/**
+	 * Returns true if the participant can be executed in parallel with the other
+	 * participants and false otherwise.
+	 * 
+	 * <p>
+	 * A concurrent participant must only read the XML document and must not share
+	 * any mutable state with the other participants. It receives its own
+	 * diagnostics list which is merged after the execution in the registration
+	 * order of the participants.
+	 * </p>
+	 * 
+	 * @return true if the participant can be executed in parallel with the other
+	 *         participants and false otherwise.
+	 */
+	default boolean isConcurrent() {
+		return false;
+	}
+
 }
@@ -0,0 +1,60 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.services.snippets;
+
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.lemminx.commons.BadLocationException;
+import org.eclipse.lemminx.commons.snippets.SnippetRegistry;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMNode;
+import org.eclipse.lemminx.services.extensions.completion.AbstractCompletionResolver;
+import org.eclipse.lemminx.services.extensions.completion.ICompletionItemResolverRequest;
+import org.eclipse.lsp4j.CompletionItem;
+import org.eclipse.lsp4j.MarkupKind;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+
+/**
+ * Resolves the documentation of a snippet completion item.
+ *
+ */
+public class SnippetCompletionResolver extends AbstractCompletionResolver {
+
+	private static final Logger LOGGER = Logger.getLogger(SnippetCompletionResolver.class.getName());
+
+	public static final String PARTICIPANT_ID = SnippetCompletionResolver.class.getName();
+
+	private final Supplier<SnippetRegistry> snippetRegistry;
+
+	public SnippetCompletionResolver(Supplier<SnippetRegistry> snippetRegistry) {
+		this.snippetRegistry = snippetRegistry;
+	}
+
+	@Override
+	protected void resolveCompletionItem(DOMNode node, CompletionItem toResolve, ICompletionItemResolverRequest request,
+			CancelChecker cancelChecker) {
+		if (toResolve.getDocumentation() != null) {
+			return;
+		}
+		DOMDocument document = request.getDocument();
+		try {
+			int line = document.positionAt(request.getCompletionOffset()).getLine();
+			snippetRegistry.get().resolveDocumentation(toResolve, document.lineDelimiter(line),
+					request.canSupportMarkupKind(MarkupKind.MARKDOWN));
+		} catch (BadLocationException e) {
+			LOGGER.log(Level.SEVERE, "In SnippetCompletionResolver, position error", e);
+		}
+	}
+
+}
@@ -22,6 +22,10 @@ public class ServerSettings {
 
 	private String workDir;
 
+	private Integer interactiveThreads;
+
+	private Integer backgroundThreads;
+
 	/**
 	 * @return the workDir
 	 */
@@ -36,6 +40,44 @@ public class ServerSettings {
 		this.workDir = workDir;
 	}
 
+	/**
+	 * Returns the number of threads used to execute the interactive requests (ex
+	 * : completion, hover) and null if it is not defined.
+	 *
+	 * @return the number of threads used to execute the interactive requests and
+	 *         null if it is not defined.
+	 */
+	public Integer getInteractiveThreads() {
+		return interactiveThreads;
+	}
+
+	/**
+	 * @param interactiveThreads the number of threads used to execute the
+	 *                           interactive requests.
+	 */
+	public void setInteractiveThreads(Integer interactiveThreads) {
+		this.interactiveThreads = interactiveThreads;
+	}
+
+	/**
+	 * Returns the number of threads used to execute the background requests (ex
+	 * : validation, code lens, symbols) and null if it is not defined.
+	 *
+	 * @return the number of threads used to execute the background requests and
+	 *         null if it is not defined.
+	 */
+	public Integer getBackgroundThreads() {
+		return backgroundThreads;
+	}
+
+	/**
+	 * @param backgroundThreads the number of threads used to execute the
+	 *                          background requests.
+	 */
+	public void setBackgroundThreads(Integer backgroundThreads) {
+		this.backgroundThreads = backgroundThreads;
+	}
+
 	/**
 	 * Returns a normalized workDir that was defined in the client preferences.
 	 * 
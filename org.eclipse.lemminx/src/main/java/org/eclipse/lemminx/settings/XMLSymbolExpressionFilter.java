@@ -146,7 +146,12 @@ public class XMLSymbolExpressionFilter {
 		return getMatcher().getNodeSelectorType() == matcherType;
 	}
 
-	private XPathMatcher getMatcher() {
+	/**
+	 * Returns the XPath matcher of the XPath expression.
+	 * 
+	 * @return the XPath matcher of the XPath expression.
+	 */
+	public XPathMatcher getMatcher() {
 		if (matcher == null) {
 			matcher = new XPathMatcher(xpath);
 		}
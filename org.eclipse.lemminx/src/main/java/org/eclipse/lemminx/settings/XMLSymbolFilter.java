@@ -11,9 +11,13 @@
 *******************************************************************************/
 package org.eclipse.lemminx.settings;
 
+import java.util.List;
+
 import org.eclipse.lemminx.dom.DOMAttr;
 import org.eclipse.lemminx.dom.DOMNode;
 import org.eclipse.lemminx.xpath.matcher.IXPathNodeMatcher.MatcherType;
+import org.eclipse.lemminx.xpath.matcher.XPathMatcher;
+import org.eclipse.lemminx.xpath.matcher.XPathMatcherSet;
 
 /**
  * XML symbol filter used to show/hide DOM attributes, text nodes specified with
@@ -89,6 +93,44 @@ public class XMLSymbolFilter extends PathPatternMatcher {
 
 	private XMLSymbolExpressionFilter[] expressions;
 
+	private transient volatile CompiledExpressions compiledExpressions;
+
+	/**
+	 * XPath expressions compiled to match a DOM node in one pass.
+	 */
+	private static class CompiledExpressions {
+
+		private final XPathMatcher[] sources;
+
+		private final XPathMatcherSet<XMLSymbolExpressionFilter> matchers;
+
+		public CompiledExpressions(XMLSymbolExpressionFilter[] expressions) {
+			this.sources = new XPathMatcher[expressions.length];
+			this.matchers = new XPathMatcherSet<>();
+			for (int i = 0; i < expressions.length; i++) {
+				XPathMatcher matcher = expressions[i].getMatcher();
+				sources[i] = matcher;
+				matchers.add(matcher, expressions[i]);
+			}
+		}
+
+		/**
+		 * Returns true if the XPath of an expression has been updated since the
+		 * compilation and false otherwise.
+		 */
+		boolean isDirty(XMLSymbolExpressionFilter[] expressions) {
+			if (sources.length != expressions.length) {
+				return true;
+			}
+			for (int i = 0; i < expressions.length; i++) {
+				if (sources[i] != expressions[i].getMatcher()) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
 	/**
 	 * Set the expression list filter.
 	 * 
@@ -96,6 +138,7 @@ public class XMLSymbolFilter extends PathPatternMatcher {
 	 */
 	public void setExpressions(XMLSymbolExpressionFilter[] expressions) {
 		this.expressions = expressions;
+		this.compiledExpressions = null;
 	}
 
 	/**
@@ -119,8 +162,8 @@ public class XMLSymbolFilter extends PathPatternMatcher {
 	 */
 	public XMLSymbolExpressionFilter getFilterForInlineAttr(DOMAttr attrNode){
 		if (expressions != null && expressions.length > 0) {
-			for (XMLSymbolExpressionFilter expression : expressions) {
-				if (expression.match(attrNode) && expression.isInlineAttribute()) {
+			for (XMLSymbolExpressionFilter expression : getMatchers().match(attrNode)) {
+				if (expression.isInlineAttribute()) {
 					return expression;
 				}
 			}
@@ -141,12 +184,10 @@ public class XMLSymbolFilter extends PathPatternMatcher {
 			return false;
 		}
 		if (expressions != null && expressions.length > 0) {
-			// loop for list of XPath expression and returns the first expression which
-			// matches the given node.
-			for (XMLSymbolExpressionFilter expression : expressions) {
-				if (expression.match(node)) {
-					return !expression.isExcluded();
-				}
+			// returns the first expression which matches the given node.
+			List<XMLSymbolExpressionFilter> matchedExpressions = getMatchers().match(node);
+			if (!matchedExpressions.isEmpty()) {
+				return !matchedExpressions.get(0).isExcluded();
 			}
 		}
 		// By default DOM attributes and Text nodes are excluded.
@@ -180,4 +221,20 @@ public class XMLSymbolFilter extends PathPatternMatcher {
 		}
 		return false;
 	}
+
+	/**
+	 * Returns the XPath expressions of the filter compiled to match a DOM node in
+	 * one pass.
+	 * 
+	 * @return the XPath expressions of the filter compiled to match a DOM node in
+	 *         one pass.
+	 */
+	private XPathMatcherSet<XMLSymbolExpressionFilter> getMatchers() {
+		CompiledExpressions compiledExpressions = this.compiledExpressions;
+		if (compiledExpressions == null || compiledExpressions.isDirty(expressions)) {
+			compiledExpressions = new CompiledExpressions(expressions);
+			this.compiledExpressions = compiledExpressions;
+		}
+		return compiledExpressions.matchers;
+	}
 }
@@ -323,6 +323,16 @@ public class CacheResourcesManager {
 		return FilesUtils.getDeployedPath(resourceCachePath);
 	}
 
+	/**
+	 * Returns the cache directory path (.lemminx/cache).
+	 *
+	 * @return the cache directory path (.lemminx/cache).
+	 * @throws IOException
+	 */
+	public static Path getCachePath() throws IOException {
+		return FilesUtils.getDeployedPath(Paths.get(CACHE_PATH));
+	}
+
 	/**
 	 * Try to get the cached {@link ResourceToDeploy#resourceCachePath} in cache
 	 * file system and if it is not found, create the file with the given content of
@@ -404,7 +414,7 @@ public class CacheResourcesManager {
 	 */
 	public void evictCache() throws IOException {
 		// Get the cache directory path
-		Path cachePath = FilesUtils.getDeployedPath(Paths.get(CACHE_PATH));
+		Path cachePath = getCachePath();
 		if (Files.exists(cachePath)) {
 			// Remove the cache directory
 			MoreFiles.deleteDirectoryContents(cachePath, RecursiveDeleteOption.ALLOW_INSECURE);
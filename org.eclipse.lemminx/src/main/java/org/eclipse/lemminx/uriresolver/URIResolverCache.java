@@ -0,0 +1,150 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.uriresolver;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded LRU cache of the URIs resolved by the
+ * {@link URIResolverExtensionManager} keyed by (base location, public id,
+ * system id).
+ *
+ * <p>
+ * A generation is incremented each time the cache is invalidated, so that a
+ * resolution started before the invalidation is not stored after it.
+ * </p>
+ *
+ */
+class URIResolverCache {
+
+	private static class Key {
+
+		private final String baseLocation;
+
+		private final String publicId;
+
+		private final String systemId;
+
+		private final int hashCode;
+
+		Key(String baseLocation, String publicId, String systemId) {
+			this.baseLocation = baseLocation;
+			this.publicId = publicId;
+			this.systemId = systemId;
+			this.hashCode = Objects.hash(baseLocation, publicId, systemId);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return Objects.equals(baseLocation, other.baseLocation) && Objects.equals(publicId, other.publicId)
+					&& Objects.equals(systemId, other.systemId);
+		}
+	}
+
+	private final Map<Key, ResolvedURIInfo> entries;
+
+	private final AtomicLong hitCount;
+
+	private final AtomicLong missCount;
+
+	private long generation;
+
+	URIResolverCache(int maxSize) {
+		this.entries = new LinkedHashMap<Key, ResolvedURIInfo>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, ResolvedURIInfo> eldest) {
+				return size() > maxSize;
+			}
+		};
+		this.hitCount = new AtomicLong();
+		this.missCount = new AtomicLong();
+	}
+
+	/**
+	 * Returns the cached resolution and null otherwise.
+	 */
+	ResolvedURIInfo get(String baseLocation, String publicId, String systemId) {
+		ResolvedURIInfo info;
+		synchronized (entries) {
+			info = entries.get(new Key(baseLocation, publicId, systemId));
+		}
+		if (info != null) {
+			hitCount.incrementAndGet();
+		} else {
+			missCount.incrementAndGet();
+		}
+		return info;
+	}
+
+	/**
+	 * Returns the current generation of the cache.
+	 */
+	synchronized long getGeneration() {
+		return generation;
+	}
+
+	/**
+	 * Store the given resolution if the cache has not been invalidated since the
+	 * given generation.
+	 */
+	void put(String baseLocation, String publicId, String systemId, ResolvedURIInfo info, long generation) {
+		synchronized (this) {
+			if (generation != this.generation) {
+				return;
+			}
+			synchronized (entries) {
+				entries.put(new Key(baseLocation, publicId, systemId), info);
+			}
+		}
+	}
+
+	/**
+	 * Clear the cache.
+	 */
+	void invalidate() {
+		synchronized (this) {
+			generation++;
+			synchronized (entries) {
+				entries.clear();
+			}
+		}
+	}
+
+	int size() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+	long getHitCount() {
+		return hitCount.get();
+	}
+
+	long getMissCount() {
+		return missCount.get();
+	}
+}
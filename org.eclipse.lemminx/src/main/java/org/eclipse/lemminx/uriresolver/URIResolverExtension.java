@@ -40,6 +40,29 @@ public interface URIResolverExtension extends XMLEntityResolver {
 	 */
 	public String resolve(String baseLocation, String publicId, String systemId);
 
+	/**
+	 * Returns true if the result of {@link #resolve(String, String, String)} for
+	 * the given ids depends only on the ids and on the settings of the resolver
+	 * and false otherwise (ex : the result depends on the content of the
+	 * document).
+	 * 
+	 * <p>
+	 * When it returns true, the result can be cached by the
+	 * {@link URIResolverExtensionManager} until
+	 * {@link URIResolverExtensionManager#invalidateCache()} is called.
+	 * </p>
+	 * 
+	 * @param baseLocation the location of the resource that contains the uri
+	 * @param publicId     an optional public identifier (i.e. namespace name), or
+	 *                     null if none
+	 * @param systemId     an absolute or relative URI, or null if none
+	 * @return true if the result of {@link #resolve(String, String, String)} for
+	 *         the given ids can be cached and false otherwise.
+	 */
+	default boolean isResolveCacheable(String baseLocation, String publicId, String systemId) {
+		return false;
+	}
+
 	@Override
 	default XMLInputSource resolveEntity(XMLResourceIdentifier resourceIdentifier) throws XNIException, IOException {
 		return null;
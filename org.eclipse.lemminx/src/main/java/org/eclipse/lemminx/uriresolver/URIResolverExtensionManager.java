@@ -14,9 +14,9 @@ package org.eclipse.lemminx.uriresolver;
 
 import java.io.IOException;
 import java.net.URI;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.apache.xerces.impl.XMLEntityManager;
 import org.apache.xerces.util.URI.MalformedURIException;
@@ -34,9 +34,14 @@ public class URIResolverExtensionManager implements URIResolverExtension, IExter
 
 	private final URIResolverExtension defaultURIResolverExtension;
 
+	private static final int MAX_CACHE_SIZE = 1000;
+
+	private final URIResolverCache cache;
+
 	public URIResolverExtensionManager() {
-		resolvers = new ArrayList<>();
+		resolvers = new CopyOnWriteArrayList<>();
 		this.defaultURIResolverExtension = new DefaultURIResolverExtension();
+		this.cache = new URIResolverCache(MAX_CACHE_SIZE);
 	}
 
 	class DefaultURIResolverExtension implements URIResolverExtension {
@@ -55,6 +60,11 @@ public class URIResolverExtensionManager implements URIResolverExtension, IExter
 			}
 		}
 
+		@Override
+		public boolean isResolveCacheable(String baseLocation, String publicId, String systemId) {
+			return true;
+		}
+
 		@Override
 		public XMLInputSource resolveEntity(XMLResourceIdentifier rid) throws XNIException, IOException {
 			XMLInputSource is = null;
@@ -81,6 +91,7 @@ public class URIResolverExtensionManager implements URIResolverExtension, IExter
 	 */
 	public void registerResolver(URIResolverExtension resolver) {
 		resolvers.add(resolver);
+		invalidateCache();
 	}
 
 	/**
@@ -89,32 +100,71 @@ public class URIResolverExtensionManager implements URIResolverExtension, IExter
 	 * @param resolver the URI resolver to unregister.
 	 */
 	public void unregisterResolver(URIResolverExtension resolver) {
-		resolvers.add(resolver);
+		resolvers.remove(resolver);
+		invalidateCache();
+	}
+
+	/**
+	 * Clear the cache of the resolved URIs. It must be called when the settings
+	 * of a resolver change (ex : catalogs, file associations).
+	 */
+	public void invalidateCache() {
+		cache.invalidate();
+	}
+
+	/**
+	 * Returns the number of URI resolutions found in the cache.
+	 *
+	 * @return the number of URI resolutions found in the cache.
+	 */
+	public long getCacheHitCount() {
+		return cache.getHitCount();
+	}
+
+	/**
+	 * Returns the number of URI resolutions not found in the cache.
+	 *
+	 * @return the number of URI resolutions not found in the cache.
+	 */
+	public long getCacheMissCount() {
+		return cache.getMissCount();
 	}
 
 	@Override
 	public String resolve(String baseLocation, String publicId, String systemId) {
-		for (URIResolverExtension resolver : resolvers) {
-			String resolved = resolver.resolve(baseLocation, publicId, systemId);
-			if (resolved != null && !resolved.isEmpty()) {
-				return resolved;
-			}
+		ResolvedURIInfo info = resolveInfo(baseLocation, publicId, systemId);
+		if (info != null) {
+			return info.getResolvedURI();
 		}
 		return defaultURIResolverExtension.resolve(baseLocation, publicId, systemId);
 	}
 
 	public ResolvedURIInfo resolveInfo(String baseLocation, String publicId, String systemId) {
+		ResolvedURIInfo info = cache.get(baseLocation, publicId, systemId);
+		if (info != null) {
+			return info;
+		}
+		long generation = cache.getGeneration();
+		// the result can be cached only if all consulted resolvers are cacheable
+		boolean cacheable = true;
 		for (URIResolverExtension resolver : resolvers) {
 			String resolvedURI = resolver.resolve(baseLocation, publicId, systemId);
+			cacheable = cacheable && resolver.isResolveCacheable(baseLocation, publicId, systemId);
+			if (resolvedURI != null && !resolvedURI.isEmpty()) {
+				info = new ResolvedURIInfo(resolvedURI, resolver);
+				break;
+			}
+		}
+		if (info == null) {
+			String resolvedURI = defaultURIResolverExtension.resolve(baseLocation, publicId, systemId);
 			if (resolvedURI != null && !resolvedURI.isEmpty()) {
-				return new ResolvedURIInfo(resolvedURI, resolver);
+				info = new ResolvedURIInfo(resolvedURI, defaultURIResolverExtension);
 			}
 		}
-		String resolvedURI = defaultURIResolverExtension.resolve(baseLocation, publicId, systemId);
-		if (resolvedURI != null && !resolvedURI.isEmpty()) {
-			return new ResolvedURIInfo(resolvedURI, defaultURIResolverExtension);
+		if (info != null && cacheable) {
+			cache.put(baseLocation, publicId, systemId, info, generation);
 		}
-		return null;
+		return info;
 	}
 
 	@Override
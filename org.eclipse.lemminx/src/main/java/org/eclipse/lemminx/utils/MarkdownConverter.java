@@ -16,6 +16,8 @@ import static org.apache.commons.lang3.StringEscapeUtils.unescapeJava;
 import static org.apache.commons.lang3.StringEscapeUtils.unescapeXml;
 
 import java.lang.reflect.Field;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.logging.Logger;
 
 import com.overzealous.remark.Options;
@@ -29,19 +31,37 @@ import org.jsoup.safety.Safelist;
 /**
  * Converts HTML content into Markdown equivalent.
  *
+ * <p>
+ * A {@link Remark} instance is not thread-safe, so each thread uses its own
+ * instance. The converted HTML contents are cached since the same XML Schema
+ * documentation is converted for each hover and completion.
+ * </p>
+ *
  * @author Fred Bricon
  */
 public class MarkdownConverter {
 
 	private static final Logger LOGGER = Logger.getLogger(MarkdownConverter.class.getName());
 
-	private static Remark remark;
+	private static final int MAX_CACHE_SIZE = 500;
+
+	private static final ThreadLocal<Remark> REMARK = ThreadLocal.withInitial(MarkdownConverter::createRemark);
+
+	private static final Map<String, String> CACHE = new LinkedHashMap<String, String>(16, 0.75f, true) {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+			return size() > MAX_CACHE_SIZE;
+		}
+	};
 
 	private MarkdownConverter(){
 		//no public instanciation
 	}
 
-	static {
+	private static Remark createRemark() {
 		Options options = new Options();
 		options.tables = Tables.CONVERT_TO_CODE_BLOCK;
 		options.hardwraps = true;
@@ -49,7 +69,7 @@ public class MarkdownConverter {
 		options.autoLinks = true;
 		options.reverseHtmlSmartPunctuation = true;
 		options.fencedCodeBlocks = FencedCodeBlocks.ENABLED_BACKTICK;
-		remark = new Remark(options);
+		Remark remark = new Remark(options);
 		//Stop remark from stripping file protocol in an href
 		try {
 			Field cleanerField = Remark.class.getDeclaredField("cleaner");
@@ -66,13 +86,24 @@ public class MarkdownConverter {
 		} catch (NoSuchFieldException | SecurityException | IllegalArgumentException | IllegalAccessException e) {
 			LOGGER.severe("Unable to modify jsoup to include file protocols "+ e.getMessage());
 		}
+		return remark;
 	}
 
 	public static String convert(String html) {
 		if(!StringUtils.isTagOutsideOfBackticks(html)) {
 			return unescapeXml(html); // is not html so it can be returned as is (aside from unescaping)
 		}
-		return unescapeJava(remark.convert(html));
+		String markdown;
+		synchronized (CACHE) {
+			markdown = CACHE.get(html);
+		}
+		if (markdown == null) {
+			markdown = unescapeJava(REMARK.get().convert(html));
+			synchronized (CACHE) {
+				CACHE.put(html, markdown);
+			}
+		}
+		return markdown;
 	}
 
 }
@@ -33,7 +33,6 @@ import org.eclipse.lemminx.dom.DTDElementDecl;
 import org.eclipse.lemminx.dom.TargetRange;
 import org.eclipse.lemminx.dom.parser.Scanner;
 import org.eclipse.lemminx.dom.parser.TokenType;
-import org.eclipse.lemminx.dom.parser.XMLScanner;
 import org.eclipse.lsp4j.DocumentLink;
 import org.eclipse.lsp4j.Location;
 import org.eclipse.lsp4j.LocationLink;
@@ -1094,7 +1093,7 @@ public class XMLPositionUtility {
 
 	public static Range getTagNameRange(TokenType tokenType, int startOffset, DOMDocument xmlDocument) {
 
-		Scanner scanner = XMLScanner.createScanner(xmlDocument.getText(), startOffset);
+		Scanner scanner = xmlDocument.createScanner(startOffset);
 
 		TokenType token = scanner.scan();
 		while (token != TokenType.EOS && token != tokenType) {
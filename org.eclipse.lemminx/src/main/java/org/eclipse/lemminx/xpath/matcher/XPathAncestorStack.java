@@ -0,0 +1,79 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.xpath.matcher;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.w3c.dom.Node;
+
+/**
+ * Stack of the element names of the ancestors of the DOM node which is
+ * visited by a depth-first walk.
+ * 
+ * <p>
+ * The walk pushes an element before visiting its attributes and its children,
+ * and pops it after. It is used by {@link XPathMatcherSet} to discard the XPath
+ * expressions which require an element name which is not declared by the
+ * ancestors, without climbing the parent nodes.
+ * </p>
+ *
+ */
+public class XPathAncestorStack {
+
+	private final Deque<String> names;
+
+	private final Map<String, Integer> counts;
+
+	public XPathAncestorStack() {
+		this.names = new ArrayDeque<>();
+		this.counts = new HashMap<>();
+	}
+
+	/**
+	 * Push the given DOM element.
+	 * 
+	 * @param element the DOM element.
+	 */
+	public void push(Node element) {
+		String name = XPathMatcherSet.getNodeName(element);
+		names.push(name != null ? name : "");
+		if (name != null) {
+			counts.merge(name, 1, Integer::sum);
+		}
+	}
+
+	/**
+	 * Pop the last pushed DOM element.
+	 */
+	public void pop() {
+		String name = names.pop();
+		if (!name.isEmpty()) {
+			counts.computeIfPresent(name, (key, count) -> count > 1 ? count - 1 : null);
+		}
+	}
+
+	/**
+	 * Returns true if an element of the stack has the given name and false
+	 * otherwise.
+	 * 
+	 * @param name the element name.
+	 * 
+	 * @return true if an element of the stack has the given name and false
+	 *         otherwise.
+	 */
+	public boolean contains(String name) {
+		return counts.containsKey(name);
+	}
+}
@@ -45,6 +45,24 @@ public class XPathAttributeNameMatcher extends AbstractXPathNodeMatcher {
 		return prefix;
 	}
 
+	/**
+	 * Returns the attribute name to match.
+	 * 
+	 * @return the attribute name to match.
+	 */
+	public String getLocalName() {
+		return localName;
+	}
+
+	/**
+	 * Returns true if any attribute name is matched (@*) and false otherwise.
+	 * 
+	 * @return true if any attribute name is matched (@*) and false otherwise.
+	 */
+	public boolean isAnyAttributeName() {
+		return anyAttributeName;
+	}
+
 	@Override
 	public boolean match(Node testNode, Collection<String> wildcardValues) {
 		if (!(testNode.getNodeType() == Node.ATTRIBUTE_NODE)) {
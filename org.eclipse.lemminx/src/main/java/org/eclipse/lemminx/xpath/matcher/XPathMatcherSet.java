@@ -0,0 +1,245 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.xpath.matcher;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.w3c.dom.Node;
+
+/**
+ * Set of XPath matchers compiled to match a DOM node against several XPath
+ * expressions at once.
+ * 
+ * <p>
+ * The XPath matchers are indexed by their last step (the node selector) :
+ * 
+ * <ul>
+ * <li>//@id is only tested for the attributes named 'id'.</li>
+ * <li>//text() is only tested for the text nodes.</li>
+ * <li>//bean is only tested for the nodes named 'bean'.</li>
+ * </ul>
+ * 
+ * When the DOM node is visited with a depth-first walk which maintains a
+ * {@link XPathAncestorStack}, the XPath matchers which require an element name
+ * (ex : 'target' for //target/@name) not declared by the ancestors are
+ * discarded too. The remaining XPath matchers are tested with
+ * {@link XPathMatcher#match(Node)}.
+ * </p>
+ * 
+ * <p>
+ * The set must be filled with {@link #add(XPathMatcher, Object)} before being
+ * shared for matching.
+ * </p>
+ *
+ * @param <T> the type of the value associated to an XPath matcher.
+ */
+public class XPathMatcherSet<T> {
+
+	private static class Entry<T> {
+
+		private final int index;
+
+		private final XPathMatcher matcher;
+
+		private final T value;
+
+		private final String[] requiredNames;
+
+		public Entry(int index, XPathMatcher matcher, T value, String[] requiredNames) {
+			this.index = index;
+			this.matcher = matcher;
+			this.value = value;
+			this.requiredNames = requiredNames;
+		}
+	}
+
+	private final Map<String, List<Entry<T>>> attributesByName;
+
+	private final List<Entry<T>> anyAttributes;
+
+	private final List<Entry<T>> texts;
+
+	private final Map<String, List<Entry<T>>> nodesByName;
+
+	private final List<Entry<T>> anyNodes;
+
+	private int size;
+
+	public XPathMatcherSet() {
+		this.attributesByName = new HashMap<>();
+		this.anyAttributes = new ArrayList<>();
+		this.texts = new ArrayList<>();
+		this.nodesByName = new HashMap<>();
+		this.anyNodes = new ArrayList<>();
+	}
+
+	/**
+	 * Add the given XPath matcher associated to the given value.
+	 * 
+	 * @param matcher the XPath matcher.
+	 * @param value   the value returned by {@link #match(Node)} when the XPath
+	 *                matcher matches a node.
+	 */
+	public void add(XPathMatcher matcher, T value) {
+		Entry<T> entry = new Entry<>(size++, matcher, value, getRequiredNames(matcher));
+		IXPathNodeMatcher selector = matcher.isEmpty() ? null : matcher.get(matcher.size() - 1);
+		if (selector instanceof XPathAttributeNameMatcher) {
+			XPathAttributeNameMatcher attrMatcher = (XPathAttributeNameMatcher) selector;
+			if (attrMatcher.isAnyAttributeName()) {
+				anyAttributes.add(entry);
+			} else {
+				attributesByName.computeIfAbsent(attrMatcher.getLocalName(), k -> new ArrayList<>()).add(entry);
+			}
+		} else if (selector instanceof XPathTextMatcher) {
+			texts.add(entry);
+		} else if (selector instanceof XPathElementMatcher && !selector.isAny()) {
+			nodesByName.computeIfAbsent(((XPathElementMatcher) selector).getLocalName(), k -> new ArrayList<>())
+					.add(entry);
+		} else {
+			anyNodes.add(entry);
+		}
+	}
+
+	/**
+	 * Returns true if the set has no XPath matcher and false otherwise.
+	 * 
+	 * @return true if the set has no XPath matcher and false otherwise.
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Returns the values of the XPath matchers which match the given DOM node, in
+	 * the order where they have been added.
+	 * 
+	 * @param node the DOM node to match.
+	 * 
+	 * @return the values of the XPath matchers which match the given DOM node, in
+	 *         the order where they have been added.
+	 */
+	public List<T> match(Node node) {
+		return match(node, null);
+	}
+
+	/**
+	 * Returns the values of the XPath matchers which match the given DOM node, in
+	 * the order where they have been added.
+	 * 
+	 * @param node      the DOM node to match.
+	 * @param ancestors the ancestors of the DOM node (the owner element and its
+	 *                  ancestors for an attribute) or null if the ancestors are
+	 *                  unknown.
+	 * 
+	 * @return the values of the XPath matchers which match the given DOM node, in
+	 *         the order where they have been added.
+	 */
+	public List<T> match(Node node, XPathAncestorStack ancestors) {
+		if (node == null || size == 0) {
+			return Collections.emptyList();
+		}
+		String nodeName = getNodeName(node);
+		List<Entry<T>> candidates = new ArrayList<>();
+		int nbSources = 0;
+		switch (node.getNodeType()) {
+		case Node.ATTRIBUTE_NODE:
+			nbSources += addCandidates(node.getLocalName() != null ? attributesByName.get(node.getLocalName()) : null,
+					candidates);
+			nbSources += addCandidates(anyAttributes, candidates);
+			break;
+		case Node.TEXT_NODE:
+			nbSources += addCandidates(texts, candidates);
+			break;
+		}
+		nbSources += addCandidates(nodeName != null ? nodesByName.get(nodeName) : null, candidates);
+		nbSources += addCandidates(anyNodes, candidates);
+		if (candidates.isEmpty()) {
+			return Collections.emptyList();
+		}
+		if (nbSources > 1) {
+			candidates.sort((e1, e2) -> e1.index - e2.index);
+		}
+		List<T> values = null;
+		for (Entry<T> entry : candidates) {
+			if (ancestors != null && !isRequiredNamesDeclared(entry, nodeName, ancestors)) {
+				continue;
+			}
+			if (entry.matcher.match(node)) {
+				if (values == null) {
+					values = new ArrayList<>();
+				}
+				values.add(entry.value);
+			}
+		}
+		return values != null ? values : Collections.emptyList();
+	}
+
+	private static <T> int addCandidates(List<Entry<T>> entries, List<Entry<T>> candidates) {
+		if (entries == null || entries.isEmpty()) {
+			return 0;
+		}
+		candidates.addAll(entries);
+		return 1;
+	}
+
+	private static boolean isRequiredNamesDeclared(Entry<?> entry, String nodeName, XPathAncestorStack ancestors) {
+		for (String requiredName : entry.requiredNames) {
+			if (!(requiredName.equals(nodeName) || ancestors.contains(requiredName))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the element names which must be matched by the tested node or by
+	 * its ancestors (ex : 'target' for //target/@name).
+	 * 
+	 * @param matcher the XPath matcher.
+	 * 
+	 * @return the element names which must be matched by the tested node or by
+	 *         its ancestors.
+	 */
+	private static String[] getRequiredNames(XPathMatcher matcher) {
+		Set<String> names = null;
+		for (int i = 0; i < matcher.size() - 1; i++) {
+			IXPathNodeMatcher step = matcher.get(i);
+			if (step instanceof XPathElementMatcher && !step.isAny()) {
+				if (names == null) {
+					names = new LinkedHashSet<>();
+				}
+				names.add(((XPathElementMatcher) step).getLocalName());
+			}
+		}
+		return names != null ? names.toArray(new String[names.size()]) : new String[0];
+	}
+
+	/**
+	 * Returns the name of the given node used by {@link XPathElementMatcher} to
+	 * match an element name.
+	 * 
+	 * @param node the DOM node.
+	 * 
+	 * @return the name of the given node used by {@link XPathElementMatcher} to
+	 *         match an element name.
+	 */
+	static String getNodeName(Node node) {
+		String localName = node.getLocalName();
+		return localName != null ? localName : node.getNodeName();
+	}
+}
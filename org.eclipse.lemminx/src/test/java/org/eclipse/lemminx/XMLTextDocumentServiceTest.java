@@ -0,0 +1,85 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.eclipse.lemminx.commons.ModelTextDocument;
+import org.eclipse.lemminx.commons.RequestScheduler;
+import org.eclipse.lemminx.commons.RequestScheduler.Lane;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lsp4j.CompletionParams;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4j.TextDocumentIdentifier;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link XMLTextDocumentService}.
+ *
+ */
+public class XMLTextDocumentServiceTest {
+
+	@Test
+	public void validateAllRecentDocumentsFirst() throws Exception {
+		MockXMLLanguageServer languageServer = new MockXMLLanguageServer();
+		XMLTextDocumentService textDocumentService = (XMLTextDocumentService) languageServer
+				.getTextDocumentService();
+		RequestScheduler requestScheduler = textDocumentService.getRequestScheduler();
+		requestScheduler.setThreadCount(Lane.BACKGROUND, 1);
+
+		languageServer.didOpen("file:///test1.xml", "<root>");
+		languageServer.didOpen("file:///test2.xml", "<root>");
+		TextDocumentIdentifier test3 = languageServer.didOpen("file:///test3.xml", "<root>");
+		// Wait for the didOpen validation
+		requestScheduler.runAsync(Lane.BACKGROUND, null, null, () -> {
+		}).get(5, TimeUnit.SECONDS);
+		languageServer.getPublishDiagnostics().clear();
+		// Forget the published diagnostics to publish the unchanged diagnostics
+		textDocumentService.getDiagnosticsStore().remove("file:///test1.xml");
+		textDocumentService.getDiagnosticsStore().remove("file:///test2.xml");
+		textDocumentService.getDiagnosticsStore().remove(test3.getUri());
+
+		// Completion in test1.xml, test1.xml is the most recently used document
+		textDocumentService.completion(new CompletionParams(new TextDocumentIdentifier("file:///test1.xml"),
+				new Position(0, 6))).get(5, TimeUnit.SECONDS);
+
+		// Block the background lane while the validation is scheduled
+		CountDownLatch blocker = new CountDownLatch(1);
+		requestScheduler.runAsync(Lane.BACKGROUND, null, null, () -> {
+			try {
+				blocker.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		List<ModelTextDocument<DOMDocument>> documents = Arrays.asList(
+				textDocumentService.getDocument("file:///test1.xml"),
+				textDocumentService.getDocument("file:///test2.xml"),
+				textDocumentService.getDocument(test3.getUri()));
+		CompletableFuture<Void> validation = textDocumentService.validateAll(documents);
+		blocker.countDown();
+		validation.get(5, TimeUnit.SECONDS);
+
+		List<String> validatedUris = languageServer.getPublishDiagnostics().stream() //
+				.map(PublishDiagnosticsParams::getUri) //
+				.collect(Collectors.toList());
+		assertEquals(Arrays.asList("file:///test1.xml", "file:///test3.xml", "file:///test2.xml"), validatedUris);
+	}
+}
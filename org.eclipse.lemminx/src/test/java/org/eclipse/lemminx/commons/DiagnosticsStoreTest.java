@@ -0,0 +1,125 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.commons;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.DiagnosticSeverity;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4j.Range;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link DiagnosticsStore}.
+ *
+ */
+public class DiagnosticsStoreTest {
+
+	@Test
+	public void skipUnchangedDiagnostics() {
+		DiagnosticsStore store = new DiagnosticsStore();
+		List<PublishDiagnosticsParams> published = new ArrayList<>();
+
+		assertTrue(store.publish(new PublishDiagnosticsParams("test.xml", Arrays.asList(d("error"))),
+				published::add));
+		String resultId = store.getResultId("test.xml");
+		// Same diagnostics with other instances
+		assertFalse(store.publish(new PublishDiagnosticsParams("test.xml", Arrays.asList(d("error"))),
+				published::add));
+		assertEquals(resultId, store.getResultId("test.xml"));
+		assertEquals(1, published.size());
+		assertEquals(1, store.getSkippedCount());
+
+		// Other document
+		assertTrue(store.publish(new PublishDiagnosticsParams("other.xml", Arrays.asList(d("error"))),
+				published::add));
+
+		// Diagnostics changed
+		assertTrue(store.publish(new PublishDiagnosticsParams("test.xml", Collections.emptyList()),
+				published::add));
+		assertNotEquals(resultId, store.getResultId("test.xml"));
+		assertFalse(store.publish(new PublishDiagnosticsParams("test.xml", Collections.emptyList()),
+				published::add));
+		assertEquals(3, published.size());
+	}
+
+	@Test
+	public void removeDiagnostics() {
+		DiagnosticsStore store = new DiagnosticsStore();
+		List<PublishDiagnosticsParams> published = new ArrayList<>();
+		store.publish(new PublishDiagnosticsParams("test.xml", Arrays.asList(d("error"))), published::add);
+		store.remove("test.xml");
+		assertNull(store.getResultId("test.xml"));
+		assertNull(store.getDiagnostics("test.xml"));
+		// The document is reopened, the diagnostics are published
+		assertTrue(store.publish(new PublishDiagnosticsParams("test.xml", Arrays.asList(d("error"))),
+				published::add));
+		assertEquals(2, published.size());
+	}
+
+	@Test
+	public void publishOtherDocumentWhileSending() throws Exception {
+		DiagnosticsStore store = new DiagnosticsStore();
+		CountDownLatch sending = new CountDownLatch(1);
+		CountDownLatch sent = new CountDownLatch(1);
+		// The client notification of 'test.xml' is blocked
+		CompletableFuture<Boolean> blocked = CompletableFuture.supplyAsync(() -> store
+				.publish(new PublishDiagnosticsParams("test.xml", Arrays.asList(d("error"))), params -> {
+					sending.countDown();
+					try {
+						sent.await();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				}));
+		assertTrue(sending.await(5, TimeUnit.SECONDS));
+		// The store is not locked while the notification is sent
+		assertTrue(store.publish(new PublishDiagnosticsParams("other.xml", Arrays.asList(d("error"))), params -> {
+		}));
+		assertEquals(1, store.getDiagnostics("test.xml").size());
+		sent.countDown();
+		assertTrue(blocked.get(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void publishFailed() {
+		DiagnosticsStore store = new DiagnosticsStore();
+		assertThrows(IllegalStateException.class,
+				() -> store.publish(new PublishDiagnosticsParams("test.xml", Arrays.asList(d("error"))), params -> {
+					throw new IllegalStateException();
+				}));
+		assertNull(store.getResultId("test.xml"));
+		// The diagnostics have not been published, they are published again
+		assertTrue(store.publish(new PublishDiagnosticsParams("test.xml", Arrays.asList(d("error"))), params -> {
+		}));
+	}
+
+	private static Diagnostic d(String message) {
+		return new Diagnostic(new Range(new Position(0, 0), new Position(0, 1)), message, DiagnosticSeverity.Error,
+				"xml");
+	}
+}
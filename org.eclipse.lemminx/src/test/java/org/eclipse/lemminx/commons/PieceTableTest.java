@@ -0,0 +1,105 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.commons;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link PieceTable} and the incremental update of
+ * {@link TextDocument} which uses it.
+ *
+ */
+public class PieceTableTest {
+
+	@Test
+	public void replace() {
+		PieceTable text = new PieceTable("<root></root>");
+		PieceTable inserted = text.replace(6, 0, "<a />");
+		assertEquals("<root><a /></root>", inserted.toString());
+		PieceTable deleted = inserted.replace(1, 4, "");
+		assertEquals("<><a /></root>", deleted.toString());
+		PieceTable replaced = deleted.replace(0, 2, "<b>");
+		assertEquals("<b><a /></root>", replaced.toString());
+		assertEquals(15, replaced.length());
+		assertEquals('a', replaced.charAt(4));
+		assertEquals("<a />", replaced.subSequence(3, 8));
+		// The previous versions are not changed
+		assertEquals("<root></root>", text.toString());
+		assertEquals("<root><a /></root>", inserted.toString());
+
+		assertThrows(IndexOutOfBoundsException.class, () -> text.replace(10, 4, ""));
+		assertThrows(IndexOutOfBoundsException.class, () -> text.charAt(13));
+	}
+
+	@Test
+	public void randomReplace() {
+		Random random = new Random(42);
+		StringBuilder expected = new StringBuilder("<root attr=\"value\">text</root>");
+		PieceTable text = new PieceTable(expected.toString());
+		for (int i = 0; i < 2000; i++) {
+			int offset = random.nextInt(expected.length() + 1);
+			int length = random.nextInt(Math.min(5, expected.length() - offset) + 1);
+			String inserted = random.nextInt(4) == 0 ? "" : Integer.toString(i);
+			expected.replace(offset, offset + length, inserted);
+			text = text.replace(offset, length, inserted);
+			assertEquals(expected.length(), text.length());
+			if (i % 100 == 0) {
+				int start = random.nextInt(expected.length() + 1);
+				int end = start + random.nextInt(expected.length() - start + 1);
+				assertEquals(expected.substring(start, end), text.subSequence(start, end));
+				for (int j = 0; j < expected.length(); j++) {
+					assertEquals(expected.charAt(j), text.charAt(j));
+				}
+			}
+		}
+		assertFalse(text.isMaterialized());
+		assertEquals(expected.toString(), text.toString());
+		assertTrue(text.isMaterialized());
+	}
+
+	@Test
+	public void textDocumentUpdate() throws BadLocationException {
+		TextDocument document = new TextDocument("<root>\r\n</root>", "test.xml");
+		document.setIncremental(true);
+		String text = document.getText();
+		document.update(Arrays.asList(
+				new TextDocumentContentChangeEvent(new Range(new Position(1, 0), new Position(1, 0)), 0, "  <a>\r\n"),
+				new TextDocumentContentChangeEvent(new Range(new Position(1, 5), new Position(1, 5)), 0, "</a>")));
+		assertEquals("<root>\r\n  <a></a>\r\n</root>", document.getTextSequence().toString());
+		assertEquals("  <a></a>", document.lineText(1));
+		assertEquals(new Position(2, 0), document.positionAt(19));
+
+		// The string of the text is materialized once until the next changes
+		String updatedText = document.getText();
+		assertEquals("<root>\r\n  <a></a>\r\n</root>", updatedText);
+		assertNotSame(text, updatedText);
+		assertSame(updatedText, document.getText());
+
+		document.setText("<foo />");
+		assertEquals("<foo />", document.getText());
+		assertEquals("<foo />", document.getTextSequence());
+	}
+
+}
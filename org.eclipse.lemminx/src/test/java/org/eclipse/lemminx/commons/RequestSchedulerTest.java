@@ -0,0 +1,137 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.commons;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.lemminx.commons.RequestScheduler.Lane;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link RequestScheduler}.
+ *
+ */
+public class RequestSchedulerTest {
+
+	private RequestScheduler scheduler;
+
+	private CountDownLatch blocker;
+
+	@BeforeEach
+	public void createScheduler() {
+		scheduler = new RequestScheduler(1, 1);
+		blocker = new CountDownLatch(1);
+	}
+
+	@AfterEach
+	public void shutdownScheduler() {
+		blocker.countDown();
+		scheduler.shutdown();
+	}
+
+	@Test
+	public void interactiveNotBlockedByBackground() throws Exception {
+		CompletableFuture<Void> validation = blockLane(Lane.BACKGROUND);
+		CompletableFuture<String> completion = scheduler.computeAsync(Lane.INTERACTIVE, null, "completion",
+				cancelChecker -> "completion");
+		assertEquals("completion", completion.get(5, TimeUnit.SECONDS));
+		assertFalse(validation.isDone());
+	}
+
+	@Test
+	public void coalescePendingRequests() throws Exception {
+		TextDocument document = new TextDocument("<root />", "test.xml");
+		blockLane(Lane.BACKGROUND);
+		CompletableFuture<String> first = scheduler.computeAsync(Lane.BACKGROUND, document, "validation",
+				cancelChecker -> "first");
+		CompletableFuture<String> second = scheduler.computeAsync(Lane.BACKGROUND, document, "validation",
+				cancelChecker -> "second");
+		// Other kind and other document are not coalesced
+		CompletableFuture<String> symbols = scheduler.computeAsync(Lane.BACKGROUND, document, "documentSymbol",
+				cancelChecker -> "symbols");
+		CompletableFuture<String> other = scheduler.computeAsync(Lane.BACKGROUND,
+				new TextDocument("<root />", "other.xml"), "validation", cancelChecker -> "other");
+		assertTrue(first.isCancelled());
+		assertEquals(3, scheduler.getMetrics(Lane.BACKGROUND).getQueueDepth());
+
+		blocker.countDown();
+		assertEquals("second", second.get(5, TimeUnit.SECONDS));
+		assertEquals("symbols", symbols.get(5, TimeUnit.SECONDS));
+		assertEquals("other", other.get(5, TimeUnit.SECONDS));
+		assertEquals(1, scheduler.getMetrics(Lane.BACKGROUND).getCoalescedCount());
+	}
+
+	@Test
+	public void dropStaleRequest() throws Exception {
+		TextDocument document = new TextDocument("<root />", "test.xml");
+		document.setVersion(1);
+		blockLane(Lane.BACKGROUND);
+		CompletableFuture<String> validation = scheduler.computeAsync(Lane.BACKGROUND, document, "validation",
+				cancelChecker -> "validation");
+		// The document changes before the request starts
+		document.setVersion(2);
+		blocker.countDown();
+		CompletableFuture<String> next = scheduler.computeAsync(Lane.BACKGROUND, null, null, cancelChecker -> "next");
+		assertEquals("next", next.get(5, TimeUnit.SECONDS));
+		assertTrue(validation.isCancelled());
+		assertEquals(1, scheduler.getMetrics(Lane.BACKGROUND).getDroppedCount());
+	}
+
+	@Test
+	public void cancelDocumentRequests() throws Exception {
+		TextDocument document = new TextDocument("<root />", "test.xml");
+		blockLane(Lane.BACKGROUND);
+		CompletableFuture<String> validation = scheduler.computeAsync(Lane.BACKGROUND, document, "validation",
+				cancelChecker -> "validation");
+		scheduler.cancel("test.xml");
+		assertTrue(validation.isCancelled());
+	}
+
+	@Test
+	public void updateThreadCount() throws Exception {
+		scheduler.setThreadCount(Lane.BACKGROUND, 2);
+		assertEquals(2, scheduler.getThreadCount(Lane.BACKGROUND));
+		// The second thread executes the request while the first thread is blocked
+		blockLane(Lane.BACKGROUND);
+		CompletableFuture<String> validation = scheduler.computeAsync(Lane.BACKGROUND, null, null,
+				cancelChecker -> "validation");
+		assertEquals("validation", validation.get(5, TimeUnit.SECONDS));
+		// Invalid thread count is ignored
+		scheduler.setThreadCount(Lane.BACKGROUND, 0);
+		assertEquals(2, scheduler.getThreadCount(Lane.BACKGROUND));
+	}
+
+	/**
+	 * Block a thread of the given lane until the blocker is released.
+	 */
+	private CompletableFuture<Void> blockLane(Lane lane) throws InterruptedException {
+		CountDownLatch started = new CountDownLatch(1);
+		CompletableFuture<Void> request = scheduler.runAsync(lane, null, null, () -> {
+			started.countDown();
+			try {
+				blocker.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+		return request;
+	}
+}
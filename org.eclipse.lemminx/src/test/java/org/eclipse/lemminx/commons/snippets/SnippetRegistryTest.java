@@ -12,12 +12,23 @@
 package org.eclipse.lemminx.commons.snippets;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
 import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.lsp4j.CompletionItem;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
 
 import org.junit.jupiter.api.Test;
 
+import com.google.gson.JsonObject;
+
 /**
  * Snippet registry test.
  *
@@ -92,4 +103,78 @@ public class SnippetRegistryTest {
 		assertEquals("$description - <![CDATA[", registry.getSnippets().get(0).getLabel());
 	}
 
+	@Test
+	public void insertText() throws IOException {
+		String json = "{\r\n" + //
+				"  \"Insert element\": {\r\n" + //
+				"    \"prefix\": [\r\n" + //
+				"      \"elt\"\r\n" + //
+				"    ],\r\n" + //
+				"    \"body\": [\r\n" + //
+				"      \"<${1:foo} a=\\\"${2|x,y|}\\\" b=\\\"${root}\\\">$1\",\r\n" + //
+				"      \"${0}</${1:foo}>\"\r\n" + //
+				"    ]\r\n" + //
+				"  }\r\n" + //
+				" }";
+		SnippetRegistry registry = new SnippetRegistry(null, false);
+		registry.registerSnippets(new StringReader(json), (ISnippetContext<Object>) (value, model) -> {
+			model.put("root", "bar");
+			return true;
+		});
+
+		Range range = new Range(new Position(0, 0), new Position(0, 3));
+		List<CompletionItem> items = registry.getCompletionItems(range, "\n", false, true, (context, model) -> {
+			return ((ISnippetContext<Object>) context).isMatch(null, model);
+		}, null);
+		assertEquals(1, items.size());
+		CompletionItem item = items.get(0);
+		assertEquals("<${1:foo} a=\"${2|x,y|}\" b=\"bar\">$1\n${0}</${1:foo}>",
+				item.getTextEdit().getLeft().getNewText());
+		assertEquals("<foo a=\"x\" b=\"bar\">\n</foo>", item.getDocumentation().getRight().getValue());
+		assertNull(item.getData());
+
+		// Plain text
+		items = registry.getCompletionItems(range, "\n", false, false, (context, model) -> {
+			return ((ISnippetContext<Object>) context).isMatch(null, model);
+		}, null);
+		assertEquals("<foo a=\"x\" b=\"bar\">\n</foo>", items.get(0).getTextEdit().getLeft().getNewText());
+	}
+
+	@Test
+	public void resolveDocumentation() throws IOException {
+		String json = "{\r\n" + //
+				"  \"Insert element\": {\r\n" + //
+				"    \"prefix\": [\r\n" + //
+				"      \"elt\"\r\n" + //
+				"    ],\r\n" + //
+				"    \"body\": [\r\n" + //
+				"      \"<${root}>$0</${root}>\"\r\n" + //
+				"    ]\r\n" + //
+				"  }\r\n" + //
+				" }";
+		SnippetRegistry registry = new SnippetRegistry(null, false);
+		AtomicInteger matchCount = new AtomicInteger();
+		ISnippetContext<Object> context = (value, model) -> {
+			matchCount.incrementAndGet();
+			model.put("root", "bar");
+			return true;
+		};
+		registry.registerSnippets(new StringReader(json), context);
+		registry.registerSnippets(new StringReader(json.replace("elt", "elt2")), context);
+
+		Range range = new Range(new Position(0, 0), new Position(0, 3));
+		List<CompletionItem> items = registry.getCompletionItems(range, "\n", true, true, (c, model) -> {
+			return ((ISnippetContext<Object>) c).isMatch(null, model);
+		}, null, () -> new JsonObject());
+		// the context is shared by the 2 snippets, it is evaluated once
+		assertEquals(1, matchCount.get());
+		assertEquals(2, items.size());
+		CompletionItem item = items.get(1);
+		assertNull(item.getDocumentation());
+		assertNotNull(item.getData());
+
+		assertTrue(registry.resolveDocumentation(item, "\n", false));
+		assertEquals("<bar></bar>", item.getDocumentation().getRight().getValue());
+	}
+
 }
@@ -0,0 +1,124 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.dom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.eclipse.lemminx.commons.TextDocument;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link DOMNamespaceScope} used to resolve prefix and namespace URI
+ * of DOM elements.
+ *
+ */
+public class DOMNamespaceScopeTest {
+
+	private static final String XML = "<root xmlns=\"urn:default\" xmlns:a=\"urn:a\">\r\n" + //
+			"  <a:child1 />\r\n" + //
+			"  <a:child2>\r\n" + //
+			"    <b:item xmlns:b=\"urn:b\" xmlns:a=\"urn:a2\" xmlns:c=\"urn:a\" />\r\n" + //
+			"  </a:child2>\r\n" + //
+			"</root>";
+
+	@Test
+	public void namespaceURI() {
+		DOMDocument document = DOMParser.getInstance().parse(XML, "test.xml", null);
+		DOMElement root = document.getDocumentElement();
+		DOMElement child1 = (DOMElement) root.getChildren().get(0);
+		DOMElement child2 = (DOMElement) root.getChildren().get(1);
+		DOMElement item = (DOMElement) child2.getChildren().get(0);
+
+		assertEquals("urn:default", root.getNamespaceURI());
+		assertEquals("urn:default", root.getNamespaceURI(""));
+		assertEquals("urn:default", root.getNamespaceURI(null));
+		assertEquals("urn:a", child1.getNamespaceURI());
+		assertNull(child1.getNamespaceURI("b"));
+		assertEquals("urn:b", item.getNamespaceURI());
+		// prefix redeclared in the item element
+		assertEquals("urn:a2", item.getNamespaceURI("a"));
+		assertEquals("urn:default", item.getNamespaceURI(""));
+	}
+
+	@Test
+	public void prefix() {
+		DOMDocument document = DOMParser.getInstance().parse(XML, "test.xml", null);
+		DOMElement root = document.getDocumentElement();
+		DOMElement child2 = (DOMElement) root.getChildren().get(1);
+		DOMElement item = (DOMElement) child2.getChildren().get(0);
+
+		assertEquals("a", root.getPrefix("urn:a"));
+		assertNull(root.getPrefix("urn:default"));
+		assertNull(root.getPrefix("urn:b"));
+		assertNull(root.getPrefix(null));
+		assertEquals("xml", root.getPrefix("http://www.w3.org/XML/1998/namespace"));
+		// the first declaration of the nearest element wins
+		assertEquals("c", item.getPrefix("urn:a"));
+		assertEquals("a", item.getPrefix("urn:a2"));
+		assertEquals("b", item.getPrefix("urn:b"));
+	}
+
+	@Test
+	public void sharedScopes() {
+		DOMDocument document = DOMParser.getInstance().parse(XML, "test.xml", null);
+		DOMElement root = document.getDocumentElement();
+		DOMElement child1 = (DOMElement) root.getChildren().get(0);
+		DOMElement child2 = (DOMElement) root.getChildren().get(1);
+		DOMElement item = (DOMElement) child2.getChildren().get(0);
+
+		// elements which don't declare xmlns share the scope of their parent
+		assertSame(root.getNamespaceScope(), child1.getNamespaceScope());
+		assertSame(root.getNamespaceScope(), child2.getNamespaceScope());
+		assertNotSame(root.getNamespaceScope(), item.getNamespaceScope());
+		assertSame(item.getNamespaceScope(), document.getNamespaceScope(item.getAttributeNode("xmlns:b")));
+		assertNull(document.getNamespaceScope(document).getNamespaceURI(""));
+	}
+
+	@Test
+	public void updateAttribute() {
+		DOMDocument document = DOMParser.getInstance().parse(XML, "test.xml", null);
+		DOMElement root = document.getDocumentElement();
+		DOMElement child1 = (DOMElement) root.getChildren().get(0);
+
+		assertEquals("urn:a", child1.getNamespaceURI());
+		root.setAttribute("xmlns:a", "urn:updated");
+		assertEquals("urn:updated", child1.getNamespaceURI());
+		assertEquals("a", child1.getPrefix("urn:updated"));
+	}
+
+	@Test
+	public void scopesKeptWhenTextChanges() {
+		TextDocument textDocument = new TextDocument(XML, "test.xml");
+		DOMDocument document = DOMParser.getInstance().parse(textDocument, null);
+		DOMElement root = document.getDocumentElement();
+		DOMNamespaceScope scope = root.getNamespaceScope();
+
+		// the scopes are created from the parsed text, not from the new text content
+		textDocument.setText("<other xmlns=\"urn:other\" />");
+		assertSame(scope, root.getNamespaceScope());
+		assertEquals("urn:default", root.getNamespaceURI());
+	}
+
+	@Test
+	public void withoutDocument() {
+		DOMElement parent = new DOMElement(0, 0);
+		parent.setAttribute("xmlns:a", "urn:a");
+		DOMElement child = new DOMElement(0, 0);
+		parent.addChild(child);
+
+		assertEquals("urn:a", child.getNamespaceURI("a"));
+		assertEquals("a", child.getPrefix("urn:a"));
+	}
+}
@@ -0,0 +1,158 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.dom;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Collections;
+import java.util.Random;
+
+import org.eclipse.lemminx.commons.BadLocationException;
+import org.eclipse.lemminx.commons.ModelTextDocument;
+import org.eclipse.lemminx.commons.TextDocument;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link DOMNodeIndex} which must find the same node and attribute
+ * than the walk of the DOM tree.
+ *
+ */
+public class DOMNodeIndexTest {
+
+	@Test
+	public void elementsAndAttributes() {
+		assertIndex("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\r\n" + //
+				"<beans xmlns=\"http://www.springframework.org/schema/beans\">\r\n" + //
+				"  <!-- a comment -->\r\n" + //
+				"  <bean id=\"a\" class=\"A\">\r\n" + //
+				"    <property name=\"foo\" value=\"bar\" />\r\n" + //
+				"    <property name=\"list\"><list><value>1</value><value><![CDATA[2]]></value></list></property>\r\n" + //
+				"  </bean>\r\n" + //
+				"  <bean id=\"b\"class=\"B\"><?pi content?></bean>\r\n" + //
+				"  <empty></empty>\r\n" + //
+				"</beans>\r\n" + //
+				"<!-- end -->", "test.xml");
+	}
+
+	@Test
+	public void invalidXML() {
+		assertIndex("<root><a b=></a c><d</root>", "test.xml");
+		assertIndex("<root attr=\"value\r\n<child>", "test.xml");
+		assertIndex("text <root></ <!-- unclosed", "test.xml");
+		assertIndex("<a b c d=\"\" e='>", "test.xml");
+		assertIndex("<a><b><c></a>", "test.xml");
+		assertIndex("", "test.xml");
+	}
+
+	@Test
+	public void doctype() {
+		assertIndex("<!DOCTYPE root [\r\n" + //
+				"  <!ELEMENT root (#PCDATA)>\r\n" + //
+				"  <!ATTLIST root attr CDATA #IMPLIED>\r\n" + //
+				"  <!ENTITY foo \"bar\">\r\n" + //
+				"]>\r\n" + //
+				"<root attr=\"a\">&foo;</root>", "test.xml");
+		assertIndex("<!ELEMENT root (#PCDATA)>\r\n" + //
+				"<!ATTLIST root attr CDATA #IMPLIED>", "test.dtd");
+	}
+
+	@Test
+	public void randomTexts() {
+		String chars = "<>/=\"'!-? \nab[]";
+		Random random = new Random(42);
+		for (int i = 0; i < 500; i++) {
+			StringBuilder text = new StringBuilder();
+			int length = random.nextInt(40);
+			for (int j = 0; j < length; j++) {
+				text.append(chars.charAt(random.nextInt(chars.length())));
+			}
+			DOMDocument document = DOMParser.getInstance().parse(new TextDocument(text.toString(), "test.xml"), null);
+			// the index is null when the nodes are not sorted, the tree is walked
+			assertIndex(document);
+		}
+	}
+
+	@Test
+	public void indexUpdatedAfterIncrementalParse() throws BadLocationException {
+		String xml = "<root>\r\n" + //
+				"  <a attr=\"value\"></a>\r\n" + //
+				"  <b></b>\r\n" + //
+				"</root>";
+		DOMParser parser = DOMParser.getInstance();
+		ModelTextDocument<DOMDocument> document = new ModelTextDocument<DOMDocument>(xml, "test.xml",
+				(textDocument, cancelChecker) -> parser.parse(textDocument, null, true, cancelChecker),
+				(xmlDocument, textDocument, changedRegion, cancelChecker) -> parser.reparse(xmlDocument,
+						changedRegion, true, cancelChecker));
+		document.setIncremental(true);
+		DOMDocument xmlDocument = document.getModel();
+		assertNotNull(xmlDocument.getNodeIndex());
+		assertIndex(xmlDocument);
+
+		// Insert an element in 'a' element
+		int offset = xml.indexOf("</a>");
+		Position position = document.positionAt(offset);
+		document.setVersion(document.getVersion() + 1);
+		document.update(Collections.singletonList(
+				new TextDocumentContentChangeEvent(new Range(position, position), 0, "<c other=\"\" />")));
+		// the reparse creates a new DOM document and keeps the previous one unchanged
+		DOMDocument updatedDocument = document.getModel();
+		assertNotSame(xmlDocument, updatedDocument);
+		assertIndex(xmlDocument);
+		assertIndex(updatedDocument);
+	}
+
+	@Test
+	public void indexKeptWhenTextChanges() {
+		TextDocument textDocument = new TextDocument("<root><a /></root>", "test.xml");
+		DOMDocument document = DOMParser.getInstance().parse(textDocument, null);
+		DOMNodeIndex nodeIndex = document.getNodeIndex();
+		assertNotNull(nodeIndex);
+		// the nodes of the stale DOM document are not changed, the index is kept
+		textDocument.setText("<other />");
+		assertSame(nodeIndex, document.getNodeIndex());
+		assertIndex(document);
+	}
+
+	@Test
+	public void documentNotParsed() {
+		DOMDocument document = new DOMDocument(new TextDocument("<root />", "test.xml"), null);
+		DOMElement root = document.createElement(0, 8);
+		document.addChild(root);
+		assertNull(document.getNodeIndex());
+		assertSame(root, document.findNodeAt(1));
+	}
+
+	private static void assertIndex(String text, String uri) {
+		DOMDocument document = DOMParser.getInstance().parse(new TextDocument(text, uri), null);
+		assertNotNull(document.getNodeIndex());
+		assertIndex(document);
+	}
+
+	private static void assertIndex(DOMDocument document) {
+		String text = document.getParsedText();
+		for (int offset = 0; offset <= text.length(); offset++) {
+			String message = "Offset " + offset + " of '" + text + "'";
+			DOMNode expected = document.findNodeAtWithoutIndex(offset);
+			assertSame(expected, document.findNodeAt(offset), message);
+			DOMAttr expectedAttr = DOMNode.findAttrAt(expected, offset);
+			assertSame(expectedAttr, document.findAttrAt(offset), message);
+			assertSame(expectedAttr != null ? expectedAttr : expected, DOMNode.findNodeOrAttrAt(document, offset),
+					message);
+		}
+	}
+}
@@ -0,0 +1,378 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.dom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.lemminx.commons.BadLocationException;
+import org.eclipse.lemminx.commons.ModelTextDocument;
+import org.eclipse.lemminx.commons.TextDocument;
+import org.eclipse.lemminx.dom.parser.TokenTable;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for incremental parse done with
+ * {@link DOMParser#reparse(DOMDocument, org.eclipse.lemminx.commons.TextChangeRegion, boolean, org.eclipse.lsp4j.jsonrpc.CancelChecker)}
+ * which compare the incremental DOM with the DOM of a full parse.
+ *
+ */
+public class DOMParserIncrementalTest {
+
+	private static final String XML = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\r\n" + //
+			"<beans xmlns=\"http://www.springframework.org/schema/beans\">\r\n" + //
+			"  <!-- a comment -->\r\n" + //
+			"  <bean id=\"a\" class=\"A\">\r\n" + //
+			"    <property name=\"foo\" value=\"bar\" />\r\n" + //
+			"    <property name=\"list\">\r\n" + //
+			"      <list>\r\n" + //
+			"        <value>1</value>\r\n" + //
+			"        <value><![CDATA[2]]></value>\r\n" + //
+			"      </list>\r\n" + //
+			"    </property>\r\n" + //
+			"  </bean>\r\n" + //
+			"  <bean id=\"b\" class=\"B\"><?pi content?></bean>\r\n" + //
+			"  <empty></empty>\r\n" + //
+			"  <text>   </text>\r\n" + //
+			"</beans>\r\n" + //
+			"<!-- end -->";
+
+	private static final String EDIT_CHARS = "<>/=\"'!-? \nab:_[]";
+
+	@Test
+	public void insertTextInElement() throws BadLocationException {
+		AtomicInteger reparseCount = new AtomicInteger();
+		ModelTextDocument<DOMDocument> document = createDocument(XML, reparseCount);
+		DOMDocument oldModel = document.getModel();
+		int offset = XML.indexOf(">1<") + 1;
+		replace(document, offset, 0, "12");
+		DOMDocument newModel = document.getModel();
+		// the DOM document is parsed incrementally in a new DOM document
+		assertEquals(1, reparseCount.get());
+		assertNotSame(oldModel, newModel);
+		assertDOMEquals(document);
+		// the recorded tokens are updated incrementally
+		assertNotNull(newModel.tokenTable);
+		// the old DOM document is not modified
+		assertNodeEquals(parse(XML), oldModel, "Text: " + XML);
+	}
+
+	@Test
+	public void tokensRecordedOnlyForIncrementalDocument() {
+		// the tokens are not recorded when the document cannot be reparsed
+		// incrementally
+		assertNull(parse(XML).tokenTable);
+
+		TextDocument document = new TextDocument(XML, "test.xml");
+		document.setIncremental(true);
+		assertNotNull(DOMParser.getInstance().parse(document, null, true).tokenTable);
+	}
+
+	@Test
+	public void insertElementInElement() throws BadLocationException {
+		AtomicInteger reparseCount = new AtomicInteger();
+		ModelTextDocument<DOMDocument> document = createDocument(XML, reparseCount);
+		DOMDocument oldModel = document.getModel();
+		int offset = XML.indexOf("<empty>") + "<empty>".length();
+		replace(document, offset, 0, "<child attr=\"value\"/><!-- c -->");
+		document.getModel();
+		assertEquals(1, reparseCount.get());
+		assertDOMEquals(document);
+		assertNodeEquals(parse(XML), oldModel, "Text: " + XML);
+	}
+
+	@Test
+	public void removeTextInElement() throws BadLocationException {
+		AtomicInteger reparseCount = new AtomicInteger();
+		ModelTextDocument<DOMDocument> document = createDocument(XML, reparseCount);
+		DOMDocument oldModel = document.getModel();
+		int offset = XML.indexOf("<text>") + "<text>".length();
+		replace(document, offset, 3, "");
+		document.getModel();
+		assertEquals(1, reparseCount.get());
+		assertDOMEquals(document);
+		assertNodeEquals(parse(XML), oldModel, "Text: " + XML);
+	}
+
+	@Test
+	public void severalChangesBeforeParse() throws BadLocationException {
+		AtomicInteger reparseCount = new AtomicInteger();
+		ModelTextDocument<DOMDocument> document = createDocument(XML, reparseCount);
+		document.getModel();
+		int offset = XML.indexOf(">1<") + 1;
+		replace(document, offset, 0, "a");
+		replace(document, offset + 1, 0, "b");
+		replace(document, offset, 1, "");
+		document.getModel();
+		assertEquals(1, reparseCount.get());
+		assertDOMEquals(document);
+	}
+
+	@Test
+	public void unclosedElementFallbackToFullParse() throws BadLocationException {
+		AtomicInteger reparseCount = new AtomicInteger();
+		ModelTextDocument<DOMDocument> document = createDocument(XML, reparseCount);
+		document.getModel();
+		int offset = XML.indexOf(">1<") + 1;
+		replace(document, offset, 0, "<foo>");
+		document.getModel();
+		// the inserted element is not closed, the full parse is done
+		assertEquals(0, reparseCount.get());
+		assertDOMEquals(document);
+	}
+
+	@Test
+	public void closeParentElementFallbackToFullParse() throws BadLocationException {
+		AtomicInteger reparseCount = new AtomicInteger();
+		ModelTextDocument<DOMDocument> document = createDocument(XML, reparseCount);
+		document.getModel();
+		int offset = XML.indexOf(">1<") + 1;
+		replace(document, offset, 0, "</list>");
+		document.getModel();
+		assertEquals(0, reparseCount.get());
+		assertDOMEquals(document);
+	}
+
+	@Test
+	public void changeStartTagFallbackToFullParse() throws BadLocationException {
+		AtomicInteger reparseCount = new AtomicInteger();
+		ModelTextDocument<DOMDocument> document = createDocument(XML, reparseCount);
+		document.getModel();
+		int offset = XML.indexOf("<empty>") + 2;
+		replace(document, offset, 0, "x");
+		document.getModel();
+		assertEquals(0, reparseCount.get());
+		assertDOMEquals(document);
+	}
+
+	@Test
+	public void doctypeIsCopied() throws BadLocationException {
+		String xml = "<!DOCTYPE root [\r\n" + //
+				"  <!ELEMENT root (a)>\r\n" + //
+				"  <!ATTLIST a x CDATA #IMPLIED y CDATA #IMPLIED>\r\n" + //
+				"  <!ENTITY e \"entity\">\r\n" + //
+				"  <!NOTATION n SYSTEM \"n\">\r\n" + //
+				"]>\r\n" + //
+				"<root><a x=\"1\">text</a></root>\r\n" + //
+				"<!DOCTYPE after>";
+		AtomicInteger reparseCount = new AtomicInteger();
+		ModelTextDocument<DOMDocument> document = createDocument(xml, reparseCount);
+		document.getModel();
+		replace(document, xml.indexOf("text"), 0, "new ");
+		DOMDocument newModel = document.getModel();
+		assertEquals(1, reparseCount.get());
+		assertDOMEquals(document);
+		DOMDocumentType doctype = newModel.getDoctype();
+		assertSame(newModel, doctype.getOwnerDocument());
+		assertEquals("root", doctype.getName());
+		DTDAttlistDecl attlist = (DTDAttlistDecl) doctype.getChild(1);
+		assertEquals("x", attlist.getAttributeName());
+		assertSame(attlist, attlist.getInternalChildren().get(0).getParentNode());
+		assertEquals("y", attlist.getInternalChildren().get(0).getAttributeName());
+		assertEquals("e", doctype.getEntities().item(0).getNodeName());
+		// the DOCTYPE located after the changed region is shifted
+		DOMDocumentType after = (DOMDocumentType) newModel.getLastChild();
+		assertEquals("after", after.getName());
+		assertEquals(document.getText().lastIndexOf("<!DOCTYPE"), after.getStart());
+	}
+
+	@Test
+	public void randomEdits() throws BadLocationException {
+		Random random = new Random(42);
+		for (int i = 0; i < 200; i++) {
+			ModelTextDocument<DOMDocument> document = createDocument(XML, new AtomicInteger());
+			document.getModel();
+			for (int j = 0; j < 40; j++) {
+				int nbChanges = 1 + random.nextInt(3);
+				for (int k = 0; k < nbChanges; k++) {
+					randomReplace(document, random);
+				}
+				DOMDocument expected = null;
+				try {
+					expected = parse(document.getText());
+				} catch (RuntimeException e) {
+					// the full parse doesn't support the generated text, try with another edit stream
+					break;
+				}
+				assertNodeEquals(expected, document.getModel(), "Text: " + document.getText());
+				assertTokenTableEquals(document.getModel(), "Text: " + document.getText());
+			}
+		}
+	}
+
+	@Test
+	public void randomEditsWithoutReading() throws BadLocationException {
+		// the DOM documents are not read between the edits, so the nodes are copied
+		// from the nodes of several previous DOM documents
+		Random random = new Random(7);
+		for (int i = 0; i < 100; i++) {
+			ModelTextDocument<DOMDocument> document = createDocument(XML, new AtomicInteger());
+			List<DOMDocument> models = new ArrayList<>();
+			List<String> texts = new ArrayList<>();
+			for (int j = 0; j < 20; j++) {
+				randomReplace(document, random);
+				DOMDocument model = null;
+				try {
+					model = document.getModel();
+				} catch (RuntimeException e) {
+					// the full parse doesn't support the generated text, try with another edit stream
+					break;
+				}
+				models.add(model);
+				texts.add(document.getText());
+			}
+			for (int j = models.size() - 1; j >= 0; j--) {
+				String text = texts.get(j);
+				DOMDocument expected = null;
+				try {
+					expected = parse(text);
+				} catch (RuntimeException e) {
+					continue;
+				}
+				assertNodeEquals(expected, models.get(j), "Text: " + text);
+			}
+		}
+	}
+
+	private static void randomReplace(ModelTextDocument<DOMDocument> document, Random random)
+			throws BadLocationException {
+		String text = document.getText();
+		int offset = random.nextInt(text.length() + 1);
+		int length = random.nextInt(3) == 0 ? random.nextInt(Math.min(5, text.length() - offset) + 1) : 0;
+		StringBuilder newText = new StringBuilder();
+		int newLength = length > 0 && random.nextBoolean() ? 0 : 1 + random.nextInt(4);
+		for (int i = 0; i < newLength; i++) {
+			newText.append(EDIT_CHARS.charAt(random.nextInt(EDIT_CHARS.length())));
+		}
+		replace(document, offset, length, newText.toString());
+	}
+
+	private static ModelTextDocument<DOMDocument> createDocument(String text, AtomicInteger reparseCount) {
+		DOMParser parser = DOMParser.getInstance();
+		ModelTextDocument<DOMDocument> document = new ModelTextDocument<DOMDocument>(text, "test.xml",
+				(textDocument, cancelChecker) -> parser.parse(textDocument, null, true, cancelChecker),
+				(xmlDocument, textDocument, changedRegion, cancelChecker) -> {
+					DOMDocument newDocument = parser.reparse(xmlDocument, changedRegion, true, cancelChecker);
+					if (newDocument != null) {
+						reparseCount.incrementAndGet();
+					}
+					return newDocument;
+				});
+		document.setIncremental(true);
+		return document;
+	}
+
+	private static void replace(ModelTextDocument<DOMDocument> document, int offset, int length, String text)
+			throws BadLocationException {
+		Position start = document.positionAt(offset);
+		Position end = document.positionAt(offset + length);
+		TextDocumentContentChangeEvent change = new TextDocumentContentChangeEvent(new Range(start, end), length,
+				text);
+		document.setVersion(document.getVersion() + 1);
+		document.update(Collections.singletonList(change));
+	}
+
+	private static DOMDocument parse(String text) {
+		return DOMParser.getInstance().parse(new TextDocument(text, "test.xml"), null, true);
+	}
+
+	private static void assertDOMEquals(ModelTextDocument<DOMDocument> document) {
+		DOMDocument actual = document.getModel();
+		DOMDocument expected = parse(document.getText());
+		assertNodeEquals(expected, actual, "Text: " + document.getText());
+		assertTokenTableEquals(actual, "Text: " + document.getText());
+	}
+
+	private static void assertTokenTableEquals(DOMDocument document, String message) {
+		TokenTable actual = document.tokenTable;
+		if (actual == null) {
+			// the tokens will be scanned again when they are needed
+			return;
+		}
+		assertSame(document.getText(), actual.getText(), message);
+		TokenTable expected = TokenTable.scan(document.getText(), false);
+		assertEquals(expected.getTokenCount(), actual.getTokenCount(), message);
+		for (int i = 0; i < expected.getTokenCount(); i++) {
+			assertEquals(expected.getTokenType(i), actual.getTokenType(i), message);
+			assertEquals(expected.getTokenOffset(i), actual.getTokenOffset(i), message);
+			assertEquals(expected.getTokenEnd(i), actual.getTokenEnd(i), message);
+			assertEquals(expected.getScannerState(i), actual.getScannerState(i), message);
+			assertEquals(expected.getTokenError(i), actual.getTokenError(i), message);
+			assertEquals(expected.getTokenError(i), actual.getTokenError(i), message);
+		}
+	}
+
+	private static void assertNodeEquals(DOMNode expected, DOMNode actual, String message) {
+		assertEquals(expected.getNodeType(), actual.getNodeType(), message);
+		assertEquals(expected.getNodeName(), actual.getNodeName(), message);
+		assertEquals(expected.getStart(), actual.getStart(), message);
+		assertEquals(expected.getEnd(), actual.getEnd(), message);
+		assertEquals(expected.isClosed(), actual.isClosed(), message);
+		if (expected.isElement()) {
+			DOMElement expectedElement = (DOMElement) expected;
+			DOMElement actualElement = (DOMElement) actual;
+			assertEquals(expectedElement.startTagOpenOffset, actualElement.startTagOpenOffset, message);
+			assertEquals(expectedElement.startTagCloseOffset, actualElement.startTagCloseOffset, message);
+			assertEquals(expectedElement.endTagOpenOffset, actualElement.endTagOpenOffset, message);
+			assertEquals(expectedElement.endTagCloseOffset, actualElement.endTagCloseOffset, message);
+			assertEquals(expectedElement.isSelfClosed(), actualElement.isSelfClosed(), message);
+		} else if (expected.isComment()) {
+			DOMComment expectedComment = (DOMComment) expected;
+			DOMComment actualComment = (DOMComment) actual;
+			assertEquals(expectedComment.getStartContent(), actualComment.getStartContent(), message);
+			assertEquals(expectedComment.getEndContent(), actualComment.getEndContent(), message);
+			assertEquals(expectedComment.isCommentSameLineEndTag(), actualComment.isCommentSameLineEndTag(),
+					message);
+		} else if (expected instanceof DOMCharacterData) {
+			DOMCharacterData expectedData = (DOMCharacterData) expected;
+			DOMCharacterData actualData = (DOMCharacterData) actual;
+			assertEquals(expectedData.getStartContent(), actualData.getStartContent(), message);
+			assertEquals(expectedData.getEndContent(), actualData.getEndContent(), message);
+			assertEquals(expectedData.isWhitespace(), actualData.isWhitespace(), message);
+			assertEquals(expectedData.getData(), actualData.getData(), message);
+		}
+		List<DOMAttr> expectedAttributes = expected.hasAttributes() ? expected.getAttributeNodes()
+				: Collections.emptyList();
+		List<DOMAttr> actualAttributes = actual.hasAttributes() ? actual.getAttributeNodes()
+				: Collections.emptyList();
+		assertEquals(expectedAttributes.size(), actualAttributes.size(), message);
+		for (int i = 0; i < expectedAttributes.size(); i++) {
+			DOMAttr expectedAttr = expectedAttributes.get(i);
+			DOMAttr actualAttr = actualAttributes.get(i);
+			assertEquals(expectedAttr.getName(), actualAttr.getName(), message);
+			assertEquals(expectedAttr.getValue(), actualAttr.getValue(), message);
+			assertEquals(expectedAttr.getStart(), actualAttr.getStart(), message);
+			assertEquals(expectedAttr.getEnd(), actualAttr.getEnd(), message);
+			assertEquals(expectedAttr.getDelimiterOffset(), actualAttr.getDelimiterOffset(), message);
+		}
+		List<DOMNode> expectedChildren = expected.getChildren();
+		List<DOMNode> actualChildren = actual.getChildren();
+		assertEquals(expectedChildren.size(), actualChildren.size(), message);
+		for (int i = 0; i < expectedChildren.size(); i++) {
+			DOMNode actualChild = actualChildren.get(i);
+			assertSame(actual, actualChild.getParentNode(), message);
+			assertNodeEquals(expectedChildren.get(i), actualChild, message);
+		}
+	}
+}
@@ -19,6 +19,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
 
+import org.eclipse.lemminx.commons.TextDocument;
 import org.eclipse.lemminx.dom.DOMDocumentType.DocumentTypeKind;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -882,6 +883,17 @@ public class DOMParserTest {
 		compareTrees(doctype, document.getChild(0));
 	}
 
+	@Test
+	public void testTagNameAfterTextChange() {
+		TextDocument textDocument = new TextDocument("<root><child /></root>", "test.xml");
+		DOMDocument document = DOMParser.getInstance().parse(textDocument, null);
+		// the DOM document is read by another thread while the text is updated
+		textDocument.setText("<r/>");
+		DOMElement root = document.getDocumentElement();
+		assertEquals("root", root.getTagName());
+		assertEquals("child", ((DOMElement) root.getFirstChild()).getTagName());
+	}
+
 	// --------------------------------------------------------------------------------
 	// Tools
 
@@ -0,0 +1,150 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.dom.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.eclipse.lemminx.commons.TextDocument;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMParser;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link TokenTable} which must replay the same tokens than
+ * {@link XMLScanner}.
+ *
+ */
+public class TokenTableTest {
+
+	@Test
+	public void replayElements() {
+		assertReplay("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\r\n" + //
+				"<?xml-model href=\"foo.xsd\"?>\r\n" + //
+				"<!-- comment -->\r\n" + //
+				"<root xmlns=\"http://foo\" attr='value'>\r\n" + //
+				"  <child attr=\"a\r\nb\">text</child>\r\n" + //
+				"  <![CDATA[<cdata>]]>\r\n" + //
+				"  <?pi data?>\r\n" + //
+				"  <empty/>\r\n" + //
+				"</root >\r\n" + //
+				"<!-- end -->");
+	}
+
+	@Test
+	public void replayInvalidXML() {
+		assertReplay("<root><a b=></a c><d</root>");
+		assertReplay("<root attr=\"value\r\n<child>");
+		assertReplay("text <root></ <!-- unclosed");
+		assertReplay("<?xml version=\"1.0\"<root />");
+		assertReplay("");
+	}
+
+	@Test
+	public void replayDoctype() {
+		assertReplay("<!DOCTYPE root [\r\n" + //
+				"  <!ELEMENT root (#PCDATA)>\r\n" + //
+				"  <!ATTLIST root attr CDATA #IMPLIED>\r\n" + //
+				"  <!ENTITY foo \"bar\">\r\n" + //
+				"  <!-- comment -->\r\n" + //
+				"]>\r\n" + //
+				"<root attr=\"a\">&foo;</root>");
+	}
+
+	@Test
+	public void replayFromTokenWithinTag() {
+		String text = "<root attr=\"value\" />";
+		TokenTable tokenTable = TokenTable.scan(text, false);
+		// attribute name token is scanned in the 'WithinTag' state
+		assertNull(tokenTable.createScanner(text.indexOf("attr")));
+		// offset which is not the start of a token
+		assertNull(tokenTable.createScanner(1));
+		assertNotNull(tokenTable.createScanner(0));
+	}
+
+	@Test
+	public void tokensRecordedByDOMParser() {
+		String text = "<root><child /></root>";
+		TextDocument textDocument = new TextDocument(text, "test.xml");
+		textDocument.setIncremental(true);
+		DOMDocument document = DOMParser.getInstance().parse(textDocument, null);
+		TokenTable tokenTable = document.getTokenTable();
+		// the tokens recorded by the DOM parser are used
+		assertTrue(tokenTable == document.getTokenTable());
+		assertTokenTableEquals(TokenTable.scan(text, false), tokenTable);
+	}
+
+	@Test
+	public void tokensOfStaleDOMDocument() {
+		String text = "<root><child /></root>";
+		TextDocument textDocument = new TextDocument(text, "test.xml");
+		textDocument.setIncremental(true);
+		DOMDocument document = DOMParser.getInstance().parse(textDocument, null);
+		TokenTable tokenTable = document.getTokenTable();
+		// the text content changes after the parse, the tokens must match the nodes
+		textDocument.setText("<a/>");
+		assertTrue(tokenTable == document.getTokenTable());
+		Scanner scanner = document.createScanner(0);
+		assertEquals(TokenType.StartTagOpen, scanner.scan());
+		assertEquals(TokenType.StartTag, scanner.scan());
+		assertEquals("root", scanner.getTokenText());
+	}
+
+	private static void assertReplay(String text) {
+		TokenTable tokenTable = TokenTable.scan(text, false);
+		assertTrue(tokenTable.isComplete());
+		for (int offset = 0; offset <= text.length(); offset++) {
+			Scanner replay = tokenTable.createScanner(offset);
+			if (replay == null) {
+				continue;
+			}
+			assertScannerEquals(XMLScanner.createScanner(text, offset), replay, text, offset);
+		}
+		// the whole text must be replayed
+		assertNotNull(tokenTable.createScanner(0));
+	}
+
+	private static void assertScannerEquals(Scanner expected, Scanner actual, String text, int offset) {
+		String message = "Replay of '" + text + "' at offset " + offset;
+		assertEquals(expected.getScannerState(), actual.getScannerState(), message);
+		TokenType token = expected.scan();
+		do {
+			assertEquals(token, actual.scan(), message);
+			assertEquals(expected.getTokenOffset(), actual.getTokenOffset(), message);
+			assertEquals(expected.getTokenEnd(), actual.getTokenEnd(), message);
+			assertEquals(expected.getTokenLength(), actual.getTokenLength(), message);
+			assertEquals(expected.getTokenText(), actual.getTokenText(), message);
+			assertEquals(expected.getTokenError(), actual.getTokenError(), message);
+			assertEquals(expected.getScannerState(), actual.getScannerState(), message);
+			assertEquals(expected.isTokenTextBlank(), actual.isTokenTextBlank(), message);
+			if (token == TokenType.EOS) {
+				break;
+			}
+			token = expected.scan();
+		} while (true);
+		// scan after the end of the stream
+		assertEquals(TokenType.EOS, actual.scan(), message);
+	}
+
+	private static void assertTokenTableEquals(TokenTable expected, TokenTable actual) {
+		assertEquals(expected.getTokenCount(), actual.getTokenCount());
+		for (int i = 0; i < expected.getTokenCount(); i++) {
+			assertEquals(expected.getTokenType(i), actual.getTokenType(i));
+			assertEquals(expected.getTokenOffset(i), actual.getTokenOffset(i));
+			assertEquals(expected.getTokenEnd(i), actual.getTokenEnd(i));
+			assertEquals(expected.getScannerState(i), actual.getScannerState(i));
+			assertEquals(expected.getTokenError(i), actual.getTokenError(i));
+		}
+	}
+}
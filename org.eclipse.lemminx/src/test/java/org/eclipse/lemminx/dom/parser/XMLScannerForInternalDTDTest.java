@@ -431,6 +431,57 @@ public class XMLScannerForInternalDTDTest {
 		assertOffsetAndToken(40, TokenType.EOS);
 	}
 
+	@Test
+	public void publicIdMustStartAfterPUBLIC() {
+		String xml = "<!DOCTYPE root PUBLIC ><root attr='value' />";
+		scanner = XMLScanner.createScanner(xml);
+		assertOffsetAndToken(0, TokenType.DTDStartDoctypeTag);
+		assertOffsetAndToken(9, TokenType.Whitespace);
+		assertOffsetAndToken(10, TokenType.DTDDoctypeName);
+		assertOffsetAndToken(14, TokenType.Whitespace);
+		assertOffsetAndToken(15, TokenType.DTDDocTypeKindPUBLIC);
+		assertOffsetAndToken(21, TokenType.Whitespace);
+		// the quoted attribute value must not be scanned as the public id
+		assertOffsetAndToken(22, TokenType.EndTagClose);
+		assertOffsetAndToken(23, TokenType.StartTagOpen);
+		assertOffsetAndToken(24, TokenType.StartTag, "root");
+		assertOffsetAndToken(28, TokenType.Whitespace);
+		assertOffsetAndToken(29, TokenType.AttributeName, "attr");
+		assertOffsetAndToken(33, TokenType.DelimiterAssign);
+		assertOffsetAndToken(34, TokenType.AttributeValue, "'value'");
+		assertOffsetAndToken(41, TokenType.Whitespace);
+		assertOffsetAndToken(42, TokenType.StartTagSelfClose);
+		assertOffsetAndToken(44, TokenType.EOS);
+	}
+
+	@Test
+	public void attlistWithEnumeratedType() {
+		String xml = "<!DOCTYPE root [\n" + //
+				"  <!ATTLIST root type (a|b) #IMPLIED>\n" + //
+				"]>";
+		scanner = XMLScanner.createScanner(xml);
+		assertOffsetAndToken(0, TokenType.DTDStartDoctypeTag);
+		assertOffsetAndToken(9, TokenType.Whitespace);
+		assertOffsetAndToken(10, TokenType.DTDDoctypeName, "root");
+		assertOffsetAndToken(14, TokenType.Whitespace);
+		assertOffsetAndToken(15, TokenType.DTDStartInternalSubset);
+		assertOffsetAndToken(16, TokenType.Content);
+		assertOffsetAndToken(19, TokenType.DTDStartAttlist);
+		assertOffsetAndToken(28, TokenType.Whitespace);
+		assertOffsetAndToken(29, TokenType.DTDAttlistElementName, "root");
+		assertOffsetAndToken(33, TokenType.Whitespace);
+		assertOffsetAndToken(34, TokenType.DTDAttlistAttributeName, "type");
+		assertOffsetAndToken(38, TokenType.Whitespace);
+		assertOffsetAndToken(39, TokenType.DTDAttlistAttributeType, "(a|b)");
+		assertOffsetAndToken(44, TokenType.Whitespace);
+		assertOffsetAndToken(45, TokenType.DTDAttlistAttributeValue, "#IMPLIED");
+		assertOffsetAndToken(53, TokenType.DTDEndTag);
+		assertOffsetAndToken(54, TokenType.Content);
+		assertOffsetAndToken(55, TokenType.DTDEndInternalSubset);
+		assertOffsetAndToken(56, TokenType.DTDEndDoctypeTag);
+		assertOffsetAndToken(57, TokenType.EOS);
+	}
+
 	public void assertOffsetAndToken(int tokenOffset, TokenType tokenType) {
 		TokenType token = scanner.scan();
 		// System.err.println("assertOffsetAndToken(" + scanner.getTokenOffset() +  ", TokenType." + scanner.getTokenType() + ");");
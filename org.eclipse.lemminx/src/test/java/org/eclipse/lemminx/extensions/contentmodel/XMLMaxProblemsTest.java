@@ -0,0 +1,88 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.extensions.contentmodel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.lemminx.AbstractCacheBasedTest;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMParser;
+import org.eclipse.lemminx.extensions.contentmodel.settings.XMLValidationRootSettings;
+import org.eclipse.lemminx.extensions.contentmodel.settings.XMLValidationSettings;
+import org.eclipse.lemminx.extensions.xerces.AbstractLSPErrorReporter;
+import org.eclipse.lemminx.services.XMLLanguageService;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.DiagnosticSeverity;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test with the max number of problems reported by the validation.
+ *
+ */
+public class XMLMaxProblemsTest extends AbstractCacheBasedTest {
+
+	private static final String XML = "<!DOCTYPE root [\r\n" + //
+			"  <!ELEMENT root EMPTY>\r\n" + //
+			"]>\r\n" + //
+			"<root>\r\n" + //
+			"  <a />\r\n" + //
+			"  <b />\r\n" + //
+			"  <c />\r\n" + //
+			"  <d />\r\n" + //
+			"</root>";
+
+	@Test
+	public void maxProblemsReached() {
+		XMLValidationRootSettings settings = new XMLValidationRootSettings();
+		settings.setMaxProblems(2);
+
+		List<Diagnostic> actual = doDiagnostics(settings);
+		assertEquals(3, actual.size());
+		Diagnostic summary = actual.get(2);
+		assertEquals(AbstractLSPErrorReporter.MAX_PROBLEMS_REACHED_CODE, summary.getCode().getLeft());
+		assertEquals(DiagnosticSeverity.Information, summary.getSeverity());
+		assertTrue(summary.getMessage().startsWith("Validation stopped after 2 problems"));
+	}
+
+	@Test
+	public void maxProblemsNotReached() {
+		XMLValidationRootSettings settings = new XMLValidationRootSettings();
+		settings.setMaxProblems(5);
+		assertEquals(5, doDiagnostics(settings).size());
+	}
+
+	@Test
+	public void noMaxProblems() {
+		XMLValidationRootSettings settings = new XMLValidationRootSettings();
+		settings.setMaxProblems(0);
+		assertEquals(5, doDiagnostics(settings).size());
+	}
+
+	@Test
+	public void noMaxProblemsByDefault() {
+		XMLValidationRootSettings settings = new XMLValidationRootSettings();
+		assertEquals(XMLValidationSettings.DEFAULT_MAX_PROBLEMS, settings.getMaxProblems());
+		assertEquals(5, doDiagnostics(settings).size());
+	}
+
+	private static List<Diagnostic> doDiagnostics(XMLValidationRootSettings settings) {
+		settings.setNoGrammar("ignore");
+		XMLLanguageService ls = new XMLLanguageService();
+		DOMDocument document = DOMParser.getInstance().parse(XML, "test.xml", ls.getResolverExtensionManager());
+		return ls.doDiagnostics(document, settings, Collections.emptyMap(), () -> {
+		});
+	}
+}
@@ -0,0 +1,179 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.extensions.contentmodel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+import org.eclipse.lemminx.AbstractCacheBasedTest;
+import org.eclipse.lemminx.XMLAssert;
+import org.eclipse.lemminx.commons.DiagnosticsStore;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMParser;
+import org.eclipse.lemminx.extensions.contentmodel.participants.diagnostics.PartialDiagnosticsPublisher;
+import org.eclipse.lemminx.extensions.contentmodel.settings.XMLPartialDiagnosticsSettings;
+import org.eclipse.lemminx.extensions.contentmodel.settings.XMLValidationRootSettings;
+import org.eclipse.lemminx.extensions.contentmodel.settings.XMLValidationSettings;
+import org.eclipse.lemminx.services.XMLLanguageService;
+import org.eclipse.lemminx.services.extensions.diagnostics.IDiagnosticsParticipant;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.DiagnosticSeverity;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test with diagnostics published while the validation is running.
+ *
+ */
+public class XMLPartialDiagnosticsTest extends AbstractCacheBasedTest {
+
+	private static final String XML = "<!DOCTYPE root [\r\n" + //
+			"  <!ELEMENT root EMPTY>\r\n" + //
+			"]>\r\n" + //
+			"<root>\r\n" + //
+			"  <a />\r\n" + //
+			"  <b />\r\n" + //
+			"  <c />\r\n" + //
+			"  <d />\r\n" + //
+			"</root>";
+
+	@Test
+	public void publishPartialDiagnostics() {
+		XMLValidationRootSettings settings = new XMLValidationRootSettings();
+		settings.getPartialDiagnostics().setEnabled(true);
+		settings.getPartialDiagnostics().setInterval(Integer.MAX_VALUE);
+		settings.getPartialDiagnostics().setMaxDiagnostics(2);
+
+		List<PublishDiagnosticsParams> actual = publishDiagnostics(settings);
+		assertTrue(actual.size() > 1, "Partial diagnostics should be published");
+		List<Diagnostic> all = actual.get(actual.size() - 1).getDiagnostics();
+		assertEquals(5, all.size());
+		for (int i = 0; i < actual.size() - 1; i++) {
+			List<Diagnostic> partial = actual.get(i).getDiagnostics();
+			assertTrue(partial.size() >= 2 && partial.size() <= all.size());
+			assertEquals(all.subList(0, partial.size()), partial);
+		}
+	}
+
+	@Test
+	public void publishPartialDiagnosticsWithOtherParticipants() {
+		XMLValidationRootSettings settings = new XMLValidationRootSettings();
+		settings.getPartialDiagnostics().setEnabled(true);
+		settings.getPartialDiagnostics().setInterval(Integer.MAX_VALUE);
+		settings.getPartialDiagnostics().setMaxDiagnostics(2);
+
+		Diagnostic other = new Diagnostic(new Range(new Position(0, 0), new Position(0, 1)), "Other participant",
+				DiagnosticSeverity.Warning, "test");
+		XMLLanguageService ls = new XMLLanguageService();
+		ls.initializeIfNeeded();
+		ls.registerComponent(new DiagnosticsStore());
+		ls.registerDiagnosticsParticipant(new IDiagnosticsParticipant() {
+
+			@Override
+			public void doDiagnostics(DOMDocument xmlDocument, List<Diagnostic> diagnostics,
+					XMLValidationSettings validationSettings, CancelChecker cancelChecker) {
+				diagnostics.add(other);
+			}
+		});
+		DOMDocument document = DOMParser.getInstance().parse(XML, "test.xml", ls.getResolverExtensionManager());
+
+		// First validation: the participant which is executed after the XML validator
+		// has no diagnostics yet
+		List<PublishDiagnosticsParams> actual = new ArrayList<>();
+		XMLAssert.publishDiagnostics(document, settings, actual, ls);
+		assertTrue(actual.size() > 1, "Partial diagnostics should be published");
+		List<Diagnostic> all = actual.get(actual.size() - 1).getDiagnostics();
+		assertEquals(6, all.size());
+		assertEquals(other, all.get(5));
+		for (int i = 0; i < actual.size() - 1; i++) {
+			List<Diagnostic> partial = actual.get(i).getDiagnostics();
+			assertEquals(all.subList(0, partial.size()), partial);
+		}
+
+		// Second validation: the diagnostics of the other participant are published
+		// with the partial diagnostics of the XML validator
+		actual.clear();
+		XMLAssert.publishDiagnostics(document, settings, actual, ls);
+		assertTrue(actual.size() > 1, "Partial diagnostics should be published");
+		assertEquals(all, actual.get(actual.size() - 1).getDiagnostics());
+		for (int i = 0; i < actual.size() - 1; i++) {
+			List<Diagnostic> partial = actual.get(i).getDiagnostics();
+			assertEquals(other, partial.get(partial.size() - 1));
+			assertEquals(all.subList(0, partial.size() - 1), partial.subList(0, partial.size() - 1));
+		}
+	}
+
+	@Test
+	public void partialDiagnosticsAfterCancel() {
+		List<Diagnostic> diagnostics = new ArrayList<>();
+		List<List<Diagnostic>> published = new ArrayList<>();
+		XMLPartialDiagnosticsSettings settings = new XMLPartialDiagnosticsSettings();
+		settings.setInterval(Integer.MAX_VALUE);
+		settings.setMaxDiagnostics(1);
+		boolean[] canceled = { false };
+		CancelChecker monitor = new CancelChecker() {
+
+			@Override
+			public void checkCanceled() {
+				if (canceled[0]) {
+					throw new CancellationException();
+				}
+			}
+
+			@Override
+			public boolean isCanceled() {
+				return canceled[0];
+			}
+		};
+		PartialDiagnosticsPublisher publisher = new PartialDiagnosticsPublisher(diagnostics, published::add,
+				settings, monitor);
+
+		diagnostics.add(new Diagnostic(new Range(new Position(0, 0), new Position(0, 1)), "First"));
+		publisher.diagnosticAdded();
+		assertEquals(1, published.size());
+		assertEquals(1, publisher.getPublishedSize());
+
+		// The diagnostics of a superseded validation are not published
+		canceled[0] = true;
+		diagnostics.add(new Diagnostic(new Range(new Position(0, 0), new Position(0, 1)), "Second"));
+		publisher.diagnosticAdded();
+		assertEquals(1, published.size());
+		assertEquals(1, publisher.getPublishedSize());
+
+		// A monitor is required to suppress them
+		assertThrows(IllegalArgumentException.class,
+				() -> new PartialDiagnosticsPublisher(diagnostics, published::add, settings, null));
+	}
+
+	@Test
+	public void partialDiagnosticsDisabled() {
+		List<PublishDiagnosticsParams> actual = publishDiagnostics(new XMLValidationRootSettings());
+		assertEquals(1, actual.size());
+		assertEquals(5, actual.get(0).getDiagnostics().size());
+	}
+
+	private static List<PublishDiagnosticsParams> publishDiagnostics(XMLValidationRootSettings settings) {
+		XMLLanguageService ls = new XMLLanguageService();
+		DOMDocument document = DOMParser.getInstance().parse(XML, "test.xml", ls.getResolverExtensionManager());
+		List<PublishDiagnosticsParams> actual = new ArrayList<>();
+		XMLAssert.publishDiagnostics(document, settings, actual, ls);
+		return actual;
+	}
+}
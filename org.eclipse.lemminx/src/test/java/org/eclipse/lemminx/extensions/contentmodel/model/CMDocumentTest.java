@@ -0,0 +1,75 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.extensions.contentmodel.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Collection;
+
+import org.eclipse.lemminx.AbstractCacheBasedTest;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMElement;
+import org.eclipse.lemminx.dom.DOMParser;
+import org.eclipse.lemminx.services.XMLLanguageService;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link CMDocument#findCMElement(DOMElement, String)}
+ *
+ */
+public class CMDocumentTest extends AbstractCacheBasedTest {
+
+	@Test
+	public void findCMElementWithAncestors() {
+		XMLLanguageService ls = new XMLLanguageService();
+		ls.initializeIfNeeded();
+		String xml = "<!DOCTYPE root [\n" + //
+				"  <!ELEMENT root (child, other)>\n" + //
+				"  <!ELEMENT child (leaf)>\n" + //
+				"  <!ELEMENT other EMPTY>\n" + //
+				"  <!ELEMENT leaf EMPTY>\n" + //
+				"]>\n" + //
+				"<root><child><leaf/><unknown><leaf/></unknown></child></root>";
+		DOMDocument document = DOMParser.getInstance().parse(xml, "test.xml", ls.getResolverExtensionManager());
+		ContentModelManager contentModelManager = ls.getComponent(ContentModelManager.class);
+		Collection<CMDocument> cmDocuments = contentModelManager.findCMDocument(document.getDocumentElement());
+		assertEquals(1, cmDocuments.size());
+		CMDocument cmDocument = cmDocuments.iterator().next();
+
+		DOMElement root = document.getDocumentElement();
+		DOMElement child = (DOMElement) root.getFirstChild();
+		DOMElement leaf = (DOMElement) child.getFirstChild();
+		DOMElement unknown = (DOMElement) child.getLastChild();
+		DOMElement unknownLeaf = (DOMElement) unknown.getFirstChild();
+
+		CMElementDeclaration rootDeclaration = cmDocument.findCMElement(root);
+		assertNotNull(rootDeclaration);
+		assertSame(cmDocument.findElementDeclaration("root", null), rootDeclaration);
+		CMElementDeclaration childDeclaration = cmDocument.findCMElement(child);
+		assertNotNull(childDeclaration);
+		assertSame(rootDeclaration.findCMElement("child", null), childDeclaration);
+		CMElementDeclaration leafDeclaration = cmDocument.findCMElement(leaf);
+		assertNotNull(leafDeclaration);
+		assertSame(childDeclaration.findCMElement("leaf", null), leafDeclaration);
+		// The same declaration is returned for each lookup
+		assertSame(leafDeclaration, cmDocument.findCMElement(leaf));
+
+		// An undeclared ancestor stops the resolution
+		assertNull(cmDocument.findCMElement(unknown));
+		assertNull(cmDocument.findCMElement(unknownLeaf));
+		// The element doesn't belong to the given namespace
+		assertNull(cmDocument.findCMElement(leaf, "http://foo"));
+	}
+}
@@ -0,0 +1,86 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.extensions.contentmodel.model;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link CMNameIndex}
+ *
+ */
+public class CMNameIndexTest {
+
+	private static class Declaration {
+
+		private final String localName;
+
+		private final String namespace;
+
+		Declaration(String localName, String namespace) {
+			this.localName = localName;
+			this.namespace = namespace;
+		}
+	}
+
+	@Test
+	public void withoutNamespace() {
+		Declaration a = new Declaration("a", null);
+		Declaration b = new Declaration("b", null);
+		CMNameIndex<Declaration> index = createIndex(a, b, new Declaration(null, null));
+
+		assertSame(a, index.find("a", null));
+		assertSame(b, index.find("b", null));
+		// The namespace is ignored when no declaration matches it
+		assertSame(a, index.find("a", "http://foo"));
+		assertNull(index.find("c", null));
+		assertNull(index.find(null, null));
+	}
+
+	@Test
+	public void withNamespace() {
+		Declaration a = new Declaration("a", "http://foo");
+		Declaration b = new Declaration("b", "http://bar");
+		CMNameIndex<Declaration> index = createIndex(a, b);
+
+		assertSame(a, index.find("a", "http://foo"));
+		assertSame(b, index.find("b", "http://bar"));
+		assertSame(a, index.find("a", null));
+		assertSame(b, index.find("b", "http://foo"));
+		assertNull(index.find("c", "http://foo"));
+	}
+
+	@Test
+	public void duplicateLocalNames() {
+		Declaration fooA = new Declaration("a", "http://foo");
+		Declaration barA = new Declaration("a", "http://bar");
+		Declaration noNamespaceA = new Declaration("a", null);
+		Declaration otherFooA = new Declaration("a", "http://foo");
+		CMNameIndex<Declaration> index = createIndex(fooA, barA, noNamespaceA, otherFooA);
+
+		// The declaration which matches the namespace is returned first
+		assertSame(fooA, index.find("a", "http://foo"));
+		assertSame(barA, index.find("a", "http://bar"));
+		assertSame(noNamespaceA, index.find("a", null));
+		// Otherwise the first declaration with the local name is returned
+		assertSame(fooA, index.find("a", "http://baz"));
+	}
+
+	private static CMNameIndex<Declaration> createIndex(Declaration... declarations) {
+		return CMNameIndex.of(Arrays.asList(declarations), declaration -> declaration.localName,
+				declaration -> declaration.namespace);
+	}
+}
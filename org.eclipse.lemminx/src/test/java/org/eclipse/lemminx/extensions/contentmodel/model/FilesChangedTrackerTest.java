@@ -16,6 +16,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
 import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 import org.eclipse.lemminx.extensions.contentmodel.BaseFileTempTest;
 import org.junit.jupiter.api.Test;
@@ -42,4 +44,22 @@ public class FilesChangedTrackerTest extends BaseFileTempTest {
 		assertFalse(tracker.isDirty(), "NO Dirty after file modification on isDirty second call");
 
 	}
+
+	@Test
+	public void trackFileInNotExistingDirectory() throws IOException {
+		// The directory doesn't exist, it cannot be watched and the last modified time
+		// of the file is checked
+		FilesChangedTracker tracker = new FilesChangedTracker();
+		Path dir = getTempDirPath().resolve("not-existing-dir");
+		URI fileURI = dir.toUri().resolve("track.xml");
+		tracker.addFileURI(fileURI);
+
+		assertTrue(tracker.isDirty(), "Dirty when file doesn't exist");
+		assertTrue(tracker.isDirty(), "Dirty when file doesn't exist");
+
+		Files.createDirectories(dir);
+		createFile(fileURI, "<root />");
+		assertTrue(tracker.isDirty(), "Dirty after file creation on isDirty first call");
+		assertFalse(tracker.isDirty(), "NO Dirty after file creation on isDirty second call");
+	}
 }
@@ -0,0 +1,81 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.extensions.contentmodel.participants.completion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.eclipse.lemminx.AbstractCacheBasedTest;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMParser;
+import org.eclipse.lemminx.extensions.contentmodel.model.CMDocument;
+import org.eclipse.lemminx.extensions.contentmodel.model.CMElementDeclaration;
+import org.eclipse.lemminx.extensions.contentmodel.model.ContentModelManager;
+import org.eclipse.lemminx.extensions.contentmodel.utils.XMLGenerator;
+import org.eclipse.lemminx.services.XMLLanguageService;
+import org.eclipse.lemminx.settings.QuoteStyle;
+import org.eclipse.lemminx.settings.SharedSettings;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ContentModelElementCompletionTemplates}.
+ *
+ */
+public class ContentModelElementCompletionTemplatesTest extends AbstractCacheBasedTest {
+
+	@Test
+	public void cacheGeneratedContent() {
+		CMElementDeclaration child = findChildDeclaration();
+
+		SharedSettings settings = new SharedSettings();
+		XMLGenerator generator = new XMLGenerator(settings, true, "  ", "\n", true, 0, null);
+		String content = ContentModelElementCompletionTemplates.getFullElementContent(child, null, true, generator);
+		assertEquals("<child id=\"$1\" />$0", content);
+		// The content is cached for the same settings
+		XMLGenerator otherGenerator = new XMLGenerator(settings, true, "  ", "\n", true, 0, null);
+		assertSame(content,
+				ContentModelElementCompletionTemplates.getFullElementContent(child, null, true, otherGenerator));
+
+		// The content is generated again when the settings change
+		SharedSettings singleQuotes = new SharedSettings();
+		singleQuotes.getPreferences().setQuoteStyle(QuoteStyle.singleQuotes);
+		XMLGenerator singleQuotesGenerator = new XMLGenerator(singleQuotes, true, "  ", "\n", true, 0, null);
+		assertEquals("<child id='$1' />$0", ContentModelElementCompletionTemplates.getFullElementContent(child, null,
+				true, singleQuotesGenerator));
+		// and when the prefix changes
+		assertEquals("<a:child id=\"$1\" />$0",
+				ContentModelElementCompletionTemplates.getFullElementContent(child, "a", true, generator));
+	}
+
+	private static CMElementDeclaration findChildDeclaration() {
+		XMLLanguageService ls = new XMLLanguageService();
+		ls.initializeIfNeeded();
+		String xml = "<!DOCTYPE root [\n" + //
+				"  <!ELEMENT root (child)>\n" + //
+				"  <!ELEMENT child EMPTY>\n" + //
+				"  <!ATTLIST child id CDATA #REQUIRED>\n" + //
+				"]>\n" + //
+				"<root></root>";
+		DOMDocument document = DOMParser.getInstance().parse(xml, "test.xml", ls.getResolverExtensionManager());
+		ContentModelManager contentModelManager = ls.getComponent(ContentModelManager.class);
+		for (CMDocument cmDocument : contentModelManager.findCMDocument(document.getDocumentElement())) {
+			CMElementDeclaration root = cmDocument.findCMElement(document.getDocumentElement());
+			if (root != null) {
+				CMElementDeclaration child = root.findCMElement("child", null);
+				assertNotNull(child);
+				return child;
+			}
+		}
+		throw new AssertionError("No declaration for the 'root' element");
+	}
+}
@@ -0,0 +1,259 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.extensions.contentmodel.participants.diagnostics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+import org.eclipse.lemminx.commons.TextDocument;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMParser;
+import org.eclipse.lemminx.extensions.contentmodel.BaseFileTempTest;
+import org.eclipse.lemminx.extensions.contentmodel.model.ContentModelManager;
+import org.eclipse.lemminx.uriresolver.URIResolverExtensionManager;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link DOMReplayScanner#canReplay(DOMDocument, CancelChecker)}
+ * which must return false for any DOM document which cannot be replayed
+ * without loosing Xerces syntax errors, and differential tests which check
+ * that the validation of the replayed DOM document reports the same
+ * diagnostics than the validation of the parsed XML content.
+ *
+ */
+public class DOMReplayScannerTest extends BaseFileTempTest {
+
+	private static final String XSD = "<xs:schema xmlns:xs=\"http://www.w3.org/2001/XMLSchema\">\r\n" + //
+			"	<xs:element name=\"root\">\r\n" + //
+			"		<xs:complexType>\r\n" + //
+			"			<xs:sequence>\r\n" + //
+			"				<xs:element name=\"int\" type=\"xs:int\" minOccurs=\"0\" maxOccurs=\"unbounded\" />\r\n" + //
+			"				<xs:element name=\"item\" minOccurs=\"0\" maxOccurs=\"unbounded\">\r\n" + //
+			"					<xs:complexType>\r\n" + //
+			"						<xs:simpleContent>\r\n" + //
+			"							<xs:extension base=\"xs:string\">\r\n" + //
+			"								<xs:attribute name=\"code\" type=\"code\" />\r\n" + //
+			"							</xs:extension>\r\n" + //
+			"						</xs:simpleContent>\r\n" + //
+			"					</xs:complexType>\r\n" + //
+			"				</xs:element>\r\n" + //
+			"				<xs:element name=\"required\" />\r\n" + //
+			"			</xs:sequence>\r\n" + //
+			"			<xs:attribute name=\"version\" type=\"xs:decimal\" use=\"required\" />\r\n" + //
+			"		</xs:complexType>\r\n" + //
+			"	</xs:element>\r\n" + //
+			"	<xs:simpleType name=\"code\">\r\n" + //
+			"		<xs:restriction base=\"xs:string\">\r\n" + //
+			"			<xs:enumeration value=\"A\" />\r\n" + //
+			"		</xs:restriction>\r\n" + //
+			"	</xs:simpleType>\r\n" + //
+			"</xs:schema>";
+
+	@Test
+	public void wellFormed() {
+		assertCanReplay("<root />");
+		assertCanReplay("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\r\n" + //
+				"<!-- comment -->\r\n" + //
+				"<?xml-model href=\"foo.xsd\"?>\r\n" + //
+				"<root xmlns=\"http://foo\" xmlns:p=\"http://bar\" xml:lang=\"en\" p:attr='value'>\r\n" + //
+				"  <p:child attr=\"a\r\nb\">text</p:child>\r\n" + //
+				"  <![CDATA[<cdata>]]>\r\n" + //
+				"  <?pi data?>\r\n" + //
+				"  <empty/>\r\n" + //
+				"</root >\r\n" + //
+				"<!-- end -->");
+	}
+
+	@Test
+	public void syntaxErrors() {
+		assertCannotReplay("");
+		assertCannotReplay("<root>");
+		assertCannotReplay("<root></root><root2 />");
+		assertCannotReplay("text<root />");
+		assertCannotReplay("<root></a></root>");
+		assertCannotReplay("<root><a></root>");
+		assertCannotReplay("<root attr></root>");
+		assertCannotReplay("<root attr=value></root>");
+		assertCannotReplay("<root a=\"1\"b=\"2\"></root>");
+		assertCannotReplay("<root a=\"1\" a=\"2\"></root>");
+		assertCannotReplay("<root a=\"<\"></root>");
+		assertCannotReplay("<root>]]></root>");
+		assertCannotReplay("<root><!-- a -- b --></root>");
+		assertCannotReplay("<root><?xml version=\"1.0\"?></root>");
+		assertCannotReplay("<root><1a /></root>");
+		assertCannotReplay(" <?xml version=\"1.0\"?><root />");
+		assertCannotReplay("<?xml encoding=\"UTF-8\"?><root />");
+		assertCannotReplay("<root>\u0001</root>");
+	}
+
+	@Test
+	public void namespaceErrors() {
+		assertCannotReplay("<p:root />");
+		assertCannotReplay("<root p:attr=\"\" />");
+		assertCannotReplay("<root xmlns:p=\"\" />");
+		assertCannotReplay("<root xmlns:a=\"http://foo\" xmlns:b=\"http://foo\" a:attr=\"\" b:attr=\"\" />");
+		assertCannotReplay("<xmlns:root />");
+	}
+
+	@Test
+	public void notReplayableConstructs() {
+		// DOCTYPE
+		assertCannotReplay("<!DOCTYPE root [<!ENTITY foo \"bar\">]><root />");
+		// entity and character references
+		assertCannotReplay("<root>&foo;</root>");
+		assertCannotReplay("<root attr=\"&#10;\" />");
+		// XML 1.1
+		assertCannotReplay("<?xml version=\"1.1\"?><root />");
+	}
+
+	@Test
+	public void sameDiagnosticsWithoutGrammar() throws IOException {
+		assertSameDiagnostics("<root />", true);
+		assertSameDiagnostics("<root xmlns=\"http://foo\" xmlns:p=\"http://bar\">\r\n" + //
+				"  <p:child attr=\"a\r\nb\">text<![CDATA[<cdata>]]></p:child>\r\n" + //
+				"  <!-- comment --><?pi data?>\r\n" + //
+				"</root>", true);
+	}
+
+	@Test
+	public void sameDiagnosticsWithXMLSchema() throws IOException {
+		// valid
+		assertSameDiagnostics(withSchema(" version=\"1.0\">\r\n" + //
+				"  <int>1</int>\r\n" + //
+				"  <item code=\"A\">text</item>\r\n" + //
+				"  <required />\r\n" + //
+				"</root>"), true);
+		// missing attribute, invalid text and attribute values, unexpected and missing
+		// elements
+		assertHasDiagnostics(withSchema(">\r\n" + //
+				"  <int>abc</int>\r\n" + //
+				"  <int> 12\r\n3 </int>\r\n" + //
+				"  <item code=\"B\">text</item>\r\n" + //
+				"  <item code=\"\r\nA\">text</item>\r\n" + //
+				"  <unknown />\r\n" + //
+				"</root>"), true);
+		assertHasDiagnostics(withSchema(" version=\"abc\">\r\n" + //
+				"  <item>text</item>\r\n" + //
+				"  <!-- comment -->\r\n" + //
+				"  <?pi data?>\r\n" + //
+				"</root>"), true);
+	}
+
+	@Test
+	public void sameDiagnosticsWithCDATA() throws IOException {
+		assertHasDiagnostics(withSchema(" version=\"1.0\">\r\n" + //
+				"  <int><![CDATA[abc]]></int>\r\n" + //
+				"  <int>1<![CDATA[2]]>3</int>\r\n" + //
+				"  <int><![CDATA[1]]> <![CDATA[2]]></int>\r\n" + //
+				"  <item code=\"A\"><![CDATA[<text>]]></item>\r\n" + //
+				"  <required><![CDATA[]]></required>\r\n" + //
+				"</root>"), true);
+	}
+
+	@Test
+	public void sameDiagnosticsWithEntities() throws IOException {
+		// Entity and character references are not replayed, the XML content is
+		// parsed
+		assertHasDiagnostics(withSchema(" version=\"1.0\">\r\n" + //
+				"  <int>&#49;a</int>\r\n" + //
+				"  <int>&lt;</int>\r\n" + //
+				"  <item code=\"&#65;\">&amp;</item>\r\n" + //
+				"  <item code=\"&lt;\">text</item>\r\n" + //
+				"  <required />\r\n" + //
+				"</root>"), false);
+		assertHasDiagnostics(withSchema(" version=\"1.0\">\r\n" + //
+				"  <int>&foo;</int>\r\n" + //
+				"  <required />\r\n" + //
+				"</root>"), false);
+	}
+
+	@Test
+	public void replayStaleDOMDocument() throws IOException {
+		String xml = withSchema(" version=\"1.0\">\r\n" + //
+				"  <int>abc</int>\r\n" + //
+				"  <required />\r\n" + //
+				"</root>");
+		TextDocument textDocument = new TextDocument(xml, "test.xml");
+		DOMDocument document = DOMParser.getInstance().parse(textDocument, null);
+		// the text content changes after the parse, the DOM document is replayed
+		// with the parsed text ('abc' and not 'abd')
+		textDocument.setText(xml.replace("abc", "abd"));
+		assertTrue(DOMReplayScanner.canReplay(document, null));
+		List<Diagnostic> expected = validate(parse(xml), false);
+		assertFalse(expected.isEmpty());
+		assertEquals(expected, validate(document, true));
+
+		// the text content is shorter than the parsed text, the ranges of the
+		// diagnostics cannot be computed with the current text, the replay fails and
+		// the XML content is parsed instead
+		textDocument.setText("<a/>");
+		assertEquals(validate(document, false), validate(document, true));
+	}
+
+	@Test
+	public void cancelCanReplay() {
+		DOMDocument document = parse("<root><a /></root>");
+		assertThrows(CancellationException.class, () -> DOMReplayScanner.canReplay(document, () -> {
+			throw new CancellationException();
+		}));
+	}
+
+	private String withSchema(String xml) throws IOException {
+		createFile(getTempDirPath().resolve("replay.xsd").toUri(), XSD);
+		String xsdURI = getTempDirPath().resolve("replay.xsd").toUri().toString();
+		return "<root xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xsi:noNamespaceSchemaLocation=\""
+				+ xsdURI + "\"" + xml;
+	}
+
+	private static void assertHasDiagnostics(String xml, boolean canReplay) {
+		assertFalse(assertSameDiagnostics(xml, canReplay).isEmpty(), xml);
+	}
+
+	private static List<Diagnostic> assertSameDiagnostics(String xml, boolean canReplay) {
+		DOMDocument document = parse(xml);
+		assertEquals(canReplay, DOMReplayScanner.canReplay(document, null), xml);
+		List<Diagnostic> expected = validate(document, false);
+		List<Diagnostic> actual = validate(document, true);
+		assertEquals(expected, actual, xml);
+		return actual;
+	}
+
+	private static List<Diagnostic> validate(DOMDocument document, boolean replay) {
+		// Use a new grammar pool to report the errors of the XML Schema grammar too
+		ContentModelManager contentModelManager = new ContentModelManager(new URIResolverExtensionManager());
+		List<Diagnostic> diagnostics = new ArrayList<>();
+		XMLValidator.doDiagnostics(document, null, diagnostics, null, contentModelManager, () -> {
+		}, replay);
+		return diagnostics;
+	}
+
+	private static void assertCanReplay(String xml) {
+		assertTrue(DOMReplayScanner.canReplay(parse(xml), null), xml);
+	}
+
+	private static void assertCannotReplay(String xml) {
+		assertFalse(DOMReplayScanner.canReplay(parse(xml), null), xml);
+	}
+
+	private static DOMDocument parse(String xml) {
+		return DOMParser.getInstance().parse(new TextDocument(xml, "test.xml"), null);
+	}
+}
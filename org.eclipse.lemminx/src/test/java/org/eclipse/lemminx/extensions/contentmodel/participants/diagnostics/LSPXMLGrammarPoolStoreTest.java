@@ -0,0 +1,142 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.extensions.contentmodel.participants.diagnostics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.lemminx.commons.RequestScheduler;
+import org.eclipse.lemminx.commons.TextDocument;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMParser;
+import org.eclipse.lemminx.extensions.contentmodel.BaseFileTempTest;
+import org.eclipse.lemminx.extensions.contentmodel.model.ContentModelManager;
+import org.eclipse.lemminx.extensions.contentmodel.settings.XMLValidationRootSettings;
+import org.eclipse.lemminx.services.XMLLanguageService;
+import org.eclipse.lemminx.uriresolver.CacheResourcesManager;
+import org.eclipse.lsp4j.Diagnostic;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link LSPXMLGrammarPoolStore} which preloads the XML Schema
+ * grammars of a previous session.
+ *
+ */
+public class LSPXMLGrammarPoolStoreTest extends BaseFileTempTest {
+
+	private RequestScheduler requestScheduler;
+
+	@BeforeEach
+	public void createRequestScheduler() {
+		requestScheduler = new RequestScheduler();
+	}
+
+	@AfterEach
+	public void shutdownRequestScheduler() {
+		requestScheduler.shutdown();
+	}
+
+	@Test
+	public void preloadGrammars() throws IOException {
+		String xsdURI = getTempDirPath().resolve("root.xsd").toUri().toString();
+		createFile(getTempDirPath().resolve("types.xsd").toUri(), "<xs:schema xmlns:xs=\"http://www.w3.org/2001/XMLSchema\">\r\n" + //
+				"	<xs:simpleType name=\"code\">\r\n" + //
+				"		<xs:restriction base=\"xs:string\">\r\n" + //
+				"			<xs:enumeration value=\"A\" />\r\n" + //
+				"		</xs:restriction>\r\n" + //
+				"	</xs:simpleType>\r\n" + //
+				"</xs:schema>");
+		createFile(getTempDirPath().resolve("root.xsd").toUri(), "<xs:schema xmlns:xs=\"http://www.w3.org/2001/XMLSchema\">\r\n" + //
+				"	<xs:include schemaLocation=\"types.xsd\" />\r\n" + //
+				"	<xs:element name=\"root\" type=\"code\" />\r\n" + //
+				"</xs:schema>");
+		String xml = "<root xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xsi:noNamespaceSchemaLocation=\""
+				+ xsdURI + "\">B</root>";
+
+		// First session: the XML Schema is compiled by the validation and stored
+		XMLLanguageService firstSession = createLanguageService();
+		List<Diagnostic> expected = validate(firstSession, xml);
+		assertFalse(expected.isEmpty());
+		getGrammarPool(firstSession).getStore().getStoring().join();
+		assertTrue(CacheResourcesManager.getCachePath().resolve("grammars.json").toFile().exists());
+
+		// Second session: the XML Schema is preloaded
+		XMLLanguageService secondSession = createLanguageService();
+		assertTrue(getGrammarPool(secondSession).hasGrammar(xsdURI));
+		assertEquals(expected, validate(secondSession, xml));
+
+		// Third session: the included XML Schema has changed, the XML Schema is not
+		// preloaded
+		getGrammarPool(secondSession).getStore().getStoring().join();
+		updateFile(getTempDirPath().resolve("types.xsd").toUri(), "<xs:schema xmlns:xs=\"http://www.w3.org/2001/XMLSchema\">\r\n" + //
+				"	<xs:simpleType name=\"code\">\r\n" + //
+				"		<xs:restriction base=\"xs:string\">\r\n" + //
+				"			<xs:enumeration value=\"B\" />\r\n" + //
+				"		</xs:restriction>\r\n" + //
+				"	</xs:simpleType>\r\n" + //
+				"</xs:schema>");
+		XMLLanguageService thirdSession = createLanguageService();
+		assertFalse(getGrammarPool(thirdSession).hasGrammar(xsdURI));
+		assertTrue(validate(thirdSession, xml).isEmpty());
+	}
+
+	@Test
+	public void schemaWithErrorsIsNotPreloaded() throws IOException {
+		String xsdURI = getTempDirPath().resolve("error.xsd").toUri().toString();
+		createFile(getTempDirPath().resolve("error.xsd").toUri(), "<xs:schema xmlns:xs=\"http://www.w3.org/2001/XMLSchema\">\r\n" + //
+				"	<xs:element name=\"root\" type=\"unknown\" />\r\n" + //
+				"</xs:schema>");
+		String xml = "<root xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xsi:noNamespaceSchemaLocation=\""
+				+ xsdURI + "\" />";
+
+		XMLLanguageService firstSession = createLanguageService();
+		List<Diagnostic> expected = validate(firstSession, xml);
+		assertFalse(expected.isEmpty());
+		getGrammarPool(firstSession).getStore().getStoring().join();
+
+		// The XML Schema errors must be reported by the validation of the second
+		// session
+		XMLLanguageService secondSession = createLanguageService();
+		assertFalse(getGrammarPool(secondSession).hasGrammar(xsdURI));
+		assertEquals(expected, validate(secondSession, xml));
+	}
+
+	private XMLLanguageService createLanguageService() {
+		XMLLanguageService ls = new XMLLanguageService();
+		ls.registerComponent(requestScheduler);
+		ls.setDocumentProvider(uri -> null);
+		ls.initializeIfNeeded();
+		ContentModelManager contentModelManager = ls.getComponent(ContentModelManager.class);
+		contentModelManager.preloadGrammars().join();
+		return ls;
+	}
+
+	private static LSPXMLGrammarPool getGrammarPool(XMLLanguageService ls) {
+		ContentModelManager contentModelManager = ls.getComponent(ContentModelManager.class);
+		return contentModelManager.getGrammarPool();
+	}
+
+	private static List<Diagnostic> validate(XMLLanguageService ls, String xml) {
+		DOMDocument document = DOMParser.getInstance().parse(new TextDocument(xml, "test.xml"),
+				ls.getResolverExtensionManager());
+		ls.setDocumentProvider(uri -> document);
+		return ls.doDiagnostics(document, new XMLValidationRootSettings(), Collections.emptyMap(), () -> {
+		});
+	}
+}
@@ -16,6 +16,9 @@ import static org.eclipse.lemminx.XMLAssert.r;
 import static org.eclipse.lemminx.client.ClientCommands.SHOW_REFERENCES;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.function.Consumer;
 
@@ -152,8 +155,42 @@ public class XMLReferencesCodeLensExtensionsTest extends AbstractCacheBasedTest
 				cl(r(2, 10, 2, 17), "3 references", SHOW_REFERENCES));
 	}
 
-	private static void testCodeLensFor(String value, String fileURI, CodeLens... expected) {
+	@Test
+	public void docbookWithUpdatedInclude() throws IOException, InterruptedException {
+		String subBook = "<book>\r\n"
+				+ "	<xref linkend=\"s1\" />\r\n"
+				+ "	<xref linkend=\"s1\" />\r\n"
+				+ "</book>";
+		Path subBookFile = testWorkDirectory.resolve("sub-book.xml");
+		Files.write(subBookFile, subBook.getBytes());
+		String xml = "<docbook>\r\n"
+				+ "	<xref linkend=\"s1\" />\r\n"
+				// [3 references]
+				+ "	<section id=\"s1\" />\r\n"
+				+ "	<xi:include href=\"sub-book.xml\" />\r\n"
+				+ "</docbook>";
+		String fileURI = testWorkDirectory.resolve("docbook.xml").toUri().toString();
 		XMLLanguageService xmlLanguageService = new XMLLanguageService();
+		testCodeLensFor(xml, fileURI, xmlLanguageService, //
+				cl(r(2, 10, 2, 17), "3 references", SHOW_REFERENCES));
+		// The included file is indexed once
+		testCodeLensFor(xml, fileURI, xmlLanguageService, //
+				cl(r(2, 10, 2, 17), "3 references", SHOW_REFERENCES));
+
+		// The included file is indexed again when it changes. Wait for > 1s to be sure
+		// that the last modified time of the file changes.
+		Thread.sleep(1050);
+		Files.write(subBookFile, subBook.replace("s1", "s2").getBytes());
+		testCodeLensFor(xml, fileURI, xmlLanguageService, //
+				cl(r(2, 10, 2, 17), "1 reference", SHOW_REFERENCES));
+	}
+
+	private static void testCodeLensFor(String value, String fileURI, CodeLens... expected) {
+		testCodeLensFor(value, fileURI, new XMLLanguageService(), expected);
+	}
+
+	private static void testCodeLensFor(String value, String fileURI, XMLLanguageService xmlLanguageService,
+			CodeLens... expected) {
 		xmlLanguageService.getExtensions();
 		Consumer<XMLLanguageService> customConfiguration = ls -> {
 			ls.doSave(new SettingsSaveContext(XMLReferencesSettingsForTest.createXMLReferencesSettings()));
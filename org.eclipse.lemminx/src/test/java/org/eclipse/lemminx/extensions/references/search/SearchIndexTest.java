@@ -0,0 +1,193 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.extensions.references.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.lemminx.dom.DOMAttr;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMElement;
+import org.eclipse.lemminx.dom.DOMNode;
+import org.eclipse.lemminx.dom.DOMParser;
+import org.eclipse.lemminx.extensions.contentmodel.model.FilesChangedTracker;
+import org.eclipse.lemminx.extensions.references.search.SearchIndex.IndexedDocument;
+import org.eclipse.lemminx.extensions.references.search.SearchNode.Direction;
+import org.eclipse.lemminx.extensions.references.search.SearchQuery.QueryDirection;
+import org.eclipse.lemminx.extensions.references.settings.XMLReferenceExpression;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.NamedNodeMap;
+
+/**
+ * Differential tests for {@link SearchIndex}: the search in an indexed file
+ * must collect the same search nodes than the search which walks the DOM
+ * document of the file.
+ *
+ */
+public class SearchIndexTest {
+
+	@Test
+	public void attributes() {
+		String xml = "<book>\r\n" + //
+				"	<section id=\"s1\" />\r\n" + //
+				"	<section id=\"s2\" />\r\n" + //
+				"	<xref linkend=\"s1\" />\r\n" + //
+				"	<xref linkend=\"s1\" />\r\n" + //
+				"	<xref linkend=\"s3\" />\r\n" + //
+				"	<xref linkend=\"\" />\r\n" + //
+				"</book>";
+		assertSameSearch(xml, expression("xref/@linkend", "@id", null, false));
+	}
+
+	@Test
+	public void prefixAndMultiple() {
+		String xml = "<TEI>\r\n" + //
+				"	<anchor xml:id=\"a1\" />\r\n" + //
+				"	<anchor xml:id=\"a2\" />\r\n" + //
+				"	<ref target=\"#a1 #a2  a1 #a3\" corresp=\"#a2\" />\r\n" + //
+				"	<ref target=\"#a1\" corresp=\"a1\" />\r\n" + //
+				"</TEI>";
+		assertSameSearch(xml, expression("@corresp", "@xml:id", "#", false),
+				expression("@target", "@xml:id", "#", true));
+	}
+
+	@Test
+	public void texts() {
+		String xml = "<web-app>\r\n" + //
+				"	<servlet><servlet-name>s1</servlet-name></servlet>\r\n" + //
+				"	<servlet><servlet-name>s2</servlet-name></servlet>\r\n" + //
+				"	<servlet-mapping><servlet-name>s1</servlet-name></servlet-mapping>\r\n" + //
+				"	<servlet-mapping><servlet-name>s3</servlet-name></servlet-mapping>\r\n" + //
+				"	<aaa ref=\"b1 b2\" /><bbb>b1</bbb><bbb>b2</bbb>\r\n" + //
+				"</web-app>";
+		assertSameSearch(xml, expression("servlet-mapping/servlet-name/text()", "servlet/servlet-name/text()", null,
+				false), expression("@ref", "bbb/text()", null, true));
+	}
+
+	@Test
+	public void nodeMatchesFromAndTo() {
+		// item/@ref matches both the 'from' and the 'to' XPath
+		String xml = "<root>\r\n" + //
+				"	<item ref=\"a\" />\r\n" + //
+				"	<item ref=\"b\" />\r\n" + //
+				"	<def ref=\"a\" />\r\n" + //
+				"	<def ref=\"c\" />\r\n" + //
+				"</root>";
+		assertSameSearch(xml, expression("item/@ref", "@ref", null, false));
+
+		// The 'from' direction wins: item/@ref is not a 'to' node of a 'from' query
+		DOMDocument document = DOMParser.getInstance().parse(xml, "test.xml", null);
+		IndexedDocument indexedDocument = new IndexedDocument(document, new FilesChangedTracker());
+		List<XMLReferenceExpression> expressions = Arrays.asList(expression("item/@ref", "@ref", null, false));
+		DOMAttr from = ((DOMElement) document.getDocumentElement().getFirstChild()).getAttributeNode("ref");
+		SearchQuery query = new SearchQuery(
+				SearchNodeFactory.findSearchNodes(from, null, false, Direction.FROM).get(0), expressions,
+				QueryDirection.FROM_2_TO);
+		query.setMatchNode(true);
+		List<String> actual = new ArrayList<>();
+		new SearchEngine().searchInIndexedDocument(indexedDocument, query,
+				(fromNode, toNode, expression) -> actual.add(toNode.getValue(null) + "@" + toNode.getStart()), null,
+				null);
+		assertEquals(Arrays.asList("a@" + xml.indexOf("a\" />", xml.indexOf("<def"))), actual);
+	}
+
+	private static void assertSameSearch(String xml, XMLReferenceExpression... expressions) {
+		List<XMLReferenceExpression> expressionList = Arrays.asList(expressions);
+		DOMDocument document = DOMParser.getInstance().parse(xml, "test.xml", null);
+		IndexedDocument indexedDocument = new IndexedDocument(document, new FilesChangedTracker());
+		SearchEngine engine = new SearchEngine();
+		int nbCollected = 0;
+		for (QueryDirection queryDirection : QueryDirection.values()) {
+			for (SearchNode requestedNode : getSearchNodes(document, expressionList)) {
+				for (boolean matchNode : new boolean[] { false, true }) {
+					SearchQuery query = new SearchQuery(requestedNode, expressionList, queryDirection);
+					query.setMatchNode(matchNode);
+					String message = "Query " + queryDirection + " for " + requestedNode + " (match node="
+							+ matchNode + ")";
+
+					List<String> expected = new ArrayList<>();
+					engine.search(query, (from, to, expression) -> expected.add(toString(from, to, expression)),
+							null);
+					List<String> actual = new ArrayList<>();
+					engine.searchInIndexedDocument(indexedDocument, query,
+							(from, to, expression) -> actual.add(toString(from, to, expression)), null, null);
+
+					Collections.sort(expected);
+					Collections.sort(actual);
+					assertEquals(expected, actual, message);
+					nbCollected += expected.size();
+				}
+			}
+		}
+		assertFalse(nbCollected == 0, "The search must collect some nodes");
+	}
+
+	/**
+	 * Returns the 'from' and 'to' search nodes of the given document which can
+	 * be used as requested node of a query.
+	 */
+	private static List<SearchNode> getSearchNodes(DOMDocument document, List<XMLReferenceExpression> expressions) {
+		List<SearchNode> searchNodes = new ArrayList<>();
+		collectSearchNodes(document, expressions, searchNodes);
+		return searchNodes;
+	}
+
+	private static void collectSearchNodes(DOMNode node, List<XMLReferenceExpression> expressions,
+			List<SearchNode> searchNodes) {
+		if (node.isElement() && node.hasAttributes()) {
+			NamedNodeMap attributes = ((DOMElement) node).getAttributes();
+			for (int i = 0; i < attributes.getLength(); i++) {
+				collectSearchNode((DOMAttr) attributes.item(i), expressions, searchNodes);
+			}
+		} else if (node.isText()) {
+			collectSearchNode(node, expressions, searchNodes);
+		}
+		for (DOMNode child : node.getChildren()) {
+			collectSearchNodes(child, expressions, searchNodes);
+		}
+	}
+
+	private static void collectSearchNode(DOMNode node, List<XMLReferenceExpression> expressions,
+			List<SearchNode> searchNodes) {
+		for (XMLReferenceExpression expression : expressions) {
+			if (expression.matchFrom(node)) {
+				searchNodes.addAll(SearchNodeFactory.findSearchNodes(node, expression.getPrefix(),
+						expression.isMultiple(), Direction.FROM));
+			}
+			if (expression.matchTo(node)) {
+				searchNodes.addAll(SearchNodeFactory.findSearchNodes(node, null, false, Direction.TO));
+			}
+		}
+	}
+
+	private static String toString(SearchNode from, SearchNode to, XMLReferenceExpression expression) {
+		return toString(from) + " -> " + toString(to) + " (" + expression.getFrom() + ")";
+	}
+
+	private static String toString(SearchNode node) {
+		return node.getStart() + "-" + node.getEnd() + ":" + node.getDirection() + ":" + node.getValue(null);
+	}
+
+	private static XMLReferenceExpression expression(String from, String to, String prefix, boolean multiple) {
+		XMLReferenceExpression expression = new XMLReferenceExpression();
+		expression.setFrom(from);
+		expression.setTo(to);
+		expression.setPrefix(prefix);
+		expression.setMultiple(multiple);
+		return expression;
+	}
+}
@@ -0,0 +1,73 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.extensions.xerces;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.xerces.impl.XMLErrorReporter;
+import org.apache.xerces.impl.msg.XMLMessageFormatter;
+import org.apache.xerces.impl.xs.util.SimpleLocator;
+import org.apache.xerces.xni.XMLLocator;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMParser;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.DiagnosticSeverity;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test with the LSP error reporter.
+ *
+ */
+public class AbstractLSPErrorReporterTest {
+
+	@Test
+	public void sameErrorFormattedOnce() {
+		DOMDocument document = DOMParser.getInstance().parse("<root><a /><b /></root>", "test.xml", null);
+		List<Diagnostic> diagnostics = new ArrayList<>();
+		AtomicInteger formatCount = new AtomicInteger();
+		AbstractLSPErrorReporter reporter = new AbstractLSPErrorReporter("xml", document, diagnostics, true) {
+
+			@Override
+			protected String getMessage(String domain, String key, Object[] arguments, Exception exception) {
+				formatCount.incrementAndGet();
+				return super.getMessage(domain, key, arguments, exception);
+			}
+
+			@Override
+			protected Range toLSPRange(XMLLocator location, String key, Object[] arguments, String message,
+					DiagnosticSeverity diagnosticSeverity, boolean fatalError, DOMDocument document) {
+				int offset = location.getCharacterOffset();
+				return new Range(new Position(0, offset), new Position(0, offset + 1));
+			}
+		};
+
+		reportError(reporter, 6, "a");
+		reportError(reporter, 6, "a");
+		reportError(reporter, 11, "b");
+		reportError(reporter, 6, "a");
+
+		assertEquals(2, diagnostics.size());
+		assertEquals(2, formatCount.get());
+	}
+
+	private static void reportError(AbstractLSPErrorReporter reporter, int offset, String name) {
+		XMLLocator location = new SimpleLocator("test.xml", "test.xml", 1, offset + 1, offset + 1);
+		reporter.reportError(location, XMLMessageFormatter.XML_DOMAIN, "MSG_ELEMENT_NOT_DECLARED",
+				new Object[] { name }, XMLErrorReporter.SEVERITY_ERROR, null);
+	}
+}
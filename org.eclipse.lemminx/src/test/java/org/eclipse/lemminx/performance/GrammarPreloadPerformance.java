@@ -0,0 +1,112 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.performance;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collections;
+
+import org.eclipse.lemminx.commons.RequestScheduler;
+import org.eclipse.lemminx.commons.TextDocument;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMParser;
+import org.eclipse.lemminx.extensions.contentmodel.model.ContentModelManager;
+import org.eclipse.lemminx.extensions.contentmodel.participants.diagnostics.LSPXMLGrammarPoolStore;
+import org.eclipse.lemminx.extensions.contentmodel.settings.XMLValidationRootSettings;
+import org.eclipse.lemminx.services.XMLLanguageService;
+import org.eclipse.lemminx.utils.FilesUtils;
+
+/**
+ * This utility class is used to check the time to the first diagnostics of XML
+ * files bound to large XML Schemas, with and without the XML Schema grammars
+ * preloaded by {@link LSPXMLGrammarPoolStore}.
+ *
+ */
+public class GrammarPreloadPerformance {
+
+	private static final String[] SCHEMAS = { "maven-4.0.0.xsd", "camel-spring-2.22.0.xsd", "edm.xsd" };
+
+	private static final String[] NAMESPACES = { "http://maven.apache.org/POM/4.0.0",
+			"http://camel.apache.org/schema/spring", "http://docs.oasis-open.org/odata/ns/edm" };
+
+	private static final String[] ROOT_ELEMENTS = { "project", "beans", "Schema" };
+
+	public static void main(String[] args) throws IOException {
+		// Store the grammars in a temporary .lemminx directory
+		System.setProperty(FilesUtils.LEMMINX_WORKDIR_KEY,
+				Files.createTempDirectory("lemminx").toAbsolutePath().toString());
+		FilesUtils.resetDeployPath();
+
+		String[] xmls = new String[SCHEMAS.length];
+		for (int i = 0; i < SCHEMAS.length; i++) {
+			String xsdURI = new File("src/test/resources/xsd/" + SCHEMAS[i]).toURI().toString();
+			xmls[i] = "<" + ROOT_ELEMENTS[i] + " xmlns=\"" + NAMESPACES[i]
+					+ "\" xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xsi:schemaLocation=\""
+					+ NAMESPACES[i] + " " + xsdURI + "\" />";
+		}
+
+		// First session which stores the grammars in the caller thread (and warms up
+		// the JVM)
+		XMLLanguageService firstSession = createLanguageService(null, true);
+		for (String xml : xmls) {
+			validate(firstSession, xml);
+		}
+
+		RequestScheduler requestScheduler = new RequestScheduler();
+		while (true) {
+			// Start without preloading the stored grammars
+			XMLLanguageService coldSession = createLanguageService(requestScheduler, false);
+			long start = System.currentTimeMillis();
+			for (String xml : xmls) {
+				validate(coldSession, xml);
+			}
+			long coldTime = System.currentTimeMillis() - start;
+
+			// Start with the stored grammars preloaded
+			start = System.currentTimeMillis();
+			XMLLanguageService warmSession = createLanguageService(requestScheduler, true);
+			long preloadTime = System.currentTimeMillis() - start;
+			start = System.currentTimeMillis();
+			for (String xml : xmls) {
+				validate(warmSession, xml);
+			}
+			long warmTime = System.currentTimeMillis() - start;
+
+			System.err.println("Time to first diagnostics for " + SCHEMAS.length + " XML Schemas: " + coldTime
+					+ " ms without stored grammars, " + warmTime + " ms with stored grammars (preloaded in "
+					+ preloadTime + " ms).");
+		}
+	}
+
+	private static XMLLanguageService createLanguageService(RequestScheduler requestScheduler,
+			boolean preloadGrammars) {
+		XMLLanguageService ls = new XMLLanguageService();
+		if (requestScheduler != null) {
+			ls.registerComponent(requestScheduler);
+		}
+		ls.setDocumentProvider(uri -> null);
+		ls.initializeIfNeeded();
+		if (preloadGrammars) {
+			ContentModelManager contentModelManager = ls.getComponent(ContentModelManager.class);
+			contentModelManager.preloadGrammars().join();
+		}
+		return ls;
+	}
+
+	private static void validate(XMLLanguageService ls, String xml) {
+		DOMDocument document = DOMParser.getInstance().parse(new TextDocument(xml, "test.xml"),
+				ls.getResolverExtensionManager());
+		ls.doDiagnostics(document, new XMLValidationRootSettings(), Collections.emptyMap(), () -> {
+		});
+	}
+}
@@ -14,17 +14,26 @@ package org.eclipse.lemminx.performance;
 import static org.eclipse.lemminx.utils.IOUtils.convertStreamToString;
 
 import java.io.InputStream;
+import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.eclipse.lemminx.commons.ModelTextDocument;
 import org.eclipse.lemminx.commons.TextDocument;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMParser;
 import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
 
+import com.sun.management.ThreadMXBean;
+
 /**
  * This utility class is used to check the performance of
- * {@link TextDocument#update(List)}, updating the large content.xml file
+ * {@link TextDocument#update(List)}, updating the large content.xml file and
+ * of the incremental DOM parse done by {@link ModelTextDocument#getModel()}
+ * after the update compared to the full DOM parse. The memory allocated by
+ * the update is reported for each edit.
  * 
  * @author Angelo ZERR
  *
@@ -34,18 +43,45 @@ public class TextDocumentUpdatePerformance {
 	public static void main(String[] args) {
 		InputStream in = TextDocumentUpdatePerformance.class.getResourceAsStream("/xml/content.xml");
 		String text = convertStreamToString(in);
-		TextDocument document = new TextDocument(text, "content.xml");
+		DOMParser parser = DOMParser.getInstance();
+		ModelTextDocument<DOMDocument> document = new ModelTextDocument<DOMDocument>(text, "content.xml",
+				(textDocument, cancelChecker) -> parser.parse(textDocument, null, true, cancelChecker),
+				(xmlDocument, textDocument, changedRegion, cancelChecker) -> parser.reparse(xmlDocument,
+						changedRegion, true, cancelChecker));
 		document.setIncremental(true);
+		document.getModel();
+		ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+		long threadId = Thread.currentThread().getId();
 		// Continuously parses the large content.xml file with the DOM parser.
 		while (true) {
 			long start = System.currentTimeMillis();
+			long allocated = threadMXBean.getThreadAllocatedBytes(threadId);
 			// Insert a space
 			List<TextDocumentContentChangeEvent> changes = new ArrayList<>();
 			TextDocumentContentChangeEvent change = new TextDocumentContentChangeEvent(
 					new Range(new Position(14, 13), new Position(14, 13)), 0, " ");
 			changes.add(change);
+			document.setVersion(document.getVersion() + 1);
 			document.update(changes);
-			System.err.println("Update 'content.xml' text document in " + (System.currentTimeMillis() - start) + " ms.");
+			System.err.println("Update 'content.xml' text document in " + (System.currentTimeMillis() - start)
+					+ " ms, allocated " + (threadMXBean.getThreadAllocatedBytes(threadId) - allocated) + " bytes.");
+
+			// Materialize the string of the updated text
+			start = System.currentTimeMillis();
+			allocated = threadMXBean.getThreadAllocatedBytes(threadId);
+			document.getText();
+			System.err.println("Get 'content.xml' text in " + (System.currentTimeMillis() - start) + " ms, allocated "
+					+ (threadMXBean.getThreadAllocatedBytes(threadId) - allocated) + " bytes.");
+
+			// Incremental parse of the updated DOM document
+			start = System.currentTimeMillis();
+			document.getModel();
+			System.err.println("Reparse 'content.xml' DOM document in " + (System.currentTimeMillis() - start) + " ms.");
+
+			// Full parse of the updated DOM document
+			start = System.currentTimeMillis();
+			parser.parse(document, null, true);
+			System.err.println("Parse 'content.xml' DOM document in " + (System.currentTimeMillis() - start) + " ms.");
 		}
 
 	}
@@ -0,0 +1,83 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.performance;
+
+import org.eclipse.lemminx.commons.TextDocument;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMParser;
+import org.eclipse.lemminx.dom.parser.Scanner;
+import org.eclipse.lemminx.dom.parser.TokenTable;
+import org.eclipse.lemminx.dom.parser.TokenType;
+import org.eclipse.lemminx.dom.parser.XMLScanner;
+import org.eclipse.lemminx.services.XMLLanguageService;
+import org.eclipse.lemminx.settings.XMLFoldingSettings;
+
+/**
+ * This utility class is used to compare the scan of the text with
+ * {@link XMLScanner} and the replay of the {@link TokenTable} recorded by the
+ * DOM parser used by the folding, with a generated large XML file.
+ *
+ */
+public class XMLFoldingsPerformance {
+
+	public static void main(String[] args) {
+		String text = generateLargeXML(10 * 1024 * 1024);
+		TextDocument document = new TextDocument(text, "large.xml");
+		document.setIncremental(true);
+		DOMDocument xmlDocument = DOMParser.getInstance().parse(document, null);
+		XMLLanguageService languageService = new XMLLanguageService();
+		XMLFoldingSettings settings = new XMLFoldingSettings();
+		// Continuously scans the large XML file and computes its folding
+		while (true) {
+			long start = System.currentTimeMillis();
+			scan(XMLScanner.createScanner(text));
+			System.err.println(
+					"Scanned 'large.xml' with XMLScanner in " + (System.currentTimeMillis() - start) + " ms.");
+
+			start = System.currentTimeMillis();
+			scan(xmlDocument.getTokenTable().createScanner(0));
+			System.err.println(
+					"Scanned 'large.xml' with TokenTable in " + (System.currentTimeMillis() - start) + " ms.");
+
+			start = System.currentTimeMillis();
+			languageService.getFoldingRanges(xmlDocument, settings);
+			System.err.println("Folding of 'large.xml' in " + (System.currentTimeMillis() - start) + " ms.");
+		}
+	}
+
+	private static void scan(Scanner scanner) {
+		TokenType token = scanner.scan();
+		while (token != TokenType.EOS) {
+			token = scanner.scan();
+		}
+	}
+
+	private static String generateLargeXML(int size) {
+		StringBuilder xml = new StringBuilder(size + 1024);
+		xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+		xml.append("<catalog>\n");
+		int i = 0;
+		while (xml.length() < size) {
+			xml.append("  <!-- book ").append(i).append(" -->\n");
+			xml.append("  <book id=\"b").append(i).append("\" lang=\"en\">\n");
+			xml.append("    <title>Title ").append(i).append("</title>\n");
+			xml.append("    <authors>\n");
+			xml.append("      <author>Author ").append(i).append("</author>\n");
+			xml.append("    </authors>\n");
+			xml.append("    <description><![CDATA[Description <b>").append(i).append("</b>]]></description>\n");
+			xml.append("  </book>\n");
+			i++;
+		}
+		xml.append("</catalog>");
+		return xml.toString();
+	}
+}
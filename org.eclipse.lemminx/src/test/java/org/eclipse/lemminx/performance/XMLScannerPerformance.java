@@ -14,6 +14,7 @@ package org.eclipse.lemminx.performance;
 import static org.eclipse.lemminx.utils.IOUtils.convertStreamToString;
 
 import java.io.InputStream;
+import java.lang.management.ManagementFactory;
 
 import org.eclipse.lemminx.dom.parser.Scanner;
 import org.eclipse.lemminx.dom.parser.TokenType;
@@ -31,15 +32,20 @@ public class XMLScannerPerformance {
 	public static void main(String[] args) {
 		InputStream in = XMLScannerPerformance.class.getResourceAsStream("/xml/content.xml");
 		String text = convertStreamToString(in);
+		com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory
+				.getThreadMXBean();
+		long threadId = Thread.currentThread().getId();
 		// Continuously parses the large content.xml file with the XML scanner
 		while (true) {
+			long allocatedBytes = threadBean.getThreadAllocatedBytes(threadId);
 			long start = System.currentTimeMillis();
 			Scanner scanner = XMLScanner.createScanner(text);
 			TokenType token = scanner.scan();
 			while (token != TokenType.EOS) {
 				token = scanner.scan();
 			}
-			System.err.println("Parsed 'content.xml' with XMLScanner in " + (System.currentTimeMillis() - start) + " ms.");
+			System.err.println("Parsed 'content.xml' with XMLScanner in " + (System.currentTimeMillis() - start)
+					+ " ms (" + (threadBean.getThreadAllocatedBytes(threadId) - allocatedBytes) + " bytes allocated).");
 		}
 	}
 }
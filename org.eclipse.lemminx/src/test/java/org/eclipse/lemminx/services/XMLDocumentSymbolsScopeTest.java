@@ -0,0 +1,144 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.services;
+
+import static org.eclipse.lemminx.XMLAssert.assertDocumentSymbols;
+import static org.eclipse.lemminx.XMLAssert.ds;
+import static org.eclipse.lemminx.XMLAssert.r;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.lemminx.commons.TextDocument;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMParser;
+import org.eclipse.lemminx.settings.XMLSymbolSettings;
+import org.eclipse.lsp4j.DocumentSymbol;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.SymbolKind;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+import org.junit.jupiter.api.Test;
+
+/**
+ * XML document symbols test with {@link DocumentSymbolsScope} (parent symbol to
+ * expand, visible range, number of levels).
+ */
+public class XMLDocumentSymbolsScopeTest {
+
+	private static final CancelChecker NULL_CHECKER = () -> {
+	};
+
+	private static final String XML = "<a>\r\n" + //
+			"	<b><c /></b>\r\n" + //
+			"	<d />\r\n" + //
+			"	<e>\r\n" + //
+			"		<f />\r\n" + //
+			"	</e>\r\n" + //
+			"</a>";
+
+	@Test
+	public void topLevelSymbols() {
+		assertDocumentSymbols(findDocumentSymbols(XML, "test.xml", null, null, 1), //
+				ds("a", SymbolKind.Field, r(0, 0, 6, 4), r(0, 0, 6, 4), null, null));
+
+		assertDocumentSymbols(findDocumentSymbols(XML, "test.xml", null, null, 2), //
+				ds("a", SymbolKind.Field, r(0, 0, 6, 4), r(0, 0, 6, 4), null, Arrays.asList( //
+						ds("b", SymbolKind.Field, r(1, 1, 1, 13), r(1, 1, 1, 13), null, null), //
+						ds("d", SymbolKind.Field, r(2, 1, 2, 6), r(2, 1, 2, 6), null, Collections.emptyList()), //
+						ds("e", SymbolKind.Field, r(3, 1, 5, 5), r(3, 1, 5, 5), null, null))));
+	}
+
+	@Test
+	public void expandSymbol() {
+		assertDocumentSymbols(findDocumentSymbols(XML, "test.xml", new Position(0, 0), null, 1), //
+				ds("b", SymbolKind.Field, r(1, 1, 1, 13), r(1, 1, 1, 13), null, null), //
+				ds("d", SymbolKind.Field, r(2, 1, 2, 6), r(2, 1, 2, 6), null, Collections.emptyList()), //
+				ds("e", SymbolKind.Field, r(3, 1, 5, 5), r(3, 1, 5, 5), null, null));
+
+		assertDocumentSymbols(findDocumentSymbols(XML, "test.xml", new Position(3, 1), null, 0), //
+				ds("f", SymbolKind.Field, r(4, 2, 4, 7), r(4, 2, 4, 7), null, Collections.emptyList()));
+
+		// no symbol starts at the given position
+		assertDocumentSymbols(findDocumentSymbols(XML, "test.xml", new Position(3, 2), null, 0));
+	}
+
+	@Test
+	public void visibleRange() {
+		assertDocumentSymbols(findDocumentSymbols(XML, "test.xml", null, r(2, 0, 2, 10), 0), //
+				ds("a", SymbolKind.Field, r(0, 0, 6, 4), r(0, 0, 6, 4), null, Arrays.asList( //
+						ds("d", SymbolKind.Field, r(2, 1, 2, 6), r(2, 1, 2, 6), null, Collections.emptyList()))));
+
+		assertDocumentSymbols(findDocumentSymbols(XML, "test.xml", new Position(0, 0), r(4, 0, 6, 0), 1), //
+				ds("e", SymbolKind.Field, r(3, 1, 5, 5), r(3, 1, 5, 5), null, null));
+	}
+
+	@Test
+	public void allSymbols() {
+		XMLLanguageService ls = new XMLLanguageService();
+		ls.initializeIfNeeded();
+		DOMDocument document = DOMParser.getInstance().parse(new TextDocument(XML, "test.xml"),
+				ls.getResolverExtensionManager());
+		XMLSymbolSettings symbolSettings = new XMLSymbolSettings();
+		assertEquals(ls.findDocumentSymbols(document, symbolSettings),
+				ls.findDocumentSymbols(document, symbolSettings, DocumentSymbolsScope.ALL, NULL_CHECKER));
+	}
+
+	@Test
+	public void dtdAttlistOfCollapsedElement() {
+		String dtd = "<!ELEMENT br EMPTY>\n" + //
+				"<!ATTLIST br\n" + //
+				"	%all;>";
+		assertDocumentSymbols(findDocumentSymbols(dtd, "test.dtd", null, null, 1), //
+				ds("br", SymbolKind.Property, r(0, 0, 0, 19), r(0, 0, 0, 19), null, null));
+
+		assertDocumentSymbols(findDocumentSymbols(dtd, "test.dtd", new Position(0, 0), null, 1), //
+				ds("%all;", SymbolKind.Key, r(2, 1, 2, 6), r(2, 1, 2, 6), null, Collections.emptyList()));
+
+		// the ATTLIST is displayed in the ELEMENT which is not visible
+		assertDocumentSymbols(findDocumentSymbols(dtd, "test.dtd", null, r(2, 0, 2, 2), 0));
+	}
+
+	@Test
+	public void cachedForDocumentVersion() {
+		XMLLanguageService ls = new XMLLanguageService();
+		ls.initializeIfNeeded();
+		TextDocument textDocument = new TextDocument(XML, "test.xml");
+		DOMDocument document = DOMParser.getInstance().parse(textDocument, ls.getResolverExtensionManager());
+		XMLSymbolSettings symbolSettings = new XMLSymbolSettings();
+		DocumentSymbolsScope scope = new DocumentSymbolsScope(null, null, 1);
+
+		List<DocumentSymbol> symbols = ls.findDocumentSymbols(document, symbolSettings, scope,
+				NULL_CHECKER);
+		assertSame(symbols, ls.findDocumentSymbols(document, symbolSettings,
+				new DocumentSymbolsScope(null, null, 1), NULL_CHECKER));
+
+		// new version of the text
+		textDocument.setText(XML + " ");
+		assertNotSame(symbols,
+				ls.findDocumentSymbols(document, symbolSettings, scope, NULL_CHECKER));
+	}
+
+	private static List<DocumentSymbol> findDocumentSymbols(String xml, String fileURI, Position parent, Range range,
+			int depth) {
+		XMLLanguageService ls = new XMLLanguageService();
+		ls.initializeIfNeeded();
+		DOMDocument document = DOMParser.getInstance().parse(new TextDocument(xml, fileURI),
+				ls.getResolverExtensionManager());
+		return ls.findDocumentSymbols(document, new XMLSymbolSettings(), new DocumentSymbolsScope(parent, range, depth),
+				NULL_CHECKER);
+	}
+}
@@ -0,0 +1,110 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.services.extensions.diagnostics;
+
+import static org.eclipse.lemminx.XMLAssert.r;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import org.eclipse.lemminx.AbstractCacheBasedTest;
+import org.eclipse.lemminx.commons.BadLocationException;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMParser;
+import org.eclipse.lemminx.extensions.contentmodel.settings.XMLValidationSettings;
+import org.eclipse.lemminx.services.XMLLanguageService;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the parallel execution of the concurrent
+ * {@link IDiagnosticsParticipant}.
+ *
+ */
+public class ConcurrentDiagnosticsParticipantTest extends AbstractCacheBasedTest {
+
+	private static class TestParticipant implements IDiagnosticsParticipant {
+
+		private final String message;
+
+		private final boolean concurrent;
+
+		private final long delay;
+
+		TestParticipant(String message, boolean concurrent, long delay) {
+			this.message = message;
+			this.concurrent = concurrent;
+			this.delay = delay;
+		}
+
+		@Override
+		public void doDiagnostics(DOMDocument xmlDocument, List<Diagnostic> diagnostics,
+				XMLValidationSettings validationSettings, CancelChecker cancelChecker) {
+			if (delay > 0) {
+				try {
+					Thread.sleep(delay);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			cancelChecker.checkCanceled();
+			diagnostics.add(new Diagnostic(r(0, 0, 0, 1), message));
+			((DiagnosticsResult) diagnostics).addFuture(CompletableFuture.completedFuture(message));
+		}
+
+		@Override
+		public boolean isConcurrent() {
+			return concurrent;
+		}
+	}
+
+	@Test
+	public void mergeInRegistrationOrder() throws BadLocationException {
+		XMLLanguageService ls = new XMLLanguageService();
+		ls.registerDiagnosticsParticipant(new TestParticipant("a", true, 100));
+		ls.registerDiagnosticsParticipant(new TestParticipant("b", false, 0));
+		ls.registerDiagnosticsParticipant(new TestParticipant("c", true, 0));
+		ls.registerDiagnosticsParticipant(new TestParticipant("d", true, 50));
+		ls.registerDiagnosticsParticipant(new TestParticipant("e", false, 0));
+
+		XMLValidationSettings settings = new XMLValidationSettings();
+		settings.setNoGrammar("ignore");
+		DOMDocument document = DOMParser.getInstance().parse("<root />", "test.xml", null);
+		DiagnosticsResult diagnostics = (DiagnosticsResult) ls.doDiagnostics(document, settings,
+				Collections.emptyMap(), () -> {
+				});
+		assertEquals("abcde", diagnostics.stream().map(Diagnostic::getMessage).collect(Collectors.joining()));
+		assertEquals(5, diagnostics.getFutures().size());
+	}
+
+	@Test
+	public void cancelConcurrentParticipants() {
+		XMLLanguageService ls = new XMLLanguageService();
+		ls.registerDiagnosticsParticipant(new TestParticipant("a", true, 50));
+		ls.registerDiagnosticsParticipant(new TestParticipant("b", false, 0));
+
+		DOMDocument document = DOMParser.getInstance().parse("<root />", "test.xml", null);
+		long start = System.currentTimeMillis();
+		assertThrows(CancellationException.class,
+				() -> ls.doDiagnostics(document, new XMLValidationSettings(), Collections.emptyMap(), () -> {
+					if (System.currentTimeMillis() - start > 10) {
+						throw new CancellationException();
+					}
+				}));
+	}
+}
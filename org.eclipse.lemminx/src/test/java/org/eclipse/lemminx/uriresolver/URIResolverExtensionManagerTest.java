@@ -0,0 +1,98 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.uriresolver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the cache of {@link URIResolverExtensionManager}.
+ *
+ */
+public class URIResolverExtensionManagerTest {
+
+	private static class CountingResolver implements URIResolverExtension {
+
+		private final AtomicInteger count = new AtomicInteger();
+
+		private final boolean cacheable;
+
+		private String resolved;
+
+		CountingResolver(String resolved, boolean cacheable) {
+			this.resolved = resolved;
+			this.cacheable = cacheable;
+		}
+
+		@Override
+		public String resolve(String baseLocation, String publicId, String systemId) {
+			count.incrementAndGet();
+			return resolved;
+		}
+
+		@Override
+		public boolean isResolveCacheable(String baseLocation, String publicId, String systemId) {
+			return cacheable;
+		}
+	}
+
+	@Test
+	public void cacheResolvedURI() {
+		URIResolverExtensionManager manager = new URIResolverExtensionManager();
+		CountingResolver resolver = new CountingResolver("file:///a.xsd", true);
+		manager.registerResolver(resolver);
+
+		assertEquals("file:///a.xsd", manager.resolve("file:///test.xml", "ns", "a.xsd"));
+		assertEquals("file:///a.xsd", manager.resolve("file:///test.xml", "ns", "a.xsd"));
+		assertEquals(1, resolver.count.get());
+		assertEquals(1, manager.getCacheHitCount());
+		assertEquals(1, manager.getCacheMissCount());
+
+		// Other ids are not resolved from the cache
+		manager.resolve("file:///test.xml", "ns", "b.xsd");
+		assertEquals(2, resolver.count.get());
+
+		// The settings of the resolver change
+		resolver.resolved = "file:///c.xsd";
+		manager.invalidateCache();
+		assertEquals("file:///c.xsd", manager.resolve("file:///test.xml", "ns", "a.xsd"));
+		assertEquals(3, resolver.count.get());
+	}
+
+	@Test
+	public void notCacheableResolver() {
+		URIResolverExtensionManager manager = new URIResolverExtensionManager();
+		CountingResolver notCacheable = new CountingResolver(null, false);
+		manager.registerResolver(notCacheable);
+
+		// The default resolver is used but the result depends on a resolver which
+		// cannot be cached
+		assertEquals("file:///a.xsd", manager.resolve("file:///test.xml", null, "a.xsd"));
+		assertEquals("file:///a.xsd", manager.resolve("file:///test.xml", null, "a.xsd"));
+		assertEquals(2, notCacheable.count.get());
+	}
+
+	@Test
+	public void unregisterResolver() {
+		URIResolverExtensionManager manager = new URIResolverExtensionManager();
+		CountingResolver resolver = new CountingResolver("file:///a.xsd", true);
+		manager.registerResolver(resolver);
+		assertEquals("file:///a.xsd", manager.resolve("file:///test.xml", "ns", "b.xsd"));
+
+		manager.unregisterResolver(resolver);
+		assertEquals("file:///b.xsd", manager.resolve("file:///test.xml", "ns", "b.xsd"));
+		assertEquals(1, resolver.count.get());
+	}
+}
@@ -14,6 +14,12 @@ package org.eclipse.lemminx.utils;
 import static org.eclipse.lemminx.utils.MarkdownConverter.convert;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.junit.jupiter.api.Test;
 
 /**
@@ -68,4 +74,21 @@ public class MarkdownConverterTest {
 		assertEquals("The `<project>` element is the root of the descriptor.", convert("The `&lt;project&gt;` element is the root of the descriptor."));
 	}
 
+	@Test
+	public void testConcurrentConversion() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<String>> results = new ArrayList<>();
+			for (int i = 0; i < 40; i++) {
+				String html = "<p>Item <b>" + (i % 10) + "</b></p>";
+				results.add(executor.submit(() -> convert(html)));
+			}
+			for (int i = 0; i < results.size(); i++) {
+				assertEquals("Item **" + (i % 10) + "**", results.get(i).get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,154 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lemminx.xpath.matcher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.lemminx.dom.DOMAttr;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMElement;
+import org.eclipse.lemminx.dom.DOMNode;
+import org.eclipse.lemminx.dom.DOMParser;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for XPath matcher set.
+ *
+ */
+public class XPathMatcherSetTest {
+
+	private static final String XML = "<project name=\"p\">\r\n" + //
+			"	<property name=\"src\" file=\"build.properties\" />\r\n" + //
+			"	<target name=\"compile\" depends=\"init\">\r\n" + //
+			"		<javac srcdir=\"src\" />\r\n" + //
+			"		<echo>compiling</echo>\r\n" + //
+			"	</target>\r\n" + //
+			"	<beans>\r\n" + //
+			"		<bean id=\"a\" class=\"A\"><property name=\"b\" ref=\"b\" /></bean>\r\n" + //
+			"		<bean id=\"b\" class=\"B\" />\r\n" + //
+			"	</beans>\r\n" + //
+			"</project>";
+
+	private static final List<String> EXPRESSIONS = Arrays.asList("//target/@name", //
+			"//target/@depends", //
+			"//property/@name", //
+			"//property/@file", //
+			"//@*", //
+			"//text()", //
+			"//echo/text()", //
+			"target//", //
+			"javac", //
+			"project/target/javac/@srcdir", //
+			"//beans//property/@ref", //
+			"//bean[@id='a']/@class", //
+			"//bean[@id='$0']/@class", //
+			"beans/*/property", //
+			"//unknown/@name", //
+			"");
+
+	@Test
+	public void sameResultsThanXPathMatchers() {
+		DOMDocument document = DOMParser.getInstance().parse(XML, "build.xml", null);
+		List<XPathMatcher> matchers = new ArrayList<>();
+		XPathMatcherSet<String> matcherSet = new XPathMatcherSet<>();
+		for (String expression : EXPRESSIONS) {
+			XPathMatcher matcher = new XPathMatcher(expression);
+			matchers.add(matcher);
+			matcherSet.add(matcher, expression);
+		}
+		List<DOMNode> nodes = new ArrayList<>();
+		assertSameResults(document, matchers, matcherSet, new XPathAncestorStack(), nodes);
+		// project, property, target, javac, echo, beans, bean, property, bean
+		// + 9 attributes + 1 text node at least
+		assertTrue(nodes.size() > 19);
+	}
+
+	@Test
+	public void matchInOrder() {
+		DOMDocument document = DOMParser.getInstance().parse(XML, "build.xml", null);
+		XPathMatcherSet<String> matcherSet = new XPathMatcherSet<>();
+		for (String expression : EXPRESSIONS) {
+			matcherSet.add(new XPathMatcher(expression), expression);
+		}
+		DOMElement target = (DOMElement) document.getDocumentElement().getChildren().get(1);
+		DOMAttr name = target.getAttributeNode("name");
+		assertEquals(Arrays.asList("//target/@name", "//@*", ""), matcherSet.match(name));
+
+		DOMAttr depends = target.getAttributeNode("depends");
+		assertEquals(Arrays.asList("//target/@depends", "//@*", ""), matcherSet.match(depends));
+
+		assertEquals(Collections.emptyList(), new XPathMatcherSet<String>().match(name));
+	}
+
+	@Test
+	public void discardWithAncestors() {
+		DOMDocument document = DOMParser.getInstance().parse(XML, "build.xml", null);
+		XPathMatcherSet<String> matcherSet = new XPathMatcherSet<>();
+		matcherSet.add(new XPathMatcher("//target/@name"), "target");
+		matcherSet.add(new XPathMatcher("//@name"), "name");
+		DOMElement project = document.getDocumentElement();
+		DOMAttr name = project.getAttributeNode("name");
+
+		XPathAncestorStack ancestors = new XPathAncestorStack();
+		ancestors.push(project);
+		assertEquals(Arrays.asList("name"), matcherSet.match(name, ancestors));
+
+		DOMElement target = (DOMElement) project.getChildren().get(1);
+		ancestors.push(target);
+		assertTrue(ancestors.contains("target"));
+		assertEquals(Arrays.asList("target", "name"), matcherSet.match(target.getAttributeNode("name"), ancestors));
+		ancestors.pop();
+		assertTrue(!ancestors.contains("target"));
+	}
+
+	private static void assertSameResults(DOMNode node, List<XPathMatcher> matchers,
+			XPathMatcherSet<String> matcherSet, XPathAncestorStack ancestors, List<DOMNode> nodes) {
+		if (node.isElement()) {
+			assertSameResults(node, matchers, matcherSet, ancestors);
+			nodes.add(node);
+			ancestors.push(node);
+			if (node.hasAttributes()) {
+				for (DOMAttr attr : node.getAttributeNodes()) {
+					assertSameResults(attr, matchers, matcherSet, ancestors);
+					nodes.add(attr);
+				}
+			}
+		} else if (node.isText()) {
+			assertSameResults(node, matchers, matcherSet, ancestors);
+			nodes.add(node);
+		}
+		for (DOMNode child : node.getChildren()) {
+			assertSameResults(child, matchers, matcherSet, ancestors, nodes);
+		}
+		if (node.isElement()) {
+			ancestors.pop();
+		}
+	}
+
+	private static void assertSameResults(DOMNode node, List<XPathMatcher> matchers,
+			XPathMatcherSet<String> matcherSet, XPathAncestorStack ancestors) {
+		List<String> expected = new ArrayList<>();
+		for (int i = 0; i < matchers.size(); i++) {
+			if (matchers.get(i).match(node)) {
+				expected.add(EXPRESSIONS.get(i));
+			}
+		}
+		assertEquals(expected, matcherSet.match(node), "match for " + node.getNodeName());
+		assertEquals(expected, matcherSet.match(node, ancestors), "match with ancestors for " + node.getNodeName());
+	}
+}